@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.closeness;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -26,8 +27,9 @@ import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.PagedAtomicIntegerArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.msbfs.BfsConsumer;
-import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.BfsCountConsumer;
+import org.neo4j.gds.msbfs.SourceSampling;
+import org.neo4j.gds.msbfs.WideMultiSourceBFS;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -37,12 +39,17 @@ import java.util.concurrent.ExecutorService;
  *
  * Utilizes the MSBFS for counting the farness between nodes.
  * See MSBFS documentation.
+ *
+ * If sampling is configured, the farness and component sizes are estimated
+ * from a uniform sample of source nodes, see {@link SourceSampling}.
  */
 public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResult> {
 
     private final Graph graph;
     private final long nodeCount;
     private final int concurrency;
+    private final int sourcesPerPass;
+    private final long @Nullable [] sourceNodes;
     private final ExecutorService executorService;
     private final PagedAtomicIntegerArray farness;
     private final PagedAtomicIntegerArray component;
@@ -62,6 +69,8 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             graph,
             nodeCount,
             config.concurrency(),
+            config.sourcesPerPass(),
+            SourceSampling.sources(nodeCount, config),
             centralityComputer,
             PagedAtomicIntegerArray.newArray(nodeCount),
             PagedAtomicIntegerArray.newArray(nodeCount),
@@ -74,6 +83,8 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         Graph graph,
         long nodeCount,
         int concurrency,
+        int sourcesPerPass,
+        long @Nullable [] sourceNodes,
         CentralityComputer centralityComputer,
         PagedAtomicIntegerArray farness,
         PagedAtomicIntegerArray component,
@@ -84,6 +95,8 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         this.graph = graph;
         this.nodeCount = nodeCount;
         this.concurrency = concurrency;
+        this.sourcesPerPass = sourcesPerPass;
+        this.sourceNodes = sourceNodes;
         this.executorService = executorService;
         this.centralityComputer = centralityComputer;
         this.farness = farness;
@@ -105,15 +118,12 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
 
     private void computeFarness() {
         progressTracker.beginSubTask();
-        final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
-            int len = sourceNodeIds.size();
-            farness.add(nodeId, len * depth);
-            component.add(nodeId, len);
+        final BfsCountConsumer consumer = (nodeId, depth, sourceCount) -> {
+            farness.add(nodeId, sourceCount * depth);
+            component.add(nodeId, sourceCount);
             progressTracker.logProgress();
         };
-        MultiSourceBFSAccessMethods
-            .aggregatedNeighborProcessingWithoutSourceNodes(nodeCount, graph, consumer)
-            .run(concurrency, executorService);
+        WideMultiSourceBFS.run(nodeCount, graph, sourceNodes, sourcesPerPass, consumer, concurrency, executorService);
         progressTracker.endSubTask();
     }
 
@@ -121,14 +131,16 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         progressTracker.beginSubTask();
 
         var closeness = HugeDoubleArray.newArray(nodeCount);
+        // sampled sums are scaled up to estimate the sums over all sources
+        double scale = sourceNodes == null ? 1D : nodeCount / (double) sourceNodes.length;
 
         var tasks = PartitionUtils.rangePartition(
             concurrency,
             nodeCount,
             partition -> (Runnable) () -> {
                 partition.consume(nodeId -> closeness.set(nodeId, centralityComputer.centrality(
-                    farness.get(nodeId),
-                    component.get(nodeId)
+                    Math.round(farness.get(nodeId) * scale),
+                    Math.round(component.get(nodeId) * scale)
                 )));
                 progressTracker.logProgress(partition.nodeCount());
             },
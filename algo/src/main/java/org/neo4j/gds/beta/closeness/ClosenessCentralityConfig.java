@@ -22,12 +22,12 @@ package org.neo4j.gds.beta.closeness;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.msbfs.MultiSourceBFSConfig;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface ClosenessCentralityConfig extends AlgoBaseConfig {
+public interface ClosenessCentralityConfig extends MultiSourceBFSConfig {
 
     @Value.Default
     default boolean useWassermanFaust() {
@@ -23,9 +23,15 @@ package org.neo4j.gds.beta.closeness;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.msbfs.SourceSampling;
+import org.neo4j.gds.msbfs.WideMultiSourceBFS;
 
 public class ClosenessCentralityFactory<CONFIG extends ClosenessCentralityConfig> extends GraphAlgorithmFactory<ClosenessCentrality, CONFIG> {
     @Override
@@ -42,6 +48,17 @@ public class ClosenessCentralityFactory<CONFIG extends ClosenessCentralityConfig
         );
     }
 
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        return MemoryEstimations.builder(ClosenessCentrality.class)
+            .perNode("farness", MemoryUsage::sizeOfIntArray)
+            .perNode("component sizes", MemoryUsage::sizeOfIntArray)
+            .perNode("closeness", HugeDoubleArray::memoryEstimation)
+            .add("source sampling", SourceSampling.memoryEstimation(configuration))
+            .add("multi-source bfs", WideMultiSourceBFS.memoryEstimation(configuration.sourcesPerPass()))
+            .build();
+    }
+
     @Override
     public String taskName() {
         return "ClosenessCentrality";
@@ -19,22 +19,19 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
-import org.neo4j.gds.core.utils.paged.HugeCursor;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
 
 public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
@@ -43,6 +40,7 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
     private final long nodeCount;
     private final double divisor;
     private final ForwardTraverser.Factory traverserFactory;
+    private final Optional<PathSampling> pathSampling;
 
     private HugeAtomicDoubleArray centrality;
     private SelectionStrategy selectionStrategy;
@@ -58,6 +56,22 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         ExecutorService executorService,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, traverserFactory, Optional.empty(), executorService, concurrency, progressTracker);
+    }
+
+    /**
+     * @param pathSampling if present, approximates the scores by sampling shortest paths
+     *                     and ignores the {@code selectionStrategy}
+     */
+    BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ForwardTraverser.Factory traverserFactory,
+        Optional<PathSampling> pathSampling,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -69,14 +83,19 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         this.selectionStrategy.init(graph, executorService, concurrency);
         this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
         this.traverserFactory = traverserFactory;
-
+        this.pathSampling = pathSampling;
     }
 
     @Override
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
-        nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        if (pathSampling.isPresent()) {
+            computeSampledPaths(pathSampling.get());
+        } else {
+            var predecessorOffsets = PredecessorBuffer.offsets(graph, concurrency, executorService);
+            nodeQueue.set(0);
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask(predecessorOffsets)), executorService);
+        }
         progressTracker.endSubTask();
         return centrality;
     }
@@ -87,16 +106,37 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         selectionStrategy = null;
     }
 
+    private void computeSampledPaths(PathSampling sampling) {
+        long seed = sampling.seed();
+        long sampleSize = sampling.sampleSize(graph, new SplittableRandom(seed));
+        // each sample estimates the normalized score, scale to the scale of the exact computation
+        double increment = nodeCount * (nodeCount - 1D) / (sampleSize * divisor);
+        var sampleQueue = new AtomicLong();
+
+        ParallelUtil.run(
+            ParallelUtil.tasks(
+                concurrency,
+                () -> new PathSamplingTask(sampleQueue, sampleSize, seed, increment)
+            ),
+            executorService
+        );
+    }
+
+    private void addTo(long node, double value) {
+        double current;
+        do {
+            current = centrality.get(node);
+        } while (!centrality.compareAndSet(node, current, current + value));
+    }
+
     final class BCTask implements Runnable {
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
+        private final PredecessorBuffer predecessors;
         private final HugeLongArrayStack backwardNodes;
         private final HugeDoubleArray delta;
         private final HugeLongArray sigma;
 
-        private BCTask() {
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-            this.predecessorsCursor = predecessors.newCursor();
+        private BCTask(HugeLongArray predecessorOffsets) {
+            this.predecessors = new PredecessorBuffer(predecessorOffsets);
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
             this.sigma = HugeLongArray.newArray(nodeCount);
             this.delta = HugeDoubleArray.newArray(nodeCount);
@@ -135,23 +175,19 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
                 while (!backwardNodes.isEmpty()) {
                     long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
 
                     double dependencyNode = delta.get(node);
                     double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
+                    int predecessorCount = predecessors.count(node);
+                    for (int i = 0; i < predecessorCount; i++) {
+                        long predecessor = predecessors.get(node, i);
+                        double sigmaPredecessor = sigma.get(predecessor);
+                        double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
+                        delta.addTo(predecessor, dependency);
                     }
                     if (node != startNodeId) {
-                        double current;
-                        do {
-                            current = centrality.get(node);
-                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                        addTo(node, dependencyNode / divisor);
                     }
                 }
             }
@@ -160,17 +196,77 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         private void clear() {
             sigma.fill(0);
             delta.fill(0);
+            predecessors.clear();
+        }
+    }
+
+    final class PathSamplingTask implements Runnable {
+        private final SampledPredecessor predecessors;
+        private final HugeLongArrayStack backwardNodes;
+        private final HugeLongArray sigma;
+        private final AtomicLong sampleQueue;
+        private final long sampleSize;
+        private final long seed;
+        private final double increment;
 
-            predecessors.initCursor(predecessorsCursor);
+        private PathSamplingTask(AtomicLong sampleQueue, long sampleSize, long seed, double increment) {
+            this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
+            this.sigma = HugeLongArray.newArray(nodeCount);
+            this.predecessors = new SampledPredecessor(sigma);
+            this.sampleQueue = sampleQueue;
+            this.sampleSize = sampleSize;
+            this.seed = seed;
+            this.increment = increment;
+        }
 
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
-                    }
+        @Override
+        public void run() {
+            if (nodeCount < 2) {
+                return;
+            }
+
+            var forwardTraverser = traverserFactory.create(
+                graph.concurrentCopy(),
+                predecessors,
+                backwardNodes,
+                sigma,
+                terminationFlag
+            );
+
+            for (;;) {
+                long sampleIndex = sampleQueue.getAndIncrement();
+                if (sampleIndex >= sampleSize || !terminationFlag.running()) {
+                    return;
+                }
+
+                // the sample does not depend on the thread that draws it, which keeps seeded runs deterministic
+                var random = PathSampling.sampleRandom(seed, sampleIndex);
+                long source = random.nextLong(nodeCount);
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+
+                getProgressTracker().logProgress();
+
+                sigma.fill(0);
+                backwardNodes.clear();
+                forwardTraverser.clear();
+                predecessors.init(random);
+
+                sigma.addTo(source, 1);
+                forwardTraverser.traverse(source);
+
+                // target is not reachable, the sample contributes nothing
+                if (sigma.get(target) == 0) {
+                    continue;
+                }
+
+                // walk back from the target along the predecessors chosen proportional to their shortest paths
+                long node = predecessors.get(target);
+                while (node != source) {
+                    addTo(node, increment);
+                    node = predecessors.get(node);
                 }
             }
         }
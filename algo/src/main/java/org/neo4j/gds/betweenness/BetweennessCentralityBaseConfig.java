@@ -23,25 +23,55 @@ import org.immutables.value.Value;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
-import java.util.Locale;
 import java.util.Optional;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
 
     Optional<Long> samplingSize();
 
     Optional<Long> samplingSeed();
 
+    /**
+     * If set, scores are approximated by sampling shortest paths until they are within
+     * {@code epsilon} of the normalized exact scores with probability {@code 1 - delta}.
+     */
+    Optional<Double> epsilon();
+
+    @Value.Default
+    default double delta() {
+        return 0.1;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
             if (samplingSize < 0) {
-                throw new IllegalArgumentException(String.format(
-                    Locale.ENGLISH,
+                throw new IllegalArgumentException(formatWithLocale(
                     "Configuration parameter 'samplingSize' must be a positive number, got %d.",
                     samplingSize
                 ));
             }
         });
+        epsilon().ifPresent(epsilon -> {
+            if (epsilon <= 0 || epsilon >= 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'epsilon' must be in the range (0, 1), got %f.",
+                    epsilon
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Only one of the configuration parameters 'samplingSize' and 'epsilon' can be set."
+                );
+            }
+        });
+        if (delta() <= 0 || delta() >= 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter 'delta' must be in the range (0, 1), got %f.",
+                delta()
+            ));
+        }
     }
 }
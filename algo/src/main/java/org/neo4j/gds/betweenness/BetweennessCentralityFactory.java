@@ -29,15 +29,12 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 
-import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
-
 public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> extends GraphAlgorithmFactory<BetweennessCentrality, CONFIG> {
 
     @Override
@@ -62,10 +59,18 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             ? ForwardTraverser.Factory.weighted()
             : ForwardTraverser.Factory.unweighted();
 
+        var pathSampling = configuration.epsilon().map(epsilon -> new PathSampling(
+            epsilon,
+            configuration.delta(),
+            configuration.hasRelationshipWeightProperty(),
+            samplingSeed
+        ));
+
         return new BetweennessCentrality(
             graph,
             strategy,
             traverserFactory,
+            pathSampling,
             Pools.DEFAULT,
             configuration.concurrency(),
             progressTracker
@@ -75,10 +80,21 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.class)
-            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task",
-                bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation);
+
+        if (configuration.epsilon().isPresent()) {
+            builder.perThread(
+                "path sampling task",
+                pathSamplingTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
             );
+        } else {
+            builder
+                .perNode("predecessor offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+                .perThread(
+                    "compute task",
+                    bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
+                );
+        }
         return builder
             .build();
     }
@@ -86,17 +102,32 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                // Predecessors are represented by LongArrayList which wrap a long[]
-                long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                return MemoryEstimations.builder(HugeObjectArray.class)
-                    .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                    .build();
-            }))
+            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) ->
+                // every node has a slice of the flat buffer sized by its in-degree
+                MemoryEstimations.builder(PredecessorBuffer.class)
+                    .fixed("buffer", HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+                    .perNode("counts", HugeIntArray::memoryEstimation)
+                    .build()
+            ))
             .perNode("backwardNodes", HugeLongArray::memoryEstimation)
             .perNode("deltas", HugeDoubleArray::memoryEstimation)
             .perNode("sigmas", HugeLongArray::memoryEstimation);
 
+        return withForwardTraverser(builder, weighted);
+    }
+
+    @NotNull
+    private static MemoryEstimations.Builder pathSamplingTaskMemoryEstimationBuilder(boolean weighted) {
+        var builder = MemoryEstimations.builder(BetweennessCentrality.PathSamplingTask.class)
+            // a single sampled predecessor per node, independent of the relationship count
+            .perNode("predecessors", HugeLongArray::memoryEstimation)
+            .perNode("backwardNodes", HugeLongArray::memoryEstimation)
+            .perNode("sigmas", HugeLongArray::memoryEstimation);
+
+        return withForwardTraverser(builder, weighted);
+    }
+
+    private static MemoryEstimations.Builder withForwardTraverser(MemoryEstimations.Builder builder, boolean weighted) {
         if (weighted) {
             builder.add("ForwardTraverser", MemoryEstimations.setup(
                     "traverser",
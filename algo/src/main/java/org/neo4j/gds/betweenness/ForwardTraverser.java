@@ -19,12 +19,10 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 
 public interface ForwardTraverser {
 
@@ -35,7 +33,7 @@ public interface ForwardTraverser {
     interface Factory {
         ForwardTraverser create(
             Graph graph,
-            HugeObjectArray<LongArrayList> predecessors,
+            PredecessorConsumer predecessors,
             HugeLongArrayStack backwardNodes,
             HugeLongArray sigma,
             TerminationFlag terminationFlag
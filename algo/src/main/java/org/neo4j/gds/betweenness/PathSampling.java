@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Parameters of the shortest path sampling described in [1].
+ *
+ * Each sample picks a uniformly random pair of distinct nodes and a uniformly random
+ * shortest path between them and credits every inner node of that path. With
+ * {@code r = c / ε² * (floor(log2(VD - 2)) + 1 + ln(1 / δ))} samples, where {@code VD}
+ * is the vertex diameter, all normalized scores are within {@code ε} of the exact
+ * scores with probability at least {@code 1 - δ}. The number of samples therefore
+ * adapts to the graph instead of being fixed up front.
+ *
+ * [1] Matteo Riondato, Evgenios M. Kornaropoulos. "Fast approximation of betweenness
+ * centrality through sampling", Data Mining and Knowledge Discovery 30, 2016.
+ */
+final class PathSampling {
+
+    // universal constant from the VC-dimension bound, 0.5 as suggested in [1]
+    private static final double C = 0.5;
+
+    private final double epsilon;
+    private final double delta;
+    private final boolean weighted;
+    private final Optional<Long> randomSeed;
+
+    PathSampling(double epsilon, double delta, boolean weighted, Optional<Long> randomSeed) {
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.weighted = weighted;
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * The seed all samples are derived from, random if none was configured.
+     */
+    long seed() {
+        return randomSeed.orElseGet(() -> new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Randomness of a single sample, derived from the seed and the index of the sample only.
+     */
+    static SplittableRandom sampleRandom(long seed, long sampleIndex) {
+        return new SplittableRandom(mix(seed ^ mix(sampleIndex)));
+    }
+
+    // MurmurHash3 finalizer, spreads consecutive sample indices over the whole seed space
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    long sampleSize(Graph graph, SplittableRandom random) {
+        long vertexDiameter = vertexDiameterBound(graph, weighted, random);
+        return sampleSize(epsilon, delta, vertexDiameter);
+    }
+
+    static long sampleSize(double epsilon, double delta, long vertexDiameter) {
+        double log2 = vertexDiameter > 2
+            ? Math.floor(Math.log(vertexDiameter - 2) / Math.log(2))
+            : 0;
+        return (long) Math.ceil(C / (epsilon * epsilon) * (log2 + 1 + Math.log(1 / delta)));
+    }
+
+    /**
+     * Upper bound on the number of nodes on any shortest path.
+     *
+     * For unweighted undirected graphs, a BFS from any node {@code v} reaching depth {@code e}
+     * bounds every shortest path within the component of {@code v} by {@code 2e} hops.
+     * We run it from a random node and use the node count for all other graphs.
+     * The bound only enters the sample size logarithmically.
+     */
+    static long vertexDiameterBound(Graph graph, boolean weighted, SplittableRandom random) {
+        long nodeCount = graph.nodeCount();
+        if (weighted || !graph.schema().isUndirected() || nodeCount == 0) {
+            return nodeCount;
+        }
+
+        var distances = HugeIntArray.newArray(nodeCount);
+        distances.fill(-1);
+        var queue = HugeLongArrayQueue.newQueue(nodeCount);
+
+        long start = random.nextLong(nodeCount);
+        distances.set(start, 0);
+        queue.add(start);
+        int eccentricity = 0;
+        long visited = 0;
+        while (!queue.isEmpty()) {
+            long node = queue.remove();
+            visited++;
+            int depth = distances.get(node);
+            eccentricity = Math.max(eccentricity, depth);
+            graph.forEachRelationship(node, (source, target) -> {
+                if (distances.get(target) < 0) {
+                    distances.set(target, depth + 1);
+                    queue.add(target);
+                }
+                return true;
+            });
+        }
+
+        // other components may have longer paths, fall back to the safe bound
+        if (visited < nodeCount) {
+            return nodeCount;
+        }
+        return Math.min(nodeCount, 2L * eccentricity + 1);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Stores the shortest path predecessors of all nodes for a single source traversal.
+ *
+ * A node has at most as many predecessors as it has incoming relationships.
+ * Every node owns a fixed slice of a flat buffer, sized by its in-degree, in the
+ * same way a CSR adjacency list is laid out. The buffer is allocated once per
+ * thread and reused for every source; clearing only resets the per-node counts.
+ */
+final class PredecessorBuffer implements PredecessorConsumer {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray predecessors;
+    private final HugeIntArray counts;
+
+    /**
+     * Computes the start offset of each node's slice from its in-degree.
+     * The returned array has {@code nodeCount + 1} entries and can be shared between threads.
+     */
+    static HugeLongArray offsets(Graph graph, int concurrency, ExecutorService executor) {
+        long nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+
+        if (graph.schema().isUndirected()) {
+            // every relationship is stored in both directions, so in-degree equals degree
+            long offset = 0L;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                offsets.set(nodeId, offset);
+                offset += graph.degree(nodeId);
+            }
+            offsets.set(nodeCount, offset);
+            return offsets;
+        }
+
+        var inDegrees = HugeAtomicLongArray.newArray(nodeCount);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    inDegrees.getAndAdd(target, 1L);
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+
+        long offset = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += inDegrees.get(nodeId);
+        }
+        offsets.set(nodeCount, offset);
+        return offsets;
+    }
+
+    PredecessorBuffer(HugeLongArray offsets) {
+        long nodeCount = offsets.size() - 1;
+        this.offsets = offsets;
+        this.predecessors = HugeLongArray.newArray(offsets.get(nodeCount));
+        this.counts = HugeIntArray.newArray(nodeCount);
+    }
+
+    @Override
+    public void add(long nodeId, long predecessor) {
+        int count = counts.get(nodeId);
+        predecessors.set(offsets.get(nodeId) + count, predecessor);
+        counts.set(nodeId, count + 1);
+    }
+
+    @Override
+    public void reset(long nodeId, long predecessor) {
+        predecessors.set(offsets.get(nodeId), predecessor);
+        counts.set(nodeId, 1);
+    }
+
+    int count(long nodeId) {
+        return counts.get(nodeId);
+    }
+
+    long get(long nodeId, int index) {
+        return predecessors.get(offsets.get(nodeId) + index);
+    }
+
+    void clear() {
+        counts.fill(0);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+/**
+ * Receives the shortest path predecessors found by a {@link ForwardTraverser}.
+ *
+ * When a predecessor is reported, the number of shortest paths of both nodes has
+ * already been updated and the number of shortest paths of the predecessor is final.
+ */
+interface PredecessorConsumer {
+
+    void add(long nodeId, long predecessor);
+
+    /**
+     * Replaces all predecessors of the given node, used when a shorter path has been found.
+     */
+    void reset(long nodeId, long predecessor);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.SplittableRandom;
+
+/**
+ * Keeps a single predecessor per node, chosen at random proportional to the number
+ * of shortest paths through it, which is all a sampled path needs.
+ *
+ * Every reported predecessor replaces the current choice with probability
+ * {@code sigma(predecessor) / sigma(node)}, where {@code sigma(node)} already includes
+ * the paths through that predecessor. This is a weighted reservoir sample of size one,
+ * so the memory does not depend on the number of relationships.
+ */
+final class SampledPredecessor implements PredecessorConsumer {
+
+    private final HugeLongArray predecessor;
+    private final HugeLongArray sigma;
+    private SplittableRandom random;
+
+    SampledPredecessor(HugeLongArray sigma) {
+        this.predecessor = HugeLongArray.newArray(sigma.size());
+        this.sigma = sigma;
+    }
+
+    void init(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void add(long nodeId, long predecessor) {
+        if (random.nextLong(sigma.get(nodeId)) < sigma.get(predecessor)) {
+            this.predecessor.set(nodeId, predecessor);
+        }
+    }
+
+    @Override
+    public void reset(long nodeId, long predecessor) {
+        this.predecessor.set(nodeId, predecessor);
+    }
+
+    long get(long nodeId) {
+        return predecessor.get(nodeId);
+    }
+}
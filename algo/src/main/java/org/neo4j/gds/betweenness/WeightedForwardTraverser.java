@@ -20,19 +20,17 @@
 package org.neo4j.gds.betweenness;
 
 import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 
 final class WeightedForwardTraverser implements ForwardTraverser {
 
     static WeightedForwardTraverser create(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
+        PredecessorConsumer predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         TerminationFlag terminationFlag
@@ -56,12 +54,12 @@ final class WeightedForwardTraverser implements ForwardTraverser {
     private final HugeLongArrayStack backwardNodes;
     private final HugeLongArray sigma;
     private final HugeLongPriorityQueue nodeQueue;
-    private final HugeObjectArray<LongArrayList> predecessors;
+    private final PredecessorConsumer predecessors;
     private final BitSet visited;
 
     private WeightedForwardTraverser(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
+        PredecessorConsumer predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         HugeLongPriorityQueue nodeQueue,
@@ -104,13 +102,11 @@ final class WeightedForwardTraverser implements ForwardTraverser {
                     var storedTargetCost = nodeQueue.cost(target);
                     if (Double.compare(targetCost, storedTargetCost) == 0) {
                         sigma.addTo(target, sigma.get(source));
-                        appendPredecessor(target, node);
+                        predecessors.add(target, node);
                     } else if (Double.compare(targetCost, storedTargetCost) < 0) {
                         nodeQueue.set(target, targetCost);
                         sigma.set(target, sigma.get(source));
-                        var targetPredecessors = predecessors.get(target);
-                        targetPredecessors.clear();
-                        targetPredecessors.add(source);
+                        predecessors.reset(target, source);
                     }
                     return true;
                 }
@@ -122,14 +118,4 @@ final class WeightedForwardTraverser implements ForwardTraverser {
     public void clear() {
         visited.clear();
     }
-
-    // append node to the path at target
-    private void appendPredecessor(long target, long node) {
-        LongArrayList targetPredecessors = predecessors.get(target);
-        if (null == targetPredecessors) {
-            targetPredecessors = new LongArrayList();
-            predecessors.set(target, targetPredecessors);
-        }
-        targetPredecessors.add(node);
-    }
 }
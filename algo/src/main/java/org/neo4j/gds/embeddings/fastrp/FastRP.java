@@ -26,6 +26,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -35,6 +36,7 @@ import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
 import org.neo4j.gds.ml.core.features.FeatureExtractor;
+import org.neo4j.gds.simd.ArrayKernels;
 
 import java.util.Arrays;
 import java.util.List;
@@ -44,7 +46,6 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedInPlace;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Norm;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Normalize;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
@@ -64,7 +65,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private final double relationshipWeightFallback;
     private final int inputDimension;
     private final float[][] propertyVectors;
-    private final HugeObjectArray<float[]> embeddings;
+    private final HugeFloatMatrix embeddings;
     private final HugeObjectArray<float[]> embeddingA;
     private final HugeObjectArray<float[]> embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
@@ -84,7 +85,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 "propertyVectors",
                 MemoryUsage.sizeOfFloatArray(config.featureProperties().size() * config.propertyDimension())
             )
-            .add("embeddings", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
+            .perNode("embeddings", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension()))
             .add("embeddingA", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
             .add("embeddingB", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
             .build();
@@ -116,7 +117,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.minBatchSize = config.minBatchSize();
 
         this.propertyVectors = new float[inputDimension][config.propertyDimension()];
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+        this.embeddings = HugeFloatMatrix.of(graph.nodeCount(), config.embeddingDimension());
         this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount());
         this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount());
 
@@ -129,7 +130,6 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.embeddingCombiner = graph.hasRelationshipProperty()
             ? this::addArrayValuesWeighted
             : (lhs, rhs, ignoreWeight) -> addInPlace(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingDimension]);
     }
 
     @Override
@@ -249,14 +249,23 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> embeddings() {
+    HugeFloatMatrix embeddings() {
         return embeddings;
     }
 
     private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
-        }
+        ArrayKernels.fusedAddWeightedInPlace(lhs, rhs, weight, lhs.length);
+    }
+
+    // updates the row in place on its page of the result matrix
+    private void addToEmbedding(long nodeId, float[] vector, float weight) {
+        ArrayKernels.addWeightedInPlace(
+            embeddings.rowPage(nodeId),
+            embeddings.rowOffset(nodeId),
+            vector,
+            weight,
+            embeddingDimension
+        );
     }
 
     private static float computeRandomEntry(Random random, float entryValue) {
@@ -405,7 +414,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 var initialVector = embeddingB.get(nodeId);
                 var l2Norm= l2Norm( initialVector);
                 float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
-                addWeightedInPlace(embeddings.get(nodeId), initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+                addToEmbedding(nodeId, initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
@@ -438,7 +447,6 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         public void run() {
             MutableLong degrees = new MutableLong(0);
             partition.consume(nodeId -> {
-                var embedding = embeddings.get(nodeId);
                 var currentEmbedding = currentEmbeddings.get(nodeId);
                 Arrays.fill(currentEmbedding, 0.0f);
 
@@ -463,7 +471,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 l2Normalize(currentEmbedding);
 
                 // Update the result embedding
-                addWeightedInPlace(embedding, currentEmbedding, iterationWeight);
+                addToEmbedding(nodeId, currentEmbedding, iterationWeight);
                 degrees.add(degree);
             });
             progressTracker.logProgress(degrees.longValue());
@@ -471,13 +479,13 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     public static class FastRPResult {
-        private final HugeObjectArray<float[]> embeddings;
+        private final HugeFloatMatrix embeddings;
 
-        public FastRPResult(HugeObjectArray<float[]> embeddings) {
+        public FastRPResult(HugeFloatMatrix embeddings) {
             this.embeddings = embeddings;
         }
 
-        public HugeObjectArray<float[]> embeddings() {
+        public HugeFloatMatrix embeddings() {
             return embeddings;
         }
     }
@@ -24,6 +24,7 @@ import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -31,6 +32,7 @@ import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.functions.Sigmoid;
 import org.neo4j.gds.ml.core.tensor.FloatVector;
+import org.neo4j.gds.simd.ArrayKernels;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,7 +48,8 @@ public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<FloatVector> centerEmbeddings;
+    // the trained center embeddings are the result of the algorithm
+    private final HugeFloatMatrix centerEmbeddings;
     private final HugeObjectArray<FloatVector> contextEmbeddings;
     private final Node2VecBaseConfig config;
     private final CompressedRandomWalks walks;
@@ -60,7 +63,7 @@ public class Node2VecModel {
         return MemoryEstimations.builder(Node2Vec.class.getSimpleName())
             .perNode(
                 "center embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension())
             )
             .perNode(
                 "context embeddings",
@@ -84,9 +87,9 @@ public class Node2VecModel {
         this.negativeSamples = new NegativeSampleProducer(randomWalkProbabilities.negativeSamplingDistribution());
         this.randomSeed = config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
 
-        var random = new Random();
-        centerEmbeddings = initializeEmbeddings(toOriginalId, nodeCount, config.embeddingDimension(), random);
-        contextEmbeddings = initializeEmbeddings(toOriginalId, nodeCount, config.embeddingDimension(), random);
+        this.centerEmbeddings = HugeFloatMatrix.of(nodeCount, config.embeddingDimension());
+        this.contextEmbeddings = HugeObjectArray.newArray(FloatVector.class, nodeCount);
+        initializeEmbeddings(toOriginalId, nodeCount, config.embeddingDimension());
     }
 
     Result train() {
@@ -144,11 +147,8 @@ public class Node2VecModel {
         return ImmutableResult.of(centerEmbeddings, lossPerIteration);
     }
 
-    private HugeObjectArray<FloatVector> initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
-        HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
-            FloatVector.class,
-            nodeCount
-        );
+    private void initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions) {
+        var random = new Random();
         double bound;
         switch (config.embeddingInitializer()) {
             case UNIFORM:
@@ -169,26 +169,27 @@ public class Node2VecModel {
                     FloatConsumer::add,
                     FloatConsumer::addAll
                 ).values;
-            embeddings.set(i, new FloatVector(data));
+            // both embeddings start with the same values, the matrix keeps a copy of them
+            centerEmbeddings.setRow(i, data);
+            contextEmbeddings.set(i, new FloatVector(data));
         }
-        return embeddings;
     }
 
     private static final class TrainingTask implements Runnable {
-        private final HugeObjectArray<FloatVector> centerEmbeddings;
+        private final HugeFloatMatrix centerEmbeddings;
         private final HugeObjectArray<FloatVector> contextEmbeddings;
 
         private final PositiveSampleProducer positiveSampleProducer;
         private final NegativeSampleProducer negativeSampleProducer;
-        private final FloatVector centerGradientBuffer;
-        private final FloatVector contextGradientBuffer;
+        private final float[] contextGradientBuffer;
+        private final int embeddingDimensions;
         private final int negativeSamplingRate;
         private final float learningRate;
 
         private double lossSum;
 
         private TrainingTask(
-            HugeObjectArray<FloatVector> centerEmbeddings,
+            HugeFloatMatrix centerEmbeddings,
             HugeObjectArray<FloatVector> contextEmbeddings,
             PositiveSampleProducer positiveSampleProducer,
             NegativeSampleProducer negativeSampleProducer,
@@ -203,8 +204,8 @@ public class Node2VecModel {
             this.learningRate = learningRate;
             this.negativeSamplingRate = negativeSamplingRate;
 
-            this.centerGradientBuffer = new FloatVector(embeddingDimensions);
-            this.contextGradientBuffer = new FloatVector(embeddingDimensions);
+            this.embeddingDimensions = embeddingDimensions;
+            this.contextGradientBuffer = new float[embeddingDimensions];
         }
 
         @Override
@@ -222,12 +223,17 @@ public class Node2VecModel {
         }
 
         private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
+            // the center embedding is read and updated in place on its page of the matrix
+            var centerPage = centerEmbeddings.rowPage(center);
+            int centerOffset = centerEmbeddings.rowOffset(center);
+            var contextEmbedding = contextEmbeddings.get(context).data();
 
             // L_pos = -log sigmoid(center * context)  ; gradient: -sigmoid (-center * context)
             // L_neg = -log sigmoid(-center * context) ; gradient: sigmoid (center * context)
-            float affinity = centerEmbedding.innerProduct(contextEmbedding);
+            float affinity = 0;
+            for (int i = 0; i < embeddingDimensions; i++) {
+                affinity += centerPage[centerOffset + i] * contextEmbedding[i];
+            }
 
             float positiveSigmoid = (float) Sigmoid.sigmoid(affinity);
             float negativeSigmoid = 1 - positiveSigmoid;
@@ -239,11 +245,12 @@ public class Node2VecModel {
             // we are doing gradient descent, so we go in the negative direction of the gradient here
             float scaledGradient = -gradient * learningRate;
 
-            scale(contextEmbedding.data(), scaledGradient, centerGradientBuffer.data());
-            scale(centerEmbedding.data(), scaledGradient, contextGradientBuffer.data());
+            // the context gradient uses the center embedding before it is updated
+            centerEmbeddings.copyRow(center, contextGradientBuffer);
+            scale(contextGradientBuffer, scaledGradient);
 
-            addInPlace(centerEmbedding.data(), centerGradientBuffer.data());
-            addInPlace(contextEmbedding.data(), contextGradientBuffer.data());
+            ArrayKernels.addWeightedInPlace(centerPage, centerOffset, contextEmbedding, scaledGradient, embeddingDimensions);
+            addInPlace(contextEmbedding, contextGradientBuffer);
         }
 
         double lossSum() {
@@ -271,7 +278,7 @@ public class Node2VecModel {
 
     @ValueClass
     public interface Result {
-        HugeObjectArray<FloatVector> embeddings();
+        HugeFloatMatrix embeddings();
 
         List<Double> lossPerIteration();
     }
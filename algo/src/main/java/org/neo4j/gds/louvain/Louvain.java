@@ -20,20 +20,13 @@
 package org.neo4j.gds.louvain;
 
 import org.neo4j.gds.Algorithm;
-import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.loading.construction.GraphFactory;
-import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.OriginalIdNodePropertyValues;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.modularity.GraphContraction;
 import org.neo4j.gds.modularityoptimization.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationFactory;
@@ -217,49 +210,19 @@ public final class Louvain extends Algorithm<Louvain> {
         ModularityOptimization modularityOptimization,
         long maxCommunityId
     ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(concurrency)
-            .build();
-
-        terminationFlag.assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimization.getCommunityId(nodeId));
-            return true;
-        });
-
         terminationFlag.assertRunning();
-        double scaleCoefficient = 1.0;
-        if (workingGraph.schema().isUndirected()) {
-            scaleCoefficient /= 2.0;
-        }
-        IdMap idMap = nodesBuilder.build().idMap();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .orientation(rootGraph.schema().direction().toOrientation())
-            .addPropertyConfig(Aggregation.SUM, DefaultValue.forDouble())
-            .executorService(executorService)
-            .build();
 
-        double finalScaleCoefficient = scaleCoefficient;
-        var relationshipCreators = PartitionUtils.rangePartition(
+        return new GraphContraction(
+            workingGraph,
+            rootGraph.schema().direction(),
+            modularityOptimization::getCommunityId,
+            maxCommunityId,
+            true,
+            executorService,
             concurrency,
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimization,
-                    workingGraph.concurrentCopy(),
-                    finalScaleCoefficient,
-                    partition
-                ),
-            Optional.empty()
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build());
+            terminationFlag,
+            ProgressTracker.NULL_TRACKER
+        ).contract();
     }
 
     private boolean hasConverged() {
@@ -302,55 +265,4 @@ public final class Louvain extends Algorithm<Louvain> {
     public void release() {
         this.rootGraph.releaseTopology();
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimization modularityOptimization;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-        private final double scaleCoefficient;
-
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimization modularityOptimization,
-            RelationshipIterator relationshipIterator,
-            double scaleCoefficient,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimization = modularityOptimization;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-            this.scaleCoefficient = scaleCoefficient;
-        }
-
-        @Override
-        public void run() {
-            partition.consume(nodeId -> {
-                long communityId = modularityOptimization.getCommunityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    // In the case of undirected graphs, we need scaling as otherwise we'd have double the value in these edges
-                    // see GraphAggregationPhase.java for the equivalent in Leiden; and the corresponding test
-                    if (source == target) {
-                        relationshipsBuilder.add(communityId, modularityOptimization.getCommunityId(target), property);
-                    } else {
-                        relationshipsBuilder.add(
-                            communityId,
-                            modularityOptimization.getCommunityId(target),
-                            property * scaleCoefficient
-                        );
-
-                    }
-
-                    return true;
-                });
-            });
-        }
-    }
 }
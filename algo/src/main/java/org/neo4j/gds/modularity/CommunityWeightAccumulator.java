@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularity;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * Sums up relationship weights per neighbouring community of one node at a time.
+ *
+ * The weights are stored in an array indexed by community id, next to a list of the
+ * communities that have been encountered since the last {@link #reset()}.
+ * Resetting only touches those communities, so an instance is meant to be
+ * allocated once per thread and reused for every node it processes.
+ * Neither accumulating nor resetting hashes or allocates, apart from growing the
+ * list of encountered communities to the largest degree seen so far.
+ */
+public final class CommunityWeightAccumulator {
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(CommunityWeightAccumulator.class)
+            .perNode("weights", HugeDoubleArray::memoryEstimation)
+            .perNode("encountered communities", MemoryUsage::sizeOfBitset)
+            .build();
+    }
+
+    private final HugeDoubleArray weights;
+    private final BitSet encountered;
+    private long[] communities;
+    private int size;
+
+    public CommunityWeightAccumulator(long communityCount) {
+        this.weights = HugeDoubleArray.newArray(communityCount);
+        this.encountered = new BitSet(communityCount);
+        this.communities = new long[0];
+        this.size = 0;
+    }
+
+    public void add(long community, double weight) {
+        if (!encountered.get(community)) {
+            encountered.set(community);
+            if (size == communities.length) {
+                communities = Arrays.copyOf(communities, ArrayUtil.oversize(size + 1, Long.BYTES));
+            }
+            communities[size++] = community;
+        }
+        weights.addTo(community, weight);
+    }
+
+    /**
+     * @return the number of communities encountered since the last reset
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the community that was encountered as the {@code index}-th distinct one
+     */
+    public long community(int index) {
+        return communities[index];
+    }
+
+    /**
+     * @return the accumulated weight of the community, or 0 if it has not been encountered
+     */
+    public double weight(long community) {
+        return weights.get(community);
+    }
+
+    public void reset() {
+        for (int i = 0; i < size; i++) {
+            long community = communities[i];
+            weights.set(community, 0D);
+            encountered.clear(community);
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularity;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.collections.HugeSparseCollections;
+import org.neo4j.gds.collections.HugeSparseLongArray;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsAndDirection;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Contracts a graph into its community graph: every community becomes a node and the
+ * weights of all relationships between two communities are summed up into a single relationship.
+ *
+ * The community ids are relabeled to a dense id space in ascending order, which is also
+ * the id space of the resulting graph; {@code toOriginalNodeId} returns the community id.
+ * Each thread aggregates the relationships of whole communities with a primitive map and
+ * writes the sorted targets and summed weights straight into the pages of an uncompressed
+ * adjacency list, so neither an adjacency buffer nor a compression step is involved.
+ *
+ * For undirected graphs, every relationship is visited from both of its nodes and
+ * both directions end up in the contracted graph, just as they do in the input graph.
+ */
+public final class GraphContraction {
+
+    // maps that grew larger than this are re-allocated instead of cleared,
+    // as clearing costs as much as the capacity the map has grown to
+    private static final int MAX_REUSED_MAP_SIZE = 4096;
+
+    /**
+     * The per-node structures assume that every node forms its own community.
+     * At most all relationships of the input graph end up in the contracted graph.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(GraphContraction.class)
+            .rangePerGraphDimension(
+                "seen communities",
+                (dimensions, concurrency) -> HugeSparseCollections.estimateLong(
+                    dimensions.nodeCount(),
+                    dimensions.nodeCount()
+                )
+            )
+            .perNode("distinct communities", HugeLongArray::memoryEstimation)
+            .add("community id map", ArrayIdMap.memoryEstimation())
+            .perNode("dense communities", HugeLongArray::memoryEstimation)
+            .perNode("community offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("insert positions", HugeAtomicLongArray::memoryEstimation)
+            .perNode("nodes by community", HugeLongArray::memoryEstimation)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .rangePerGraphDimension("adjacency pages", (dimensions, concurrency) -> {
+                // targets and weights, every task might leave a partially filled page behind
+                long relationshipCount = dimensions.relCountUpperBound();
+                long pageCount = BitUtil.ceilDiv(relationshipCount, PAGE_SIZE) + concurrency;
+                long pagesSize = relationshipCount * Long.BYTES
+                                 + pageCount * MemoryUsage.sizeOfLongArray(0)
+                                 + MemoryUsage.sizeOfObjectArray(pageCount);
+                return MemoryRange.of(0, 2 * pagesSize);
+            })
+            .build();
+    }
+
+    private final Graph graph;
+    private final Direction direction;
+    private final LongUnaryOperator communities;
+    private final long maxCommunityId;
+    private final boolean keepIntraCommunityRelationships;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    /**
+     * @param keepIntraCommunityRelationships whether relationships within a community are kept as a self-loop
+     *                                        on the community node; for undirected graphs, the weight of a
+     *                                        self-loop is counted for both of its directions
+     */
+    public GraphContraction(
+        Graph graph,
+        Direction direction,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        boolean keepIntraCommunityRelationships,
+        ExecutorService executorService,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.direction = direction;
+        this.communities = communities;
+        this.maxCommunityId = maxCommunityId;
+        this.keepIntraCommunityRelationships = keepIntraCommunityRelationships;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+    }
+
+    public Graph contract() {
+        long nodeCount = graph.nodeCount();
+
+        IdMap idMap = relabelCommunities(nodeCount);
+        long communityCount = idMap.nodeCount();
+
+        terminationFlag.assertRunning();
+
+        var denseCommunities = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> denseCommunities.set(nodeId, idMap.toMappedNodeId(communities.applyAsLong(nodeId)))
+        );
+
+        var communityOffsets = HugeLongArray.newArray(communityCount + 1);
+        var nodesByCommunity = groupByCommunity(denseCommunities, communityOffsets, communityCount);
+
+        terminationFlag.assertRunning();
+
+        var degrees = HugeIntArray.newArray(communityCount);
+        var offsets = HugeLongArray.newArray(communityCount);
+        var pages = new Pages();
+
+        long batchSize = Math.max(
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            BitUtil.ceilDiv(graph.relationshipCount(), concurrency)
+        );
+        List<ContractionTask> tasks = PartitionUtils.degreePartitionWithBatchSize(
+            LongStream.range(0, communityCount).iterator(),
+            community -> communityDegree(community, communityOffsets, nodesByCommunity),
+            batchSize,
+            partition -> new ContractionTask(
+                partition,
+                graph.concurrentCopy(),
+                denseCommunities,
+                communityOffsets,
+                nodesByCommunity,
+                degrees,
+                offsets,
+                pages
+            )
+        );
+
+        ParallelUtil.run(tasks, executorService);
+
+        long relationshipCount = 0;
+        for (var task : tasks) {
+            relationshipCount += task.relationshipCount;
+        }
+
+        // targets and weights share the degrees and offsets
+        var sharedDegrees = SharedHugeArray.of(degrees);
+        var sharedOffsets = SharedHugeArray.of(offsets);
+        var relationships = Relationships.of(
+            relationshipCount,
+            false,
+            new UncompressedAdjacencyList(pages.targets(), sharedDegrees, sharedOffsets),
+            new UncompressedAdjacencyList(pages.weights(), sharedDegrees, sharedOffsets),
+            DefaultValue.DOUBLE_DEFAULT_FALLBACK
+        );
+
+        return GraphFactory.create(idMap, RelationshipsAndDirection.of(relationships, direction));
+    }
+
+    /**
+     * Collects the distinct community ids, sorts them and builds an id map
+     * that maps each community id to its rank among them.
+     */
+    private IdMap relabelCommunities(long nodeCount) {
+        var seenCommunities = HugeSparseLongArray.builder(IdMap.NOT_FOUND, maxCommunityId + 1);
+        var distinctCommunities = HugeLongArray.newArray(nodeCount);
+        var distinctCommunityCount = new AtomicLong();
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            long communityId = communities.applyAsLong(nodeId);
+            if (seenCommunities.setIfAbsent(communityId, 0L)) {
+                distinctCommunities.set(distinctCommunityCount.getAndIncrement(), communityId);
+            }
+        });
+
+        long communityCount = distinctCommunityCount.get();
+        var graphIds = distinctCommunities.copyOf(communityCount);
+        HugeMergeSort.sort(graphIds, concurrency);
+
+        return ArrayIdMapBuilderOps.build(
+            graphIds,
+            communityCount,
+            LabelInformationBuilders.allNodes(),
+            communityCount > 0 ? graphIds.get(communityCount - 1) : maxCommunityId,
+            concurrency
+        );
+    }
+
+    /**
+     * Counting sort of the nodes by their dense community id.
+     * The nodes of community {@code c} end up in the range {@code [offsets[c], offsets[c + 1])}.
+     */
+    private HugeLongArray groupByCommunity(
+        HugeLongArray denseCommunities,
+        HugeLongArray communityOffsets,
+        long communityCount
+    ) {
+        long nodeCount = denseCommunities.size();
+        var insertPositions = HugeAtomicLongArray.newArray(communityCount);
+
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> insertPositions.getAndAdd(denseCommunities.get(nodeId), 1L)
+        );
+
+        long offset = 0;
+        for (long community = 0; community < communityCount; community++) {
+            long communitySize = insertPositions.get(community);
+            communityOffsets.set(community, offset);
+            insertPositions.set(community, offset);
+            offset += communitySize;
+        }
+        communityOffsets.set(communityCount, offset);
+
+        var nodesByCommunity = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> nodesByCommunity.set(insertPositions.getAndAdd(denseCommunities.get(nodeId), 1L), nodeId)
+        );
+
+        return nodesByCommunity;
+    }
+
+    private int communityDegree(long community, HugeLongArray communityOffsets, HugeLongArray nodesByCommunity) {
+        long degree = 0;
+        for (long i = communityOffsets.get(community); i < communityOffsets.get(community + 1); i++) {
+            degree += graph.degree(nodesByCommunity.get(i));
+        }
+        return (int) Math.min(degree, Integer.MAX_VALUE);
+    }
+
+    private final class ContractionTask implements Runnable, RelationshipWithPropertyConsumer {
+
+        private final DegreePartition partition;
+        private final Graph localGraph;
+        private final HugeLongArray denseCommunities;
+        private final HugeLongArray communityOffsets;
+        private final HugeLongArray nodesByCommunity;
+        private final HugeIntArray degrees;
+        private final HugeLongArray offsets;
+        private final Pages pages;
+        private final boolean undirected;
+
+        private LongDoubleHashMap weights;
+        private long[] sortedTargets;
+        private long currentCommunity;
+
+        private long[] targetPage;
+        private long[] weightPage;
+        private int pageIndex;
+        private int pageOffset;
+        private long remainingRelationships;
+
+        long relationshipCount;
+
+        ContractionTask(
+            DegreePartition partition,
+            Graph localGraph,
+            HugeLongArray denseCommunities,
+            HugeLongArray communityOffsets,
+            HugeLongArray nodesByCommunity,
+            HugeIntArray degrees,
+            HugeLongArray offsets,
+            Pages pages
+        ) {
+            this.partition = partition;
+            this.localGraph = localGraph;
+            this.denseCommunities = denseCommunities;
+            this.communityOffsets = communityOffsets;
+            this.nodesByCommunity = nodesByCommunity;
+            this.degrees = degrees;
+            this.offsets = offsets;
+            this.pages = pages;
+            this.undirected = direction == Direction.UNDIRECTED;
+            this.weights = new LongDoubleHashMap();
+            this.sortedTargets = new long[0];
+            this.targetPage = new long[0];
+            this.weightPage = new long[0];
+            this.pageIndex = -1;
+            this.remainingRelationships = partition.totalDegree();
+        }
+
+        @Override
+        public void run() {
+            long endCommunity = partition.startNode() + partition.nodeCount();
+            for (long community = partition.startNode(); community < endCommunity; community++) {
+                currentCommunity = community;
+
+                long start = communityOffsets.get(community);
+                long end = communityOffsets.get(community + 1);
+                long communityDegree = 0;
+                for (long i = start; i < end; i++) {
+                    long nodeId = nodesByCommunity.get(i);
+                    communityDegree += localGraph.degree(nodeId);
+                    localGraph.forEachRelationship(nodeId, 1.0, this);
+                }
+
+                write(community);
+                remainingRelationships -= communityDegree;
+                progressTracker.logProgress(end - start);
+            }
+
+            if (pageIndex >= 0 && pageOffset < targetPage.length) {
+                pages.set(
+                    pageIndex,
+                    Arrays.copyOf(targetPage, pageOffset),
+                    Arrays.copyOf(weightPage, pageOffset)
+                );
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            long targetCommunity = denseCommunities.get(targetNodeId);
+            if (targetCommunity == currentCommunity) {
+                if (!keepIntraCommunityRelationships) {
+                    return true;
+                }
+                if (undirected && sourceNodeId == targetNodeId) {
+                    property *= 2.0;
+                }
+            }
+            weights.addTo(targetCommunity, property);
+            return true;
+        }
+
+        private void write(long community) {
+            int degree = weights.size();
+            if (degree == 0) {
+                return;
+            }
+
+            if (sortedTargets.length < degree) {
+                sortedTargets = new long[degree];
+            }
+            int i = 0;
+            for (LongCursor target : weights.keys()) {
+                sortedTargets[i++] = target.value;
+            }
+            Arrays.sort(sortedTargets, 0, degree);
+
+            long address = allocate(degree);
+            int offset = pageOffset - degree;
+            for (i = 0; i < degree; i++) {
+                long target = sortedTargets[i];
+                targetPage[offset + i] = target;
+                weightPage[offset + i] = Double.doubleToLongBits(weights.get(target));
+            }
+
+            degrees.set(community, degree);
+            offsets.set(community, address);
+            relationshipCount += degree;
+
+            if (degree > MAX_REUSED_MAP_SIZE) {
+                weights = new LongDoubleHashMap();
+            } else {
+                weights.clear();
+            }
+        }
+
+        /**
+         * Reserves {@code length} slots in the current pages and returns their global address.
+         * Lists never cross a page boundary, lists longer than a page get pages of their own.
+         * New pages are only as large as the remaining relationships of this partition require.
+         */
+        private long allocate(int length) {
+            if (pageOffset + length > targetPage.length) {
+                int pageSize = length > PAGE_SIZE
+                    ? length
+                    : (int) Math.max(length, Math.min(PAGE_SIZE, remainingRelationships));
+                targetPage = new long[pageSize];
+                weightPage = new long[pageSize];
+                pageIndex = pages.add(targetPage, weightPage);
+                pageOffset = 0;
+            }
+            long address = PageUtil.capacityFor(pageIndex, PAGE_SHIFT) + pageOffset;
+            pageOffset += length;
+            return address;
+        }
+    }
+
+    private static final class Pages {
+
+        private final List<long[]> targets = new ArrayList<>();
+        private final List<long[]> weights = new ArrayList<>();
+
+        synchronized int add(long[] targetPage, long[] weightPage) {
+            targets.add(targetPage);
+            weights.add(weightPage);
+            return targets.size() - 1;
+        }
+
+        synchronized void set(int pageIndex, long[] targetPage, long[] weightPage) {
+            targets.set(pageIndex, targetPage);
+            weights.set(pageIndex, weightPage);
+        }
+
+        synchronized long[][] targets() {
+            return targets.toArray(long[][]::new);
+        }
+
+        synchronized long[][] weights() {
+            return weights.toArray(long[][]::new);
+        }
+    }
+}
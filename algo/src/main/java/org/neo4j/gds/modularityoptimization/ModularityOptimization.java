@@ -41,9 +41,12 @@ import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.modularity.CommunityWeightAccumulator;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
 
@@ -84,6 +87,10 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
 
     private ModularityColorArray modularityColorArray;
 
+    // accumulators are handed from one color's tasks to the next,
+    // so no more of them are allocated than tasks run at the same time
+    private final Queue<CommunityWeightAccumulator> communityWeightAccumulators;
+
     public ModularityOptimization(
         final Graph graph,
         int maxIterations,
@@ -111,6 +118,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         }
 
         this.modularityManager = ModularityManager.create(graph, concurrency);
+        this.communityWeightAccumulators = new ConcurrentLinkedQueue<>();
     }
 
     @Override
@@ -357,6 +365,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 communityWeightUpdates,
                 modularityManager,
                 modularityColorArray,
+                communityWeightAccumulators,
                 progressTracker
             ),
             Optional.of((int) minBatchSize)
@@ -386,7 +395,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.communityWeightUpdates.release();
         this.cumulativeNodeWeights.release();
         modularityColorArray.release();
-
+        communityWeightAccumulators.clear();
     }
 
     public long getCommunityId(long nodeId) {
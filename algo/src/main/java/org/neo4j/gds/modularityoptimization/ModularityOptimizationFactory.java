@@ -38,6 +38,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.modularity.CommunityWeightAccumulator;
 
 import java.util.List;
 
@@ -62,13 +63,7 @@ public class ModularityOptimizationFactory<T extends ModularityOptimizationConfi
             )
             .perNode("communityWeightUpdates", HugeAtomicDoubleArray::memoryEstimation)
             .perThread("ModularityOptimizationTask", MemoryEstimations.builder()
-                .rangePerNode(
-                    "communityInfluences",
-                    (nodeCount) -> MemoryRange.of(
-                        MemoryUsage.sizeOfLongDoubleHashMap(50),
-                        MemoryUsage.sizeOfLongDoubleHashMap(Math.max(50, nodeCount))
-                    )
-                )
+                .add("communityInfluences", CommunityWeightAccumulator.memoryEstimation())
                 .build()
             )
             .build();
@@ -19,9 +19,6 @@
  */
 package org.neo4j.gds.modularityoptimization;
 
-import com.carrotsearch.hppc.LongDoubleHashMap;
-import com.carrotsearch.hppc.LongDoubleMap;
-import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
@@ -30,6 +27,9 @@ import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.modularity.CommunityWeightAccumulator;
+
+import java.util.Queue;
 
 final class ModularityOptimizationTask implements Runnable {
 
@@ -45,6 +45,7 @@ final class ModularityOptimizationTask implements Runnable {
     private final HugeAtomicDoubleArray communityWeightUpdates;
 
     private final ModularityColorArray modularityColorArray;
+    private final Queue<CommunityWeightAccumulator> communityWeightAccumulators;
 
     ModularityOptimizationTask(
         Graph graph,
@@ -57,9 +58,11 @@ final class ModularityOptimizationTask implements Runnable {
         HugeAtomicDoubleArray communityWeightUpdates,
         ModularityManager modularityManager,
         ModularityColorArray modularityColorArray,
+        Queue<CommunityWeightAccumulator> communityWeightAccumulators,
         ProgressTracker progressTracker
     ) {
         this.modularityColorArray = modularityColorArray;
+        this.communityWeightAccumulators = communityWeightAccumulators;
         this.partition = partition;
         this.currentStartingPosition = currentStartingPosition;
         this.localGraph = graph.concurrentCopy();
@@ -74,7 +77,10 @@ final class ModularityOptimizationTask implements Runnable {
 
     @Override
     public void run() {
-        LongDoubleMap reuseCommunityInfluences = new LongDoubleHashMap(50);
+        var pooledAccumulator = communityWeightAccumulators.poll();
+        var communityInfluences = pooledAccumulator != null
+            ? pooledAccumulator
+            : new CommunityWeightAccumulator(localGraph.nodeCount());
         var relationshipsProcessed = new MutableLong();
 
         partition.consume(indexId -> {
@@ -83,13 +89,7 @@ final class ModularityOptimizationTask implements Runnable {
             long currentCommunity = currentCommunities.get(nodeId);
             final int degree = localGraph.degree(nodeId);
 
-            LongDoubleMap communityInfluences;
-            if (degree < 50) {
-                reuseCommunityInfluences.clear();
-                communityInfluences = reuseCommunityInfluences;
-            } else {
-                communityInfluences = new LongDoubleHashMap(degree);
-            }
+            communityInfluences.reset();
             MutableDouble selfWeight = new MutableDouble(0.0D);
 
             // calculate influence of this node w.r.t its neighbours communities
@@ -98,26 +98,26 @@ final class ModularityOptimizationTask implements Runnable {
                     selfWeight.add(w);
                 }
                 long targetCommunity = currentCommunities.get(t);
-                communityInfluences.addTo(targetCommunity, w);
+                communityInfluences.add(targetCommunity, w);
                 return true;
             });
 
             long nextCommunity = currentCommunity;
             double currentGain;
             double maxGain = 0.0;
-            double eix = communityInfluences.get(currentCommunity) - selfWeight.doubleValue();
+            double eix = communityInfluences.weight(currentCommunity) - selfWeight.doubleValue();
             double cumulativeNodeWeight = cumulativeNodeWeights.get(nodeId);
             double ax = modularityManager.getCommunityWeight(currentCommunity) - cumulativeNodeWeight;
             double eiy;
             double ay;
 
             long communityCandidate;
-            for (LongDoubleCursor cursor : communityInfluences) {
-                communityCandidate = cursor.key;
+            for (int i = 0; i < communityInfluences.size(); i++) {
+                communityCandidate = communityInfluences.community(i);
 
                 if (currentCommunity != communityCandidate) {
                     ay = modularityManager.getCommunityWeight(communityCandidate);
-                    eiy = cursor.value;
+                    eiy = communityInfluences.weight(communityCandidate);
                     currentGain =
                         (eiy - eix) / (totalNodeWeight / 2.0)
                         + (2 * cumulativeNodeWeight * ax - 2 * cumulativeNodeWeight * ay) / Math.pow(
@@ -140,6 +140,7 @@ final class ModularityOptimizationTask implements Runnable {
             relationshipsProcessed.add(degree);
         });
 
+        communityWeightAccumulators.offer(communityInfluences);
         progressTracker.logProgress(relationshipsProcessed.longValue());
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.config.AlgoBaseConfig;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Configuration for algorithms that aggregate distances using multi-source BFS.
+ *
+ * Setting either {@code samplingSize} or {@code samplingError} switches to an
+ * approximation that only traverses from a uniform sample of source nodes.
+ * {@code sourcesPerPass} controls how many sources a single traversal covers.
+ */
+public interface MultiSourceBFSConfig extends AlgoBaseConfig {
+
+    Optional<Long> samplingSize();
+
+    Optional<Double> samplingError();
+
+    Optional<Long> samplingSeed();
+
+    @Value.Default
+    default int sourcesPerPass() {
+        return MSBFSConstants.OMEGA;
+    }
+
+    @Value.Check
+    default void validateMultiSourceBFS() {
+        samplingSize().ifPresent(samplingSize -> {
+            if (samplingSize <= 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingSize' must be a positive number, got %d.",
+                    samplingSize
+                ));
+            }
+        });
+        samplingError().ifPresent(samplingError -> {
+            if (samplingError <= 0 || samplingError >= 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingError' must be in the range (0, 1), got %f.",
+                    samplingError
+                ));
+            }
+        });
+        if (samplingSize().isPresent() && samplingError().isPresent()) {
+            throw new IllegalArgumentException(
+                "Only one of the configuration parameters 'samplingSize' and 'samplingError' can be set."
+            );
+        }
+        if (!WideMultiSourceBFS.isSupportedWidth(sourcesPerPass())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter 'sourcesPerPass' must be one of %s, got %d.",
+                WideMultiSourceBFS.SUPPORTED_WIDTHS,
+                sourcesPerPass()
+            ));
+        }
+    }
+}
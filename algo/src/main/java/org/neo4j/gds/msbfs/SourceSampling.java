@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Uniform source sampling for estimating distance aggregates as described in [1].
+ *
+ * Summing the distances from {@code k} uniformly sampled sources and scaling by {@code n / k}
+ * gives an unbiased estimate of the sum over all sources. With {@code k = ln(n) / ε²} samples,
+ * the error of the average distance is at most {@code ε} times the diameter with high probability.
+ *
+ * [1] David Eppstein, Joseph Wang. "Fast Approximation of Centrality", SODA 2001.
+ */
+public final class SourceSampling {
+
+    private SourceSampling() {}
+
+    /**
+     * Returns the sorted sampled source nodes or {@code null} if all nodes should be used as sources.
+     */
+    public static long @Nullable [] sources(long nodeCount, MultiSourceBFSConfig config) {
+        long sampleSize = sampleSize(nodeCount, config);
+        if (sampleSize >= nodeCount) {
+            return null;
+        }
+        if (sampleSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot sample more than %d source nodes, got %d.",
+                Integer.MAX_VALUE,
+                sampleSize
+            ));
+        }
+
+        var random = config.samplingSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        return uniform(nodeCount, (int) sampleSize, random);
+    }
+
+    /**
+     * Estimates the sampled sources and the set used to draw them.
+     */
+    public static MemoryEstimation memoryEstimation(MultiSourceBFSConfig config) {
+        return MemoryEstimations.builder(SourceSampling.class)
+            .perNode("sampled sources", nodeCount -> {
+                long sampleSize = sampleSize(nodeCount, config);
+                return sampleSize < nodeCount
+                    ? MemoryUsage.sizeOfLongHashSet(sampleSize) + MemoryUsage.sizeOfLongArray(sampleSize)
+                    : 0L;
+            })
+            .build();
+    }
+
+    /**
+     * Returns the configured sample size, or {@code nodeCount} if sampling is not configured.
+     */
+    static long sampleSize(long nodeCount, MultiSourceBFSConfig config) {
+        if (config.samplingSize().isPresent()) {
+            return config.samplingSize().get();
+        }
+        if (config.samplingError().isPresent()) {
+            return sampleSizeForError(nodeCount, config.samplingError().get());
+        }
+        return nodeCount;
+    }
+
+    static long sampleSizeForError(long nodeCount, double error) {
+        return (long) Math.ceil(Math.log(Math.max(nodeCount, 2)) / (error * error));
+    }
+
+    /**
+     * Draws {@code sampleSize} distinct nodes using Floyd's algorithm.
+     */
+    static long[] uniform(long nodeCount, int sampleSize, SplittableRandom random) {
+        var selected = new LongHashSet(sampleSize);
+        for (long upper = nodeCount - sampleSize; upper < nodeCount; upper++) {
+            long candidate = random.nextLong(upper + 1);
+            if (!selected.add(candidate)) {
+                selected.add(upper);
+            }
+        }
+        var sources = selected.toArray();
+        Arrays.sort(sources);
+        return sources;
+    }
+}
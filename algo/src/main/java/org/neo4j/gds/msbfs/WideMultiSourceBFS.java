@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-source BFS that traverses up to 256 or 512 sources per pass.
+ *
+ * Where {@link MultiSourceBFSAccessMethods} keeps a single {@code long} per node,
+ * this variant keeps {@code sourcesPerPass / 64} lane words per node in the
+ * visit and seen sets. Every relationship is then iterated once for four or eight times
+ * as many sources, at the cost of proportionally larger per-thread sets.
+ *
+ * The consumer only receives the number of sources reaching a node, which is all that
+ * distance aggregates such as closeness or harmonic centrality need.
+ * It is called from multiple threads and must be thread-safe.
+ */
+public final class WideMultiSourceBFS {
+
+    public static final List<Integer> SUPPORTED_WIDTHS = List.of(MSBFSConstants.OMEGA, 256, 512);
+
+    private final long nodeCount;
+    private final RelationshipIterator relationships;
+    private final int lanes;
+    private final long @Nullable [] sourceNodes;
+    private final BfsCountConsumer consumer;
+
+    public static boolean isSupportedWidth(int sourcesPerPass) {
+        return SUPPORTED_WIDTHS.contains(sourcesPerPass);
+    }
+
+    /**
+     * Estimates the visit, next visit and seen sets that every thread keeps for its passes.
+     * This also covers the width of 64, whose sets are kept by {@link MultiSourceBFSAccessMethods}.
+     */
+    public static MemoryEstimation memoryEstimation(int sourcesPerPass) {
+        int lanes = sourcesPerPass / Long.SIZE;
+        return MemoryEstimations.builder(WideMultiSourceBFS.class)
+            .perThread(
+                "traversal sets",
+                MemoryEstimations.builder()
+                    .perNode(
+                        "visit, next visit and seen",
+                        nodeCount -> 3 * HugeLongArray.memoryEstimation(nodeCount * lanes)
+                    )
+                    .build()
+            )
+            .build();
+    }
+
+    /**
+     * Runs a multi-source BFS from the given sources, or from all nodes if {@code sourceNodes} is {@code null}.
+     * A width of 64 sources per pass delegates to {@link MultiSourceBFSAccessMethods}.
+     */
+    public static void run(
+        long nodeCount,
+        RelationshipIterator relationships,
+        long @Nullable [] sourceNodes,
+        int sourcesPerPass,
+        BfsCountConsumer consumer,
+        int concurrency,
+        ExecutorService executor
+    ) {
+        if (sourcesPerPass == MSBFSConstants.OMEGA) {
+            BfsConsumer sourcesConsumer = (nodeId, depth, sources) -> consumer.accept(nodeId, depth, sources.size());
+            var msbfs = sourceNodes == null
+                ? MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
+                    nodeCount,
+                    relationships,
+                    sourcesConsumer
+                )
+                : MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+                    nodeCount,
+                    relationships,
+                    sourcesConsumer,
+                    sourceNodes
+                );
+            msbfs.run(concurrency, executor);
+            return;
+        }
+
+        new WideMultiSourceBFS(nodeCount, relationships, sourcesPerPass, sourceNodes, consumer).run(
+            concurrency,
+            executor
+        );
+    }
+
+    WideMultiSourceBFS(
+        long nodeCount,
+        RelationshipIterator relationships,
+        int sourcesPerPass,
+        long @Nullable [] sourceNodes,
+        BfsCountConsumer consumer
+    ) {
+        if (!isSupportedWidth(sourcesPerPass)) {
+            throw new IllegalArgumentException("Unsupported number of sources per pass: " + sourcesPerPass);
+        }
+        this.nodeCount = nodeCount;
+        this.relationships = relationships;
+        this.lanes = sourcesPerPass / Long.SIZE;
+        this.sourceNodes = sourceNodes;
+        this.consumer = consumer;
+    }
+
+    void run(int concurrency, ExecutorService executor) {
+        long sourceCount = sourceNodes == null ? nodeCount : sourceNodes.length;
+        long width = (long) lanes * Long.SIZE;
+        long passes = ParallelUtil.threadCount(width, sourceCount);
+        int workers = (int) Math.min(concurrency, passes);
+
+        // each worker keeps its lane sets and pulls passes until all sources are traversed
+        var nextPass = new AtomicLong();
+        var tasks = new ArrayList<Runnable>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(new Worker(relationships.concurrentCopy(), nextPass, passes, sourceCount, width));
+        }
+        ParallelUtil.run(tasks, executor);
+    }
+
+    private final class Worker implements Runnable, RelationshipConsumer {
+
+        private final RelationshipIterator relationships;
+        private final AtomicLong nextPass;
+        private final long passes;
+        private final long sourceCount;
+        private final long width;
+        private final long[] words;
+
+        private HugeLongArray visit;
+        private HugeLongArray visitNext;
+        private HugeLongArray seen;
+
+        Worker(RelationshipIterator relationships, AtomicLong nextPass, long passes, long sourceCount, long width) {
+            this.relationships = relationships;
+            this.nextPass = nextPass;
+            this.passes = passes;
+            this.sourceCount = sourceCount;
+            this.width = width;
+            this.words = new long[lanes];
+        }
+
+        @Override
+        public void run() {
+            long setSize = nodeCount * lanes;
+            long pass;
+            while ((pass = nextPass.getAndIncrement()) < passes) {
+                if (visit == null) {
+                    visit = HugeLongArray.newArray(setSize);
+                    visitNext = HugeLongArray.newArray(setSize);
+                    seen = HugeLongArray.newArray(setSize);
+                } else {
+                    visit.fill(0L);
+                    seen.fill(0L);
+                }
+
+                long from = pass * width;
+                int length = (int) Math.min(width, sourceCount - from);
+                for (int i = 0; i < length; i++) {
+                    long source = sourceNodes == null ? from + i : sourceNodes[(int) (from + i)];
+                    long index = source * lanes + (i >>> 6);
+                    long bit = 1L << i;
+                    visit.or(index, bit);
+                    seen.or(index, bit);
+                }
+
+                traverse();
+            }
+
+            visit = null;
+            visitNext = null;
+            seen = null;
+        }
+
+        private void traverse() {
+            int depth = 0;
+            while (true) {
+                for (long node = 0; node < nodeCount; node++) {
+                    long base = node * lanes;
+                    boolean active = false;
+                    for (int lane = 0; lane < lanes; lane++) {
+                        words[lane] = visit.get(base + lane);
+                        active |= words[lane] != 0L;
+                    }
+                    if (active) {
+                        relationships.forEachRelationship(node, this);
+                    }
+                }
+
+                ++depth;
+
+                // the newly discovered sources become the next visit set, visitNext is cleared on the way
+                boolean hasNext = false;
+                for (long node = 0; node < nodeCount; node++) {
+                    long base = node * lanes;
+                    int count = 0;
+                    for (int lane = 0; lane < lanes; lane++) {
+                        long next = visitNext.get(base + lane);
+                        if (next != 0L) {
+                            next &= ~seen.get(base + lane);
+                            seen.or(base + lane, next);
+                            count += Long.bitCount(next);
+                            visitNext.set(base + lane, 0L);
+                        }
+                        visit.set(base + lane, next);
+                    }
+                    if (count > 0) {
+                        consumer.accept(node, depth, count);
+                        hasNext = true;
+                    }
+                }
+
+                if (!hasNext) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            long base = targetNodeId * lanes;
+            for (int lane = 0; lane < lanes; lane++) {
+                if (words[lane] != 0L) {
+                    visitNext.or(base + lane, words[lane]);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -43,12 +43,14 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
     private final double tolerance;
     private final double alpha;
     private final double averageDegree;
+    private final boolean gatherMessages;
 
     ArticleRankComputation(
         PageRankConfig config,
         LongSet sourceNodes,
         LongToDoubleFunction degreeFunction,
-        double averageDegree
+        double averageDegree,
+        boolean gatherMessages
     ) {
         this.dampingFactor = config.dampingFactor();
         this.tolerance = config.tolerance();
@@ -57,6 +59,7 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.gatherMessages = gatherMessages;
     }
 
     @Override
@@ -108,6 +111,11 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
         return Optional.of(new Reducer.Sum());
     }
 
+    @Override
+    public boolean gatherMessages() {
+        return gatherMessages;
+    }
+
     @Override
     public double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
         return nodeValue * relationshipWeight;
@@ -48,12 +48,14 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
 
     private final double tolerance;
     private final double initialValue;
+    private final boolean gatherMessages;
 
     EigenvectorComputation(
         long nodeCount,
         PageRankConfig config,
         LongSet sourceNodes,
-        LongToDoubleFunction weightDenominator
+        LongToDoubleFunction weightDenominator,
+        boolean gatherMessages
     ) {
         this.tolerance = config.tolerance();
         this.sourceNodes = sourceNodes;
@@ -67,6 +69,7 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
             : 1.0 / nodeCount;
 
         this.weightDenominator = weightDenominator;
+        this.gatherMessages = gatherMessages;
     }
 
     @Override
@@ -170,6 +173,11 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
         return Optional.of(new Reducer.Sum());
     }
 
+    @Override
+    public boolean gatherMessages() {
+        return gatherMessages;
+    }
+
     @Override
     public double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
         return nodeValue * relationshipWeight;
@@ -96,9 +96,20 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
             .mapToLong(graph::toMappedNodeId)
             .forEach(mappedSourceNodes::add);
 
+        // On undirected graphs, every node can gather the scores of its neighbors
+        // without indexing the incoming relationships first, which keeps the
+        // memory within the estimation.
+        var gatherMessages = graph.schema().isUndirected();
+
         if (mode == ARTICLE_RANK) {
             double avgDegree = averageDegree(graph, configuration.concurrency());
-            computation = new ArticleRankComputation(configuration, mappedSourceNodes, degreeFunction, avgDegree);
+            computation = new ArticleRankComputation(
+                configuration,
+                mappedSourceNodes,
+                degreeFunction,
+                avgDegree,
+                gatherMessages
+            );
         } else if (mode == EIGENVECTOR) {
             // Degrees are generally not respected in eigenvector centrality.
             //
@@ -109,9 +120,15 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
                 ? degreeFunction
                 : (nodeId) -> 1;
 
-            computation = new EigenvectorComputation(graph.nodeCount(), configuration, mappedSourceNodes, degreeFunction);
+            computation = new EigenvectorComputation(
+                graph.nodeCount(),
+                configuration,
+                mappedSourceNodes,
+                degreeFunction,
+                gatherMessages
+            );
         } else {
-            computation = new PageRankComputation(configuration, mappedSourceNodes, degreeFunction);
+            computation = new PageRankComputation(configuration, mappedSourceNodes, degreeFunction, gatherMessages);
         }
 
         return new PageRankAlgorithm(
@@ -42,11 +42,13 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final double dampingFactor;
     private final double tolerance;
     private final double alpha;
+    private final boolean gatherMessages;
 
     PageRankComputation(
         PageRankConfig config,
         LongSet sourceNodes,
-        LongToDoubleFunction degreeFunction
+        LongToDoubleFunction degreeFunction,
+        boolean gatherMessages
     ) {
         this.dampingFactor = config.dampingFactor();
         this.tolerance = config.tolerance();
@@ -54,6 +56,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.gatherMessages = gatherMessages;
     }
 
     @Override
@@ -102,6 +105,11 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         return Optional.of(new Reducer.Sum());
     }
 
+    @Override
+    public boolean gatherMessages() {
+        return gatherMessages;
+    }
+
     @Override
     public double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
         return nodeValue * relationshipWeight;
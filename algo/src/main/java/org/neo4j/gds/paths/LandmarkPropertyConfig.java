@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
+import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Points a source-target shortest path computation to a landmark index,
+ * i.e. a node property previously created by {@code gds.alpha.shortestPath.landmarks.mutate}.
+ */
+public interface LandmarkPropertyConfig {
+    String LANDMARK_PROPERTY_KEY = "landmarkProperty";
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "validatePropertyName")
+    @Configuration.Key(LANDMARK_PROPERTY_KEY)
+    default @Nullable String landmarkProperty() {
+        return null;
+    }
+
+    static @Nullable String validatePropertyName(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), LANDMARK_PROPERTY_KEY);
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateLandmarkProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        String landmarkProperty = landmarkProperty();
+        if (landmarkProperty == null) {
+            return;
+        }
+        if (!graphStore.hasNodeProperty(selectedLabels, landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Landmark property `%s` not found in graph with node properties: %s",
+                landmarkProperty,
+                graphStore.nodePropertyKeys().stream().sorted().collect(Collectors.toList())
+            ));
+        }
+        var valueType = graphStore.nodeProperty(landmarkProperty).valueType();
+        if (valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Landmark property `%s` must be of type %s, but was %s",
+                landmarkProperty,
+                ValueType.DOUBLE_ARRAY.cypherName(),
+                valueType.cypherName()
+            ));
+        }
+    }
+}
@@ -24,5 +24,5 @@ import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.config.SourceNodeConfig;
 import org.neo4j.gds.config.TargetNodeConfig;
 
-public interface ShortestPathBaseConfig extends AlgoBaseConfig, SourceNodeConfig, TargetNodeConfig, RelationshipWeightConfig, TrackRelationshipsConfig {
+public interface ShortestPathBaseConfig extends AlgoBaseConfig, SourceNodeConfig, TargetNodeConfig, RelationshipWeightConfig, TrackRelationshipsConfig, LandmarkPropertyConfig {
 }
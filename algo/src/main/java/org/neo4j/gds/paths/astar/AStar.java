@@ -29,6 +29,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarBaseConfig;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.DijkstraResult;
+import org.neo4j.gds.paths.landmarks.LandmarkHeuristic;
 
 import java.util.Optional;
 
@@ -69,7 +70,15 @@ public final class AStar extends Algorithm<DijkstraResult> {
         var longitudeProperties = graph.nodeProperties(longitudeProperty);
         var targetNode = graph.toMappedNodeId(config.targetNode());
 
-        var heuristic = new HaversineHeuristic(latitudeProperties, longitudeProperties, targetNode);
+        Dijkstra.HeuristicFunction heuristic = new HaversineHeuristic(latitudeProperties, longitudeProperties, targetNode);
+
+        // Both bounds are admissible, so is their maximum.
+        var landmarkHeuristic = LandmarkHeuristic.fromConfig(graph, config);
+        if (landmarkHeuristic.isPresent()) {
+            var haversine = heuristic;
+            var landmarks = landmarkHeuristic.get();
+            heuristic = node -> Math.max(haversine.applyAsDouble(node), landmarks.applyAsDouble(node));
+        }
 
         // Init dijkstra algorithm for computing shortest paths
         var dijkstra = Dijkstra.sourceTarget(graph, config, Optional.of(heuristic), progressTracker);
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.delta;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.QueueBasedSpliterator;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaMultiSourceStreamConfig;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.neo4j.gds.paths.delta.TentativeDistances.DIST_INF;
+
+/**
+ * Runs a bucket-based single-source shortest path computation for many sources.
+ *
+ * Parallelism is across sources: each worker claims the next source and runs a
+ * sequential delta-stepping on it. The distance array of a worker is allocated once
+ * and only the entries touched by a source are reset afterwards. Buckets contain
+ * the nodes whose tentative distance falls into them, so the frontier is never
+ * scanned across the whole graph.
+ *
+ * Each source's distances are handed to the returned stream as soon as the source
+ * is done, while the remaining sources are still being processed.
+ */
+public final class MultiSourceDeltaStepping extends Algorithm<Stream<SourceDistances>> {
+
+    private static final SourceDistances TOMBSTONE = new SourceDistances(-1, new long[0], new double[0]);
+
+    // Bounds the bucket array of a worker, nodes in later bins are kept in an overflow list.
+    static final int MAX_BUCKET_COUNT = 1 << 16;
+
+    private final Graph graph;
+    private final long sourceCount;
+    private final LongUnaryOperator sourceAt;
+    private final double delta;
+    private final int concurrency;
+    private final int sourceBufferSize;
+    private final ExecutorService executorService;
+
+    public static MultiSourceDeltaStepping of(
+        Graph graph,
+        AllShortestPathsDeltaMultiSourceStreamConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var sourceNodes = config.sourceNodes();
+        long sourceCount;
+        LongUnaryOperator sourceAt;
+        if (sourceNodes.isEmpty()) {
+            sourceCount = graph.nodeCount();
+            sourceAt = index -> index;
+        } else {
+            var mappedSourceNodes = sourceNodes.stream().mapToLong(graph::toMappedNodeId).toArray();
+            sourceCount = mappedSourceNodes.length;
+            sourceAt = index -> mappedSourceNodes[(int) index];
+        }
+
+        return new MultiSourceDeltaStepping(
+            graph,
+            sourceCount,
+            sourceAt,
+            config.delta(),
+            config.concurrency(),
+            config.sourceBufferSize(),
+            executorService,
+            progressTracker
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation(int sourceBufferSize) {
+        return MemoryEstimations.builder(MultiSourceDeltaStepping.class)
+            .rangePerGraphDimension("worker state", (dimensions, concurrency) -> {
+                var nodeCount = dimensions.nodeCount();
+                // every worker owns a distance array and the list of touched nodes,
+                // which holds all nodes in the worst case
+                var distances = HugeDoubleArray.memoryEstimation(nodeCount);
+                var touched = MemoryUsage.sizeOfLongArray(nodeCount);
+                // buckets hold each reached node at least once, more if it is improved
+                var bucketsLowerBound = MemoryUsage.sizeOfLongArray(nodeCount);
+                var bucketsUpperBound = MemoryUsage.sizeOfLongArray(Math.max(nodeCount, dimensions.relCountUpperBound()));
+
+                return MemoryRange.of(
+                    distances + touched + bucketsLowerBound,
+                    distances + touched + bucketsUpperBound
+                ).times(concurrency);
+            })
+            .rangePerNode("source buffer", nodeCount -> MemoryRange.of(
+                sourceBufferSize * MemoryUsage.sizeOfInstance(SourceDistances.class),
+                sourceBufferSize * (MemoryUsage.sizeOfInstance(SourceDistances.class)
+                                    + MemoryUsage.sizeOfLongArray(nodeCount)
+                                    + MemoryUsage.sizeOfDoubleArray(nodeCount))
+            ))
+            .build();
+    }
+
+    private MultiSourceDeltaStepping(
+        Graph graph,
+        long sourceCount,
+        LongUnaryOperator sourceAt,
+        double delta,
+        int concurrency,
+        int sourceBufferSize,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceCount = sourceCount;
+        this.sourceAt = sourceAt;
+        this.delta = delta;
+        this.concurrency = concurrency;
+        this.sourceBufferSize = sourceBufferSize;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public Stream<SourceDistances> compute() {
+        progressTracker.beginSubTask();
+
+        var terminationFlag = new ExternalTerminationFlag(this.terminationFlag);
+        BlockingQueue<SourceDistances> results = new ArrayBlockingQueue<>(sourceBufferSize);
+        var nextSource = new AtomicLong();
+
+        var tasks = IntStream
+            .range(0, (int) Math.min(concurrency, Math.max(1, sourceCount)))
+            .mapToObj(i -> new SourceTask(graph.concurrentCopy(), nextSource, results, terminationFlag))
+            .collect(Collectors.toList());
+
+        CompletableFuture.runAsync(
+            () -> runTasks(tasks, results, terminationFlag),
+            Pools.DEFAULT_SINGLE_THREAD_POOL
+        ).whenComplete((__, ___) -> progressTracker.endSubTask());
+
+        int timeoutInSeconds = 100;
+        var spliterator = new QueueBasedSpliterator<>(results, TOMBSTONE, terminationFlag, timeoutInSeconds);
+        return StreamSupport
+            .stream(spliterator, false)
+            .onClose(terminationFlag::stop);
+    }
+
+    @Override
+    public void release() {}
+
+    private void runTasks(
+        List<SourceTask> tasks,
+        BlockingQueue<SourceDistances> results,
+        TerminationFlag terminationFlag
+    ) {
+        try {
+            RunWithConcurrency.builder()
+                .executor(executorService)
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .terminationFlag(terminationFlag)
+                .mayInterruptIfRunning(true)
+                .run();
+        } finally {
+            try {
+                results.put(TOMBSTONE);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private final class SourceTask implements Runnable {
+
+        private final Graph localGraph;
+        private final AtomicLong nextSource;
+        private final BlockingQueue<SourceDistances> results;
+        private final TerminationFlag terminationFlag;
+
+        // Pooled across sources, only the touched entries are reset.
+        private final HugeDoubleArray distances;
+        private final LongArrayList touched;
+
+        // Buckets cover the bins from bucketOffset on, nodes beyond the last bucket wait in the overflow.
+        private LongArrayList[] buckets;
+        private LongArrayList currentBucket;
+        private final LongArrayList overflow;
+        private long bucketOffset;
+
+        SourceTask(
+            Graph localGraph,
+            AtomicLong nextSource,
+            BlockingQueue<SourceDistances> results,
+            TerminationFlag terminationFlag
+        ) {
+            this.localGraph = localGraph;
+            this.nextSource = nextSource;
+            this.results = results;
+            this.terminationFlag = terminationFlag;
+            this.distances = HugeDoubleArray.newArray(localGraph.nodeCount());
+            this.distances.fill(DIST_INF);
+            this.touched = new LongArrayList();
+            this.buckets = new LongArrayList[0];
+            this.currentBucket = new LongArrayList();
+            this.overflow = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            long sourceIndex;
+            while ((sourceIndex = nextSource.getAndIncrement()) < sourceCount && terminationFlag.running()) {
+                var sourceNode = sourceAt.applyAsLong(sourceIndex);
+                computeDistances(sourceNode);
+                var sourceDistances = collectAndReset(sourceNode);
+                progressTracker.logProgress();
+
+                try {
+                    results.put(sourceDistances);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void computeDistances(long sourceNode) {
+            distances.set(sourceNode, 0.0D);
+            touched.add(sourceNode);
+            bucketOffset = 0;
+            bucket(0).add(sourceNode);
+
+            do {
+                processBuckets();
+            } while (rebucketOverflow());
+        }
+
+        private void processBuckets() {
+            for (int binIndex = 0; binIndex < buckets.length; binIndex++) {
+                long currentBin = bucketOffset + binIndex;
+                // Relaxing light edges may add nodes to the current bucket again.
+                while (buckets[binIndex] != null && !buckets[binIndex].isEmpty()) {
+                    // swap the bucket with the spare list to avoid copying its content
+                    var frontier = buckets[binIndex];
+                    buckets[binIndex] = currentBucket;
+                    currentBucket = frontier;
+
+                    for (int i = 0; i < frontier.elementsCount; i++) {
+                        var nodeId = frontier.buffer[i];
+                        var distance = distances.get(nodeId);
+                        // stale entry, the node has been improved into an earlier bucket
+                        if (binIndex(distance) < currentBin) {
+                            continue;
+                        }
+                        relaxNode(nodeId, distance);
+                    }
+                    frontier.elementsCount = 0;
+                }
+            }
+        }
+
+        /**
+         * Moves the bucket window to the smallest bin in the overflow and distributes the overflow into it.
+         *
+         * @return false if the overflow held no node that still needs to be processed
+         */
+        private boolean rebucketOverflow() {
+            long processedBins = bucketOffset + buckets.length;
+            long nextOffset = Long.MAX_VALUE;
+            for (int i = 0; i < overflow.elementsCount; i++) {
+                long binIndex = binIndex(distances.get(overflow.buffer[i]));
+                // nodes that have been improved into a processed bin are stale
+                if (binIndex >= processedBins) {
+                    nextOffset = Math.min(nextOffset, binIndex);
+                }
+            }
+            if (nextOffset == Long.MAX_VALUE) {
+                overflow.elementsCount = 0;
+                return false;
+            }
+
+            var pending = overflow.toArray();
+            overflow.elementsCount = 0;
+            bucketOffset = nextOffset;
+            for (long nodeId : pending) {
+                long binIndex = binIndex(distances.get(nodeId));
+                if (binIndex >= processedBins) {
+                    bucket(binIndex).add(nodeId);
+                }
+            }
+            return true;
+        }
+
+        private void relaxNode(long nodeId, double distance) {
+            localGraph.forEachRelationship(nodeId, 1.0D, (source, target, weight) -> {
+                var oldDistance = distances.get(target);
+                var newDistance = distance + weight;
+                if (newDistance < oldDistance) {
+                    if (oldDistance == DIST_INF) {
+                        touched.add(target);
+                    }
+                    distances.set(target, newDistance);
+                    bucket(binIndex(newDistance)).add(target);
+                }
+                return true;
+            });
+        }
+
+        // saturates at Long.MAX_VALUE for distances that are too large to be binned
+        private long binIndex(double distance) {
+            return (long) (distance / delta);
+        }
+
+        private LongArrayList bucket(long binIndex) {
+            long relativeIndex = binIndex - bucketOffset;
+            if (relativeIndex >= MAX_BUCKET_COUNT) {
+                return overflow;
+            }
+            int index = (int) relativeIndex;
+            if (index >= buckets.length) {
+                buckets = Arrays.copyOf(buckets, Math.min(MAX_BUCKET_COUNT, Math.max(index + 1, buckets.length * 2)));
+            }
+            if (buckets[index] == null) {
+                buckets[index] = new LongArrayList();
+            }
+            return buckets[index];
+        }
+
+        private SourceDistances collectAndReset(long sourceNode) {
+            var targetNodes = touched.toArray();
+            var targetDistances = new double[targetNodes.length];
+            for (int i = 0; i < targetNodes.length; i++) {
+                targetDistances[i] = distances.get(targetNodes[i]);
+                distances.set(targetNodes[i], DIST_INF);
+            }
+            touched.elementsCount = 0;
+            return new SourceDistances(sourceNode, targetNodes, targetDistances);
+        }
+    }
+
+    private static final class ExternalTerminationFlag implements TerminationFlag {
+        private volatile boolean running = true;
+        private final TerminationFlag inner;
+
+        ExternalTerminationFlag(TerminationFlag inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public boolean running() {
+            return this.running && this.inner.running();
+        }
+
+        void stop() {
+            this.running = false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.delta;
+
+/**
+ * Distances from a single source node to all nodes it can reach.
+ *
+ * Only reached nodes are contained, the i-th distance belongs to the i-th target node.
+ * The source node itself is included with a distance of zero.
+ */
+public final class SourceDistances {
+
+    private final long sourceNode;
+    private final long[] targetNodes;
+    private final double[] distances;
+
+    SourceDistances(long sourceNode, long[] targetNodes, double[] distances) {
+        this.sourceNode = sourceNode;
+        this.targetNodes = targetNodes;
+        this.distances = distances;
+    }
+
+    public long sourceNode() {
+        return sourceNode;
+    }
+
+    public int size() {
+        return targetNodes.length;
+    }
+
+    public long targetNode(int index) {
+        return targetNodes[index];
+    }
+
+    public double distance(int index) {
+        return distances[index];
+    }
+}
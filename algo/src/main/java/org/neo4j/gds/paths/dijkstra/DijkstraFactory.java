@@ -30,6 +30,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.paths.landmarks.LandmarkHeuristic;
 
 import java.util.Optional;
 
@@ -69,7 +70,7 @@ public abstract class DijkstraFactory<T extends AlgoBaseConfig & RelationshipWei
             return Dijkstra.sourceTarget(
                 graph,
                 configuration,
-                Optional.empty(),
+                LandmarkHeuristic.fromConfig(graph, configuration),
                 progressTracker
             );
         }
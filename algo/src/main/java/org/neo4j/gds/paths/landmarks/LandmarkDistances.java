@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+
+/**
+ * Shortest path distances from a fixed set of landmarks to every node.
+ *
+ * The distances are stored node-major in a single array, so that all
+ * landmark distances of one node are adjacent in memory. Nodes that are
+ * not reachable from a landmark have a distance of {@link Double#POSITIVE_INFINITY}.
+ */
+public final class LandmarkDistances implements DoubleArrayNodePropertyValues {
+
+    private final long[] landmarks;
+    private final HugeDoubleArray distances;
+    private final long nodeCount;
+
+    LandmarkDistances(long[] landmarks, long nodeCount) {
+        this.landmarks = landmarks;
+        this.nodeCount = nodeCount;
+        this.distances = HugeDoubleArray.newArray(nodeCount * landmarks.length);
+        this.distances.fill(Double.POSITIVE_INFINITY);
+    }
+
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    public long landmark(int landmarkIndex) {
+        return landmarks[landmarkIndex];
+    }
+
+    public double distance(long nodeId, int landmarkIndex) {
+        return distances.get(nodeId * landmarks.length + landmarkIndex);
+    }
+
+    void setDistance(long nodeId, int landmarkIndex, double distance) {
+        distances.set(nodeId * landmarks.length + landmarkIndex, distance);
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        var value = new double[landmarks.length];
+        for (int i = 0; i < landmarks.length; i++) {
+            value[i] = distance(nodeId, i);
+        }
+        return value;
+    }
+
+    @Override
+    public long size() {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeLongDoubleMap;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Lower bound for the distance from a node to a fixed target, derived from a landmark index.
+ *
+ * For every landmark {@code L}, the triangle inequality gives {@code d(v, t) >= d(L, t) - d(L, v)}.
+ * On undirected graphs distances are symmetric, which additionally gives {@code d(L, v) - d(L, t)}.
+ * The heuristic returns the largest of these bounds, which is admissible and consistent
+ * as long as the index has been computed on the same relationships and weights as the query.
+ */
+public final class LandmarkHeuristic implements Dijkstra.HeuristicFunction {
+
+    private static final double DEFAULT_DISTANCE = Double.NaN;
+
+    private final NodePropertyValues landmarkDistances;
+    private final double[] targetDistances;
+    private final boolean undirected;
+    private final HugeLongDoubleMap distanceCache;
+
+    public LandmarkHeuristic(NodePropertyValues landmarkDistances, long targetNode, boolean undirected) {
+        this.landmarkDistances = landmarkDistances;
+        this.targetDistances = landmarkDistances.doubleArrayValue(targetNode);
+        this.undirected = undirected;
+        this.distanceCache = new HugeLongDoubleMap();
+    }
+
+    /**
+     * Creates a heuristic for the configured target node, if the config references a landmark property.
+     */
+    public static Optional<Dijkstra.HeuristicFunction> fromConfig(Graph graph, ShortestPathBaseConfig config) {
+        var landmarkProperty = config.landmarkProperty();
+        if (landmarkProperty == null) {
+            return Optional.empty();
+        }
+        if (!graph.availableNodeProperties().contains(landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                landmarkProperty
+            ));
+        }
+        return Optional.of(new LandmarkHeuristic(
+            graph.nodeProperties(landmarkProperty),
+            graph.toMappedNodeId(config.targetNode()),
+            graph.isUndirected()
+        ));
+    }
+
+    @Override
+    public double applyAsDouble(long node) {
+        var bound = distanceCache.getOrDefault(node, DEFAULT_DISTANCE);
+
+        if (Double.isNaN(bound)) {
+            bound = landmarkDistances instanceof LandmarkDistances
+                ? lowerBound((LandmarkDistances) landmarkDistances, node)
+                : lowerBound(landmarkDistances.doubleArrayValue(node));
+            distanceCache.addTo(node, bound);
+        }
+
+        return bound;
+    }
+
+    private double lowerBound(LandmarkDistances distances, long node) {
+        double bound = 0.0D;
+        for (int i = 0; i < targetDistances.length; i++) {
+            bound = Math.max(bound, landmarkBound(distances.distance(node, i), targetDistances[i]));
+        }
+        return bound;
+    }
+
+    private double lowerBound(double[] nodeDistances) {
+        double bound = 0.0D;
+        int landmarkCount = Math.min(nodeDistances.length, targetDistances.length);
+        for (int i = 0; i < landmarkCount; i++) {
+            bound = Math.max(bound, landmarkBound(nodeDistances[i], targetDistances[i]));
+        }
+        return bound;
+    }
+
+    private double landmarkBound(double nodeDistance, double targetDistance) {
+        // a node that is unreachable from the landmark does not tell us anything about the target
+        if (Double.isInfinite(nodeDistance) || Double.isInfinite(targetDistance)) {
+            return 0.0D;
+        }
+        var difference = targetDistance - nodeDistance;
+        return undirected ? Math.abs(difference) : difference;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds an ALT (A*, landmarks, triangle inequality) index.
+ *
+ * A set of landmark nodes is sampled and a full single-source shortest path
+ * computation is run from each of them. The landmarks are processed in parallel,
+ * each worker owns a priority queue and claims the next unprocessed landmark.
+ *
+ * The resulting distances are used by {@link LandmarkHeuristic} to derive lower bounds
+ * for the remaining distance to a target node, which lets Dijkstra, A* and Yens
+ * settle far fewer nodes on repeated point-to-point queries.
+ */
+public final class Landmarks extends Algorithm<LandmarkDistances> {
+
+    private final Graph graph;
+    private final int landmarkCount;
+    private final Optional<Long> randomSeed;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public Landmarks(
+        Graph graph,
+        int landmarkCount,
+        Optional<Long> randomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.landmarkCount = (int) Math.min(landmarkCount, graph.nodeCount());
+        this.randomSeed = randomSeed;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public LandmarkDistances compute() {
+        progressTracker.beginSubTask();
+
+        var result = new LandmarkDistances(selectLandmarks(), graph.nodeCount());
+        var nextLandmark = new AtomicInteger();
+
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < Math.min(concurrency, landmarkCount); i++) {
+            tasks.add(new LandmarkTask(graph.concurrentCopy(), result, nextLandmark));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        progressTracker.endSubTask();
+        return result;
+    }
+
+    @Override
+    public void release() {
+    }
+
+    private long[] selectLandmarks() {
+        var random = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var nodeCount = graph.nodeCount();
+        var landmarks = new long[landmarkCount];
+
+        if (landmarkCount == nodeCount) {
+            for (int i = 0; i < landmarkCount; i++) {
+                landmarks[i] = i;
+            }
+            return landmarks;
+        }
+
+        var selected = new LongHashSet(landmarkCount);
+        int i = 0;
+        while (i < landmarkCount) {
+            long candidate = random.nextLong(nodeCount);
+            if (selected.add(candidate)) {
+                landmarks[i++] = candidate;
+            }
+        }
+        return landmarks;
+    }
+
+    private final class LandmarkTask implements Runnable {
+
+        private final Graph localGraph;
+        private final LandmarkDistances result;
+        private final AtomicInteger nextLandmark;
+        private final HugeLongPriorityQueue queue;
+        private final BitSet visited;
+
+        LandmarkTask(Graph localGraph, LandmarkDistances result, AtomicInteger nextLandmark) {
+            this.localGraph = localGraph;
+            this.result = result;
+            this.nextLandmark = nextLandmark;
+            this.queue = HugeLongPriorityQueue.min(localGraph.nodeCount());
+            this.visited = new BitSet(localGraph.nodeCount());
+        }
+
+        @Override
+        public void run() {
+            int landmarkIndex;
+            while ((landmarkIndex = nextLandmark.getAndIncrement()) < landmarkCount && terminationFlag.running()) {
+                computeDistances(landmarkIndex);
+            }
+        }
+
+        private void computeDistances(int landmarkIndex) {
+            queue.clear();
+            visited.clear();
+            queue.add(result.landmark(landmarkIndex), 0.0D);
+
+            while (!queue.isEmpty()) {
+                long node = queue.pop();
+                double cost = queue.cost(node);
+                visited.set(node);
+                result.setDistance(node, landmarkIndex, cost);
+
+                localGraph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    if (!visited.get(target)) {
+                        double newCost = cost + weight;
+                        if (!queue.containsElement(target)) {
+                            queue.add(target, newCost);
+                        } else if (newCost < queue.cost(target)) {
+                            queue.set(target, newCost);
+                        }
+                    }
+                    return true;
+                });
+
+                progressTracker.logProgress();
+            }
+        }
+    }
+}
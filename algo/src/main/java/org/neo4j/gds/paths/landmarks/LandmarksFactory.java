@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.landmarks.config.LandmarksBaseConfig;
+
+public class LandmarksFactory<CONFIG extends LandmarksBaseConfig> extends GraphAlgorithmFactory<Landmarks, CONFIG> {
+
+    @Override
+    public String taskName() {
+        return "Landmarks";
+    }
+
+    @Override
+    public Landmarks build(
+        Graph graph,
+        CONFIG configuration,
+        ProgressTracker progressTracker
+    ) {
+        return new Landmarks(
+            graph,
+            configuration.landmarkCount(),
+            configuration.randomSeed(),
+            configuration.concurrency(),
+            Pools.DEFAULT,
+            progressTracker
+        );
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        return Tasks.leaf(taskName(), Math.min(config.landmarkCount(), graph.nodeCount()) * graph.nodeCount());
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        return MemoryEstimations.builder(Landmarks.class)
+            .perNode(
+                "distances",
+                nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * configuration.landmarkCount())
+            )
+            .perThread("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("visited set", MemoryUsage::sizeOfBitset)
+            .build();
+    }
+}
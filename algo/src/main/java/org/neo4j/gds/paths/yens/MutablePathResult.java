@@ -43,6 +43,11 @@ final class MutablePathResult {
 
     private double[] costs;
 
+    // Index of the node at which this path deviates from the
+    // path it has been derived from. Spur nodes before that
+    // index share their root path with the parent path.
+    private int deviationIndex;
+
     static MutablePathResult of(PathResult pathResult) {
         return new MutablePathResult(
             pathResult.index(),
@@ -82,6 +87,18 @@ final class MutablePathResult {
         return this;
     }
 
+    /**
+     * Changes the deviation index to the given value and returns the mutated instance.
+     */
+    MutablePathResult withDeviationIndex(int deviationIndex) {
+        this.deviationIndex = deviationIndex;
+        return this;
+    }
+
+    int deviationIndex() {
+        return deviationIndex;
+    }
+
     int nodeCount() {
         return nodeIds.length;
     }
@@ -125,6 +142,19 @@ final class MutablePathResult {
         return true;
     }
 
+    /**
+     * Returns the number of leading node ids that this path shares with the given path.
+     */
+    int commonPrefixLength(MutablePathResult path) {
+        int length = Math.min(nodeIds.length, path.nodeIds.length);
+        for (int i = 0; i < length; i++) {
+            if (nodeIds[i] != path.nodeIds[i]) {
+                return i;
+            }
+        }
+        return length;
+    }
+
     /**
      * Appends the given path to this path.
      *
@@ -25,6 +25,7 @@ import com.carrotsearch.hppc.LongScatterSet;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -32,13 +33,16 @@ import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.DijkstraResult;
+import org.neo4j.gds.paths.landmarks.LandmarkHeuristic;
 import org.neo4j.gds.paths.yens.config.ImmutableShortestPathYensBaseConfig;
 import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -49,10 +53,9 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
     private final Graph graph;
     private final ShortestPathYensBaseConfig config;
-    private final Dijkstra dijkstra;
-
-    private final LongScatterSet nodeBlackList;
-    private final LongObjectScatterMap<LongHashSet> relationshipBlackList;
+    // One worker per thread, each owning a Dijkstra instance
+    // and blacklists that are reused across all spur searches.
+    private final SpurWorker[] workers;
 
     /**
      * Configure Yens to compute at most one source-target shortest path.
@@ -70,9 +73,7 @@ public final class Yens extends Algorithm<DijkstraResult> {
             .from(config)
             .trackRelationships(graph.isMultiGraph())
             .build();
-        // Init dijkstra algorithm for computing shortest paths
-        var dijkstra = Dijkstra.sourceTarget(graph, newConfig, Optional.empty(), progressTracker);
-        return new Yens(graph, dijkstra, newConfig, progressTracker);
+        return new Yens(graph, newConfig, progressTracker);
     }
 
     // The blacklists contain nodes and relationships that are
@@ -83,26 +84,17 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
     public static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(Yens.class.getSimpleName())
-            .add("Dijkstra", Dijkstra.memoryEstimation(false))
-            .fixed("nodeBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE))
-            .fixed("relationshipBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE * 2))
+            .perThread("Dijkstra", Dijkstra.memoryEstimation(false))
+            .perThread("nodeBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE))
+            .perThread("relationshipBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE * 2))
             .build();
     }
 
-    private Yens(Graph graph, Dijkstra dijkstra, ShortestPathYensBaseConfig config, ProgressTracker progressTracker) {
+    private Yens(Graph graph, ShortestPathYensBaseConfig config, ProgressTracker progressTracker) {
         super(progressTracker);
         this.graph = graph;
         this.config = config;
-        // Track nodes and relationships that are skipped in a single iteration.
-        // The content of these data structures is reset after each of k iterations.
-        this.nodeBlackList = new LongScatterSet();
-        this.relationshipBlackList = new LongObjectScatterMap<>();
-        // set filter in Dijkstra to respect our blacklists
-        this.dijkstra = dijkstra;
-        dijkstra.withRelationshipFilter((source, target, relationshipId) ->
-            !nodeBlackList.contains(target) &&
-            !(relationshipBlackList.getOrDefault(source, EMPTY_SET).contains(relationshipId))
-        );
+        this.workers = new SpurWorker[Math.max(1, config.concurrency())];
     }
 
     @Override
@@ -112,7 +104,9 @@ public final class Yens extends Algorithm<DijkstraResult> {
         // compute top 1 shortest path
         progressTracker.beginSubTask();
         progressTracker.beginSubTask();
-        var shortestPath = computeDijkstra(config.sourceNode());
+        var sourceNode = graph.toMappedNodeId(config.sourceNode());
+        var shortestPath = worker(0).computePath(sourceNode);
+        logSpurProgress(sourceNode, worker(0).lastProgress);
 
         // no shortest path has been found
         if (shortestPath.isEmpty()) {
@@ -127,54 +121,35 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
         PriorityQueue<MutablePathResult> candidates = initCandidatesQueue();
 
-        for (int i = 1; i < config.k(); i++) {
+        for (int i = 1; i < config.k() && terminationFlag.running(); i++) {
             progressTracker.beginSubTask();
             var prevPath = kShortestPaths.get(i - 1);
 
-            for (int n = 0; n < prevPath.nodeCount() - 1; n++) {
-                var spurNode = prevPath.node(n);
-                var rootPath = prevPath.subPath(n + 1);
-
-                for (var path : kShortestPaths) {
-                    // Filter relationships that are part of the previous
-                    // shortest paths which share the same root path.
-                    if (rootPath.matches(path, n + 1)) {
-                        var relationshipId = path.relationship(n);
-
-                        var neighbors = relationshipBlackList.get(spurNode);
-
-                        if (neighbors == null) {
-                            neighbors = new LongHashSet();
-                            relationshipBlackList.put(spurNode, neighbors);
-                        }
-                        neighbors.add(relationshipId);
-                    }
-                }
-
-                // Filter nodes from root path to avoid cyclic path searches.
-                for (int j = 0; j < n; j++) {
-                    nodeBlackList.add(rootPath.node(j));
-                }
-
-                // Calculate the spur path from the spur node to the sink.
-                dijkstra.resetTraversalState();
-                dijkstra.withSourceNode(spurNode);
-                var spurPath = computeDijkstra(graph.toOriginalNodeId(spurNode));
+            // The root paths of all spur nodes are prefixes of the previous path.
+            // Computing the shared prefix length once per accepted path lets every
+            // spur node decide in constant time which relationships to filter.
+            var sharedPrefixLengths = new int[kShortestPaths.size()];
+            for (int p = 0; p < sharedPrefixLengths.length; p++) {
+                sharedPrefixLengths[p] = prevPath.commonPrefixLength(kShortestPaths.get(p));
+            }
 
-                // Clear filters for next spur node
-                nodeBlackList.clear();
-                relationshipBlackList.clear();
+            // Spur nodes before the deviation index have the same root path as in the
+            // iteration that produced the previous path, their candidates are already known.
+            var firstSpurIndex = prevPath.deviationIndex();
+            var spurCount = prevPath.nodeCount() - 1 - firstSpurIndex;
+            var spurPaths = new MutablePathResult[Math.max(0, spurCount)];
+            var spurProgress = new long[spurPaths.length];
 
-                // No new candidate from this spur node, continue with next node.
-                if (spurPath.isEmpty()) {
-                    continue;
-                }
+            if (spurCount > 0) {
+                computeSpurPaths(prevPath, kShortestPaths, sharedPrefixLengths, firstSpurIndex, spurPaths, spurProgress);
+            }
 
-                // Entire path is made up of the root path and spur path.
-                rootPath.append(MutablePathResult.of(spurPath.get()));
+            for (int s = 0; s < spurPaths.length; s++) {
+                logSpurProgress(prevPath.node(firstSpurIndex + s), spurProgress[s]);
+                var candidate = spurPaths[s];
                 // Add the potential k-shortest path to the heap.
-                if (!candidates.contains(rootPath)) {
-                    candidates.add(rootPath);
+                if (candidate != null && !candidates.contains(candidate)) {
+                    candidates.add(candidate);
                 }
             }
 
@@ -193,6 +168,51 @@ public final class Yens extends Algorithm<DijkstraResult> {
         return new DijkstraResult(kShortestPaths.stream().map(MutablePathResult::toPathResult));
     }
 
+    private void computeSpurPaths(
+        MutablePathResult prevPath,
+        List<MutablePathResult> kShortestPaths,
+        int[] sharedPrefixLengths,
+        int firstSpurIndex,
+        MutablePathResult[] spurPaths,
+        long[] spurProgress
+    ) {
+        var nextSpur = new AtomicInteger();
+        var tasks = new ArrayList<Runnable>();
+        for (int w = 0; w < Math.min(workers.length, spurPaths.length); w++) {
+            var worker = worker(w);
+            tasks.add(() -> {
+                int s;
+                while ((s = nextSpur.getAndIncrement()) < spurPaths.length && terminationFlag.running()) {
+                    var n = firstSpurIndex + s;
+                    spurPaths[s] = worker.spurPath(prevPath.node(n), prevPath, kShortestPaths, sharedPrefixLengths, n);
+                    spurProgress[s] = worker.lastProgress;
+                }
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(workers.length)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private SpurWorker worker(int index) {
+        if (workers[index] == null) {
+            workers[index] = new SpurWorker(index == 0 ? graph : graph.concurrentCopy());
+        }
+        return workers[index];
+    }
+
+    // Spur searches run concurrently, so their progress is
+    // reported in spur node order once all of them are done.
+    private void logSpurProgress(long spurNode, long progress) {
+        progressTracker.logInfo(formatWithLocale("Dijkstra for spur node %d", graph.toOriginalNodeId(spurNode)));
+        progressTracker.beginSubTask();
+        progressTracker.logProgress(progress);
+        progressTracker.endSubTask();
+    }
+
     @NotNull
     private PriorityQueue<MutablePathResult> initCandidatesQueue() {
         return new PriorityQueue<>(Comparator
@@ -202,14 +222,118 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
     @Override
     public void release() {
-        dijkstra.release();
-        nodeBlackList.release();
-        relationshipBlackList.release();
+        for (var worker : workers) {
+            if (worker != null) {
+                worker.release();
+            }
+        }
     }
 
-    private Optional<PathResult> computeDijkstra(long sourceNode) {
-        progressTracker.logInfo(formatWithLocale("Dijkstra for spur node %d", sourceNode));
-        return dijkstra.compute().findFirst();
+    private final class SpurWorker {
+
+        private final Dijkstra dijkstra;
+        private final SpurProgressTracker spurProgressTracker;
+
+        // Track nodes and relationships that are skipped in a single spur search.
+        // The content of these data structures is reset after each search.
+        private final LongScatterSet nodeBlackList;
+        private final LongObjectScatterMap<LongHashSet> relationshipBlackList;
+
+        private long lastProgress;
+
+        SpurWorker(Graph localGraph) {
+            this.spurProgressTracker = new SpurProgressTracker();
+            this.nodeBlackList = new LongScatterSet();
+            this.relationshipBlackList = new LongObjectScatterMap<>();
+            // All spur searches share the same target, so a landmark
+            // heuristic stays valid when the source node is changed.
+            this.dijkstra = Dijkstra.sourceTarget(
+                localGraph,
+                config,
+                LandmarkHeuristic.fromConfig(localGraph, config),
+                spurProgressTracker
+            );
+            // set filter in Dijkstra to respect our blacklists
+            dijkstra.withRelationshipFilter((source, target, relationshipId) ->
+                !nodeBlackList.contains(target) &&
+                !(relationshipBlackList.getOrDefault(source, EMPTY_SET).contains(relationshipId))
+            );
+        }
+
+        /**
+         * Computes the spur path from the n-th node of the previous path and prepends the root path.
+         * Returns {@code null} if the target cannot be reached from the spur node.
+         */
+        MutablePathResult spurPath(
+            long spurNode,
+            MutablePathResult prevPath,
+            List<MutablePathResult> kShortestPaths,
+            int[] sharedPrefixLengths,
+            int n
+        ) {
+            for (int p = 0; p < sharedPrefixLengths.length; p++) {
+                // Filter relationships that are part of the previous
+                // shortest paths which share the same root path.
+                if (sharedPrefixLengths[p] >= n + 1) {
+                    var relationshipId = kShortestPaths.get(p).relationship(n);
+
+                    var neighbors = relationshipBlackList.get(spurNode);
+
+                    if (neighbors == null) {
+                        neighbors = new LongHashSet();
+                        relationshipBlackList.put(spurNode, neighbors);
+                    }
+                    neighbors.add(relationshipId);
+                }
+            }
+
+            // Filter nodes from root path to avoid cyclic path searches.
+            for (int j = 0; j < n; j++) {
+                nodeBlackList.add(prevPath.node(j));
+            }
+
+            // Calculate the spur path from the spur node to the sink.
+            var spurPath = computePath(spurNode);
+
+            // Clear filters for next spur node
+            nodeBlackList.clear();
+            relationshipBlackList.clear();
+
+            if (spurPath.isEmpty()) {
+                return null;
+            }
+
+            // Entire path is made up of the root path and spur path.
+            var rootPath = prevPath.subPath(n + 1);
+            rootPath.append(MutablePathResult.of(spurPath.get()));
+            return rootPath.withDeviationIndex(n);
+        }
+
+        Optional<PathResult> computePath(long sourceNode) {
+            spurProgressTracker.progress = 0;
+            dijkstra.resetTraversalState();
+            dijkstra.withSourceNode(sourceNode);
+            var path = dijkstra.compute().findFirst();
+            lastProgress = spurProgressTracker.progress;
+            return path;
+        }
+
+        void release() {
+            dijkstra.release();
+            nodeBlackList.release();
+            relationshipBlackList.release();
+        }
     }
 
+    // Collects the progress of a single spur search,
+    // so it can be reported on the caller thread.
+    private static final class SpurProgressTracker extends ProgressTracker.EmptyProgressTracker {
+
+        private long progress;
+
+        @Override
+        public void logProgress(long value) {
+            progress += value;
+        }
+    }
 }
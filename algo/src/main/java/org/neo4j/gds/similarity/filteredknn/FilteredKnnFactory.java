@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.similarity.filteredknn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.apache.commons.lang3.function.TriFunction;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
@@ -35,9 +34,7 @@ import org.neo4j.gds.similarity.knn.KnnContext;
 import org.neo4j.gds.similarity.knn.KnnFactory;
 import org.neo4j.gds.similarity.knn.NeighborList;
 
-import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
-import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfOpenHashContainer;
 
 public class FilteredKnnFactory<CONFIG extends FilteredKnnBaseConfig> extends GraphAlgorithmFactory<FilteredKnn, CONFIG> {
@@ -85,22 +82,24 @@ public class FilteredKnnFactory<CONFIG extends FilteredKnnBaseConfig> extends Gr
             (dim, concurrency) -> {
                 var boundedK = configuration.boundedK(dim.nodeCount());
                 var sampledK = configuration.sampledK(dim.nodeCount());
-                var tempListEstimation = HugeObjectArray.memoryEstimation(
-                    MemoryEstimations.of("elements", MemoryRange.of(
-                        0,
-                        sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
-                    ))
-                );
                 return MemoryEstimations
                     .builder(FilteredKnn.class)
                     .add(
                         "top-k-neighbors-list",
                         HugeObjectArray.memoryEstimation(NeighborList.memoryEstimation(boundedK))
                     )
-                    .add("old-neighbors", tempListEstimation)
-                    .add("new-neighbors", tempListEstimation)
-                    .add("old-reverse-neighbors", tempListEstimation)
-                    .add("new-reverse-neighbors", tempListEstimation)
+                    .fixed(
+                        "old-and-new-neighbors",
+                        KnnFactory.iterationBuffersMemoryEstimation(dim.nodeCount(), boundedK, sampledK)
+                    )
+                    .fixed(
+                        "initial-sampler-index",
+                        KnnFactory.initialSamplerIndexMemoryEstimation(
+                            configuration.initialSampler(),
+                            dim.nodeCount(),
+                            boundedK
+                        )
+                    )
                     .fixed(
                         "initial-random-neighbors (per thread)",
                         KnnFactory
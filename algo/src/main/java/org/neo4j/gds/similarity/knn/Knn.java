@@ -167,11 +167,14 @@ public class Knn extends Algorithm<Knn.Result> {
             int iteration = 0;
             boolean didConverge = false;
 
+            var nodeCount = graph.nodeCount();
+            var buffers = new IterationBuffers(nodeCount, config.boundedK(nodeCount), config.sampledK(nodeCount));
+
             this.progressTracker.beginSubTask();
             for (; iteration < maxIterations; iteration++) {
                 int currentIteration = iteration;
                 try (var ignored3 = ProgressTimer.start(took -> this.logIterationTime(currentIteration + 1, took))) {
-                    updateCount = iteration(neighbors);
+                    updateCount = iteration(neighbors, buffers);
                 }
                 if (updateCount <= updateThreshold) {
                     iteration++;
@@ -219,6 +222,7 @@ public class Knn extends Algorithm<Knn.Result> {
         }
 
         var neighbors = HugeObjectArray.newArray(NeighborList.class, graph.nodeCount());
+        var samplerFactory = samplerFactory();
 
         var randomNeighborGenerators = PartitionUtils.rangePartition(
             config.concurrency(),
@@ -226,7 +230,7 @@ public class Knn extends Algorithm<Knn.Result> {
             partition -> {
                 var localRandom = splittableRandom.split();
                 return new GenerateRandomNeighbors(
-                    initializeSampler(localRandom),
+                    samplerFactory.apply(localRandom),
                     localRandom,
                     this.similarityFunction,
                     this.neighborFilterFactory.create(),
@@ -252,25 +256,30 @@ public class Knn extends Algorithm<Knn.Result> {
         return neighbors;
     }
 
-    private KnnSampler initializeSampler(SplittableRandom random) {
+    private Function<SplittableRandom, KnnSampler> samplerFactory() {
         switch(config.initialSampler()) {
             case UNIFORM: {
-                return new UniformKnnSampler(random, graph.nodeCount());
+                return random -> new UniformKnnSampler(random, graph.nodeCount());
             }
             case RANDOMWALK: {
-                return new RandomWalkKnnSampler(
+                return random -> new RandomWalkKnnSampler(
                     graph.concurrentCopy(),
                     random,
                     config.randomSeed(),
                     config.boundedK(graph.nodeCount())
                 );
             }
+            case LSH: {
+                // the hash tables are shared by all samplers
+                var index = LshIndex.create(graph, config, splittableRandom.split(), executorService, terminationFlag);
+                return random -> new LshKnnSampler(index, random, graph.nodeCount());
+            }
             default:
                 throw new IllegalStateException("Invalid KnnSampler");
         }
     }
 
-    private long iteration(HugeObjectArray<NeighborList> neighbors) {
+    private long iteration(HugeObjectArray<NeighborList> neighbors, IterationBuffers buffers) {
         // this is a sanity check
         // we check for this before any iteration and return
         // and just make sure that this invariant holds on every iteration
@@ -283,34 +292,21 @@ public class Knn extends Algorithm<Knn.Result> {
 
         var sampledK = this.config.sampledK(nodeCount);
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-        var allNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-
         progressTracker.beginSubTask();
         ParallelUtil.readParallel(concurrency, nodeCount, this.executorService, new SplitOldAndNewNeighbors(
             this.splittableRandom,
             neighbors,
-            allOldNeighbors,
-            allNewNeighbors,
+            buffers.oldNeighbors,
+            buffers.newNeighbors,
             sampledK,
             progressTracker
         ));
         progressTracker.endSubTask();
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var reverseOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-        var reverseNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-
         progressTracker.beginSubTask();
-        reverseOldAndNewNeighbors(
-            allOldNeighbors,
-            allNewNeighbors,
-            reverseOldNeighbors,
-            reverseNewNeighbors,
-            config,
-            progressTracker
-        );
+        buffers.reverseOldNeighbors.reverse(buffers.oldNeighbors);
+        buffers.reverseNewNeighbors.reverse(buffers.newNeighbors);
+        progressTracker.logProgress(nodeCount);
         progressTracker.endSubTask();
 
         var neighborsJoiners = PartitionUtils.rangePartition(
@@ -321,10 +317,10 @@ public class Knn extends Algorithm<Knn.Result> {
                 this.similarityFunction,
                 this.neighborFilterFactory.create(),
                 neighbors,
-                allOldNeighbors,
-                allNewNeighbors,
-                reverseOldNeighbors,
-                reverseNewNeighbors,
+                buffers.oldNeighbors,
+                buffers.newNeighbors,
+                buffers.reverseOldNeighbors,
+                buffers.reverseNewNeighbors,
                 sampledK,
                 this.config.perturbationRate(),
                 this.config.randomJoins(),
@@ -348,45 +344,22 @@ public class Knn extends Algorithm<Knn.Result> {
         return neighborsJoiners.stream().mapToLong(joiner -> joiner.updateCount).sum();
     }
 
-    private static void reverseOldAndNewNeighbors(
-        HugeObjectArray<LongArrayList> allOldNeighbors,
-        HugeObjectArray<LongArrayList> allNewNeighbors,
-        HugeObjectArray<LongArrayList> reverseOldNeighbors,
-        HugeObjectArray<LongArrayList> reverseNewNeighbors,
-        KnnBaseConfig config,
-        ProgressTracker progressTracker
-    ) {
-        long nodeCount = allNewNeighbors.size();
-        long logBatchSize = ParallelUtil.adjustedBatchSize(nodeCount, config.concurrency(), config.minBatchSize());
-
-        // TODO: cursors
-        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
-            reverseNeighbors(nodeId, allOldNeighbors, reverseOldNeighbors);
-            reverseNeighbors(nodeId, allNewNeighbors, reverseNewNeighbors);
-
-            if ((nodeId + 1) % logBatchSize == 0) {
-                progressTracker.logProgress(logBatchSize);
-            }
-        }
-    }
-
-    static void reverseNeighbors(
-        long nodeId,
-        HugeObjectArray<LongArrayList> allNeighbors,
-        HugeObjectArray<LongArrayList> reverseNeighbors
-    ) {
-        // adding nodeId to the neighbors of its neighbors (reversing the neighbors direction)
-        var neighbors = allNeighbors.get(nodeId);
-        if (neighbors != null) {
-            for (var neighbor : neighbors) {
-                assert neighbor.value != nodeId;
-                var oldReverse = reverseNeighbors.get(neighbor.value);
-                if (oldReverse == null) {
-                    oldReverse = new LongArrayList();
-                    reverseNeighbors.set(neighbor.value, oldReverse);
-                }
-                oldReverse.add(nodeId);
-            }
+    /**
+     * The old, new and reverse neighbor samples are rewritten on every iteration,
+     * so they are allocated once per computation and shared by all iterations.
+     */
+    static final class IterationBuffers {
+        final NeighborBuffer oldNeighbors;
+        final NeighborBuffer newNeighbors;
+        final ReverseNeighborBuffer reverseOldNeighbors;
+        final ReverseNeighborBuffer reverseNewNeighbors;
+
+        IterationBuffers(long nodeCount, int boundedK, int sampledK) {
+            // old neighbors are the checked part of a neighbor list, which holds at most `boundedK` elements
+            this.oldNeighbors = new NeighborBuffer(nodeCount, boundedK);
+            this.newNeighbors = new NeighborBuffer(nodeCount, sampledK);
+            this.reverseOldNeighbors = new ReverseNeighborBuffer(nodeCount, boundedK);
+            this.reverseNewNeighbors = new ReverseNeighborBuffer(nodeCount, sampledK);
         }
     }
 
@@ -395,10 +368,12 @@ public class Knn extends Algorithm<Knn.Result> {
         private final SimilarityFunction similarityFunction;
         private final NeighborFilter neighborFilter;
         private final HugeObjectArray<NeighborList> allNeighbors;
-        private final HugeObjectArray<LongArrayList> allOldNeighbors;
-        private final HugeObjectArray<LongArrayList> allNewNeighbors;
-        private final HugeObjectArray<LongArrayList> allReverseOldNeighbors;
-        private final HugeObjectArray<LongArrayList> allReverseNewNeighbors;
+        private final NeighborBuffer allOldNeighbors;
+        private final NeighborBuffer allNewNeighbors;
+        private final ReverseNeighborBuffer allReverseOldNeighbors;
+        private final ReverseNeighborBuffer allReverseNewNeighbors;
+        private final LongArrayList oldNeighbors;
+        private final LongArrayList newNeighbors;
         private final int sampledK;
         private final int randomJoins;
         private final ProgressTracker progressTracker;
@@ -413,10 +388,10 @@ public class Knn extends Algorithm<Knn.Result> {
             SimilarityFunction similarityFunction,
             NeighborFilter neighborFilter,
             HugeObjectArray<NeighborList> allNeighbors,
-            HugeObjectArray<LongArrayList> allOldNeighbors,
-            HugeObjectArray<LongArrayList> allNewNeighbors,
-            HugeObjectArray<LongArrayList> allReverseOldNeighbors,
-            HugeObjectArray<LongArrayList> allReverseNewNeighbors,
+            NeighborBuffer allOldNeighbors,
+            NeighborBuffer allNewNeighbors,
+            ReverseNeighborBuffer allReverseOldNeighbors,
+            ReverseNeighborBuffer allReverseNewNeighbors,
             int sampledK,
             double perturbationRate,
             int randomJoins,
@@ -427,11 +402,14 @@ public class Knn extends Algorithm<Knn.Result> {
             this.similarityFunction = similarityFunction;
             this.neighborFilter = neighborFilter;
             this.allNeighbors = allNeighbors;
-            this.nodeCount = allNewNeighbors.size();
+            this.nodeCount = allNewNeighbors.nodeCount();
             this.allOldNeighbors = allOldNeighbors;
             this.allNewNeighbors = allNewNeighbors;
             this.allReverseOldNeighbors = allReverseOldNeighbors;
             this.allReverseNewNeighbors = allReverseNewNeighbors;
+            // scratch space for combining the forward and sampled reverse neighbors of a single node
+            this.oldNeighbors = new LongArrayList();
+            this.newNeighbors = new LongArrayList();
             this.sampledK = sampledK;
             this.randomJoins = randomJoins;
             this.partition = partition;
@@ -448,17 +426,10 @@ public class Knn extends Algorithm<Knn.Result> {
 
             for (long nodeId = startNode; nodeId < endNode; nodeId++) {
                 // old[v] ∪ Sample(old′[v], ρK)
-                var oldNeighbors = allOldNeighbors.get(nodeId);
-                if (oldNeighbors != null) {
-                    combineNeighbors(allReverseOldNeighbors.get(nodeId), oldNeighbors);
-                }
-
+                combineNeighbors(nodeId, allOldNeighbors, allReverseOldNeighbors, oldNeighbors);
 
                 // new[v] ∪ Sample(new′[v], ρK)
-                var newNeighbors = allNewNeighbors.get(nodeId);
-                if (newNeighbors != null) {
-                    combineNeighbors(allReverseNewNeighbors.get(nodeId), newNeighbors);
-
+                if (combineNeighbors(nodeId, allNewNeighbors, allReverseNewNeighbors, newNeighbors)) {
                     this.updateCount += joinNewNeighbors(nodeId, oldNeighbors, newNeighbors);
                 }
 
@@ -474,6 +445,8 @@ public class Knn extends Algorithm<Knn.Result> {
 
             var newNeighborElements = newNeighbors.buffer;
             var newNeighborsCount = newNeighbors.elementsCount;
+            var oldNeighborElements = oldNeighbors.buffer;
+            var oldNeighborsCount = oldNeighbors.elementsCount;
             boolean similarityIsSymmetric = similarityFunction.isSymmetric();
 
             for (int i = 0; i < newNeighborsCount; i++) {
@@ -499,36 +472,53 @@ public class Knn extends Algorithm<Knn.Result> {
                 }
 
                 // try out joining the old neighbors with the new neighbor / join(new_nbd, old_ndb)
-                if (oldNeighbors != null) {
-                    for (var oldElemCursor : oldNeighbors) {
-                        var elem2 = oldElemCursor.value;
-
-                        if (elem1 == elem2) {
-                            continue;
-                        }
-
-                        if (similarityIsSymmetric) {
-                            updateCount += joinSymmetric(elem1, elem2);
-                        } else {
-                            updateCount += join(elem1, elem2);
-                            updateCount += join(elem2, elem1);
-                        }
+                for (int j = 0; j < oldNeighborsCount; j++) {
+                    var elem2 = oldNeighborElements[j];
+
+                    if (elem1 == elem2) {
+                        continue;
+                    }
+
+                    if (similarityIsSymmetric) {
+                        updateCount += joinSymmetric(elem1, elem2);
+                    } else {
+                        updateCount += join(elem1, elem2);
+                        updateCount += join(elem2, elem1);
                     }
                 }
             }
             return updateCount;
         }
 
-        private void combineNeighbors(@Nullable LongArrayList reversedNeighbors, LongArrayList neighbors) {
-            if (reversedNeighbors != null) {
-                var numberOfReverseNeighbors = reversedNeighbors.size();
-                for (var elem : reversedNeighbors) {
-                    if (random.nextInt(numberOfReverseNeighbors) < sampledK) {
-                        // TODO: this could add nodes twice, maybe? should this be a set?
-                        neighbors.add(elem.value);
-                    }
+        /**
+         * Copies the neighbors of {@code nodeId} into {@code combined} and adds a sample of its reverse neighbors.
+         * Reverse neighbors are only considered if the node has forward neighbors of its own.
+         *
+         * @return false if {@code nodeId} has no forward neighbors.
+         */
+        private boolean combineNeighbors(
+            long nodeId,
+            NeighborBuffer neighbors,
+            ReverseNeighborBuffer reversedNeighbors,
+            LongArrayList combined
+        ) {
+            combined.clear();
+            var numberOfNeighbors = neighbors.size(nodeId);
+            if (numberOfNeighbors == 0) {
+                return false;
+            }
+            for (int i = 0; i < numberOfNeighbors; i++) {
+                combined.add(neighbors.get(nodeId, i));
+            }
+
+            var numberOfReverseNeighbors = reversedNeighbors.size(nodeId);
+            for (int i = 0; i < numberOfReverseNeighbors; i++) {
+                if (random.nextInt(numberOfReverseNeighbors) < sampledK) {
+                    // TODO: this could add nodes twice, maybe? should this be a set?
+                    combined.add(reversedNeighbors.get(nodeId, i));
                 }
             }
+            return true;
         }
 
         private void randomJoins(long nodeCount, long nodeId) {
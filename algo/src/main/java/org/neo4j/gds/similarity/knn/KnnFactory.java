@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.similarity.knn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
@@ -35,7 +34,6 @@ import java.util.List;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
-import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfOpenHashContainer;
 
 public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFactory<Knn, CONFIG> {
@@ -71,22 +69,20 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
             (dim, concurrency) -> {
                 var boundedK = configuration.boundedK(dim.nodeCount());
                 var sampledK = configuration.sampledK(dim.nodeCount());
-                var tempListEstimation = HugeObjectArray.memoryEstimation(
-                    MemoryEstimations.of("elements", MemoryRange.of(
-                        0,
-                        sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
-                    ))
-                );
                 return MemoryEstimations
                     .builder(Knn.class)
                     .add(
                         "top-k-neighbors-list",
                         HugeObjectArray.memoryEstimation(NeighborList.memoryEstimation(boundedK))
                     )
-                    .add("old-neighbors", tempListEstimation)
-                    .add("new-neighbors", tempListEstimation)
-                    .add("old-reverse-neighbors", tempListEstimation)
-                    .add("new-reverse-neighbors", tempListEstimation)
+                    .fixed(
+                        "old-and-new-neighbors",
+                        iterationBuffersMemoryEstimation(dim.nodeCount(), boundedK, sampledK)
+                    )
+                    .fixed(
+                        "initial-sampler-index",
+                        initialSamplerIndexMemoryEstimation(configuration.initialSampler(), dim.nodeCount(), boundedK)
+                    )
                     .fixed(
                         "initial-random-neighbors (per thread)",
                         initialSamplerMemoryEstimation(configuration.initialSampler(), boundedK).times(concurrency)
@@ -111,11 +107,40 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
             case RANDOMWALK: {
                 return RandomWalkKnnSampler.memoryEstimation(boundedK);
             }
+            case LSH: {
+                return LshKnnSampler.memoryEstimation(boundedK);
+            }
             default:
                 throw new IllegalStateException("Invalid KnnSampler");
         }
     }
 
+    /**
+     * Memory shared by all initial samplers, which is only needed by the {@link KnnSampler.SamplerType#LSH} sampler.
+     */
+    public static MemoryRange initialSamplerIndexMemoryEstimation(
+        KnnSampler.SamplerType samplerType,
+        long nodeCount,
+        int boundedK
+    ) {
+        if (samplerType == KnnSampler.SamplerType.LSH) {
+            return MemoryRange.of(LshIndex.memoryEstimation(nodeCount, boundedK));
+        }
+        return MemoryRange.empty();
+    }
+
+    /**
+     * The flat old, new and reverse neighbor buffers that are reused across iterations.
+     */
+    public static MemoryRange iterationBuffersMemoryEstimation(long nodeCount, int boundedK, int sampledK) {
+        return MemoryRange.of(
+            NeighborBuffer.memoryEstimation(nodeCount, boundedK) +
+            NeighborBuffer.memoryEstimation(nodeCount, sampledK) +
+            ReverseNeighborBuffer.memoryEstimation(nodeCount, boundedK) +
+            ReverseNeighborBuffer.memoryEstimation(nodeCount, sampledK)
+        );
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
         return knnTaskTree(graph, config);
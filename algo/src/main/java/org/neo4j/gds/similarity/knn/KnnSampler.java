@@ -35,7 +35,8 @@ public interface KnnSampler {
 
     enum SamplerType {
         UNIFORM,
-        RANDOMWALK;
+        RANDOMWALK,
+        LSH;
 
         private static final List<String> VALUES = Arrays
             .stream(SamplerType.values())
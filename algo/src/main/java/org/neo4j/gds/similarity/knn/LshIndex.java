@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Locality-sensitive hash tables over a single array node property.
+ *
+ * For cosine similarity every table hashes a vector to the signs of its projections
+ * onto random hyperplanes. For euclidean similarity the projections are quantized into
+ * buckets of random offset (p-stable hashing) and the quantized values are mixed into
+ * a signature. Nodes sharing a signature in any table are likely to be similar,
+ * which makes them good initial candidates for NN-Descent.
+ *
+ * The members of each table are stored grouped by signature,
+ * so the bucket of a node is a contiguous range.
+ */
+final class LshIndex {
+
+    static final int HASH_TABLES = 4;
+    private static final int MAX_SIGNATURE_BITS = 20;
+    private static final int WIDTH_SAMPLE_SIZE = 1_000;
+
+    private final HugeIntArray[] signatures;
+    private final long[][] bucketOffsets;
+    private final HugeLongArray[] bucketMembers;
+
+    private LshIndex(HugeIntArray[] signatures, long[][] bucketOffsets, HugeLongArray[] bucketMembers) {
+        this.signatures = signatures;
+        this.bucketOffsets = bucketOffsets;
+        this.bucketMembers = bucketMembers;
+    }
+
+    static LshIndex create(
+        Graph graph,
+        KnnBaseConfig config,
+        SplittableRandom random,
+        ExecutorService executor,
+        TerminationFlag terminationFlag
+    ) {
+        var nodeCount = graph.nodeCount();
+        var vectors = vectors(graph, config);
+        var bits = signatureBits(nodeCount, config.boundedK(nodeCount));
+        var hashFunctions = new HashFunction[HASH_TABLES];
+        for (int table = 0; table < HASH_TABLES; table++) {
+            var gaussian = new Random(random.nextLong());
+            hashFunctions[table] = vectors.metric == SimilarityMetric.COSINE
+                ? RandomHyperplanes.create(vectors, bits, gaussian)
+                : StableProjections.create(vectors, bits, gaussian, nodeCount);
+        }
+
+        var signatures = new HugeIntArray[HASH_TABLES];
+        Arrays.setAll(signatures, table -> HugeIntArray.newArray(nodeCount));
+
+        var hashTasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var vector = new double[vectors.dimension];
+                partition.consume(nodeId -> {
+                    vectors.read(nodeId, vector);
+                    for (int table = 0; table < HASH_TABLES; table++) {
+                        signatures[table].set(nodeId, hashFunctions[table].signature(vector));
+                    }
+                });
+            },
+            Optional.of(config.minBatchSize())
+        );
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(hashTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+
+        var bucketOffsets = new long[HASH_TABLES][];
+        var bucketMembers = new HugeLongArray[HASH_TABLES];
+        var bucketTasks = new ArrayList<Runnable>(HASH_TABLES);
+        for (int table = 0; table < HASH_TABLES; table++) {
+            int t = table;
+            bucketTasks.add(() -> {
+                bucketOffsets[t] = new long[(1 << bits) + 1];
+                bucketMembers[t] = HugeLongArray.newArray(nodeCount);
+                groupBySignature(signatures[t], bucketOffsets[t], bucketMembers[t]);
+            });
+        }
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(bucketTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+
+        return new LshIndex(signatures, bucketOffsets, bucketMembers);
+    }
+
+    /**
+     * Aim for buckets of roughly {@code 2 * k} nodes, so that a single table can fill a neighbor list.
+     */
+    static int signatureBits(long nodeCount, int boundedK) {
+        var bucketCount = nodeCount / (2.0 * Math.max(1, boundedK));
+        var bits = (int) Math.floor(Math.log(Math.max(bucketCount, 1.0)) / Math.log(2));
+        return Math.max(1, Math.min(MAX_SIGNATURE_BITS, bits));
+    }
+
+    static long memoryEstimation(long nodeCount, int boundedK) {
+        var perTable = HugeIntArray.memoryEstimation(nodeCount)
+                       + HugeLongArray.memoryEstimation(nodeCount)
+                       + sizeOfLongArray((1L << signatureBits(nodeCount, boundedK)) + 1);
+        return HASH_TABLES * perTable;
+    }
+
+    int tables() {
+        return HASH_TABLES;
+    }
+
+    long bucketStart(int table, long nodeId) {
+        return bucketOffsets[table][signatures[table].get(nodeId)];
+    }
+
+    long bucketEnd(int table, long nodeId) {
+        return bucketOffsets[table][signatures[table].get(nodeId) + 1];
+    }
+
+    long member(int table, long index) {
+        return bucketMembers[table].get(index);
+    }
+
+    private static void groupBySignature(HugeIntArray signatures, long[] offsets, HugeLongArray members) {
+        long nodeCount = signatures.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets[signatures.get(nodeId) + 1]++;
+        }
+        for (int bucket = 1; bucket < offsets.length; bucket++) {
+            offsets[bucket] += offsets[bucket - 1];
+        }
+        var insertPositions = Arrays.copyOf(offsets, offsets.length - 1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            members.set(insertPositions[signatures.get(nodeId)]++, nodeId);
+        }
+    }
+
+    private static Vectors vectors(Graph graph, KnnBaseConfig config) {
+        var nodeProperties = config.nodeProperties();
+        if (nodeProperties.size() != 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` initial sampler requires exactly one node property, but got %d.",
+                KnnSampler.SamplerType.LSH.name(),
+                nodeProperties.size()
+            ));
+        }
+        var propertySpec = nodeProperties.get(0);
+        var properties = Objects.requireNonNull(
+            graph.nodeProperties(propertySpec.name()),
+            () -> formatWithLocale("The property `%s` has not been loaded", propertySpec.name())
+        );
+        var valueType = properties.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` initial sampler requires a property of type %s or %s, but `%s` is of type %s.",
+                KnnSampler.SamplerType.LSH.name(),
+                ValueType.FLOAT_ARRAY,
+                ValueType.DOUBLE_ARRAY,
+                propertySpec.name(),
+                valueType
+            ));
+        }
+        var metric = propertySpec.metric() == SimilarityMetric.DEFAULT
+            ? SimilarityMetric.defaultMetricForType(valueType)
+            : propertySpec.metric();
+        if (metric != SimilarityMetric.COSINE && metric != SimilarityMetric.EUCLIDEAN) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` initial sampler supports the %s and %s metrics, but got %s.",
+                KnnSampler.SamplerType.LSH.name(),
+                SimilarityMetric.COSINE,
+                SimilarityMetric.EUCLIDEAN,
+                metric
+            ));
+        }
+        return new Vectors(properties, metric, graph.nodeCount());
+    }
+
+    /**
+     * Reads float and double array properties into a shared {@code double[]} representation.
+     * Missing values are read as the zero vector.
+     */
+    private static final class Vectors {
+        private final NodePropertyValues properties;
+        private final boolean floats;
+        private final SimilarityMetric metric;
+        private final int dimension;
+
+        Vectors(NodePropertyValues properties, SimilarityMetric metric, long nodeCount) {
+            this.properties = properties;
+            this.floats = properties.valueType() == ValueType.FLOAT_ARRAY;
+            this.metric = metric;
+            this.dimension = firstDimension(nodeCount);
+        }
+
+        private int firstDimension(long nodeCount) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                var length = length(nodeId);
+                if (length > 0) {
+                    return length;
+                }
+            }
+            return 0;
+        }
+
+        private int length(long nodeId) {
+            if (floats) {
+                var value = properties.floatArrayValue(nodeId);
+                return value == null ? 0 : value.length;
+            }
+            var value = properties.doubleArrayValue(nodeId);
+            return value == null ? 0 : value.length;
+        }
+
+        void read(long nodeId, double[] into) {
+            Arrays.fill(into, 0.0);
+            if (floats) {
+                var value = properties.floatArrayValue(nodeId);
+                if (value != null) {
+                    for (int i = 0; i < Math.min(value.length, into.length); i++) {
+                        into[i] = value[i];
+                    }
+                }
+            } else {
+                var value = properties.doubleArrayValue(nodeId);
+                if (value != null) {
+                    System.arraycopy(value, 0, into, 0, Math.min(value.length, into.length));
+                }
+            }
+        }
+    }
+
+    private interface HashFunction {
+        int signature(double[] vector);
+    }
+
+    private static double[] gaussianVector(int dimension, Random random) {
+        var vector = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double dot(double[] left, double[] right) {
+        double result = 0.0;
+        for (int i = 0; i < left.length; i++) {
+            result += left[i] * right[i];
+        }
+        return result;
+    }
+
+    private static final class RandomHyperplanes implements HashFunction {
+        private final double[][] normals;
+
+        private RandomHyperplanes(double[][] normals) {
+            this.normals = normals;
+        }
+
+        static RandomHyperplanes create(Vectors vectors, int bits, Random random) {
+            var normals = new double[bits][];
+            Arrays.setAll(normals, i -> gaussianVector(vectors.dimension, random));
+            return new RandomHyperplanes(normals);
+        }
+
+        @Override
+        public int signature(double[] vector) {
+            int signature = 0;
+            for (int bit = 0; bit < normals.length; bit++) {
+                if (dot(normals[bit], vector) >= 0) {
+                    signature |= 1 << bit;
+                }
+            }
+            return signature;
+        }
+    }
+
+    private static final class StableProjections implements HashFunction {
+        private static final long MIX = 0x9E3779B97F4A7C15L;
+
+        private final double[][] directions;
+        private final double[] offsets;
+        private final double[] widths;
+        private final int bits;
+
+        private StableProjections(double[][] directions, double[] offsets, double[] widths, int bits) {
+            this.directions = directions;
+            this.offsets = offsets;
+            this.widths = widths;
+            this.bits = bits;
+        }
+
+        static StableProjections create(Vectors vectors, int bits, Random random, long nodeCount) {
+            // every quantized projection spreads the nodes over a handful of buckets
+            var projections = Math.max(1, bits / 2);
+            var directions = new double[projections][];
+            Arrays.setAll(directions, i -> gaussianVector(vectors.dimension, random));
+
+            // a bucket is as wide as the standard deviation of the projected values,
+            // estimated on a sample of the nodes
+            var sampleSize = (int) Math.min(nodeCount, WIDTH_SAMPLE_SIZE);
+            var sum = new double[projections];
+            var sumOfSquares = new double[projections];
+            var vector = new double[vectors.dimension];
+            for (int i = 0; i < sampleSize; i++) {
+                vectors.read(sampleSize == nodeCount ? i : (long) (random.nextDouble() * nodeCount), vector);
+                for (int p = 0; p < projections; p++) {
+                    var projection = dot(directions[p], vector);
+                    sum[p] += projection;
+                    sumOfSquares[p] += projection * projection;
+                }
+            }
+
+            var widths = new double[projections];
+            var offsets = new double[projections];
+            for (int p = 0; p < projections; p++) {
+                var mean = sum[p] / sampleSize;
+                var deviation = Math.sqrt(Math.max(0.0, sumOfSquares[p] / sampleSize - mean * mean));
+                widths[p] = deviation > 0 ? deviation : 1.0;
+                offsets[p] = random.nextDouble() * widths[p];
+            }
+
+            return new StableProjections(directions, offsets, widths, bits);
+        }
+
+        @Override
+        public int signature(double[] vector) {
+            long hash = 0L;
+            for (int p = 0; p < directions.length; p++) {
+                var bucket = (long) Math.floor((dot(directions[p], vector) + offsets[p]) / widths[p]);
+                hash = hash * 31 + bucket;
+            }
+            // take the well mixed high bits
+            return (int) ((hash * MIX) >>> (Long.SIZE - bits));
+        }
+    }
+}
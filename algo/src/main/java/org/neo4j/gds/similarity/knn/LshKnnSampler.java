@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.ml.core.samplers.LongUniformSamplerFromRange;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongPredicate;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongHashSet;
+
+/**
+ * Samples the initial neighbors of a node from its buckets in an {@link LshIndex}.
+ * The samples are spread evenly over the hash tables, starting at a random position within each bucket.
+ */
+class LshKnnSampler implements KnnSampler {
+
+    private final LshIndex index;
+    private final SplittableRandom random;
+    private final LongUniformSamplerFromRange uniformSamplerFromRange;
+    private final long exclusiveMax;
+    private final LongHashSet sampledValuesCache;
+
+    LshKnnSampler(LshIndex index, SplittableRandom random, long exclusiveMax) {
+        this.index = index;
+        this.random = random;
+        this.uniformSamplerFromRange = new LongUniformSamplerFromRange(random);
+        this.exclusiveMax = exclusiveMax;
+        this.sampledValuesCache = new LongHashSet();
+    }
+
+    public static MemoryRange memoryEstimation(long boundedK) {
+        var baseEstimation = MemoryRange.of(
+            sizeOfInstance(LshKnnSampler.class) +
+            sizeOfLongArray(boundedK) +
+            sizeOfLongHashSet(boundedK)
+        );
+
+        return baseEstimation
+            .add(LongUniformSamplerFromRange.memoryEstimation(0))
+            .union(baseEstimation.add(LongUniformSamplerFromRange.memoryEstimation(boundedK)));
+    }
+
+    @Override
+    public long[] sample(
+        long nodeId,
+        long lowerBoundOnValidSamplesInRange,
+        int numberOfSamples,
+        LongPredicate isInvalidSample
+    ) {
+        sampledValuesCache.clear();
+        var samples = new long[numberOfSamples];
+        int addedSamples = 0;
+
+        var tables = index.tables();
+        for (int table = 0; table < tables && addedSamples < numberOfSamples; table++) {
+            var start = index.bucketStart(table, nodeId);
+            var bucketSize = index.bucketEnd(table, nodeId) - start;
+            if (bucketSize < 2) {
+                continue;
+            }
+
+            // leave room for the remaining tables
+            var tablesLeft = tables - table;
+            var quota = (numberOfSamples - addedSamples + tablesLeft - 1) / tablesLeft;
+            var offset = random.nextLong(bucketSize);
+
+            for (long i = 0; i < bucketSize && quota > 0; i++) {
+                var candidate = index.member(table, start + (offset + i) % bucketSize);
+                if (isInvalidSample.test(candidate) || !sampledValuesCache.add(candidate)) {
+                    continue;
+                }
+                samples[addedSamples++] = candidate;
+                quota--;
+            }
+        }
+
+        if (addedSamples == numberOfSamples) {
+            return samples;
+        }
+
+        // Fill up with uniformly random nodes if the buckets did not contain enough unique valid candidates.
+        var uniformSamples = uniformSamplerFromRange.sample(
+            0,
+            exclusiveMax,
+            lowerBoundOnValidSamplesInRange - addedSamples,
+            numberOfSamples - addedSamples,
+            node -> isInvalidSample.test(node) || sampledValuesCache.contains(node)
+        );
+
+        System.arraycopy(uniformSamples, 0, samples, addedSamples, uniformSamples.length);
+
+        var sampleCount = addedSamples + uniformSamples.length;
+        return sampleCount == numberOfSamples ? samples : Arrays.copyOf(samples, sampleCount);
+    }
+}
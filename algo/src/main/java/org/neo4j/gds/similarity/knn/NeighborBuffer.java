@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * Per-node neighbor samples of a single NN-Descent iteration, stored in one flat array.
+ * Every node owns a slot of {@code capacity} entries, so the buffer is allocated once
+ * and reused across iterations by clearing the slot sizes.
+ */
+final class NeighborBuffer {
+
+    private final HugeLongArray elements;
+    private final HugeIntArray sizes;
+    private final int capacity;
+
+    NeighborBuffer(long nodeCount, int capacity) {
+        this.elements = HugeLongArray.newArray(nodeCount * capacity);
+        this.sizes = HugeIntArray.newArray(nodeCount);
+        this.capacity = capacity;
+    }
+
+    static long memoryEstimation(long nodeCount, int capacity) {
+        return HugeLongArray.memoryEstimation(nodeCount * capacity) + HugeIntArray.memoryEstimation(nodeCount);
+    }
+
+    long nodeCount() {
+        return sizes.size();
+    }
+
+    int size(long nodeId) {
+        return sizes.get(nodeId);
+    }
+
+    long get(long nodeId, int index) {
+        assert index < sizes.get(nodeId);
+        return elements.get(nodeId * capacity + index);
+    }
+
+    void add(long nodeId, long neighbor) {
+        int size = sizes.get(nodeId);
+        assert size < capacity : "neighbor slot is full";
+        elements.set(nodeId * capacity + size, neighbor);
+        sizes.set(nodeId, size + 1);
+    }
+
+    void clear(long nodeId) {
+        sizes.set(nodeId, 0);
+    }
+}
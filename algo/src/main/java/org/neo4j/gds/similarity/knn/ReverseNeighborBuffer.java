@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * The reverse of a {@link NeighborBuffer} in compressed sparse row layout.
+ * The reverse lists of all nodes are stored back to back in a single array;
+ * node {@code v} owns the range {@code [offsets[v], offsets[v + 1])}.
+ */
+final class ReverseNeighborBuffer {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+
+    ReverseNeighborBuffer(long nodeCount, int capacity) {
+        this.offsets = HugeLongArray.newArray(nodeCount + 1);
+        // every forward entry yields exactly one reverse entry
+        this.targets = HugeLongArray.newArray(nodeCount * capacity);
+    }
+
+    static long memoryEstimation(long nodeCount, int capacity) {
+        return HugeLongArray.memoryEstimation(nodeCount + 1) + HugeLongArray.memoryEstimation(nodeCount * capacity);
+    }
+
+    int size(long nodeId) {
+        return (int) (offsets.get(nodeId + 1) - offsets.get(nodeId));
+    }
+
+    long get(long nodeId, int index) {
+        return targets.get(offsets.get(nodeId) + index);
+    }
+
+    /**
+     * Adds every node to the reverse lists of its neighbors in {@code forward}.
+     * Within a reverse list the nodes are in ascending order.
+     */
+    void reverse(NeighborBuffer forward) {
+        long nodeCount = forward.nodeCount();
+        offsets.fill(0L);
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int size = forward.size(nodeId);
+            for (int i = 0; i < size; i++) {
+                offsets.addTo(forward.get(nodeId, i), 1L);
+            }
+        }
+
+        // inclusive prefix sum, offsets[v] now marks the end of the reverse list of v
+        long total = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            total += offsets.get(nodeId);
+            offsets.set(nodeId, total);
+        }
+        offsets.set(nodeCount, total);
+
+        // filling back to front moves every offsets[v] to the start of its list
+        for (long nodeId = nodeCount - 1; nodeId >= 0; nodeId--) {
+            for (int i = forward.size(nodeId) - 1; i >= 0; i--) {
+                long neighbor = forward.get(nodeId, i);
+                assert neighbor != nodeId;
+                long position = offsets.get(neighbor) - 1;
+                offsets.set(neighbor, position);
+                targets.set(position, nodeId);
+            }
+        }
+    }
+}
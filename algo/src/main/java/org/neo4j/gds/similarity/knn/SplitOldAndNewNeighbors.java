@@ -20,7 +20,6 @@
 package org.neo4j.gds.similarity.knn;
 
 import com.carrotsearch.hppc.IntArrayList;
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.core.utils.BiLongConsumer;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -38,16 +37,16 @@ import java.util.SplittableRandom;
 final class SplitOldAndNewNeighbors implements BiLongConsumer {
     private final SplittableRandom random;
     private final HugeObjectArray<NeighborList> neighbors;
-    private final HugeObjectArray<LongArrayList> allOldNeighbors;
-    private final HugeObjectArray<LongArrayList> allNewNeighbors;
+    private final NeighborBuffer allOldNeighbors;
+    private final NeighborBuffer allNewNeighbors;
     private final int sampledK;
     private final ProgressTracker progressTracker;
 
     SplitOldAndNewNeighbors(
         SplittableRandom random,
         HugeObjectArray<NeighborList> neighbors,
-        HugeObjectArray<LongArrayList> allOldNeighbors,
-        HugeObjectArray<LongArrayList> allNewNeighbors,
+        NeighborBuffer allOldNeighbors,
+        NeighborBuffer allNewNeighbors,
         int sampledK,
         ProgressTracker progressTracker
     ) {
@@ -73,7 +72,8 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
             var neighbors = allNeighbors.get(nodeId);
             var k2 = neighbors.size();
             sampled.clear();
-            LongArrayList oldNeighbors = null;
+            allOldNeighbors.clear(nodeId);
+            allNewNeighbors.clear(nodeId);
 
             for (int neighborIndex = 0, newNeighborCount = 0; neighborIndex < k2; neighborIndex++) {
                 var neighborElement = neighbors.elementAt(neighborIndex);
@@ -81,13 +81,9 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
                 // sort neighbor to old neighbors
                 // we use the sign bit to keep track of the checked state of a node
                 if (NeighborList.isChecked(neighborElement)) {
-                    if (oldNeighbors == null) {
-                        oldNeighbors = new LongArrayList();
-                        allOldNeighbors.set(nodeId, oldNeighbors);
-                    }
                     // unset the checked bit
                     var neighborNode = NeighborList.clearCheckedFlag(neighborElement);
-                    oldNeighbors.add(neighborNode);
+                    allOldNeighbors.add(nodeId, neighborNode);
                 } else {
                     // always start with the first `sampledK` elements
                     if (newNeighborCount < sampledK) {
@@ -103,18 +99,11 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
                 }
             }
 
-            if (sampled.isEmpty()) {
-                continue;
-            }
-
-            var newNeighbors = new LongArrayList();
-            allNewNeighbors.set(nodeId, newNeighbors);
-
             for (var neighborIndex : sampled) {
                 var neighborNode = neighbors.getAndFlagAsChecked(neighborIndex.value);
                 assert nodeId != neighborNode;
                 assert neighborNode >= 0;
-                newNeighbors.add(neighborNode);
+                allNewNeighbors.add(nodeId, neighborNode);
             }
         }
         progressTracker.logProgress(end - start);
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.simd.ArrayKernels;
 
 /**
  * We compute cosine similarity (normalised dot product) and turn it into a similarity metric by moving and
@@ -30,13 +30,18 @@ public final class Cosine {
 
     public static double floatMetric(float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var cosine = Intersections.cosine(left, right, len);
+        var cosine = ArrayKernels.cosine(left, right, len);
+        return (cosine+1)/ 2;
+    }
+
+    public static double floatMetric(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        var cosine = ArrayKernels.cosine(left, leftOffset, right, rightOffset, length);
         return (cosine+1)/ 2;
     }
 
     public static double doubleMetric(double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var cosine = Intersections.cosine(left, right, len);
+        var cosine = ArrayKernels.cosine(left, right, len);
         return (cosine+1)/ 2;
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
+
+/**
+ * Compares the rows in place on the pages of the matrix, without copying them.
+ */
+final class DenseFloatArrayPropertySimilarityComputer implements SimilarityComputer {
+
+    private final HugeFloatMatrix matrix;
+    private final Metric metric;
+
+    DenseFloatArrayPropertySimilarityComputer(HugeFloatMatrix matrix, Metric metric) {
+        this.matrix = matrix;
+        this.metric = metric;
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        return metric.compute(
+            matrix.rowPage(firstNodeId),
+            matrix.rowOffset(firstNodeId),
+            matrix.rowPage(secondNodeId),
+            matrix.rowOffset(secondNodeId),
+            matrix.dimension()
+        );
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
+    interface Metric {
+        double compute(float[] left, int leftOffset, float[] right, int rightOffset, int length);
+    }
+}
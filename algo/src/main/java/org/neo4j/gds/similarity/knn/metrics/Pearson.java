@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
+import org.neo4j.gds.simd.ArrayKernels;
+
 /**
  * Here we compute Pearson correlation coefficient and turn that into a metric.
  *
@@ -34,65 +36,20 @@ public final class Pearson {
 
     public static double floatMetric(float[] a, float[] b) {
         int n = Math.min(a.length, b.length);
-
-        // compute sample means
-        double sumA = 0d;
-        double sumB = 0d;
-        for (int i = 0; i < n; i++) {
-            sumA += a[i];
-            sumB += b[i];
-        }
-        double meanA = sumA / n;
-        double meanB = sumB / n;
-
-        // compute sums
-        double sumOfProductOfADeltaBDelta = 0d;
-        double sumOfADeltaSquared = 0d;
-        double sumOfBDeltaSquared = 0d;
-        for (int i = 0; i < n; i++) {
-            double aDelta = a[i] - meanA;
-            double bDelta = b[i] - meanB;
-
-            sumOfProductOfADeltaBDelta += aDelta * bDelta;
-            sumOfADeltaSquared += aDelta * aDelta;
-            sumOfBDeltaSquared += bDelta * bDelta;
-        }
-
-        // final formula
-        double r = sumOfProductOfADeltaBDelta/ (Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared));
+        double r = ArrayKernels.pearson(a, b, n);
 
         // now turn it into a metric; Pearson's r is in the range -1..1 and we want to land it in 0..1
         return (r+1)/ 2;
     }
 
+    public static double floatMetric(float[] a, int aOffset, float[] b, int bOffset, int n) {
+        double r = ArrayKernels.pearson(a, aOffset, b, bOffset, n);
+        return (r+1)/ 2;
+    }
+
     public static double doubleMetric(double[] a, double[] b) {
         int n = Math.min(a.length, b.length);
-
-        // compute sample means
-        double sumA = 0d;
-        double sumB = 0d;
-        for (int i = 0; i < n; i++) {
-            sumA += a[i];
-            sumB += b[i];
-        }
-        double meanA = sumA / n;
-        double meanB = sumB / n;
-
-        // compute sums
-        double sumOfProductOfADeltaBDelta = 0d;
-        double sumOfADeltaSquared = 0d;
-        double sumOfBDeltaSquared = 0d;
-        for (int i = 0; i < n; i++) {
-            double aDelta = a[i] - meanA;
-            double bDelta = b[i] - meanB;
-
-            sumOfProductOfADeltaBDelta += aDelta * bDelta;
-            sumOfADeltaSquared += aDelta * aDelta;
-            sumOfBDeltaSquared += bDelta * bDelta;
-        }
-
-        // final formula
-        double r = sumOfProductOfADeltaBDelta/ (Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared));
+        double r = ArrayKernels.pearson(a, b, n);
 
         // now turn it into a metric; Pearson's r is in the range -1..1 and we want to land it in 0..1
         return (r+1)/ 2;
@@ -23,6 +23,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.loading.nodeproperties.DenseFloatArrayNodePropertyValues;
 import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
 import org.neo4j.gds.similarity.knn.metrics.LongArrayPropertySimilarityComputer.SortedLongArrayPropertyValues;
 
@@ -87,7 +88,10 @@ public interface SimilarityComputer {
             case FLOAT_ARRAY:
                 return ofFloatArrayProperty(
                     name,
-                    NullCheckingNodePropertyValues.create(properties, name, idMap),
+                    // dense values have an array for every node
+                    properties instanceof DenseFloatArrayNodePropertyValues
+                        ? properties
+                        : NullCheckingNodePropertyValues.create(properties, name, idMap),
                     defaultSimilarityMetric
                 );
             case LONG_ARRAY:
@@ -114,6 +118,9 @@ public interface SimilarityComputer {
     }
 
     static SimilarityComputer ofFloatArrayProperty(String name, NodePropertyValues properties, SimilarityMetric metric) {
+        if (properties instanceof DenseFloatArrayNodePropertyValues) {
+            return ofDenseFloatArrayProperty(name, (DenseFloatArrayNodePropertyValues) properties, metric);
+        }
         switch (metric) {
             case COSINE:
                 return new FloatArrayPropertySimilarityComputer(properties, Cosine::floatMetric);
@@ -126,6 +133,23 @@ public interface SimilarityComputer {
         }
     }
 
+    static SimilarityComputer ofDenseFloatArrayProperty(
+        String name,
+        DenseFloatArrayNodePropertyValues properties,
+        SimilarityMetric metric
+    ) {
+        switch (metric) {
+            case COSINE:
+                return new DenseFloatArrayPropertySimilarityComputer(properties.matrix(), Cosine::floatMetric);
+            case EUCLIDEAN:
+                return new DenseFloatArrayPropertySimilarityComputer(properties.matrix(), Euclidean::floatMetric);
+            case PEARSON:
+                return new DenseFloatArrayPropertySimilarityComputer(properties.matrix(), Pearson::floatMetric);
+            default:
+                throw unsupportedSimilarityMetric(name, properties.valueType(), metric);
+        }
+    }
+
     static SimilarityComputer ofDoubleArrayProperty(
         String propertyName,
         NodePropertyValues nodePropertyValues,
@@ -80,6 +80,13 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
+    @Override
+    public double computeSimilarity(double intersection, double cardinality1, double cardinality2) {
+        double union = cardinality1 + cardinality2 - intersection;
+        double similarity = union == 0 ? 0 : intersection / union;
+        return similarity >= similarityCutoff ? similarity : Double.NaN;
+    }
+
     static class Builder implements MetricSimilarityComputerBuilder {
         public MetricSimilarityComputer build(double similarityCutoff) {
             return new JaccardSimilarityComputer(similarityCutoff);
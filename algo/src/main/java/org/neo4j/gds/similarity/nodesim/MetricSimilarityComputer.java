@@ -28,6 +28,13 @@ public interface MetricSimilarityComputer {
 
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
+    /**
+     * Computes the similarity from an already known intersection.
+     * For weighted vectors, the intersection is the sum of the smaller weights of the shared neighbors
+     * and the cardinalities are the sums of all weights of each vector.
+     */
+    double computeSimilarity(double intersection, double cardinality1, double cardinality2);
+
     static MetricSimilarityComputerBuilder parse(Object userInput) {
         if (userInput instanceof MetricSimilarityComputerBuilder) {
             return (MetricSimilarityComputerBuilder) userInput;
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.BatchingProgressLogger;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Approximates the topK similarities by only comparing candidate pairs found through MinHash signatures.
+ * <p>
+ * The MinHash signature of a node consists of the minimum of several random hash functions over its neighbors.
+ * Two nodes agree on each of these minima with a probability equal to the Jaccard similarity of their neighbors.
+ * The signature is split into bands of equal size and every band is hashed into its own table (banding LSH).
+ * Nodes that share a bucket in at least one table become candidates and only their exact similarity is computed.
+ * <p>
+ * With {@code b} bands of {@code r} hashes each, a pair with Jaccard similarity {@code s} becomes a candidate
+ * with probability {@code 1 - (1 - s^r)^b}. More bands increase the recall, more hashes per band increase the precision.
+ */
+final class MinHashSimilarity {
+
+    private static final int MAX_BUCKET_BITS = 24;
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private final long nodeCount;
+    private final HugeObjectArray<long[]> vectors;
+    private final @Nullable HugeObjectArray<double[]> weights;
+    private final BitSet sourceNodes;
+    private final MetricSimilarityComputer similarityComputer;
+
+    private final int bucketBits;
+    private final int maxBucketSize;
+    // per band, the hashed signature band of each node
+    private final HugeIntArray[] bandKeys;
+    // per band, the target nodes grouped by bucket
+    private final long[][] bucketOffsets;
+    private final HugeLongArray[] bucketMembers;
+
+    static MemoryEstimation memoryEstimation(int bands) {
+        return MemoryEstimations.builder(MinHashSimilarity.class)
+            .perNode("band keys", nodeCount -> bands * HugeIntArray.memoryEstimation(nodeCount))
+            .perNode(
+                "buckets",
+                nodeCount -> bands * (HugeLongArray.memoryEstimation(nodeCount) + sizeOfLongArray((1L << bucketBits(nodeCount)) + 1))
+            )
+            .build();
+    }
+
+    /**
+     * Aim for buckets holding one or two nodes, so that collisions are mostly caused by equal signature bands.
+     * There are never more buckets than target nodes, which bounds the offsets by the node count.
+     */
+    static int bucketBits(long targetCount) {
+        var bits = 63 - Long.numberOfLeadingZeros(Math.max(1, targetCount));
+        return Math.max(1, Math.min(MAX_BUCKET_BITS, bits));
+    }
+
+    static MinHashSimilarity create(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        @Nullable HugeObjectArray<double[]> weights,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        MetricSimilarityComputer similarityComputer,
+        NodeSimilarityBaseConfig config,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        int hashCount = config.minHashCount();
+        int bands = config.minHashBands();
+        int rows = hashCount / bands;
+
+        var random = config.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var multipliers = new long[hashCount];
+        var increments = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+
+        var bandKeys = new HugeIntArray[bands];
+        Arrays.setAll(bandKeys, band -> HugeIntArray.newArray(nodeCount));
+
+        var signatureTasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var signature = new int[hashCount];
+                partition.consume(nodeId -> {
+                    long[] vector = vectors.get(nodeId);
+                    if (vector == null) {
+                        return;
+                    }
+                    Arrays.fill(signature, Integer.MAX_VALUE);
+                    for (long neighbor : vector) {
+                        for (int i = 0; i < hashCount; i++) {
+                            signature[i] = Math.min(signature[i], hash(neighbor, multipliers[i], increments[i]));
+                        }
+                    }
+                    for (int band = 0; band < bands; band++) {
+                        long key = band;
+                        for (int row = band * rows; row < (band + 1) * rows; row++) {
+                            key = key * 31 + signature[row];
+                        }
+                        bandKeys[band].set(nodeId, (int) ((key * MIX) >>> 32));
+                    }
+                });
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(signatureTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        long targetCount = targetNodes.cardinality();
+        int bucketBits = bucketBits(targetCount);
+        var bucketOffsets = new long[bands][];
+        var bucketMembers = new HugeLongArray[bands];
+        var bucketTasks = new ArrayList<Runnable>(bands);
+        for (int band = 0; band < bands; band++) {
+            int b = band;
+            bucketTasks.add(() -> {
+                bucketOffsets[b] = new long[(1 << bucketBits) + 1];
+                bucketMembers[b] = HugeLongArray.newArray(targetCount);
+                groupByBucket(bandKeys[b], targetNodes, bucketBits, bucketOffsets[b], bucketMembers[b]);
+            });
+        }
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(bucketTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        return new MinHashSimilarity(
+            nodeCount,
+            vectors,
+            weights,
+            sourceNodes,
+            similarityComputer,
+            bucketBits,
+            config.minHashMaxBucketSize(),
+            bandKeys,
+            bucketOffsets,
+            bucketMembers
+        );
+    }
+
+    private MinHashSimilarity(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        @Nullable HugeObjectArray<double[]> weights,
+        BitSet sourceNodes,
+        MetricSimilarityComputer similarityComputer,
+        int bucketBits,
+        int maxBucketSize,
+        HugeIntArray[] bandKeys,
+        long[][] bucketOffsets,
+        HugeLongArray[] bucketMembers
+    ) {
+        this.nodeCount = nodeCount;
+        this.vectors = vectors;
+        this.weights = weights;
+        this.sourceNodes = sourceNodes;
+        this.similarityComputer = similarityComputer;
+        this.bucketBits = bucketBits;
+        this.maxBucketSize = maxBucketSize;
+        this.bandKeys = bandKeys;
+        this.bucketOffsets = bucketOffsets;
+        this.bucketMembers = bucketMembers;
+    }
+
+    /**
+     * Offers the exact similarities of every source node to all of its candidates to the {@code topKMap}.
+     * Each source node is handled by exactly one worker, which is the only one writing into its queue.
+     */
+    void computeTopK(
+        TopKMap topKMap,
+        long progressPerRow,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new CandidateTask(partition, topKMap, progressPerRow, terminationFlag, progressTracker),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private int bucket(int key) {
+        return key >>> (Integer.SIZE - bucketBits);
+    }
+
+    private static int hash(long value, long multiplier, long increment) {
+        long hash = value * multiplier + increment;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) (hash >>> 32);
+    }
+
+    private static void groupByBucket(
+        HugeIntArray keys,
+        BitSet targetNodes,
+        int bucketBits,
+        long[] offsets,
+        HugeLongArray members
+    ) {
+        int shift = Integer.SIZE - bucketBits;
+        for (long nodeId = targetNodes.nextSetBit(0L); nodeId != -1; nodeId = targetNodes.nextSetBit(nodeId + 1)) {
+            offsets[(keys.get(nodeId) >>> shift) + 1]++;
+        }
+        for (int bucket = 1; bucket < offsets.length; bucket++) {
+            offsets[bucket] += offsets[bucket - 1];
+        }
+        var insertPositions = Arrays.copyOf(offsets, offsets.length - 1);
+        for (long nodeId = targetNodes.nextSetBit(0L); nodeId != -1; nodeId = targetNodes.nextSetBit(nodeId + 1)) {
+            members.set(insertPositions[keys.get(nodeId) >>> shift]++, nodeId);
+        }
+    }
+
+    private final class CandidateTask implements Runnable {
+
+        private final Partition partition;
+        private final TopKMap topKMap;
+        private final long progressPerRow;
+        private final TerminationFlag terminationFlag;
+        private final ProgressTracker progressTracker;
+        private final LongHashSet candidates;
+
+        CandidateTask(
+            Partition partition,
+            TopKMap topKMap,
+            long progressPerRow,
+            TerminationFlag terminationFlag,
+            ProgressTracker progressTracker
+        ) {
+            this.partition = partition;
+            this.topKMap = topKMap;
+            this.progressPerRow = progressPerRow;
+            this.terminationFlag = terminationFlag;
+            this.progressTracker = progressTracker;
+            this.candidates = new LongHashSet();
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long node = sourceNodes.nextSetBit(partition.startNode()); node != -1 && node < end; node = sourceNodes.nextSetBit(node + 1)) {
+                if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
+                    terminationFlag.assertRunning();
+                }
+                compareCandidates(node);
+                progressTracker.logProgress(progressPerRow);
+            }
+        }
+
+        private void compareCandidates(long source) {
+            long[] sourceVector = vectors.get(source);
+            candidates.clear();
+            for (int band = 0; band < bandKeys.length; band++) {
+                int key = bandKeys[band].get(source);
+                int bucket = bucket(key);
+                long start = bucketOffsets[band][bucket];
+                long bucketSize = bucketOffsets[band][bucket + 1] - start;
+                // Nodes with equal signature bands all share a bucket, so a bucket can hold many nodes.
+                // Each source only scans a window of such buckets, which starts at a position derived from the source.
+                long scanned = Math.min(bucketSize, maxBucketSize);
+                long first = scanned < bucketSize ? Math.floorMod(source * MIX + band, bucketSize) : 0;
+                for (long i = 0; i < scanned; i++) {
+                    long target = bucketMembers[band].get(start + (first + i) % bucketSize);
+                    // skip nodes which only share the bucket but not the signature band
+                    if (target == source || bandKeys[band].get(target) != key || !candidates.add(target)) {
+                        continue;
+                    }
+                    double similarity = weights == null
+                        ? similarityComputer.computeSimilarity(sourceVector, vectors.get(target))
+                        : similarityComputer.computeWeightedSimilarity(
+                            sourceVector,
+                            vectors.get(target),
+                            weights.get(source),
+                            weights.get(target)
+                        );
+                    if (!Double.isNaN(similarity)) {
+                        topKMap.put(source, target, similarity);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -269,6 +269,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private TopKMap computeTopKMap() {
+        if (config.executionMode() == NodeSimilarityExecutionMode.MIN_HASH) {
+            return computeTopKMapWithMinHash();
+        }
+        if (useSparseMatrix()) {
+            return computeTopKMapWithSparseMatrix();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
@@ -311,6 +317,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private TopKMap computeTopKMapParallel() {
+        if (config.executionMode() == NodeSimilarityExecutionMode.MIN_HASH) {
+            return computeTopKMapWithMinHash();
+        }
+        if (useSparseMatrix()) {
+            return computeTopKMapWithSparseMatrix();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
@@ -347,7 +359,65 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return topKMap;
     }
 
+    private TopKMap computeTopKMapWithSparseMatrix() {
+        long workload = calculateWorkload();
+        progressTracker.beginSubTask(workload);
+
+        Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
+        TopKMap topKMap = new TopKMap(vectors.size(), sourceNodes, Math.abs(config.normalizedK()), comparator);
+        SparseMatrixSimilarity.create(
+            graph.nodeCount(),
+            vectors,
+            weighted ? weights : null,
+            sourceNodes,
+            targetNodes,
+            similarityComputer
+        ).computeTopK(
+            topKMap,
+            nodesToCompare == 0 ? 0 : workload / nodesToCompare,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+
+        progressTracker.endSubTask();
+        return topKMap;
+    }
+
+    private TopKMap computeTopKMapWithMinHash() {
+        long workload = calculateWorkload();
+        progressTracker.beginSubTask(workload);
+
+        Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
+        TopKMap topKMap = new TopKMap(vectors.size(), sourceNodes, Math.abs(config.normalizedK()), comparator);
+        MinHashSimilarity.create(
+            graph.nodeCount(),
+            vectors,
+            weighted ? weights : null,
+            sourceNodes,
+            targetNodes,
+            similarityComputer,
+            config,
+            executorService,
+            terminationFlag
+        ).computeTopK(
+            topKMap,
+            nodesToCompare == 0 ? 0 : workload / nodesToCompare,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+
+        progressTracker.endSubTask();
+        return topKMap;
+    }
+
     private Stream<SimilarityResult> computeTopN() {
+        if (useSparseMatrix()) {
+            return computeTopNWithSparseMatrix();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         TopNList topNList = new TopNList(config.normalizedN());
@@ -390,6 +460,38 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return topNList.stream();
     }
 
+    private Stream<SimilarityResult> computeTopNWithSparseMatrix() {
+        long workload = calculateWorkload();
+        progressTracker.beginSubTask(workload);
+
+        TopNList topNList = new TopNList(config.normalizedN());
+        // like the pairwise comparison, only consider each unordered pair once if sources and targets are the same
+        boolean symmetric = sourceNodeFilter.equals(NodeFilter.noOp);
+        SparseMatrixSimilarity.create(
+            graph.nodeCount(),
+            vectors,
+            weighted ? weights : null,
+            sourceNodes,
+            targetNodes,
+            similarityComputer
+        ).compute(
+            (node1, node2, similarity) -> {
+                if (!symmetric || node1 < node2) {
+                    topNList.add(node1, node2, similarity);
+                }
+            },
+            nodesToCompare == 0 ? 0 : workload / nodesToCompare,
+            // the top N list is not thread-safe
+            1,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+
+        progressTracker.endSubTask();
+        return topNList.stream();
+    }
+
     private Stream<SimilarityResult> computeTopN(TopKMap topKMap) {
         TopNList topNList = new TopNList(config.normalizedN());
         topKMap.forEach(topNList::add);
@@ -436,6 +538,14 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         });
     }
 
+    /**
+     * The sparse matrix product never visits pairs without a common neighbor.
+     * Those have a similarity of zero and are only part of the result if the cutoff is zero as well.
+     */
+    private boolean useSparseMatrix() {
+        return config.executionMode() == NodeSimilarityExecutionMode.SPARSE_MATRIX && config.similarityCutoff() > 0;
+    }
+
     private long calculateWorkload() {
         long workload = nodesToCompare * nodesToCompare;
         if (concurrency == 1) {
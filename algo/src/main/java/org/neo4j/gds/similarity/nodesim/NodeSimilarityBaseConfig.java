@@ -22,11 +22,12 @@ package org.neo4j.gds.similarity.nodesim;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig, RandomSeedConfig {
 
     String TOP_K_KEY = "topK";
     int TOP_K_DEFAULT = 10;
@@ -87,6 +88,31 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.nodesim.NodeSimilarityExecutionMode#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.nodesim.NodeSimilarityExecutionMode#toString")
+    default NodeSimilarityExecutionMode executionMode() {
+        return NodeSimilarityExecutionMode.PAIRWISE;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashCount() {
+        return 64;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashBands() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashMaxBucketSize() {
+        return 1000;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -148,6 +174,13 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 BOTTOM_N_KEY
             ));
         }
+        if (minHashCount() % minHashBands() != 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `minHashCount` must be a multiple of `minHashBands`, but got %d and %d.",
+                minHashCount(),
+                minHashBands()
+            ));
+        }
     }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+public enum NodeSimilarityExecutionMode {
+    /**
+     * Intersects the neighbor vectors of every pair of source and target nodes.
+     */
+    PAIRWISE,
+    /**
+     * Computes all intersections at once as a sparse matrix product, see {@link SparseMatrixSimilarity}.
+     */
+    SPARSE_MATRIX,
+    /**
+     * Only compares candidate pairs found through MinHash signatures, see {@link MinHashSimilarity}.
+     */
+    MIN_HASH;
+
+    private static final List<String> VALUES = Arrays
+        .stream(NodeSimilarityExecutionMode.values())
+        .map(NodeSimilarityExecutionMode::name)
+        .collect(Collectors.toList());
+
+    public static NodeSimilarityExecutionMode parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            if (VALUES.contains(inputString)) {
+                return NodeSimilarityExecutionMode.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Execution mode `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof NodeSimilarityExecutionMode) {
+            return (NodeSimilarityExecutionMode) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected execution mode or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(NodeSimilarityExecutionMode executionMode) {
+        return executionMode.toString();
+    }
+}
@@ -100,6 +100,15 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     TopKMap.memoryEstimation(dimensions.nodeCount(), topK))
             );
         }
+        if ((config.hasTopK() || config.hasTopN()) && config.executionMode() == NodeSimilarityExecutionMode.SPARSE_MATRIX) {
+            builder.add(
+                "sparse matrix",
+                SparseMatrixSimilarity.memoryEstimation(config.hasRelationshipWeightProperty())
+            );
+        }
+        if (config.hasTopK() && config.executionMode() == NodeSimilarityExecutionMode.MIN_HASH) {
+            builder.add("min hash", MinHashSimilarity.memoryEstimation(config.minHashBands()));
+        }
         if (config.hasTopN()) {
             builder.add("topN list", TopNList.memoryEstimation(topN));
         }
@@ -77,6 +77,12 @@ class OverlapSimilarityComputer implements MetricSimilarityComputer {
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
+    @Override
+    public double computeSimilarity(double intersection, double cardinality1, double cardinality2) {
+        double similarity = intersection / Math.min(cardinality1, cardinality2);
+        return similarity >= similarityCutoff ? similarity : Double.NaN;
+    }
+
     static class Builder implements MetricSimilarityComputerBuilder {
         @Override
         public MetricSimilarityComputer build(double similarityCutoff) {
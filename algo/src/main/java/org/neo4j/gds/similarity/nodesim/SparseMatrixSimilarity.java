@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import com.carrotsearch.hppc.procedures.LongDoubleProcedure;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.BatchingProgressLogger;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Computes the similarities of all source nodes as the sparse matrix product {@code A * A^T},
+ * where row {@code u} of {@code A} is the neighbor vector of node {@code u}.
+ * <p>
+ * Every target node is added to an inverted index under each of its neighbors.
+ * A source node then walks over its own neighbors and, through the inverted index,
+ * accumulates the (weighted) intersection with every target node that shares at least one neighbor.
+ * The accumulated intersections are turned into similarities and offered to the {@link TopKMap}
+ * directly, so no pair of nodes without a common neighbor is ever looked at.
+ * As those pairs have a similarity of zero, this is only equivalent to the pairwise comparison
+ * for a positive similarity cutoff.
+ */
+final class SparseMatrixSimilarity {
+
+    /**
+     * Up to this many nodes, every worker uses a dense array to accumulate the intersections of a row.
+     * Larger graphs fall back to a hash map which only grows with the number of visited target nodes.
+     */
+    static final long DENSE_ACCUMULATOR_MAX_NODES = 1L << 22;
+
+    private final long nodeCount;
+    private final HugeObjectArray<long[]> vectors;
+    private final @Nullable HugeObjectArray<double[]> weights;
+    private final BitSet sourceNodes;
+    private final MetricSimilarityComputer similarityComputer;
+
+    // CSR layout of the inverted index: the targets sharing neighbor `v` are stored at [offsets[v], offsets[v + 1])
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+    private final @Nullable HugeDoubleArray targetWeights;
+    // the number of neighbors or, if weighted, the sum of the weights
+    private final HugeDoubleArray cardinalities;
+
+    static MemoryEstimation memoryEstimation(boolean weighted) {
+        return MemoryEstimations.builder(SparseMatrixSimilarity.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("cardinalities", HugeDoubleArray::memoryEstimation)
+            .perGraphDimension(
+                "targets",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perGraphDimension(
+                "target weights",
+                (dimensions, concurrency) -> weighted
+                    ? MemoryRange.of(HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound()))
+                    : MemoryRange.empty()
+            )
+            .perGraphDimension("accumulators", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                if (nodeCount <= DENSE_ACCUMULATOR_MAX_NODES) {
+                    long dense = HugeDoubleArray.memoryEstimation(nodeCount) + sizeOfLongArray(BitSet.bits2words(nodeCount));
+                    return MemoryRange.of(dense * concurrency);
+                }
+                // a hash map holds at most one key and one value per node
+                return MemoryRange.of(0, 2 * HugeLongArray.memoryEstimation(nodeCount) * concurrency);
+            })
+            .build();
+    }
+
+    static SparseMatrixSimilarity create(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        @Nullable HugeObjectArray<double[]> weights,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        MetricSimilarityComputer similarityComputer
+    ) {
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        var cardinalities = HugeDoubleArray.newArray(nodeCount);
+
+        // count the targets per neighbor
+        for (long node = 0; node < nodeCount; node++) {
+            long[] vector = vectors.get(node);
+            if (vector == null) {
+                continue;
+            }
+            cardinalities.set(node, weights == null ? vector.length : sum(weights.get(node), vector.length));
+            if (targetNodes.get(node)) {
+                long previous = -1;
+                for (long neighbor : vector) {
+                    if (neighbor != previous) {
+                        offsets.addTo(neighbor, 1);
+                        previous = neighbor;
+                    }
+                }
+            }
+        }
+
+        // inclusive prefix sum, offsets[v] points at the end of the targets for `v`
+        long total = 0;
+        for (long neighbor = 0; neighbor < nodeCount; neighbor++) {
+            total += offsets.get(neighbor);
+            offsets.set(neighbor, total);
+        }
+        offsets.set(nodeCount, total);
+
+        // fill back to front, so that the targets end up sorted and offsets[v] points at their start
+        var targets = HugeLongArray.newArray(total);
+        var targetWeights = weights == null ? null : HugeDoubleArray.newArray(total);
+        for (long node = nodeCount - 1; node >= 0; node--) {
+            if (!targetNodes.get(node)) {
+                continue;
+            }
+            long[] vector = vectors.get(node);
+            double[] vectorWeights = weights == null ? null : weights.get(node);
+            long previous = -1;
+            for (int i = 0; i < vector.length; i++) {
+                long neighbor = vector[i];
+                if (neighbor == previous) {
+                    continue;
+                }
+                previous = neighbor;
+                long position = offsets.get(neighbor) - 1;
+                offsets.set(neighbor, position);
+                targets.set(position, node);
+                if (targetWeights != null) {
+                    targetWeights.set(position, vectorWeights[i]);
+                }
+            }
+        }
+
+        return new SparseMatrixSimilarity(
+            nodeCount,
+            vectors,
+            weights,
+            sourceNodes,
+            similarityComputer,
+            offsets,
+            targets,
+            targetWeights,
+            cardinalities
+        );
+    }
+
+    private SparseMatrixSimilarity(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        @Nullable HugeObjectArray<double[]> weights,
+        BitSet sourceNodes,
+        MetricSimilarityComputer similarityComputer,
+        HugeLongArray offsets,
+        HugeLongArray targets,
+        @Nullable HugeDoubleArray targetWeights,
+        HugeDoubleArray cardinalities
+    ) {
+        this.nodeCount = nodeCount;
+        this.vectors = vectors;
+        this.weights = weights;
+        this.sourceNodes = sourceNodes;
+        this.similarityComputer = similarityComputer;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.targetWeights = targetWeights;
+        this.cardinalities = cardinalities;
+    }
+
+    /**
+     * Offers the similarities of every source node to all target nodes it shares a neighbor with to the {@code topKMap}.
+     * Each row is computed by exactly one worker, which is the only one writing into the queue of that source node.
+     */
+    void computeTopK(
+        TopKMap topKMap,
+        long progressPerRow,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        compute(topKMap::put, progressPerRow, concurrency, executorService, terminationFlag, progressTracker);
+    }
+
+    /**
+     * Passes the similarity of every source node to all target nodes it shares a neighbor with to the {@code consumer}.
+     * The consumer is called concurrently for different source nodes, unless the {@code concurrency} is 1.
+     */
+    void compute(
+        BoundedLongLongPriorityQueue.Consumer consumer,
+        long progressPerRow,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        // balance the partitions by the number of accumulations rather than by the number of rows
+        long totalWork = 0;
+        var sources = new SetBitsIterable(sourceNodes).iterator();
+        while (sources.hasNext()) {
+            totalWork += rowWork(sources.nextLong());
+        }
+        long batchSize = Math.max(ParallelUtil.DEFAULT_BATCH_SIZE, BitUtil.ceilDiv(totalWork, concurrency));
+
+        var tasks = PartitionUtils.degreePartitionWithBatchSize(
+            new SetBitsIterable(sourceNodes).iterator(),
+            this::rowWork,
+            batchSize,
+            partition -> new RowTask(
+                partition,
+                consumer,
+                newAccumulator(),
+                progressPerRow,
+                terminationFlag,
+                progressTracker
+            )
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private int rowWork(long source) {
+        long[] vector = vectors.get(source);
+        long work = 0;
+        for (long neighbor : vector) {
+            work += offsets.get(neighbor + 1) - offsets.get(neighbor);
+        }
+        return (int) Math.min(work, Integer.MAX_VALUE);
+    }
+
+    private IntersectionAccumulator newAccumulator() {
+        return nodeCount <= DENSE_ACCUMULATOR_MAX_NODES
+            ? new DenseAccumulator(nodeCount)
+            : new SparseAccumulator();
+    }
+
+    private static double sum(double[] values, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    private final class RowTask implements Runnable, LongDoubleProcedure {
+
+        private final DegreePartition partition;
+        private final BoundedLongLongPriorityQueue.Consumer consumer;
+        private final IntersectionAccumulator accumulator;
+        private final long progressPerRow;
+        private final TerminationFlag terminationFlag;
+        private final ProgressTracker progressTracker;
+
+        private long source;
+        private double sourceCardinality;
+
+        RowTask(
+            DegreePartition partition,
+            BoundedLongLongPriorityQueue.Consumer consumer,
+            IntersectionAccumulator accumulator,
+            long progressPerRow,
+            TerminationFlag terminationFlag,
+            ProgressTracker progressTracker
+        ) {
+            this.partition = partition;
+            this.consumer = consumer;
+            this.accumulator = accumulator;
+            this.progressPerRow = progressPerRow;
+            this.terminationFlag = terminationFlag;
+            this.progressTracker = progressTracker;
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long node = sourceNodes.nextSetBit(partition.startNode()); node != -1 && node < end; node = sourceNodes.nextSetBit(node + 1)) {
+                if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
+                    terminationFlag.assertRunning();
+                }
+                computeRow(node);
+                progressTracker.logProgress(progressPerRow);
+            }
+        }
+
+        private void computeRow(long source) {
+            long[] vector = vectors.get(source);
+            double[] sourceWeights = weights == null ? null : weights.get(source);
+
+            long previous = -1;
+            for (int i = 0; i < vector.length; i++) {
+                long neighbor = vector[i];
+                if (neighbor == previous) {
+                    continue;
+                }
+                previous = neighbor;
+
+                long end = offsets.get(neighbor + 1);
+                for (long position = offsets.get(neighbor); position < end; position++) {
+                    long target = targets.get(position);
+                    if (target == source) {
+                        continue;
+                    }
+                    double intersection = sourceWeights == null
+                        ? 1D
+                        : Math.min(sourceWeights[i], targetWeights.get(position));
+                    accumulator.add(target, intersection);
+                }
+            }
+
+            this.source = source;
+            this.sourceCardinality = cardinalities.get(source);
+            accumulator.drain(this);
+        }
+
+        @Override
+        public void apply(long target, double intersection) {
+            double similarity = similarityComputer.computeSimilarity(
+                intersection,
+                sourceCardinality,
+                cardinalities.get(target)
+            );
+            if (!Double.isNaN(similarity)) {
+                consumer.accept(source, target, similarity);
+            }
+        }
+    }
+
+    interface IntersectionAccumulator {
+        void add(long target, double intersection);
+
+        /**
+         * Passes all accumulated intersections to the consumer and resets the accumulator.
+         */
+        void drain(LongDoubleProcedure consumer);
+    }
+
+    static final class DenseAccumulator implements IntersectionAccumulator {
+
+        private final HugeDoubleArray intersections;
+        private final BitSet visited;
+        private final LongArrayList visitedTargets;
+
+        DenseAccumulator(long nodeCount) {
+            this.intersections = HugeDoubleArray.newArray(nodeCount);
+            this.visited = new BitSet(nodeCount);
+            this.visitedTargets = new LongArrayList();
+        }
+
+        @Override
+        public void add(long target, double intersection) {
+            if (!visited.getAndSet(target)) {
+                visitedTargets.add(target);
+            }
+            intersections.addTo(target, intersection);
+        }
+
+        @Override
+        public void drain(LongDoubleProcedure consumer) {
+            for (LongCursor cursor : visitedTargets) {
+                long target = cursor.value;
+                consumer.apply(target, intersections.get(target));
+                intersections.set(target, 0D);
+                visited.clear(target);
+            }
+            visitedTargets.elementsCount = 0;
+        }
+    }
+
+    static final class SparseAccumulator implements IntersectionAccumulator {
+
+        private final LongDoubleHashMap intersections = new LongDoubleHashMap();
+
+        @Override
+        public void add(long target, double intersection) {
+            intersections.addTo(target, intersection);
+        }
+
+        @Override
+        public void drain(LongDoubleProcedure consumer) {
+            for (LongDoubleCursor cursor : intersections) {
+                consumer.apply(cursor.key, cursor.value);
+            }
+            intersections.clear();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+/**
+ * Unions the components of the endpoints of added relationships.
+ *
+ * The components of the nodes are read from the given values, only the components that
+ * are touched by an added relationship are tracked. The cost therefore only depends on
+ * the number of added relationships, not on the number of nodes.
+ * Merged components take the smallest of their ids, like seeded {@link Wcc} runs.
+ */
+final class ComponentUnion {
+
+    private final NodePropertyValues components;
+    // components without an entry are their own parent
+    private final LongLongHashMap parents;
+
+    ComponentUnion(NodePropertyValues components) {
+        this.components = components;
+        this.parents = new LongLongHashMap();
+    }
+
+    void union(long sourceNodeId, long targetNodeId) {
+        long sourceRoot = find(components.longValue(sourceNodeId));
+        long targetRoot = find(components.longValue(targetNodeId));
+        if (sourceRoot < targetRoot) {
+            parents.put(targetRoot, sourceRoot);
+        } else if (targetRoot < sourceRoot) {
+            parents.put(sourceRoot, targetRoot);
+        }
+    }
+
+    /**
+     * Maps every component that was merged into another one to the id of the merged component.
+     */
+    LongLongHashMap changedComponents() {
+        var mergedComponents = parents.keys().toArray();
+        var changedComponents = new LongLongHashMap(mergedComponents.length);
+        for (long component : mergedComponents) {
+            changedComponents.put(component, find(component));
+        }
+        return changedComponents;
+    }
+
+    private long find(long component) {
+        while (true) {
+            long parent = parents.getOrDefault(component, component);
+            if (parent == component) {
+                return component;
+            }
+            // path halving, every visited component skips its parent
+            long grandParent = parents.getOrDefault(parent, parent);
+            if (grandParent != parent) {
+                parents.put(component, grandParent);
+            }
+            component = grandParent;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.core.utils.TerminationFlag.RUN_CHECK_NODE_COUNT;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps the {@link DisjointSetStruct} of a {@link Wcc} run alive and
+ * maintains it while relationships are added to the underlying graph.
+ *
+ * Union-find only ever merges sets, so adding a relationship can be handled
+ * by a single union of its endpoints. Instead of recomputing the components
+ * over all relationships, only the added batch is processed. Removing
+ * relationships or adding nodes is not supported and requires a full run.
+ *
+ * Catalog graphs cannot keep the struct between procedure calls,
+ * {@code gds.alpha.wcc.incremental.mutate} uses {@link IncrementalWccUpdate} instead,
+ * which only unions the components of the added relationships.
+ */
+public final class IncrementalWcc {
+
+    private final DisjointSetStruct components;
+    private final WccBaseConfig config;
+    private final ExecutorService executor;
+    private final TerminationFlag terminationFlag;
+
+    /**
+     * Computes the initial components of the given graph.
+     */
+    public static IncrementalWcc initialize(
+        Graph graph,
+        ExecutorService executor,
+        WccBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        var wcc = new Wcc(graph, executor, ParallelUtil.DEFAULT_BATCH_SIZE, config, progressTracker);
+        var components = wcc.compute();
+        wcc.release();
+        return new IncrementalWcc(components, executor, config, TerminationFlag.RUNNING_TRUE);
+    }
+
+    public IncrementalWcc(
+        DisjointSetStruct components,
+        ExecutorService executor,
+        WccBaseConfig config,
+        TerminationFlag terminationFlag
+    ) {
+        this.components = components;
+        this.config = config;
+        this.executor = executor;
+        this.terminationFlag = terminationFlag;
+    }
+
+    public DisjointSetStruct components() {
+        return components;
+    }
+
+    /**
+     * Unions the endpoints of the first {@code count} relationships given as pairs of
+     * {@code sources} and {@code targets}. The cost only depends on the number of added relationships.
+     */
+    public DisjointSetStruct addRelationships(HugeLongArray sources, HugeLongArray targets, long count) {
+        if (sources.size() < count || targets.size() < count) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected at least %d sources and targets, but got %d sources and %d targets.",
+                count,
+                sources.size(),
+                targets.size()
+            ));
+        }
+
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            count,
+            partition -> (Runnable) () -> {
+                var start = partition.startNode();
+                var end = start + partition.nodeCount();
+                for (long i = start; i < end; i++) {
+                    components.union(sources.get(i), targets.get(i));
+                    if (i % RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                }
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+
+        return components;
+    }
+}
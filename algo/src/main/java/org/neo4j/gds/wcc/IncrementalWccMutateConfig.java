@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.MutatePropertyConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+import org.neo4j.gds.config.TargetNodesConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
+import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The added relationships are the relationships of the {@code relationshipType}.
+ * If pairs of {@code sourceNodes} and {@code targetNodes} are given instead, they are added
+ * to the graph as the new {@code relationshipType}, so that later runs see them.
+ * The components of the earlier run are read from the {@code seedProperty}.
+ */
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface IncrementalWccMutateConfig extends
+    WccBaseConfig,
+    MutatePropertyConfig,
+    SourceNodesConfig,
+    TargetNodesConfig {
+
+    @Configuration.ConvertWith(method = "validateRelationshipType")
+    String relationshipType();
+
+    static @Nullable String validateRelationshipType(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), "relationshipType");
+    }
+
+    @Configuration.Ignore
+    default boolean addsRelationships() {
+        return !sourceNodes().isEmpty();
+    }
+
+    // the components are read from and written to the whole graph, the added relationships are selected by `relationshipType`
+    @Override
+    @Configuration.Ignore
+    default List<String> relationshipTypes() {
+        return List.of("*");
+    }
+
+    @Override
+    @Configuration.Ignore
+    default List<String> nodeLabels() {
+        return List.of("*");
+    }
+
+    @Value.Check
+    default void validateAddedRelationships() {
+        if (!isIncremental()) {
+            throw new IllegalArgumentException("Updating components requires the `seedProperty` to be set.");
+        }
+        if (sourceNodes().size() != targetNodes().size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Every added relationship needs a source and a target node, " +
+                "but got %d `sourceNodes` and %d `targetNodes`.",
+                sourceNodes().size(),
+                targetNodes().size()
+            ));
+        }
+        if (hasThreshold()) {
+            throw new IllegalArgumentException("Added relationships have no weights, `threshold` is not supported.");
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateAddedRelationshipType(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        boolean exists = graphStore.hasRelationshipType(RelationshipType.of(relationshipType()));
+        if (addsRelationships() && exists) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type `%s` already exists in the in-memory graph, " +
+                "the `sourceNodes` and `targetNodes` can only be added as a new relationship type.",
+                relationshipType()
+            ));
+        }
+        if (!addsRelationships() && !exists) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type `%s` not found in the in-memory graph, " +
+                "either project the added relationships with this type or give them as `sourceNodes` and `targetNodes`.",
+                relationshipType()
+            ));
+        }
+    }
+
+    static IncrementalWccMutateConfig of(CypherMapWrapper userInput) {
+        return new IncrementalWccMutateConfigImpl(userInput);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsAndDirection;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.core.utils.TerminationFlag.RUN_CHECK_NODE_COUNT;
+
+/**
+ * Merges added relationships into the components of an earlier {@link Wcc} run that are stored as the seed property.
+ *
+ * Only the components touched by the added relationships are unioned, see {@link ComponentUnion},
+ * and only the changed components are stored in the result, see {@link RemappedComponentValues}.
+ * The added relationships are either an existing relationship type or given as pairs of source and target nodes,
+ * which are added to the graph as a new relationship type.
+ */
+public final class IncrementalWccUpdate extends Algorithm<IncrementalWccResult> {
+
+    private final GraphStore graphStore;
+    private final IncrementalWccMutateConfig config;
+    private final ExecutorService executor;
+
+    public IncrementalWccUpdate(
+        GraphStore graphStore,
+        IncrementalWccMutateConfig config,
+        ExecutorService executor,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graphStore = graphStore;
+        this.config = config;
+        this.executor = executor;
+    }
+
+    @Override
+    public IncrementalWccResult compute() {
+        progressTracker.beginSubTask();
+
+        var seeds = graphStore.nodeProperty(config.seedProperty()).values();
+        var componentUnion = new ComponentUnion(seeds);
+
+        Optional<RelationshipsAndDirection> addedRelationships = Optional.empty();
+        if (config.addsRelationships()) {
+            addedRelationships = Optional.of(unionGivenRelationships(componentUnion));
+        } else {
+            unionRelationshipType(componentUnion);
+        }
+
+        var changedComponents = componentUnion.changedComponents();
+
+        progressTracker.endSubTask();
+        return ImmutableIncrementalWccResult.of(
+            RemappedComponentValues.of(seeds, changedComponents),
+            changedComponents.size(),
+            addedRelationships
+        );
+    }
+
+    private RelationshipsAndDirection unionGivenRelationships(ComponentUnion componentUnion) {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graphStore.nodes())
+            .orientation(Orientation.NATURAL)
+            .concurrency(1)
+            .executorService(executor)
+            .build();
+
+        var sourceNodes = config.sourceNodes();
+        var targetNodes = config.targetNodes();
+        for (int i = 0; i < sourceNodes.size(); i++) {
+            long source = sourceNodes.get(i);
+            long target = targetNodes.get(i);
+            relationshipsBuilder.add(source, target);
+            componentUnion.union(graphStore.nodes().toMappedNodeId(source), graphStore.nodes().toMappedNodeId(target));
+            if (i % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+            progressTracker.logProgress();
+        }
+
+        return relationshipsBuilder.build();
+    }
+
+    private void unionRelationshipType(ComponentUnion componentUnion) {
+        var addedGraph = graphStore.getGraph(RelationshipType.of(config.relationshipType()));
+        addedGraph.forEachNode(nodeId -> {
+            // nodes without added relationships are skipped after the degree lookup
+            int degree = addedGraph.degree(nodeId);
+            if (degree > 0) {
+                addedGraph.forEachRelationship(nodeId, (source, target) -> {
+                    componentUnion.union(source, target);
+                    return true;
+                });
+                progressTracker.logProgress(degree);
+            }
+            if (nodeId % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public void release() {}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+public final class IncrementalWccUpdateFactory
+    extends GraphStoreAlgorithmFactory<IncrementalWccUpdate, IncrementalWccMutateConfig> {
+
+    @Override
+    public String taskName() {
+        return "IncrementalWCC";
+    }
+
+    @Override
+    public IncrementalWccUpdate build(
+        GraphStore graphStore,
+        IncrementalWccMutateConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        return new IncrementalWccUpdate(graphStore, configuration, Pools.DEFAULT, progressTracker);
+    }
+
+    @Override
+    public Task progressTask(GraphStore graphStore, IncrementalWccMutateConfig config) {
+        long addedRelationshipCount = config.addsRelationships()
+            ? config.sourceNodes().size()
+            : graphStore.relationshipCount(RelationshipType.of(config.relationshipType()));
+        return Tasks.leaf(taskName(), addedRelationshipCount);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(IncrementalWccMutateConfig config) {
+        var relationshipType = RelationshipType.of(config.relationshipType());
+        var builder = MemoryEstimations.builder(IncrementalWccUpdate.class);
+
+        // every added relationship touches at most two components, which are tracked in the union and the remapping
+        builder.perGraphDimension("component union", (dimensions, concurrency) -> {
+            long addedRelationshipCount = config.addsRelationships()
+                ? config.sourceNodes().size()
+                : dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            return MemoryRange.of(2 * MemoryUsage.sizeOfLongLongHashMap(2 * addedRelationshipCount));
+        });
+
+        if (config.addsRelationships()) {
+            long addedRelationshipCount = config.sourceNodes().size();
+            builder.add("added relationships", MemoryEstimations.setup("", dimensions -> {
+                long nodeCount = dimensions.nodeCount();
+                long avgDegree = nodeCount > 0 ? ceilDiv(addedRelationshipCount, nodeCount) : 0L;
+                return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            }));
+        }
+
+        return builder.build();
+    }
+}
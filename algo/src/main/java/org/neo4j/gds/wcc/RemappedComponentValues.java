@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import com.carrotsearch.hppc.cursors.LongLongCursor;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.util.OptionalLong;
+
+/**
+ * The components of an earlier run with the changed components replaced by their new ids.
+ *
+ * Only the changed component ids are stored, the values of the earlier run are shared.
+ * Remapping remapped components again replaces the previous remapping instead of wrapping it,
+ * so that looking up a component costs a single map access no matter how many updates were applied.
+ */
+final class RemappedComponentValues implements LongNodePropertyValues {
+
+    private final NodePropertyValues components;
+    private final LongLongHashMap remapping;
+
+    static RemappedComponentValues of(NodePropertyValues components, LongLongHashMap changedComponents) {
+        if (components instanceof RemappedComponentValues) {
+            var previous = (RemappedComponentValues) components;
+            var remapping = new LongLongHashMap(previous.remapping.size() + changedComponents.size());
+            // earlier remapped components are no longer visible, the new changes only refer to their targets
+            for (LongLongCursor cursor : previous.remapping) {
+                remapping.put(cursor.key, changedComponents.getOrDefault(cursor.value, cursor.value));
+            }
+            remapping.putAll(changedComponents);
+            return new RemappedComponentValues(previous.components, remapping);
+        }
+        return new RemappedComponentValues(components, changedComponents);
+    }
+
+    private RemappedComponentValues(NodePropertyValues components, LongLongHashMap remapping) {
+        this.components = components;
+        this.remapping = remapping;
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        long component = components.longValue(nodeId);
+        return remapping.getOrDefault(component, component);
+    }
+
+    /**
+     * Components are only remapped to smaller ids, the maximum of the earlier run is an upper bound.
+     */
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        return components.getMaxLongPropertyValue();
+    }
+
+    @Override
+    public long size() {
+        return components.size();
+    }
+
+    int remappedComponentCount() {
+        return remapping.size();
+    }
+}
@@ -21,21 +21,28 @@ package org.neo4j.gds.beta.closeness;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.msbfs.SourceSampling;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.compat.TestLog.INFO;
@@ -107,6 +114,103 @@ class ClosenessCentralityTest {
         assertThat(result.get(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {256, 512})
+    void shouldComputeExactCentralityWithWideTraversal(int sourcesPerPass) {
+        var algo = ClosenessCentrality.of(
+            graph,
+            ImmutableClosenessCentralityStreamConfig.builder().sourcesPerPass(sourcesPerPass).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = algo.compute().centralities();
+
+        assertThat(result.get(idFunction.of("a"))).isCloseTo(0.4, Offset.offset(0.01));
+        assertThat(result.get(idFunction.of("c"))).isCloseTo(0.66, Offset.offset(0.01));
+        assertThat(result.get(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
+    }
+
+    @Test
+    void shouldEstimateCentralityFromSampledSources() {
+        var config = ImmutableClosenessCentralityStreamConfig.builder()
+            .samplingSize(3L)
+            .samplingSeed(42L)
+            .build();
+
+        var result = ClosenessCentrality.of(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .centralities();
+
+        // the sample is drawn deterministically from the seed
+        var sampledSources = SourceSampling.sources(graph.nodeCount(), config);
+        assertThat(sampledSources).hasSize(3);
+
+        // position of every node on the path (a)-(b)-(c)-(d)-(e)
+        var variables = List.of("a", "b", "c", "d", "e");
+        var positions = new long[(int) graph.nodeCount()];
+        for (int i = 0; i < variables.size(); i++) {
+            positions[(int) idFunction.of(variables.get(i))] = i;
+        }
+
+        // the sums over the sampled sources are scaled by nodeCount / sampleSize
+        double scale = graph.nodeCount() / 3D;
+        for (var variable : variables) {
+            long nodeId = idFunction.of(variable);
+            long farness = 0;
+            long componentSize = 0;
+            for (long source : sampledSources) {
+                if (source != nodeId) {
+                    farness += Math.abs(positions[(int) source] - positions[(int) nodeId]);
+                    componentSize++;
+                }
+            }
+            double expected = new DefaultCentralityComputer().centrality(
+                Math.round(farness * scale),
+                Math.round(componentSize * scale)
+            );
+            assertThat(result.get(nodeId)).as(variable).isCloseTo(expected, Offset.offset(1e-9));
+        }
+    }
+
+    @Test
+    void shouldEstimateWideTraversalsAndSampledSources() {
+        var factory = new ClosenessCentralityFactory<ClosenessCentralityStreamConfig>();
+        var dimensions = GraphDimensions.of(1_000_000L);
+        int concurrency = 4;
+
+        var exact = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().build())
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        var wide = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().sourcesPerPass(256).build())
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        var sampled = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().samplingSize(1000L).build())
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        // every thread keeps three sets with four lanes instead of one lane per node
+        long setsPerThread = 3 * (
+            HugeLongArray.memoryEstimation(4_000_000L) - HugeLongArray.memoryEstimation(1_000_000L)
+        );
+        assertThat(wide.min - exact.min).isEqualTo(concurrency * setsPerThread);
+        assertThat(wide.max - exact.max).isEqualTo(concurrency * setsPerThread);
+
+        long sampledSources = MemoryUsage.sizeOfLongHashSet(1000L) + MemoryUsage.sizeOfLongArray(1000L);
+        assertThat(sampled.min - exact.min).isEqualTo(sampledSources);
+        assertThat(sampled.max - exact.max).isEqualTo(sampledSources);
+    }
+
+    @Test
+    void shouldRejectUnsupportedSourcesPerPass() {
+        assertThatThrownBy(() -> ImmutableClosenessCentralityStreamConfig.builder().sourcesPerPass(128).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sourcesPerPass");
+    }
+
     @Test
     void shouldLogProgress() {
         var config = ImmutableClosenessCentralityStreamConfig.builder().concurrency(4).build();
@@ -19,11 +19,14 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
@@ -34,6 +37,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
@@ -164,11 +169,65 @@ class BetweennessCentralityTest {
         assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("e")));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void pathSamplingApproximatesExactScores(int concurrency) {
+        var epsilon = 0.05;
+        TestGraph graph = fromGdl(DIAMOND);
+        var actualResult = new BetweennessCentrality(
+            graph,
+            SelectionStrategy.ALL,
+            ForwardTraverser.Factory.unweighted(),
+            Optional.of(new PathSampling(epsilon, 0.01, false, Optional.of(42L))),
+            Pools.DEFAULT,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // the guarantee holds for scores normalized by the number of node pairs
+        long nodeCount = graph.nodeCount();
+        var tolerance = epsilon * nodeCount * (nodeCount - 1);
+        Map.of("a1", 0.0, "a2", 0.0, "b", 8.0, "c", 3.0, "d", 3.0, "e", 5.0, "f", 0.0).forEach((variable, expected) ->
+            assertThat(actualResult.get(graph.toMappedNodeId(variable)))
+                .as(variable)
+                .isCloseTo(expected, within(tolerance))
+        );
+    }
+
+    @Test
+    void seededPathSamplingIsIndependentOfConcurrency() {
+        TestGraph graph = fromGdl(DIAMOND);
+        var singleThreaded = sampledScores(graph, 1);
+        var multiThreaded = sampledScores(graph, 4);
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(multiThreaded.get(nodeId)).as("node %d", nodeId).isEqualTo(singleThreaded.get(nodeId));
+        }
+    }
+
+    private static HugeAtomicDoubleArray sampledScores(TestGraph graph, int concurrency) {
+        return new BetweennessCentrality(
+            graph,
+            SelectionStrategy.ALL,
+            ForwardTraverser.Factory.unweighted(),
+            Optional.of(new PathSampling(0.1, 0.1, false, Optional.of(1337L))),
+            Pools.DEFAULT,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.1, 0.1, 5, 216", "0.01, 0.1, 5, 21513", "0.01, 0.1, 1000000, 111513"})
+    void pathSamplingSampleSize(double epsilon, double delta, long vertexDiameter, long expectedSampleSize) {
+        assertEquals(expectedSampleSize, PathSampling.sampleSize(epsilon, delta, vertexDiameter));
+    }
+
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 6_000_376L, 6_000_376L),
-            Arguments.of(4, 21_601_192L, 21_601_192L),
-            Arguments.of(42, 219_211_528L, 219_211_528L)
+            Arguments.of(1, 5_600_512L, 5_600_512L),
+            Arguments.of(4, 17_601_592L, 17_601_592L),
+            Arguments.of(42, 169_615_272L, 169_615_272L)
         );
     }
 
@@ -182,4 +241,19 @@ class BetweennessCentralityTest {
             MemoryRange.of(expectedMinBytes, expectedMaxBytes)
         );
     }
+
+    @Test
+    void pathSamplingMemoryEstimationDoesNotDependOnRelationships() {
+        var samplingConfig = BetweennessCentralityStreamConfig.of(CypherMapWrapper.create(Map.of("epsilon", 0.1)));
+        var sampling = new BetweennessCentralityFactory<>().memoryEstimation(samplingConfig);
+        var exact = new BetweennessCentralityFactory<>().memoryEstimation(DEFAULT_CONFIG);
+
+        var sparse = GraphDimensions.of(100_000L, 0L);
+        var dense = GraphDimensions.of(100_000L, 10_000_000L);
+
+        assertThat(sampling.estimate(dense, 4).memoryUsage())
+            .isEqualTo(sampling.estimate(sparse, 4).memoryUsage());
+        assertThat(sampling.estimate(dense, 4).memoryUsage().max)
+            .isLessThan(exact.estimate(dense, 4).memoryUsage().min);
+    }
 }
@@ -153,9 +153,9 @@ class WeightedBetweennessCentralityTest {
 
     static Stream<Arguments> expectedWeightedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 7_213_000L, 7_213_000L),
-            Arguments.of(4, 26_451_688L, 26_451_688L),
-            Arguments.of(42, 270_141_736L, 270_141_736L)
+            Arguments.of(1, 6_813_136L, 6_813_136L),
+            Arguments.of(4, 22_452_088L, 22_452_088L),
+            Arguments.of(42, 220_545_480L, 220_545_480L)
         );
     }
 }
@@ -21,7 +21,7 @@ package org.neo4j.gds.embeddings.fastrp;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
@@ -77,11 +77,11 @@ public class FastRPGdlTest {
         var scalarProperties = List.of("f1", "f2", "f3");
         var scalarEmbeddings = embeddings(scalarGraph, scalarProperties);
         for (int i = 0; i < arrayGraph.nodeCount(); i++) {
-            assertThat(arrayEmbeddings.get(i)).contains(scalarEmbeddings.get(i));
+            assertThat(arrayEmbeddings.row(i)).contains(scalarEmbeddings.row(i));
         }
     }
 
-    private HugeObjectArray<float[]> embeddings(Graph graph, List<String> properties) {
+    private HugeFloatMatrix embeddings(Graph graph, List<String> properties) {
         var arrayConfig = ImmutableFastRPStreamConfig.builder()
             .addAllFeatureProperties(properties)
             .embeddingDimension(64)
@@ -45,6 +45,7 @@ import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -122,12 +123,12 @@ class FastRPTest extends BaseTest {
         HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2);
         fastRP.currentEmbedding(-1).copyTo(randomVectors, 2);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = randomVectors.get(1);
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).isEqualTo(expected);
+        assertThat(embeddings.row(0)).isEqualTo(expected);
     }
 
     @Test
@@ -154,7 +155,7 @@ class FastRPTest extends BaseTest {
         HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
         fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
@@ -162,7 +163,7 @@ class FastRPTest extends BaseTest {
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -213,7 +214,7 @@ class FastRPTest extends BaseTest {
 
         fastRP.addInitialVectorsToEmbedding();
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
 
         var expected0 = new float[embeddingDimension];
@@ -229,9 +230,9 @@ class FastRPTest extends BaseTest {
         expected2[5] = -3.0f * scale2;
         expected2[4] = -0.5f * scale2;
 
-        assertThat(embeddings.get(0)).containsExactly(expected0, Offset.offset(1e-6f));
-        assertThat(embeddings.get(1)).containsExactly(expected1, Offset.offset(1e-6f));
-        assertThat(embeddings.get(2)).containsExactly(expected2, Offset.offset(1e-6f));
+        assertThat(embeddings.row(0)).containsExactly(expected0, Offset.offset(1e-6f));
+        assertThat(embeddings.row(1)).containsExactly(expected1, Offset.offset(1e-6f));
+        assertThat(embeddings.row(2)).containsExactly(expected2, Offset.offset(1e-6f));
     }
 
     @Test
@@ -316,7 +317,7 @@ class FastRPTest extends BaseTest {
         );
 
         concurrentFastRP.compute();
-        HugeObjectArray<float[]> concurrentEmbeddings = concurrentFastRP.embeddings();
+        HugeFloatMatrix concurrentEmbeddings = concurrentFastRP.embeddings();
 
         FastRP sequentialFastRP = new FastRP(
             graph,
@@ -326,10 +327,10 @@ class FastRPTest extends BaseTest {
         );
 
         sequentialFastRP.compute();
-        HugeObjectArray<float[]> sequentialEmbeddings = sequentialFastRP.embeddings();
+        HugeFloatMatrix sequentialEmbeddings = sequentialFastRP.embeddings();
 
         graph.forEachNode(nodeId -> {
-            assertThat(concurrentEmbeddings.get(nodeId)).containsExactly(sequentialEmbeddings.get(nodeId));
+            assertThat(concurrentEmbeddings.row(nodeId)).containsExactly(sequentialEmbeddings.row(nodeId));
             return true;
         });
     }
@@ -366,7 +367,7 @@ class FastRPTest extends BaseTest {
         HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
         fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
@@ -374,7 +375,7 @@ class FastRPTest extends BaseTest {
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -453,8 +454,8 @@ class FastRPTest extends BaseTest {
 
         var embeddings = fastRP.embeddings();
 
-        for (int i = 0; i < embeddings.size(); i++) {
-            assertThat(embeddings.get(i)).containsOnly(0f);
+        for (int i = 0; i < embeddings.rows(); i++) {
+            assertThat(embeddings.row(i)).containsOnly(0f);
         }
     }
 
@@ -469,7 +470,7 @@ class FastRPTest extends BaseTest {
         var dimensions = ImmutableGraphDimensions.builder().nodeCount(100).build();
 
         var estimate = FastRP.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
-        assertMemoryRange(estimate, 159_736);
+        assertMemoryRange(estimate, 157_776);
     }
 
     @Test
@@ -483,7 +484,7 @@ class FastRPTest extends BaseTest {
         var dimensions = ImmutableGraphDimensions.builder().nodeCount(100).build();
 
         var estimate = FastRP.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
-        assertMemoryRange(estimate, 159_736);
+        assertMemoryRange(estimate, 157_776);
     }
 
     @Test
@@ -706,8 +707,8 @@ class FastRPTest extends BaseTest {
 
         double cosineSum = 0;
         for (long originalNodeId = 0; originalNodeId < nodeCount; originalNodeId++) {
-            var firstVector = firstEmbeddings.get(firstGraph.toMappedNodeId(originalNodeId));
-            var secondVector = secondEmbeddings.get(secondGraph.toMappedNodeId(originalNodeId));
+            var firstVector = firstEmbeddings.row(firstGraph.toMappedNodeId(originalNodeId));
+            var secondVector = secondEmbeddings.row(secondGraph.toMappedNodeId(originalNodeId));
             double cosine = Intersections.cosine(firstVector, secondVector, secondVector.length);
             cosineSum += cosine;
         }
@@ -66,7 +66,7 @@ class LeidenAlgorithmFactoryTest {
                 4
             );
         var expected =
-            "Leiden: [3127 KiB ... 5256 KiB]" + System.lineSeparator() +
+            "Leiden: [3204 KiB ... 4767 KiB]" + System.lineSeparator() +
             "|-- this.instance: 96 Bytes" + System.lineSeparator() +
             "|-- local move communities: 78 KiB" + System.lineSeparator() +
             "|-- local move node volumes: 78 KiB" + System.lineSeparator() +
@@ -101,11 +101,24 @@ class LeidenAlgorithmFactoryTest {
             "    |-- relationships between communities: 78 KiB" + System.lineSeparator() +
             "    |-- refined communities: 78 KiB" + System.lineSeparator() +
             "    |-- merge tracking bitset: 1296 Bytes" + System.lineSeparator() +
-            "|-- aggregation phase: [700 KiB ... 2830 KiB]" + System.lineSeparator() +
+            "|-- aggregation phase: [778 KiB ... 2341 KiB]" + System.lineSeparator() +
             "    |-- this.instance: 48 Bytes" + System.lineSeparator() +
-            "    |-- aggregated graph: [544 KiB ... 2674 KiB]" + System.lineSeparator() +
-            "    |-- sorted communities: 78 KiB" + System.lineSeparator() +
-            "    |-- atomic coordination array: 78 KiB" + System.lineSeparator() +
+            "    |-- graph contraction: [778 KiB ... 2341 KiB]" + System.lineSeparator() +
+            "        |-- this.instance: 56 Bytes" + System.lineSeparator() +
+            "        |-- seen communities: 96 KiB" + System.lineSeparator() +
+            "        |-- distinct communities: 78 KiB" + System.lineSeparator() +
+            "        |-- community id map: 174 KiB" + System.lineSeparator() +
+            "            |-- this.instance: 48 Bytes" + System.lineSeparator() +
+            "            |-- Neo4j identifiers: 78 KiB" + System.lineSeparator() +
+            "            |-- Mapping from Neo4j identifiers to internal identifiers: 96 KiB" + System.lineSeparator() +
+            "            |-- Node Label BitSets: 0 Bytes" + System.lineSeparator() +
+            "        |-- dense communities: 78 KiB" + System.lineSeparator() +
+            "        |-- community offsets: 78 KiB" + System.lineSeparator() +
+            "        |-- insert positions: 78 KiB" + System.lineSeparator() +
+            "        |-- nodes by community: 78 KiB" + System.lineSeparator() +
+            "        |-- degrees: 39 KiB" + System.lineSeparator() +
+            "        |-- offsets: 78 KiB" + System.lineSeparator() +
+            "        |-- adjacency pages: [0 Bytes ... 1562 KiB]" + System.lineSeparator() +
             "|-- post-aggregation phase: 312 KiB" + System.lineSeparator() +
             "    |-- next local move communities: 78 KiB" + System.lineSeparator() +
             "    |-- next local move node volumes: 78 KiB" + System.lineSeparator() +
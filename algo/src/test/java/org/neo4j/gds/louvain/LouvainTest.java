@@ -338,20 +338,20 @@ class LouvainTest {
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
 
-            arguments(1, 1, true, 6414153, 23057680),
-            arguments(1, 1, false, 6414153, 23057680),
-            arguments(1, 10, true, 6414153, 30258040),
-            arguments(1, 10, false, 6414153, 23857720),
-
-            arguments(4, 1, true, 6417441, 29057944),
-            arguments(4, 1, false, 6417441, 29057944),
-            arguments(4, 10, true, 6417441, 36258304),
-            arguments(4, 10, false, 6417441, 29857984),
-
-            arguments(42, 1, true, 6459089, 105061288),
-            arguments(42, 1, false, 6459089, 105061288),
-            arguments(42, 10, true, 6459089, 112261648),
-            arguments(42, 10, false, 6459089, 105861328)
+            arguments(1, 1, true, 14865608, 23665808),
+            arguments(1, 1, false, 14865608, 23665808),
+            arguments(1, 10, true, 14865608, 30866168),
+            arguments(1, 10, false, 14865608, 24465848),
+
+            arguments(4, 1, true, 17303456, 26103768),
+            arguments(4, 1, false, 17303456, 26103768),
+            arguments(4, 10, true, 17303456, 33304128),
+            arguments(4, 10, false, 17303456, 26903808),
+
+            arguments(42, 1, true, 48182864, 56984696),
+            arguments(42, 1, false, 48182864, 56984696),
+            arguments(42, 10, true, 48182864, 64185056),
+            arguments(42, 10, false, 48182864, 57784736)
 
         );
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityWeightAccumulatorTest {
+
+    @Test
+    void shouldSumWeightsPerCommunityInEncounterOrder() {
+        var accumulator = new CommunityWeightAccumulator(10);
+
+        accumulator.add(7, 1.5);
+        accumulator.add(2, 1.0);
+        accumulator.add(7, 2.0);
+        accumulator.add(4, 0.0);
+
+        assertThat(accumulator.size()).isEqualTo(3);
+        assertThat(accumulator.community(0)).isEqualTo(7L);
+        assertThat(accumulator.community(1)).isEqualTo(2L);
+        assertThat(accumulator.community(2)).isEqualTo(4L);
+        assertThat(accumulator.weight(7)).isEqualTo(3.5);
+        assertThat(accumulator.weight(2)).isEqualTo(1.0);
+        assertThat(accumulator.weight(4)).isEqualTo(0.0);
+        assertThat(accumulator.weight(0)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldTrackCommunitiesWhoseWeightsCancelOut() {
+        var accumulator = new CommunityWeightAccumulator(4);
+
+        accumulator.add(1, 2.0);
+        accumulator.add(1, -2.0);
+        accumulator.add(1, 1.0);
+
+        assertThat(accumulator.size()).isEqualTo(1);
+        assertThat(accumulator.weight(1)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldForgetEncounteredCommunitiesOnReset() {
+        var accumulator = new CommunityWeightAccumulator(100);
+        for (int community = 0; community < 100; community++) {
+            accumulator.add(community, community);
+        }
+
+        accumulator.reset();
+
+        assertThat(accumulator.size()).isZero();
+        for (int community = 0; community < 100; community++) {
+            assertThat(accumulator.weight(community)).isEqualTo(0.0);
+        }
+
+        accumulator.add(42, 0.5);
+        assertThat(accumulator.size()).isEqualTo(1);
+        assertThat(accumulator.community(0)).isEqualTo(42L);
+        assertThat(accumulator.weight(42)).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+@GdlExtension
+class GraphContractionTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED =
+        "CREATE " +
+        "  (a0), (a1), (a2), (a3), (a4), (a5), (a6), (a7)" +
+        ", (a0)-[:R {w: 3.0}]->(a1)" +
+        ", (a2)-[:R {w: 1.0}]->(a7)" +
+        ", (a0)-[:R {w: 1.5}]->(a2)" +
+        ", (a0)-[:R {w: 1.5}]->(a3)" +
+        ", (a0)-[:R {w: 1.0}]->(a4)" +
+        ", (a2)-[:R {w: 3.0}]->(a3)" +
+        ", (a2)-[:R {w: 3.0}]->(a4)" +
+        ", (a3)-[:R {w: 3.0}]->(a4)" +
+        ", (a1)-[:R {w: 1.5}]->(a5)" +
+        ", (a1)-[:R {w: 1.5}]->(a6)" +
+        ", (a1)-[:R {w: 1.0}]->(a7)" +
+        ", (a5)-[:R {w: 3.0}]->(a6)" +
+        ", (a5)-[:R {w: 3.0}]->(a7)" +
+        ", (a6)-[:R {w: 3.0}]->(a7)";
+
+    @GdlGraph(graphNamePrefix = "directed", orientation = Orientation.NATURAL)
+    private static final String DIRECTED =
+        "CREATE " +
+        "  (a), (b), (c), (d)" +
+        ", (a)-[:R {w: 1.0}]->(b)" +
+        ", (a)-[:R {w: 2.0}]->(c)" +
+        ", (b)-[:R {w: 3.0}]->(c)" +
+        ", (c)-[:R {w: 4.0}]->(a)" +
+        ", (c)-[:R {w: 5.0}]->(d)" +
+        ", (d)-[:R {w: 6.0}]->(d)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @Test
+    void shouldKeepIntraCommunityWeightsOfUndirectedGraphs() {
+        var communities = communities(graph, 0, 1, 0, 0, 0, 1, 1, 1);
+
+        var contracted = contract(graph, Direction.UNDIRECTED, communities, 1L, true, 4);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (c0), (c1)" +
+                ", (c0)-[:REL {w: 26.0}]->(c0)" +
+                ", (c0)-[:REL {w: 4.0}]->(c1)" +
+                ", (c1)-[:REL {w: 4.0}]->(c0)" +
+                ", (c1)-[:REL {w: 26.0}]->(c1)"
+            ),
+            contracted
+        );
+    }
+
+    @Test
+    void shouldDropIntraCommunityRelationships() {
+        var communities = communities(graph, 0, 1, 0, 0, 0, 1, 1, 1);
+
+        var contracted = contract(graph, Direction.UNDIRECTED, communities, 1L, false, 4);
+
+        assertGraphEquals(
+            fromGdl("(c0), (c1), (c0)-[:REL {w: 4.0}]->(c1), (c1)-[:REL {w: 4.0}]->(c0)"),
+            contracted
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRelabelSparseCommunityIds(int concurrency) {
+        var communities = HugeLongArray.newArray(directedGraph.nodeCount());
+        communities.set(directedGraph.toMappedNodeId("a"), 1_000_000L);
+        communities.set(directedGraph.toMappedNodeId("b"), 1_000_000L);
+        communities.set(directedGraph.toMappedNodeId("c"), 42L);
+        communities.set(directedGraph.toMappedNodeId("d"), 42L);
+
+        var contracted = contract(directedGraph, Direction.DIRECTED, communities, 1_000_000L, true, concurrency);
+
+        assertThat(contracted.nodeCount()).isEqualTo(2L);
+        assertThat(contracted.toOriginalNodeId(0L)).isEqualTo(42L);
+        assertThat(contracted.toOriginalNodeId(1L)).isEqualTo(1_000_000L);
+        assertThat(contracted.toMappedNodeId(1_000_000L)).isEqualTo(1L);
+        assertThat(contracted.relationshipCount()).isEqualTo(4L);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (x), (y)" +
+                ", (x)-[:REL {w: 1.0}]->(x)" +
+                ", (x)-[:REL {w: 5.0}]->(y)" +
+                ", (y)-[:REL {w: 4.0}]->(x)" +
+                ", (y)-[:REL {w: 11.0}]->(y)"
+            ),
+            contracted
+        );
+    }
+
+    private static HugeLongArray communities(TestGraph graph, long... communitiesByVariableIndex) {
+        var communities = HugeLongArray.newArray(graph.nodeCount());
+        for (int i = 0; i < communitiesByVariableIndex.length; i++) {
+            communities.set(graph.toMappedNodeId("a" + i), communitiesByVariableIndex[i]);
+        }
+        return communities;
+    }
+
+    private static Graph contract(
+        Graph graph,
+        Direction direction,
+        HugeLongArray communities,
+        long maxCommunityId,
+        boolean keepIntraCommunityRelationships,
+        int concurrency
+    ) {
+        return new GraphContraction(
+            graph,
+            direction,
+            communities::get,
+            maxCommunityId,
+            keepIntraCommunityRelationships,
+            Pools.DEFAULT,
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).contract();
+    }
+}
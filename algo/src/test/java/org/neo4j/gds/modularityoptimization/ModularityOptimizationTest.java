@@ -197,9 +197,9 @@ class ModularityOptimizationTest {
 
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
-            arguments(1, 5614040, 8413072),
-            arguments(4, 5617328, 14413336),
-            arguments(42, 5658976, 90416680)
+            arguments(1, 6425560, 7225600),
+            arguments(4, 8863408, 9663448),
+            arguments(42, 39742816, 40542856)
         );
     }
 
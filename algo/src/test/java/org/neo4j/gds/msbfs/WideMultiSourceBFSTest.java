@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WideMultiSourceBFSTest {
+
+    private static final long NODE_COUNT = 1_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {256, 512})
+    void shouldMatchSingleWordTraversalForAllSources(int sourcesPerPass) {
+        var graph = randomGraph();
+
+        var expected = distanceSums(graph, null, MSBFSConstants.OMEGA);
+        var actual = distanceSums(graph, null, sourcesPerPass);
+
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(actual.get(nodeId)).as("node %d", nodeId).isEqualTo(expected.get(nodeId));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {256, 512})
+    void shouldMatchSingleWordTraversalForSampledSources(int sourcesPerPass) {
+        var graph = randomGraph();
+        var sources = SourceSampling.uniform(NODE_COUNT, 300, new SplittableRandom(42));
+
+        var expected = distanceSums(graph, sources.clone(), MSBFSConstants.OMEGA);
+        var actual = distanceSums(graph, sources, sourcesPerPass);
+
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(actual.get(nodeId)).as("node %d", nodeId).isEqualTo(expected.get(nodeId));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 999})
+    void shouldSampleDistinctSortedSources(int sampleSize) {
+        var sources = SourceSampling.uniform(NODE_COUNT, sampleSize, new SplittableRandom(1337));
+
+        assertThat(sources).hasSize(sampleSize).isSorted();
+        assertThat(sources).allSatisfy(source -> assertThat(source).isBetween(0L, NODE_COUNT - 1));
+        assertThat(Arrays.stream(sources).distinct().count()).isEqualTo(sampleSize);
+    }
+
+    private static Graph randomGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(NODE_COUNT)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static HugeAtomicLongArray distanceSums(Graph graph, long[] sources, int sourcesPerPass) {
+        var sums = HugeAtomicLongArray.newArray(graph.nodeCount());
+        WideMultiSourceBFS.run(
+            graph.nodeCount(),
+            graph,
+            sources,
+            sourcesPerPass,
+            (nodeId, depth, sourceCount) -> sums.getAndAdd(nodeId, (long) depth * sourceCount),
+            4,
+            Pools.DEFAULT
+        );
+        return sums;
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.pagerank;
 
+import com.carrotsearch.hppc.LongScatterSet;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.assertj.core.data.Offset;
@@ -34,10 +35,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -614,9 +618,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2437984L, 2437984L),
+            Arguments.of(4, 2438152L, 2438152L),
+            Arguments.of(42, 2440280L, 2440280L)
         );
     }
 
@@ -659,6 +663,93 @@ class PageRankTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(value = Mode.class, names = {"PAGE_RANK", "ARTICLE_RANK"})
+    void gathersIdenticalScoresOnUndirectedGraphsForAnyConcurrency(Mode mode) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(40_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePageRankConfig.builder();
+
+        var singleThreaded = runOnPregel(graph, configBuilder.concurrency(1).build(), mode).scores();
+        var multiThreaded = runOnPregel(graph, configBuilder.concurrency(4).build(), mode).scores();
+
+        assertThat(multiThreaded.toArray()).containsExactly(singleThreaded.toArray());
+    }
+
+    @Test
+    void gatheringMatchesSendingOnUndirectedGraphs() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePageRankConfig.builder().concurrency(4).build();
+
+        var gathered = runOnPregel(graph, config).scores();
+        var sent = new PageRankAlgorithm(
+            graph,
+            config,
+            new PageRankComputation(config, new LongScatterSet(), graph::degree, false),
+            Mode.PAGE_RANK,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute().scores();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(gathered.get(nodeId)).isEqualTo(sent.get(nodeId), Offset.offset(SCORE_PRECISION));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void gatheringMatchesSendingOnDirectedGraphs(boolean weighted) {
+        var graphBuilder = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.DIRECTED)
+            .seed(42L);
+        var configBuilder = ImmutablePageRankConfig.builder().concurrency(4);
+        if (weighted) {
+            graphBuilder.relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 1));
+            configBuilder.relationshipWeightProperty("weight");
+        }
+        var graph = graphBuilder.build().generate();
+        var config = configBuilder.build();
+
+        var gathered = new PageRankAlgorithm(
+            graph,
+            config,
+            new PageRankComputation(config, new LongScatterSet(), graph::degree, true),
+            Mode.PAGE_RANK,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute().scores();
+        var sent = new PageRankAlgorithm(
+            graph,
+            config,
+            new PageRankComputation(config, new LongScatterSet(), graph::degree, false),
+            Mode.PAGE_RANK,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute().scores();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(gathered.get(nodeId)).isEqualTo(sent.get(nodeId), Offset.offset(SCORE_PRECISION));
+        }
+    }
+
     @Test
     void shouldComputeMemoryEstimationFor10BElements() {
         var config = ImmutablePageRankConfig
@@ -672,7 +763,7 @@ class PageRankTest {
             nodeCount,
             relationshipCount,
             4,
-            MemoryRange.of(241_286_621_640L, 241_286_621_640L)
+            MemoryRange.of(243_786_621_784L, 243_786_621_784L)
         );
     }
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.delta;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.delta.config.ImmutableAllShortestPathsDeltaMultiSourceStreamConfig;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class MultiSourceDeltaSteppingTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:B)" +
+        ", (c:C)" +
+        ", (d:D)" +
+        ", (e:E)" +
+        ", (f:F)" +
+        ", (g:G)" +
+
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (b)-[:TYPE {cost: 10}]->(d)" +
+        ", (c)-[:TYPE {cost: 3}]->(e)" +
+        ", (d)-[:TYPE {cost: 11}]->(f)" +
+        ", (e)-[:TYPE {cost: 4}]->(d)" +
+        ", (f)-[:TYPE {cost: 0.5}]->(b)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    static Stream<Arguments> deltaAndConcurrency() {
+        return TestSupport.crossArguments(
+            () -> DoubleStream.of(0.25, 1, 2, 8).mapToObj(Arguments::of),
+            () -> IntStream.of(1, 4).mapToObj(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("deltaAndConcurrency")
+    void shouldComputeDistancesFromAllNodes(double delta, int concurrency) {
+        var config = ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder()
+            .delta(delta)
+            .concurrency(concurrency)
+            .build();
+
+        var actual = compute(config);
+
+        assertThat(actual).hasSize((int) graph.nodeCount());
+        for (long source = 0; source < graph.nodeCount(); source++) {
+            assertThat(actual.get(source)).isEqualTo(dijkstraDistances(source));
+        }
+    }
+
+    @Test
+    void shouldComputeDistancesBeyondTheBucketRange() {
+        // distances span more bins than an int can index
+        var config = ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder()
+            .delta(1E-9)
+            .concurrency(1)
+            .build();
+
+        var actual = compute(config);
+
+        for (long source = 0; source < graph.nodeCount(); source++) {
+            assertThat(actual.get(source)).isEqualTo(dijkstraDistances(source));
+        }
+    }
+
+    @Test
+    void shouldOnlyComputeGivenSources() {
+        var config = ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder()
+            .sourceNodes(List.of(idFunction.of("a"), idFunction.of("g")))
+            .concurrency(4)
+            .sourceBufferSize(1)
+            .build();
+
+        var actual = compute(config);
+
+        var a = graph.toMappedNodeId(idFunction.of("a"));
+        var g = graph.toMappedNodeId(idFunction.of("g"));
+        assertThat(actual.keySet()).containsExactlyInAnyOrder(a, g);
+        assertThat(actual.get(a)).isEqualTo(dijkstraDistances(a));
+        // an isolated source only reaches itself
+        assertThat(actual.get(g)).containsExactly(Map.entry(g, 0.0));
+    }
+
+    private Map<Long, Map<Long, Double>> compute(ImmutableAllShortestPathsDeltaMultiSourceStreamConfig config) {
+        try (var results = MultiSourceDeltaStepping.of(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute()) {
+            return results.collect(Collectors.toMap(SourceDistances::sourceNode, sourceDistances -> {
+                var distances = new HashMap<Long, Double>();
+                for (int i = 0; i < sourceDistances.size(); i++) {
+                    distances.put(sourceDistances.targetNode(i), sourceDistances.distance(i));
+                }
+                return distances;
+            }));
+        }
+    }
+
+    private Map<Long, Double> dijkstraDistances(long sourceNode) {
+        var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(sourceNode))
+            .build();
+
+        return Dijkstra.singleSource(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet()
+            .stream()
+            .collect(Collectors.toMap(PathResult::targetNode, PathResult::totalCost));
+    }
+}
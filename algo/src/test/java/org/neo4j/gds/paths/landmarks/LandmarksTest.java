@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class LandmarksTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (b)-[:TYPE {cost: 10}]->(d)" +
+        ", (c)-[:TYPE {cost: 3}]->(e)" +
+        ", (d)-[:TYPE {cost: 11}]->(f)" +
+        ", (e)-[:TYPE {cost: 4}]->(d)" +
+        ", (f)-[:TYPE {cost: 1}]->(a)";
+
+    @Inject
+    private Graph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeDistancesFromLandmarks(int concurrency) {
+        var distances = landmarks(3, concurrency);
+
+        assertThat(distances.landmarkCount()).isEqualTo(3);
+        for (int i = 0; i < distances.landmarkCount(); i++) {
+            var expected = shortestDistances(distances.landmark(i));
+            for (long node = 0; node < graph.nodeCount(); node++) {
+                var expectedDistance = expected.getOrDefault(node, Double.POSITIVE_INFINITY);
+                assertThat(distances.distance(node, i)).isEqualTo(expectedDistance);
+                assertThat(distances.doubleArrayValue(node)[i]).isEqualTo(expectedDistance);
+            }
+        }
+    }
+
+    @Test
+    void shouldCapLandmarkCountAtNodeCount() {
+        var distances = landmarks(42, 4);
+
+        assertThat(distances.landmarkCount()).isEqualTo((int) graph.nodeCount());
+    }
+
+    @Test
+    void shouldNeverOverestimateRemainingDistance() {
+        var distances = landmarks(3, 4);
+
+        for (long target = 0; target < graph.nodeCount(); target++) {
+            var heuristic = new LandmarkHeuristic(distances, target, false);
+            for (long node = 0; node < graph.nodeCount(); node++) {
+                var distanceToTarget = shortestDistances(node).get(target);
+                if (distanceToTarget != null) {
+                    assertThat(heuristic.applyAsDouble(node)).isLessThanOrEqualTo(distanceToTarget);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldFindSameShortestPathsWithLandmarks() {
+        var distances = landmarks(2, 4);
+
+        for (long source = 0; source < graph.nodeCount(); source++) {
+            for (long target = 0; target < graph.nodeCount(); target++) {
+                var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                    .sourceNode(graph.toOriginalNodeId(source))
+                    .targetNode(graph.toOriginalNodeId(target))
+                    .build();
+
+                var expected = Dijkstra
+                    .sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                    .compute()
+                    .findFirst();
+                var actual = Dijkstra
+                    .sourceTarget(
+                        graph,
+                        config,
+                        Optional.of(new LandmarkHeuristic(distances, target, false)),
+                        ProgressTracker.NULL_TRACKER
+                    )
+                    .compute()
+                    .findFirst();
+
+                assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+                actual.ifPresent(path -> assertThat(path.totalCost())
+                    .isCloseTo(expected.get().totalCost(), within(1E-9)));
+            }
+        }
+    }
+
+    private LandmarkDistances landmarks(int landmarkCount, int concurrency) {
+        return new Landmarks(
+            graph,
+            landmarkCount,
+            Optional.of(42L),
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    private Map<Long, Double> shortestDistances(long sourceNode) {
+        var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(sourceNode))
+            .build();
+
+        return Dijkstra.singleSource(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet()
+            .stream()
+            .collect(Collectors.toMap(PathResult::targetNode, PathResult::totalCost));
+    }
+}
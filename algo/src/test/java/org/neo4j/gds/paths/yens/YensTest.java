@@ -165,7 +165,13 @@ class YensTest {
     @ParameterizedTest
     @MethodSource("pathInput")
     void compute(Collection<String> expectedPaths) {
-        assertResult(graph, idFunction, expectedPaths);
+        assertResult(graph, idFunction, expectedPaths, 1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pathInput")
+    void computeWithConcurrentSpurSearches(Collection<String> expectedPaths) {
+        assertResult(graph, idFunction, expectedPaths, 4);
     }
 
     @Test
@@ -186,7 +192,8 @@ class YensTest {
             .compute()
             .pathSet();
 
-        assertEquals(12, progressTracker.getProgresses().size());
+        // spur nodes before the deviation of the second path are not searched again
+        assertEquals(11, progressTracker.getProgresses().size());
 
         // once
         assertThat(log.containsMessage(TestLog.INFO, "Yens :: Start")).isTrue();
@@ -238,7 +245,7 @@ class YensTest {
             );
     }
 
-    private static void assertResult(Graph graph, IdFunction idFunction, Collection<String> expectedPaths) {
+    private static void assertResult(Graph graph, IdFunction idFunction, Collection<String> expectedPaths, int concurrency) {
         var expectedPathResults = expectedPathResults(idFunction, expectedPaths);
 
         var firstResult = expectedPathResults
@@ -256,6 +263,7 @@ class YensTest {
             .sourceNode(firstResult.sourceNode())
             .targetNode(firstResult.targetNode())
             .k(expectedPathResults.size())
+            .concurrency(concurrency)
             .build();
 
         var actualPathResults = Yens
@@ -375,7 +383,7 @@ class YensTest {
         @ParameterizedTest
         @MethodSource("pathInput")
         void compute(Collection<String> expectedPaths) {
-            assertResult(graph, idFunction, expectedPaths);
+            assertResult(graph, idFunction, expectedPaths, 1);
         }
     }
 }
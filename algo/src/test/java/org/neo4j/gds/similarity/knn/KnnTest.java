@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.similarity.knn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Nested;
@@ -27,12 +26,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.NullPropertyMap;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -58,6 +60,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -338,40 +341,33 @@ class KnnTest {
     void testReverseEmptyList() {
         var nodeCount = 42;
 
-        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+        var neighbors = new NeighborBuffer(nodeCount, nodeCount - 1);
+        var reverseNeighbors = new ReverseNeighborBuffer(nodeCount, nodeCount - 1);
 
         // no old elements, don't add something to the reverse neighbors
-        Knn.reverseNeighbors(0, neighbors, reverseNeighbors);
-        assertThat(reverseNeighbors.get(0)).isNull();
-
-        var neighborsFrom0 = LongArrayList.from(LongStream.range(1, nodeCount).toArray());
-        neighbors.set(0, neighborsFrom0);
+        reverseNeighbors.reverse(neighbors);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(reverseNeighbors.size(nodeId)).isZero();
+        }
     }
 
     @Test
     void testReverseAllAsNeighbor() {
         var nodeCount = 42;
 
-        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+        var neighbors = new NeighborBuffer(nodeCount, nodeCount - 1);
+        var reverseNeighbors = new ReverseNeighborBuffer(nodeCount, nodeCount - 1);
 
         // 0 is neighboring every other node
-        var neighborsFrom0 = LongArrayList.from(LongStream.range(1, nodeCount).toArray());
-        neighbors.set(0, neighborsFrom0);
+        LongStream.range(1, nodeCount).forEach(neighbor -> neighbors.add(0, neighbor));
 
-        Knn.reverseNeighbors(0, neighbors, reverseNeighbors);
+        reverseNeighbors.reverse(neighbors);
         // 0 has no reverse neighbors
-        assertThat(reverseNeighbors.get(0)).isNull();
+        assertThat(reverseNeighbors.size(0)).isZero();
         // every other node points to 0
         for (int i = 1; i < nodeCount; i++) {
-            var reversed = reverseNeighbors.get(i);
-            assertThat(reversed)
-                .isNotNull()
-                .singleElement()
-                // list returns hppc cursor, access value field
-                .extracting("value")
-                .isEqualTo(0L);
+            assertThat(reverseNeighbors.size(i)).isEqualTo(1);
+            assertThat(reverseNeighbors.get(i, 0)).isEqualTo(0L);
         }
 
     }
@@ -380,28 +376,48 @@ class KnnTest {
     void testReverseSingleNeighbors() {
         var nodeCount = 42;
 
-        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+        var neighbors = new NeighborBuffer(nodeCount, 1);
+        var reverseNeighbors = new ReverseNeighborBuffer(nodeCount, 1);
 
         // every node other than 0 has 0 as neighbor
-        neighbors.setAll(nodeId -> nodeId == 0 ? null : LongArrayList.from(0));
-
-        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            Knn.reverseNeighbors(nodeId, neighbors, reverseNeighbors);
+        for (int nodeId = 1; nodeId < nodeCount; nodeId++) {
+            neighbors.add(nodeId, 0);
         }
 
+        reverseNeighbors.reverse(neighbors);
+
         // all nodes point to 0
-        assertThat(reverseNeighbors.get(0))
-            .isNotNull()
-            .extracting(c -> c.value)
-            .containsExactly(LongStream.range(1, nodeCount).boxed().toArray(Long[]::new));
+        var reversedTo0 = LongStream.range(0, reverseNeighbors.size(0)).map(i -> reverseNeighbors.get(0, (int) i));
+        assertThat(reversedTo0).containsExactly(LongStream.range(1, nodeCount).boxed().toArray(Long[]::new));
 
         // all other nodes have no reverse neighbors
         for (int i = 1; i < nodeCount; i++) {
-            assertThat(reverseNeighbors.get(i)).isNull();
+            assertThat(reverseNeighbors.size(i)).isZero();
         }
     }
 
+    @Test
+    void testReuseBuffersAcrossIterations() {
+        var nodeCount = 3;
+
+        var neighbors = new NeighborBuffer(nodeCount, 2);
+        var reverseNeighbors = new ReverseNeighborBuffer(nodeCount, 2);
+
+        neighbors.add(0, 1);
+        neighbors.add(0, 2);
+        reverseNeighbors.reverse(neighbors);
+        assertThat(reverseNeighbors.size(1)).isEqualTo(1);
+        assertThat(reverseNeighbors.size(2)).isEqualTo(1);
+
+        neighbors.clear(0);
+        neighbors.add(2, 1);
+        reverseNeighbors.reverse(neighbors);
+        assertThat(reverseNeighbors.size(0)).isZero();
+        assertThat(reverseNeighbors.size(1)).isEqualTo(1);
+        assertThat(reverseNeighbors.get(1, 0)).isEqualTo(2L);
+        assertThat(reverseNeighbors.size(2)).isZero();
+    }
+
     @Test
     void joinNeighbors() {
         NeighbourConsumer neighbourConsumer = NeighbourConsumer.devNull;
@@ -417,13 +433,11 @@ class KnnTest {
         allNeighbors.get(1).add(2, 0.0, random, perturbationRate);
         allNeighbors.get(2).add(0, 0.0, random, perturbationRate);
 
-        var allNewNeighbors = HugeObjectArray.of(
-            LongArrayList.from(1, 2),
-            null,
-            null
-        );
+        var allNewNeighbors = new NeighborBuffer(graph.nodeCount(), 2);
+        allNewNeighbors.add(0, 1);
+        allNewNeighbors.add(0, 2);
 
-        var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, graph.nodeCount());
+        var allOldNeighbors = new NeighborBuffer(graph.nodeCount(), 2);
 
         SimilarityFunction similarityFunction = new SimilarityFunction(new SimilarityComputer() {
             @Override
@@ -444,8 +458,8 @@ class KnnTest {
             allNeighbors,
             allOldNeighbors,
             allNewNeighbors,
-            HugeObjectArray.newArray(LongArrayList.class, graph.nodeCount()),
-            HugeObjectArray.newArray(LongArrayList.class, graph.nodeCount()),
+            new ReverseNeighborBuffer(graph.nodeCount(), 2),
+            new ReverseNeighborBuffer(graph.nodeCount(), 2),
             1,
             perturbationRate,
             0,
@@ -683,4 +697,76 @@ class KnnTest {
             softly.assertThat(result.neighborsOf(nodeGId)).contains(nodeFId);
         }
     }
+
+    @Nested
+    class LshInitialSamplerTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a { knn: [1.0, 0.0, 0.0], scalar: 1 } )" +
+            ", (b { knn: [0.9, 0.1, 0.0], scalar: 2 } )" +
+            ", (c { knn: [1.0, 0.0, 0.0], scalar: 3 } )" +
+            ", (d { knn: [0.0, 0.0, 1.0], scalar: 4 } )" +
+            ", (e { knn: [0.0, 0.1, 0.9], scalar: 5 } )" +
+            ", (f { knn: [0.0, 0.0, 1.0], scalar: 6 } )";
+
+        @ParameterizedTest
+        @ValueSource(strings = {"COSINE", "EUCLIDEAN"})
+        void findsNeighborsWithinTheSameCluster(String metric) {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn", SimilarityMetric.parse(metric))))
+                .topK(2)
+                .randomSeed(42L)
+                .concurrency(1)
+                .initialSampler(KnnSampler.SamplerType.LSH)
+                .build();
+            var result = Knn.createWithDefaults(graph, config, KnnContext.empty()).compute();
+
+            var firstCluster = new Long[]{idFunction.of("a"), idFunction.of("b"), idFunction.of("c")};
+            var secondCluster = new Long[]{idFunction.of("d"), idFunction.of("e"), idFunction.of("f")};
+
+            for (var node : firstCluster) {
+                assertThat(result.neighborsOf(node)).containsAnyOf(firstCluster).doesNotContain(secondCluster);
+            }
+            for (var node : secondCluster) {
+                assertThat(result.neighborsOf(node)).containsAnyOf(secondCluster).doesNotContain(firstCluster);
+            }
+        }
+
+        @Test
+        void identicalVectorsShareTheirBuckets() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .topK(1)
+                .build();
+            var index = LshIndex.create(
+                graph,
+                config,
+                new SplittableRandom(42),
+                Pools.DEFAULT,
+                TerminationFlag.RUNNING_TRUE
+            );
+
+            for (int table = 0; table < index.tables(); table++) {
+                assertThat(index.bucketStart(table, idFunction.of("a")))
+                    .isEqualTo(index.bucketStart(table, idFunction.of("c")));
+                assertThat(index.bucketStart(table, idFunction.of("d")))
+                    .isEqualTo(index.bucketStart(table, idFunction.of("f")));
+            }
+        }
+
+        @Test
+        void failsOnScalarProperty() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("scalar")))
+                .initialSampler(KnnSampler.SamplerType.LSH)
+                .build();
+            var knn = Knn.createWithDefaults(graph, config, KnnContext.empty());
+
+            assertThatThrownBy(knn::compute)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires a property of type FLOAT_ARRAY or DOUBLE_ARRAY");
+        }
+    }
 }
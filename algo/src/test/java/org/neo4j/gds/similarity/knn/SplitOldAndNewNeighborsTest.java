@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.similarity.knn;
 
-import com.carrotsearch.hppc.LongArrayList;
 import net.jqwik.api.ForAll;
 import net.jqwik.api.From;
 import net.jqwik.api.Property;
@@ -28,8 +27,8 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
-import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -66,14 +65,8 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
             return neighbors;
         });
 
-        var allOldNeighbors = HugeObjectArray.newArray(
-            LongArrayList.class,
-            nodeCount
-        );
-        var allNewNeighbors = HugeObjectArray.newArray(
-            LongArrayList.class,
-            nodeCount
-        );
+        var allOldNeighbors = new NeighborBuffer(nodeCount, k);
+        var allNewNeighbors = new NeighborBuffer(nodeCount, sampledK);
 
         var splitNeighbors = new SplitOldAndNewNeighbors(
             new SplittableRandom(),
@@ -89,24 +82,17 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
         var possibleOldNeighbors = LongStream.range(0, nodeCount).filter(n -> n % 2 != 0).toArray();
 
         for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            var oldNeighbors = allOldNeighbors.get(nodeId);
-            if (oldNeighbors != null) {
-                var neighbors = StreamSupport.stream(oldNeighbors.spliterator(), false)
-                    .mapToLong(c -> c.value)
-                    .toArray();
-                assertThat(neighbors)
-                    .hasSizeGreaterThanOrEqualTo(1)
+            var oldNeighbors = neighborsOf(allOldNeighbors, nodeId);
+            if (oldNeighbors.length > 0) {
+                assertThat(oldNeighbors)
                     .doesNotContain(nodeId)
                     .containsAnyOf(possibleOldNeighbors)
                     .doesNotHaveDuplicates();
             }
 
-            var newNeighbors = allNewNeighbors.get(nodeId);
-            if (newNeighbors != null) {
-                var neighbors = StreamSupport.stream(newNeighbors.spliterator(), false)
-                    .mapToLong(c -> c.value)
-                    .toArray();
-                assertThat(neighbors)
+            var newNeighbors = neighborsOf(allNewNeighbors, nodeId);
+            if (newNeighbors.length > 0) {
+                assertThat(newNeighbors)
                     .hasSizeBetween(1, sampledK)
                     .doesNotContain(nodeId)
                     .containsAnyOf(possibleNewNeighbors)
@@ -114,4 +100,8 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
             }
         }
     }
+
+    private static long[] neighborsOf(NeighborBuffer buffer, long nodeId) {
+        return IntStream.range(0, buffer.size(nodeId)).mapToLong(i -> buffer.get(nodeId, i)).toArray();
+    }
 }
@@ -36,6 +36,8 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.huge.DirectIdMap;
+import org.neo4j.gds.core.loading.nodeproperties.DenseFloatArrayNodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
 import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
 import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
@@ -280,6 +282,42 @@ class SimilarityComputerTest {
             .hasMessageContaining("Missing `List of Integer` node property `longArrayProperty` for node with id");
     }
 
+    @ParameterizedTest
+    @MethodSource("floatArrayMetricValues")
+    void denseFloatArraysShouldHaveSameSimilarities(SimilarityMetric similarityMetric) {
+        int nodeCount = 10;
+        var props = new FloatArrayTestPropertyValues(nodeId -> {
+            var random = new Random(nodeId);
+            var values = new float[42];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextFloat() * 2 - 1;
+            }
+            return values;
+        });
+        var matrix = HugeFloatMatrix.of(nodeCount, 42);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            matrix.setRow(nodeId, props.floatArrayValue(nodeId));
+        }
+
+        var expected = SimilarityComputer.ofFloatArrayProperty("", props, similarityMetric);
+        var actual = SimilarityComputer.ofFloatArrayProperty(
+            "",
+            new DenseFloatArrayNodePropertyValues(matrix),
+            similarityMetric
+        );
+
+        assertThat(actual).isInstanceOf(DenseFloatArrayPropertySimilarityComputer.class);
+        for (long first = 0; first < nodeCount; first++) {
+            for (long second = 0; second < nodeCount; second++) {
+                assertThat(actual.similarity(first, second)).isEqualTo(expected.similarity(first, second));
+            }
+        }
+    }
+
+    static Stream<SimilarityMetric> floatArrayMetricValues() {
+        return Stream.of(SimilarityMetric.COSINE, SimilarityMetric.EUCLIDEAN, SimilarityMetric.PEARSON);
+    }
+
     static Stream<SimilarityComputer> nonFiniteSimilarities() {
         return Stream.of(
             SimilarityComputer.ofDoubleProperty(new DoubleTestPropertyValues(nodeId -> Double.NaN)),
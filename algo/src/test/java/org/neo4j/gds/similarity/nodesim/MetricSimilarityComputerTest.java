@@ -21,6 +21,7 @@ package org.neo4j.gds.similarity.nodesim;
 
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MetricSimilarityComputerTest {
@@ -31,4 +32,39 @@ class MetricSimilarityComputerTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("ovErLaPPPPP is not a valid metric");
     }
+
+    @Test
+    void shouldComputeSimilarityFromIntersection() {
+        long[] vector1 = {1, 2, 3, 5};
+        long[] vector2 = {2, 3, 4};
+
+        var jaccard = new JaccardSimilarityComputer(0.0);
+        assertThat(jaccard.computeSimilarity(2, 4, 3)).isEqualTo(jaccard.computeSimilarity(vector1, vector2));
+
+        var overlap = new OverlapSimilarityComputer(0.0);
+        assertThat(overlap.computeSimilarity(2, 4, 3)).isEqualTo(overlap.computeSimilarity(vector1, vector2));
+    }
+
+    @Test
+    void shouldComputeWeightedSimilarityFromIntersection() {
+        long[] vector1 = {1, 2, 3};
+        long[] vector2 = {2, 3, 4};
+        double[] weights1 = {1.0, 2.0, 0.5};
+        double[] weights2 = {1.0, 1.5, 4.0};
+        // min(2.0, 1.0) + min(0.5, 1.5)
+        double intersection = 1.5;
+
+        var jaccard = new JaccardSimilarityComputer(0.0);
+        assertThat(jaccard.computeSimilarity(intersection, 3.5, 6.5))
+            .isEqualTo(jaccard.computeWeightedSimilarity(vector1, vector2, weights1, weights2));
+
+        var overlap = new OverlapSimilarityComputer(0.0);
+        assertThat(overlap.computeSimilarity(intersection, 3.5, 6.5))
+            .isEqualTo(overlap.computeWeightedSimilarity(vector1, vector2, weights1, weights2));
+    }
+
+    @Test
+    void shouldApplyCutoffToSimilarityFromIntersection() {
+        assertThat(new JaccardSimilarityComputer(0.5).computeSimilarity(1, 4, 3)).isNaN();
+    }
 }
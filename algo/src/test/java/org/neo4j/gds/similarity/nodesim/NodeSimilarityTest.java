@@ -51,12 +51,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -836,6 +838,198 @@ final class NodeSimilarityTest {
             );
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeSameTopKWithSparseMatrix(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        for (var metric : List.of("JACCARD", "OVERLAP")) {
+            for (var weightProperty : List.of(Optional.<String>empty(), Optional.of("prop"))) {
+                var configBuilder = configBuilder()
+                    .similarityCutoff(1E-42)
+                    .similarityMetric(MetricSimilarityComputer.parse(metric))
+                    .relationshipWeightProperty(weightProperty)
+                    .concurrency(concurrency);
+
+                var pairwise = NodeSimilarity.create(
+                    graph,
+                    configBuilder.executionMode(NodeSimilarityExecutionMode.PAIRWISE).build(),
+                    Pools.DEFAULT,
+                    ProgressTracker.NULL_TRACKER
+                ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+                var sparseMatrix = NodeSimilarity.create(
+                    graph,
+                    configBuilder.executionMode(NodeSimilarityExecutionMode.SPARSE_MATRIX).build(),
+                    Pools.DEFAULT,
+                    ProgressTracker.NULL_TRACKER
+                ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+                assertThat(sparseMatrix)
+                    .as("metric: %s, weight property: %s", metric, weightProperty)
+                    .isNotEmpty()
+                    .isEqualTo(pairwise);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeSameTopNWithoutTopKWithSparseMatrix(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        for (var weightProperty : List.of(Optional.<String>empty(), Optional.of("prop"))) {
+            var configBuilder = configBuilder()
+                .similarityCutoff(1E-42)
+                .topK(0)
+                .topN(100)
+                .relationshipWeightProperty(weightProperty)
+                .concurrency(concurrency);
+
+            var pairwise = NodeSimilarity.create(
+                graph,
+                configBuilder.executionMode(NodeSimilarityExecutionMode.PAIRWISE).build(),
+                Pools.DEFAULT,
+                ProgressTracker.NULL_TRACKER
+            ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+            var sparseMatrix = NodeSimilarity.create(
+                graph,
+                configBuilder.executionMode(NodeSimilarityExecutionMode.SPARSE_MATRIX).build(),
+                Pools.DEFAULT,
+                ProgressTracker.NULL_TRACKER
+            ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+            assertThat(sparseMatrix)
+                .as("weight property: %s", weightProperty)
+                .isNotEmpty()
+                .isEqualTo(pairwise);
+        }
+    }
+
+    @Test
+    void shouldFallBackToPairwiseForZeroSimilarityCutoff() {
+        NodeSimilarity nodeSimilarity = NodeSimilarity.create(
+            naturalGraph,
+            configBuilder().executionMode(NodeSimilarityExecutionMode.SPARSE_MATRIX).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        // pairs without a common neighbor are only found by comparing all pairs
+        assertThat(result).contains(resultString(1, 2, 0.0));
+        assertEquals(EXPECTED_OUTGOING, result);
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldFindAllSimilarPairsWithMinHash(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        var configBuilder = configBuilder()
+            .similarityCutoff(1E-42)
+            .concurrency(concurrency);
+
+        var pairwise = NodeSimilarity.create(
+            graph,
+            configBuilder.build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+        // with a single hash per band, every pair sharing a neighbor is a candidate with near certainty
+        var minHash = NodeSimilarity.create(
+            graph,
+            configBuilder
+                .executionMode(NodeSimilarityExecutionMode.MIN_HASH)
+                .minHashCount(128)
+                .minHashBands(128)
+                .randomSeed(42L)
+                .build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+        assertThat(minHash).isEqualTo(pairwise);
+    }
+
+    @Test
+    void shouldOnlyCompareIdenticalNeighborhoodsWithLongMinHashBands() {
+        NodeSimilarity nodeSimilarity = NodeSimilarity.create(
+            naturalGraph,
+            configBuilder()
+                .executionMode(NodeSimilarityExecutionMode.MIN_HASH)
+                .minHashCount(256)
+                .minHashBands(1)
+                .randomSeed(42L)
+                .build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        // a and d like the same items, all other pairs disagree on some of the 256 hashes
+        assertThat(result).containsExactlyInAnyOrder(resultString(0, 3, 1.0), resultString(3, 0, 1.0));
+    }
+
+    @Test
+    void shouldSampleLargeMinHashBuckets() {
+        var gdl = new StringBuilder("CREATE (i:Item)");
+        for (int person = 0; person < 20; person++) {
+            gdl.append(formatWithLocale(", (p%d:Person)-[:LIKES]->(i)", person));
+        }
+
+        var result = NodeSimilarity.create(
+            fromGdl(gdl.toString()),
+            configBuilder()
+                .executionMode(NodeSimilarityExecutionMode.MIN_HASH)
+                .minHashCount(4)
+                .minHashBands(1)
+                .minHashMaxBucketSize(5)
+                .topK(100)
+                .concurrency(1)
+                .build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().collect(Collectors.groupingBy(SimilarityResult::sourceNodeId, Collectors.counting()));
+
+        // all persons share a single bucket, each of them is compared to at most five of them
+        assertThat(result).hasSize(20);
+        assertThat(result.values()).allMatch(candidates -> candidates >= 4 && candidates <= 5);
+    }
+
+    @Test
+    void shouldBoundMinHashBucketsByTheNodeCount() {
+        assertThat(MinHashSimilarity.bucketBits(1)).isEqualTo(1);
+        assertThat(MinHashSimilarity.bucketBits(1000)).isEqualTo(9);
+        assertThat(MinHashSimilarity.bucketBits(1024)).isEqualTo(10);
+        assertThat(MinHashSimilarity.bucketBits(1L << 40)).isEqualTo(24);
+    }
+
+    @Test
+    void shouldValidateMinHashBands() {
+        assertThatThrownBy(() -> configBuilder().minHashCount(64).minHashBands(10).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The value of `minHashCount` must be a multiple of `minHashBands`, but got 64 and 10.");
+    }
+
+    @Test
+    void shouldParseExecutionMode() {
+        assertThat(NodeSimilarityExecutionMode.parse("sparse_matrix")).isEqualTo(NodeSimilarityExecutionMode.SPARSE_MATRIX);
+        assertThatThrownBy(() -> NodeSimilarityExecutionMode.parse("dense"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Execution mode `DENSE` is not supported. Must be one of: [PAIRWISE, SPARSE_MATRIX, MIN_HASH].");
+    }
+
     @Test
     void shouldGiveCorrectResultsWithOverlap() {
         var gdl =
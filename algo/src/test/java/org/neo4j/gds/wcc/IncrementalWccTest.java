@@ -20,18 +20,30 @@
 package org.neo4j.gds.wcc;
 
 import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongLongHashMap;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.TestSupport.fromGdl;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -122,6 +134,127 @@ class IncrementalWccTest {
             .forEach(node -> assertEquals(42, result.setIdOf(node)));
     }
 
+    @Test
+    void shouldMergeComponentsOfAddedRelationshipType() {
+        var factory = seededGraphFactory();
+        var graphStore = factory.build();
+
+        var result = update(graphStore, Map.of("relationshipType", "ADDED"));
+
+        var components = result.components();
+        var nodes = graphStore.nodes();
+        assertThat(components.longValue(nodes.toMappedNodeId(factory.nodeId("d")))).isEqualTo(0L);
+        assertThat(components.longValue(nodes.toMappedNodeId(factory.nodeId("e")))).isEqualTo(4L);
+        assertThat(result.mergedComponentCount()).isEqualTo(1L);
+        assertThat(result.addedRelationships()).isEmpty();
+    }
+
+    @Test
+    void shouldMergeComponentsOfGivenRelationships() {
+        var factory = seededGraphFactory();
+        var graphStore = factory.build();
+
+        var result = update(graphStore, Map.of(
+            "relationshipType", "GIVEN",
+            "sourceNodes", List.of(factory.nodeId("f")),
+            "targetNodes", List.of(factory.nodeId("c"))
+        ));
+
+        var components = result.components();
+        var nodes = graphStore.nodes();
+        assertThat(components.longValue(nodes.toMappedNodeId(factory.nodeId("e")))).isEqualTo(2L);
+        assertThat(components.longValue(nodes.toMappedNodeId(factory.nodeId("a")))).isEqualTo(0L);
+        assertThat(result.mergedComponentCount()).isEqualTo(1L);
+        // the given relationships are returned to be added to the graph
+        assertThat(result.addedRelationships())
+            .hasValueSatisfying(added -> assertThat(added.relationships().topology().elementCount()).isEqualTo(1L));
+    }
+
+    @Test
+    void shouldOnlyKeepTheLatestRemappingOfRepeatedUpdates() {
+        var factory = seededGraphFactory();
+        var graphStore = factory.build();
+        var seeds = graphStore.nodeProperty("component").values();
+
+        var changedOnce = new LongLongHashMap();
+        changedOnce.put(2L, 0L);
+        var firstUpdate = RemappedComponentValues.of(seeds, changedOnce);
+
+        var changedTwice = new LongLongHashMap();
+        changedTwice.put(4L, 0L);
+        var secondUpdate = RemappedComponentValues.of(firstUpdate, changedTwice);
+
+        for (var node : List.of("a", "b", "c", "d", "e", "f")) {
+            assertThat(secondUpdate.longValue(graphStore.nodes().toMappedNodeId(factory.nodeId(node)))).isEqualTo(0L);
+        }
+        assertThat(secondUpdate.remappedComponentCount()).isEqualTo(2);
+        // the earlier update is not changed
+        assertThat(firstUpdate.longValue(graphStore.nodes().toMappedNodeId(factory.nodeId("e")))).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldUnionAddedRelationshipPairs() {
+        Graph graph = createGraph();
+        WccStreamConfig config = ImmutableWccStreamConfig.builder().build();
+        var incrementalWcc = IncrementalWcc.initialize(graph, Pools.DEFAULT, config, ProgressTracker.NULL_TRACKER);
+        assertEquals(COMMUNITY_COUNT / 2, getSetCount(incrementalWcc.components()));
+
+        // connect every pair of communities with its successor
+        int addedCount = COMMUNITY_COUNT / 2 - 1;
+        var sources = HugeLongArray.newArray(addedCount);
+        var targets = HugeLongArray.newArray(addedCount);
+        for (int i = 0; i < addedCount; i++) {
+            sources.set(i, (long) i * 2 * COMMUNITY_SIZE);
+            targets.set(i, (long) (i + 1) * 2 * COMMUNITY_SIZE);
+        }
+
+        var result = incrementalWcc.addRelationships(sources, targets, addedCount);
+
+        assertEquals(1, getSetCount(result));
+    }
+
+    @Test
+    void shouldRejectMissingEndpoints() {
+        WccStreamConfig config = ImmutableWccStreamConfig.builder().build();
+        var incrementalWcc = new IncrementalWcc(
+            new HugeAtomicDisjointSetStruct(2, 1),
+            Pools.DEFAULT,
+            config,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThatThrownBy(() -> incrementalWcc.addRelationships(HugeLongArray.of(0, 1), HugeLongArray.of(1), 2))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("2 sources and 1 targets");
+    }
+
+    @Test
+    void shouldRequireSeedPropertyToUpdateComponents() {
+        assertThatThrownBy(() -> IncrementalWccMutateConfig.of(CypherMapWrapper.create(Map.of(
+            "mutateProperty", "updated",
+            "relationshipType", "ADDED"
+        ))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("`seedProperty`");
+    }
+
+    private static GdlFactory seededGraphFactory() {
+        return GdlFactory.of(
+            "  (a {component: 0})-[:INITIAL]->(b {component: 0})" +
+            ", (c {component: 2})-[:INITIAL]->(d {component: 2})" +
+            ", (e {component: 4})-[:INITIAL]->(f {component: 4})" +
+            ", (b)-[:ADDED]->(c)"
+        );
+    }
+
+    private static IncrementalWccResult update(GraphStore graphStore, Map<String, Object> addedRelationships) {
+        var userInput = new HashMap<String, Object>(addedRelationships);
+        userInput.put("seedProperty", "component");
+        userInput.put("mutateProperty", "updated");
+        var config = IncrementalWccMutateConfig.of(CypherMapWrapper.create(userInput));
+        return new IncrementalWccUpdate(graphStore, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+    }
+
     private DisjointSetStruct run(Graph graph, WccBaseConfig config) {
         return new Wcc(
             graph,
@@ -22,15 +22,15 @@ package org.neo4j.gds.impl.closeness;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.msbfs.MultiSourceBFSConfig;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
 public interface HarmonicCentralityConfig extends
-    AlgoBaseConfig,
+    MultiSourceBFSConfig,
     WritePropertyConfig {
 
     @Override
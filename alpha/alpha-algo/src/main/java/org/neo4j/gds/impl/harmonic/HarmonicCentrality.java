@@ -19,18 +19,22 @@
  */
 package org.neo4j.gds.impl.harmonic;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.msbfs.BfsConsumer;
-import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+import org.neo4j.gds.msbfs.BfsCountConsumer;
+import org.neo4j.gds.msbfs.MSBFSConstants;
+import org.neo4j.gds.msbfs.WideMultiSourceBFS;
 
 import java.util.concurrent.ExecutorService;
 
 public class HarmonicCentrality extends Algorithm<HarmonicCentrality> {
 
     private final int concurrency;
+    private final int sourcesPerPass;
+    private final long @Nullable [] sourceNodes;
     private final long nodeCount;
     private final ExecutorService executorService;
     private final HugeAtomicDoubleArray inverseFarness;
@@ -42,10 +46,26 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality> {
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, MSBFSConstants.OMEGA, null, executorService, progressTracker);
+    }
+
+    /**
+     * @param sourceNodes sampled source nodes, or {@code null} to compute the exact centrality from all nodes
+     */
+    public HarmonicCentrality(
+        Graph graph,
+        int concurrency,
+        int sourcesPerPass,
+        long @Nullable [] sourceNodes,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
+        this.sourcesPerPass = sourcesPerPass;
+        this.sourceNodes = sourceNodes;
         this.executorService = executorService;
         this.inverseFarness = HugeAtomicDoubleArray.newArray(graph.nodeCount());
         this.nodeCount = graph.nodeCount();
@@ -55,16 +75,20 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality> {
     public HarmonicCentrality compute() {
         progressTracker.beginSubTask();
 
-        final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
-            double len = sourceNodeIds.size();
+        final BfsCountConsumer consumer = (nodeId, depth, sourceCount) -> {
+            double len = sourceCount;
             inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
         };
 
-        MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
+        WideMultiSourceBFS.run(
             graph.nodeCount(),
             graph,
-            consumer
-        ).run(concurrency, executorService);
+            sourceNodes,
+            sourcesPerPass,
+            consumer,
+            concurrency,
+            executorService
+        );
 
         progressTracker.endSubTask();
 
@@ -77,6 +101,8 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality> {
     }
 
     public double getCentralityScore(long nodeId) {
-        return inverseFarness.get(nodeId) / (double) (nodeCount - 1);
+        // sampled sums are scaled up to estimate the sums over all sources
+        double scale = sourceNodes == null ? 1D : nodeCount / (double) sourceNodes.length;
+        return scale * inverseFarness.get(nodeId) / (double) (nodeCount - 1);
     }
 }
@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Parallel strongly connected components based on the Multistep approach.
+ *
+ * <ol>
+ *     <li>Trimming: nodes without active incoming or without active outgoing relationships form a component on their own.</li>
+ *     <li>Forward-backward: the component of a high degree pivot, usually the giant component, is the intersection of
+ *     the nodes reachable from the pivot and the nodes reaching the pivot. Both sets are computed with a level
+ *     synchronous parallel BFS.</li>
+ *     <li>Coloring: the largest node id is propagated along the relationships until a fixpoint is reached.
+ *     Every node that kept its own color is the root of a component that consists of all nodes of the same color
+ *     that reach the root.</li>
+ * </ol>
+ *
+ * The graph does not provide incoming relationships, so an inverse adjacency list is built upfront.
+ * Components are identified by the smallest node id they contain.
+ *
+ * specified in: George M. Slota, Sivasankaran Rajamanickam, Kamesh Madduri.
+ * "BFS and Coloring-based Parallel Algorithms for Strongly Connected Components and Related Problems", IPDPS 2014.
+ */
+public final class ParallelScc extends Algorithm<HugeLongArray> {
+
+    private static final long UNASSIGNED = -1L;
+    private static final int FRONTIER_BUFFER_SIZE = 1024;
+
+    private Graph graph;
+    private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    private HugeAtomicLongArray components;
+    private HugeLongArray inverseOffsets;
+    private HugeLongArray inverseTargets;
+
+    public ParallelScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.executor = executor;
+    }
+
+    @Override
+    public HugeLongArray compute() {
+        progressTracker.beginSubTask();
+
+        this.components = HugeAtomicLongArray.newArray(nodeCount);
+        components.setAll(UNASSIGNED);
+
+        buildInverseAdjacency();
+        trim();
+        forwardBackward();
+        trim();
+        coloring();
+
+        this.inverseOffsets = null;
+        this.inverseTargets = null;
+
+        var result = identifyByMinimumNode();
+        this.components = null;
+
+        progressTracker.endSubTask();
+        return result;
+    }
+
+    @Override
+    public void release() {
+        graph = null;
+        components = null;
+        inverseOffsets = null;
+        inverseTargets = null;
+    }
+
+    private void buildInverseAdjacency() {
+        var positions = HugeAtomicLongArray.newArray(nodeCount);
+        forEachNode(localGraph -> nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            positions.getAndAdd(target, 1L);
+            return true;
+        }));
+
+        this.inverseOffsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long inDegree = positions.get(nodeId);
+            inverseOffsets.set(nodeId, offset);
+            positions.set(nodeId, offset);
+            offset += inDegree;
+        }
+        inverseOffsets.set(nodeCount, offset);
+
+        this.inverseTargets = HugeLongArray.newArray(offset);
+        forEachNode(localGraph -> nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            inverseTargets.set(positions.getAndAdd(target, 1L), source);
+            return true;
+        }));
+    }
+
+    /**
+     * Assigns every active node without an active predecessor or without an active successor to its own component.
+     * A single pass is sufficient to remove the bulk of trivial components, further passes only peel off chains.
+     */
+    private void trim() {
+        terminationFlag.assertRunning();
+        var trimmed = new AtomicLong();
+        forEachNode(localGraph -> new TrimTask(localGraph, trimmed));
+        progressTracker.logProgress(trimmed.get());
+    }
+
+    private void forwardBackward() {
+        terminationFlag.assertRunning();
+        long pivot = selectPivot();
+        if (pivot == UNASSIGNED) {
+            return;
+        }
+
+        var forward = HugeAtomicBitSet.create(nodeCount);
+        forward.set(pivot);
+        traverse(pivot, true, neighbour -> isActive(neighbour) && !forward.getAndSet(neighbour));
+
+        components.set(pivot, pivot);
+        long assigned = traverse(
+            pivot,
+            false,
+            neighbour -> forward.get(neighbour) && components.compareAndSet(neighbour, UNASSIGNED, pivot)
+        );
+        progressTracker.logProgress(assigned + 1);
+    }
+
+    /**
+     * Picks the active node with the largest product of in- and out-degree, which is likely part of the largest component.
+     */
+    private long selectPivot() {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new PivotTask(graph.concurrentCopy(), partition),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+
+        long pivot = UNASSIGNED;
+        long pivotScore = -1L;
+        for (var task : tasks) {
+            if (task.bestNode != UNASSIGNED && task.bestScore > pivotScore) {
+                pivot = task.bestNode;
+                pivotScore = task.bestScore;
+            }
+        }
+        return pivot;
+    }
+
+    /**
+     * Level synchronous BFS from {@code start}, either along outgoing or incoming relationships.
+     * A neighbour is added to the next frontier if {@code visit} returns true for it, the check must be atomic.
+     *
+     * @return the number of visited nodes, not counting {@code start}
+     */
+    private long traverse(long start, boolean outgoing, LongVisitor visit) {
+        var frontier = HugeLongArray.newArray(nodeCount);
+        var nextFrontier = HugeLongArray.newArray(nodeCount);
+        var nextFrontierSize = new AtomicLong();
+
+        frontier.set(0, start);
+        long frontierSize = 1L;
+        long visited = 0L;
+
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            nextFrontierSize.set(0L);
+
+            var currentFrontier = frontier;
+            var currentNextFrontier = nextFrontier;
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                frontierSize,
+                partition -> new ExpandTask(
+                    outgoing ? graph.concurrentCopy() : null,
+                    currentFrontier,
+                    partition,
+                    currentNextFrontier,
+                    nextFrontierSize,
+                    visit
+                ),
+                Optional.empty()
+            );
+            ParallelUtil.run(tasks, executor);
+
+            frontierSize = nextFrontierSize.get();
+            visited += frontierSize;
+
+            frontier = currentNextFrontier;
+            nextFrontier = currentFrontier;
+        }
+
+        return visited;
+    }
+
+    private void coloring() {
+        var colors = HugeAtomicLongArray.newArray(nodeCount);
+        var changed = HugeAtomicBitSet.create(nodeCount);
+        var nextChanged = HugeAtomicBitSet.create(nodeCount);
+
+        while (true) {
+            terminationFlag.assertRunning();
+
+            var activeNodes = new AtomicLong();
+            var currentChanged = changed;
+            forEachNode(localGraph -> nodeId -> {
+                if (isActive(nodeId)) {
+                    colors.set(nodeId, nodeId);
+                    currentChanged.set(nodeId);
+                    activeNodes.incrementAndGet();
+                }
+            });
+
+            if (activeNodes.get() == 0) {
+                return;
+            }
+
+            var anyChange = new AtomicBoolean(true);
+            while (anyChange.get()) {
+                terminationFlag.assertRunning();
+                anyChange.set(false);
+                nextChanged.clear();
+
+                var propagateFrom = changed;
+                var propagateTo = nextChanged;
+                forEachNode(localGraph -> new PropagateColorTask(localGraph, colors, propagateFrom, propagateTo, anyChange));
+
+                changed = propagateTo;
+                nextChanged = propagateFrom;
+            }
+
+            var assigned = new AtomicLong();
+            forEachPartition(partition -> new CollectComponentsTask(partition, colors, assigned));
+            progressTracker.logProgress(assigned.get());
+        }
+    }
+
+    private HugeLongArray identifyByMinimumNode() {
+        var minimumNode = HugeAtomicLongArray.newArray(nodeCount);
+        minimumNode.setAll(Long.MAX_VALUE);
+        forEachNode(localGraph -> nodeId -> {
+            long component = components.get(nodeId);
+            long current = minimumNode.get(component);
+            while (nodeId < current) {
+                long witness = minimumNode.compareAndExchange(component, current, nodeId);
+                if (witness == current) {
+                    break;
+                }
+                current = witness;
+            }
+        });
+
+        var result = HugeLongArray.newArray(nodeCount);
+        forEachNode(localGraph -> nodeId -> result.set(nodeId, minimumNode.get(components.get(nodeId))));
+        return result;
+    }
+
+    private boolean isActive(long nodeId) {
+        return components.get(nodeId) == UNASSIGNED;
+    }
+
+    private long inDegree(long nodeId) {
+        return inverseOffsets.get(nodeId + 1) - inverseOffsets.get(nodeId);
+    }
+
+    private void forEachPartition(Function<Partition, Runnable> taskCreator) {
+        var tasks = PartitionUtils.rangePartition(concurrency, nodeCount, taskCreator, Optional.empty());
+        ParallelUtil.run(tasks, executor);
+    }
+
+    private void forEachNode(Function<Graph, NodeTask> taskCreator) {
+        forEachPartition(partition -> () -> {
+            var task = taskCreator.apply(graph.concurrentCopy());
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                task.apply(nodeId);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface NodeTask {
+        void apply(long nodeId);
+    }
+
+    @FunctionalInterface
+    private interface LongVisitor {
+        boolean visit(long nodeId);
+    }
+
+    private final class TrimTask implements NodeTask, RelationshipConsumer {
+
+        private final Graph localGraph;
+        private final AtomicLong trimmed;
+        private boolean found;
+
+        TrimTask(Graph localGraph, AtomicLong trimmed) {
+            this.localGraph = localGraph;
+            this.trimmed = trimmed;
+        }
+
+        @Override
+        public void apply(long nodeId) {
+            if (!isActive(nodeId)) {
+                return;
+            }
+            if (!hasActiveSuccessor(nodeId) || !hasActivePredecessor(nodeId)) {
+                components.set(nodeId, nodeId);
+                trimmed.incrementAndGet();
+            }
+        }
+
+        private boolean hasActiveSuccessor(long nodeId) {
+            found = false;
+            localGraph.forEachRelationship(nodeId, this);
+            return found;
+        }
+
+        private boolean hasActivePredecessor(long nodeId) {
+            long end = inverseOffsets.get(nodeId + 1);
+            for (long offset = inverseOffsets.get(nodeId); offset < end; offset++) {
+                long source = inverseTargets.get(offset);
+                if (source != nodeId && isActive(source)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (source != target && isActive(target)) {
+                found = true;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private final class PivotTask implements Runnable {
+
+        private final Graph localGraph;
+        private final Partition partition;
+        private long bestNode;
+        private long bestScore;
+
+        PivotTask(Graph localGraph, Partition partition) {
+            this.localGraph = localGraph;
+            this.partition = partition;
+            this.bestNode = UNASSIGNED;
+            this.bestScore = -1L;
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                if (!isActive(nodeId)) {
+                    continue;
+                }
+                long score = localGraph.degree(nodeId) * inDegree(nodeId);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestNode = nodeId;
+                }
+            }
+        }
+    }
+
+    private final class ExpandTask implements Runnable, RelationshipConsumer {
+
+        private final Graph localGraph;
+        private final HugeLongArray frontier;
+        private final Partition partition;
+        private final HugeLongArray nextFrontier;
+        private final AtomicLong nextFrontierSize;
+        private final LongVisitor visit;
+        private final long[] buffer;
+        private int bufferLength;
+
+        ExpandTask(
+            Graph localGraph,
+            HugeLongArray frontier,
+            Partition partition,
+            HugeLongArray nextFrontier,
+            AtomicLong nextFrontierSize,
+            LongVisitor visit
+        ) {
+            this.localGraph = localGraph;
+            this.frontier = frontier;
+            this.partition = partition;
+            this.nextFrontier = nextFrontier;
+            this.nextFrontierSize = nextFrontierSize;
+            this.visit = visit;
+            this.buffer = new long[FRONTIER_BUFFER_SIZE];
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long index = partition.startNode(); index < end; index++) {
+                long nodeId = frontier.get(index);
+                if (localGraph != null) {
+                    localGraph.forEachRelationship(nodeId, this);
+                } else {
+                    long inverseEnd = inverseOffsets.get(nodeId + 1);
+                    for (long offset = inverseOffsets.get(nodeId); offset < inverseEnd; offset++) {
+                        accept(nodeId, inverseTargets.get(offset));
+                    }
+                }
+            }
+            flush();
+        }
+
+        @Override
+        public boolean accept(long source, long neighbour) {
+            if (visit.visit(neighbour)) {
+                buffer[bufferLength++] = neighbour;
+                if (bufferLength == buffer.length) {
+                    flush();
+                }
+            }
+            return true;
+        }
+
+        private void flush() {
+            long offset = nextFrontierSize.getAndAdd(bufferLength);
+            for (int i = 0; i < bufferLength; i++) {
+                nextFrontier.set(offset + i, buffer[i]);
+            }
+            bufferLength = 0;
+        }
+    }
+
+    private final class PropagateColorTask implements NodeTask, RelationshipConsumer {
+
+        private final Graph localGraph;
+        private final HugeAtomicLongArray colors;
+        private final HugeAtomicBitSet changed;
+        private final HugeAtomicBitSet nextChanged;
+        private final AtomicBoolean anyChange;
+        private long color;
+
+        PropagateColorTask(
+            Graph localGraph,
+            HugeAtomicLongArray colors,
+            HugeAtomicBitSet changed,
+            HugeAtomicBitSet nextChanged,
+            AtomicBoolean anyChange
+        ) {
+            this.localGraph = localGraph;
+            this.colors = colors;
+            this.changed = changed;
+            this.nextChanged = nextChanged;
+            this.anyChange = anyChange;
+        }
+
+        @Override
+        public void apply(long nodeId) {
+            if (changed.get(nodeId)) {
+                color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, this);
+            }
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (source == target || !isActive(target)) {
+                return true;
+            }
+            long current = colors.get(target);
+            while (color > current) {
+                long witness = colors.compareAndExchange(target, current, color);
+                if (witness == current) {
+                    nextChanged.set(target);
+                    anyChange.set(true);
+                    break;
+                }
+                current = witness;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Every root, a node that kept its own color, collects the nodes of its color
+     * that reach it by a DFS along incoming relationships.
+     */
+    private final class CollectComponentsTask implements Runnable {
+
+        private final Partition partition;
+        private final HugeAtomicLongArray colors;
+        private final AtomicLong assigned;
+        private final LongArrayList stack;
+
+        CollectComponentsTask(Partition partition, HugeAtomicLongArray colors, AtomicLong assigned) {
+            this.partition = partition;
+            this.colors = colors;
+            this.assigned = assigned;
+            this.stack = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            long localAssigned = 0L;
+            long end = partition.startNode() + partition.nodeCount();
+            for (long root = partition.startNode(); root < end; root++) {
+                if (isActive(root) && colors.get(root) == root) {
+                    localAssigned += collect(root);
+                }
+            }
+            assigned.addAndGet(localAssigned);
+        }
+
+        private long collect(long root) {
+            long collected = 1L;
+            components.set(root, root);
+            stack.clear();
+            stack.add(root);
+            while (!stack.isEmpty()) {
+                long nodeId = stack.removeLast();
+                long inverseEnd = inverseOffsets.get(nodeId + 1);
+                for (long offset = inverseOffsets.get(nodeId); offset < inverseEnd; offset++) {
+                    long source = inverseTargets.get(offset);
+                    if (colors.get(source) == root && components.compareAndSet(source, UNASSIGNED, root)) {
+                        stack.add(source);
+                        collected++;
+                    }
+                }
+            }
+            return collected;
+        }
+    }
+}
@@ -22,9 +22,14 @@ package org.neo4j.gds.centrality;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.impl.closeness.HarmonicCentralityConfig;
 import org.neo4j.gds.impl.harmonic.HarmonicCentrality;
+import org.neo4j.gds.msbfs.SourceSampling;
+import org.neo4j.gds.msbfs.WideMultiSourceBFS;
 
 class HarmonicCentralityAlgorithmFactory extends GraphAlgorithmFactory<HarmonicCentrality, HarmonicCentralityConfig> {
     @Override
@@ -32,6 +37,15 @@ class HarmonicCentralityAlgorithmFactory extends GraphAlgorithmFactory<HarmonicC
         return "HarmonicCentrality";
     }
 
+    @Override
+    public MemoryEstimation memoryEstimation(HarmonicCentralityConfig configuration) {
+        return MemoryEstimations.builder(HarmonicCentrality.class)
+            .perNode("inverse farness", HugeAtomicDoubleArray::memoryEstimation)
+            .add("source sampling", SourceSampling.memoryEstimation(configuration))
+            .add("multi-source bfs", WideMultiSourceBFS.memoryEstimation(configuration.sourcesPerPass()))
+            .build();
+    }
+
     @Override
     public HarmonicCentrality build(
         Graph graph,
@@ -41,6 +55,8 @@ class HarmonicCentralityAlgorithmFactory extends GraphAlgorithmFactory<HarmonicC
         return new HarmonicCentrality(
             graph,
             configuration.concurrency(),
+            configuration.sourcesPerPass(),
+            SourceSampling.sources(graph.nodeCount(), configuration),
             Pools.DEFAULT,
             progressTracker
         );
@@ -77,7 +77,7 @@ public class CELFWriteSpec implements AlgorithmSpec<CELF, LongDoubleScatterMap,
                         writeConcurrency,
                         executionContext
                     ))
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.IO, writeConcurrency)
                     .build();
 
                 var properties = new CelfNodeProperties(celfSeedSet, graph.nodeCount());
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.scc.ParallelScc;
+import org.neo4j.gds.impl.scc.ParallelSccFactory;
+import org.neo4j.gds.impl.scc.SccMutateConfig;
+import org.neo4j.gds.result.AbstractCommunityResultBuilder;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.internal.kernel.api.procs.ProcedureCallContext;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.gds.scc.SccProc.DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.scc.mutate", description = DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class SccMutateProc extends MutatePropertyProc<ParallelScc, HugeLongArray, SccMutateProc.MutateResult, SccMutateConfig> {
+
+    @Procedure(value = "gds.alpha.scc.mutate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.alpha.scc.mutate.estimate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        return computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Override
+    protected SccMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return SccMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<ParallelScc, SccMutateConfig> algorithmFactory() {
+        return new ParallelSccFactory<>();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<ParallelScc, HugeLongArray, SccMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        var components = computeResult.result();
+        return new MutateResult.Builder(callContext, computeResult.config().concurrency())
+            .withCommunityFunction(components != null ? components::get : null);
+    }
+
+    @Override
+    protected NodePropertyValues nodeProperties(ComputationResult<ParallelScc, HugeLongArray, SccMutateConfig> computationResult) {
+        return computationResult.result().asNodeProperties();
+    }
+
+    public static final class MutateResult extends StandardMutateResult {
+
+        public final long nodePropertiesWritten;
+        public final long componentCount;
+
+        MutateResult(
+            long nodePropertiesWritten,
+            long componentCount,
+            long preProcessingMillis,
+            long computeMillis,
+            long postProcessingMillis,
+            long mutateMillis,
+            Map<String, Object> config
+        ) {
+            super(
+                preProcessingMillis,
+                computeMillis,
+                postProcessingMillis,
+                mutateMillis,
+                config
+            );
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.componentCount = componentCount;
+        }
+
+        static final class Builder extends AbstractCommunityResultBuilder<MutateResult> {
+
+            Builder(ProcedureCallContext context, int concurrency) {
+                super(context, concurrency);
+            }
+
+            @Override
+            protected MutateResult buildResult() {
+                return new MutateResult(
+                    nodePropertiesWritten,
+                    maybeCommunityCount.orElse(0L),
+                    preProcessingMillis,
+                    computeMillis,
+                    postProcessingDuration,
+                    mutateMillis,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
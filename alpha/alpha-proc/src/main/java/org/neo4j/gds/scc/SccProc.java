@@ -21,14 +21,13 @@ package org.neo4j.gds.scc;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.NodePropertiesWriter;
-import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.impl.scc.SccAlgorithm;
+import org.neo4j.gds.impl.scc.ParallelScc;
+import org.neo4j.gds.impl.scc.ParallelSccFactory;
 import org.neo4j.gds.impl.scc.SccConfig;
 
-public abstract class SccProc<PROC_RESULT> extends NodePropertiesWriter<SccAlgorithm, HugeLongArray, SccConfig, PROC_RESULT> {
+public abstract class SccProc<PROC_RESULT> extends NodePropertiesWriter<ParallelScc, HugeLongArray, SccConfig, PROC_RESULT> {
 
     protected static final String DESCRIPTION =
         "The SCC algorithm finds sets of connected nodes in an directed graph, " +
@@ -40,24 +39,7 @@ public abstract class SccProc<PROC_RESULT> extends NodePropertiesWriter<SccAlgor
     }
 
     @Override
-    public GraphAlgorithmFactory<SccAlgorithm, SccConfig> algorithmFactory() {
-        return new GraphAlgorithmFactory<>() {
-            @Override
-            public String taskName() {
-                return "Scc";
-            }
-
-            @Override
-            public SccAlgorithm build(
-                Graph graph,
-                SccConfig configuration,
-                ProgressTracker progressTracker
-            ) {
-                return new SccAlgorithm(
-                    graph,
-                    progressTracker
-                );
-            }
-        };
+    public GraphAlgorithmFactory<ParallelScc, SccConfig> algorithmFactory() {
+        return new ParallelSccFactory<>();
     }
 }
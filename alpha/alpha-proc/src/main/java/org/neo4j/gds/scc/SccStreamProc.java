@@ -23,6 +23,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.scc.ParallelScc;
 import org.neo4j.gds.impl.scc.SccAlgorithm;
 import org.neo4j.gds.impl.scc.SccConfig;
 import org.neo4j.procedure.Description;
@@ -52,7 +53,7 @@ public class SccStreamProc extends SccProc<SccAlgorithm.StreamResult> {
     }
 
     @Override
-    public ComputationResultConsumer<SccAlgorithm, HugeLongArray, SccConfig, Stream<SccAlgorithm.StreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<ParallelScc, HugeLongArray, SccConfig, Stream<SccAlgorithm.StreamResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> {
             Graph graph = computationResult.graph();
             HugeLongArray components = computationResult.result();
@@ -29,7 +29,7 @@ import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.NodePropertyExporter;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.GdsCallable;
-import org.neo4j.gds.impl.scc.SccAlgorithm;
+import org.neo4j.gds.impl.scc.ParallelScc;
 import org.neo4j.gds.impl.scc.SccConfig;
 import org.neo4j.gds.result.AbstractCommunityResultBuilder;
 import org.neo4j.gds.result.AbstractResultBuilder;
@@ -59,9 +59,9 @@ public class SccWriteProc extends SccProc<SccWriteProc.SccResult> {
     }
 
     @Override
-    public ComputationResultConsumer<SccAlgorithm, HugeLongArray, SccConfig, Stream<SccResult>> computationResultConsumer() {
+    public ComputationResultConsumer<ParallelScc, HugeLongArray, SccConfig, Stream<SccResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> {
-            SccAlgorithm algorithm = computationResult.algorithm();
+            ParallelScc algorithm = computationResult.algorithm();
             HugeLongArray components = computationResult.result();
             SccConfig config = computationResult.config();
             Graph graph = computationResult.graph();
@@ -94,7 +94,7 @@ public class SccWriteProc extends SccProc<SccWriteProc.SccResult> {
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .parallel(Pools.IO, config.writeConcurrency())
                     .build();
 
                 var properties = new LongNodePropertyValues() {
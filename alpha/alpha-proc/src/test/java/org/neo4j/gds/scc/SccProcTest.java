@@ -27,7 +27,9 @@ import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.NonReleasingTaskRegistry;
 import org.neo4j.gds.TestProcedureRunner;
+import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.progress.GlobalTaskStore;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
 import org.neo4j.gds.core.utils.progress.TaskStore;
@@ -35,6 +37,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.write.NativeNodePropertiesExporterBuilder;
 import org.neo4j.gds.transaction.TransactionContext;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -72,7 +75,7 @@ class SccProcTest extends BaseProcTest {
     @BeforeEach
     void setup() throws Exception {
         runQuery(DB_CYPHER);
-        registerProcedures(SccWriteProc.class, SccStreamProc.class, GraphProjectProc.class);
+        registerProcedures(SccWriteProc.class, SccStreamProc.class, SccMutateProc.class, GraphProjectProc.class);
     }
 
     @Test
@@ -187,4 +190,33 @@ class SccProcTest extends BaseProcTest {
         }
     }
 
+    @Test
+    void testMutate() {
+        loadCompleteGraph(DEFAULT_GRAPH_NAME);
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.scc")
+            .mutateMode()
+            .addParameter("mutateProperty", "componentId")
+            .yields("nodePropertiesWritten", "componentCount");
+
+        assertCypherResult(query, List.of(Map.of(
+            "nodePropertiesWritten", 9L,
+            "componentCount", 3L
+        )));
+
+        var graph = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), DEFAULT_GRAPH_NAME).graphStore().getUnion();
+        var components = graph.nodeProperties("componentId");
+        final IntIntScatterMap testMap = new IntIntScatterMap();
+        graph.forEachNode(nodeId -> {
+            testMap.addTo((int) components.longValue(nodeId), 1);
+            return true;
+        });
+
+        // 3 sets with 3 elements each
+        assertEquals(3, testMap.size());
+        for (IntIntCursor cursor : testMap) {
+            assertEquals(3, cursor.value);
+        }
+    }
 }
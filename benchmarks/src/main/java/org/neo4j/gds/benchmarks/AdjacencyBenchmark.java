@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded traversal of all adjacency lists,
+ * through the graph API and through raw {@link AdjacencyCursor}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-opens=java.base/java.nio=ALL-UNNAMED"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyBenchmark {
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    @Param({"COMPRESSED", "PACKED", "UNCOMPRESSED"})
+    public AdjacencyFormat adjacencyFormat;
+
+    private HugeGraph graph;
+    private AdjacencyList adjacencyList;
+    private long[] skipTargets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = BenchmarkGraphs.powerLaw(nodeCount, averageDegree, adjacencyFormat);
+        adjacencyList = graph.relationshipTopology().adjacencyList();
+
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        skipTargets = random.longs(nodeCount, 0, nodeCount).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+    }
+
+    @Benchmark
+    public long forEachRelationship() {
+        var sum = new long[1];
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, (source, target) -> {
+                sum[0] += target;
+                return true;
+            });
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    public long cursorIteration() {
+        long sum = 0;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void skipUntil(Blackhole blackhole) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            blackhole.consume(cursor.skipUntil(skipTargets[(int) node]));
+        }
+    }
+
+    @Benchmark
+    public void advance(Blackhole blackhole) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            blackhole.consume(cursor.advance(skipTargets[(int) node]));
+        }
+    }
+
+    @Benchmark
+    public void exists(Blackhole blackhole) {
+        for (long node = 0; node < nodeCount; node++) {
+            blackhole.consume(graph.exists(node, skipTargets[(int) node]));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.Supplier;
+
+/**
+ * The adjacency list formats that can be selected through feature toggles.
+ */
+public enum AdjacencyFormat {
+    COMPRESSED(false, false),
+    PACKED(false, true),
+    UNCOMPRESSED(true, false);
+
+    private final boolean uncompressed;
+    private final boolean packed;
+
+    AdjacencyFormat(boolean uncompressed, boolean packed) {
+        this.uncompressed = uncompressed;
+        this.packed = packed;
+    }
+
+    /**
+     * Runs the given supplier, typically a graph construction, with this adjacency format enabled.
+     */
+    public <T> T apply(Supplier<T> supplier) {
+        var uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressed);
+        var packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packed);
+        try {
+            return supplier.get();
+        } finally {
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+        }
+    }
+}
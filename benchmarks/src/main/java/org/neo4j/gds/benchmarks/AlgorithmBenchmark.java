@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.embeddings.fastrp.FastRPFactory;
+import org.neo4j.gds.embeddings.fastrp.ImmutableFastRPStreamConfig;
+import org.neo4j.gds.louvain.ImmutableLouvainStreamConfig;
+import org.neo4j.gds.louvain.LouvainFactory;
+import org.neo4j.gds.pagerank.ImmutablePageRankStreamConfig;
+import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.gds.similarity.nodesim.ImmutableNodeSimilarityStreamConfig;
+import org.neo4j.gds.similarity.nodesim.NodeSimilarityFactory;
+import org.neo4j.gds.wcc.ImmutableWccStreamConfig;
+import org.neo4j.gds.wcc.WccAlgorithmFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end runtime of representative algorithms on a generated graph.
+ * PageRank is implemented on top of Pregel and therefore also tracks the superstep overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "--add-opens=java.base/java.nio=ALL-UNNAMED"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AlgorithmBenchmark {
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"4"})
+    public int concurrency;
+
+    @Param({"COMPRESSED", "PACKED", "UNCOMPRESSED"})
+    public AdjacencyFormat adjacencyFormat;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = BenchmarkGraphs.powerLaw(nodeCount, averageDegree, adjacencyFormat);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+    }
+
+    @Benchmark
+    public Object wcc() {
+        var config = ImmutableWccStreamConfig.builder().concurrency(concurrency).build();
+        return new WccAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public Object pageRank() {
+        var config = ImmutablePageRankStreamConfig.builder()
+            .concurrency(concurrency)
+            .maxIterations(20)
+            .build();
+        return new PageRankAlgorithmFactory<>(PageRankAlgorithmFactory.Mode.PAGE_RANK)
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public Object louvain() {
+        var config = ImmutableLouvainStreamConfig.builder().concurrency(concurrency).build();
+        return new LouvainFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public void nodeSimilarity(Blackhole blackhole) {
+        var config = ImmutableNodeSimilarityStreamConfig.builder().concurrency(concurrency).build();
+        new NodeSimilarityFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .streamResult()
+            .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Object fastRP() {
+        var config = ImmutableFastRPStreamConfig.builder()
+            .concurrency(concurrency)
+            .embeddingDimension(128)
+            .randomSeed(BenchmarkGraphs.SEED)
+            .build();
+        return new FastRPFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+}
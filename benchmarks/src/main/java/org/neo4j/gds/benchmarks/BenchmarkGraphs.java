@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+final class BenchmarkGraphs {
+
+    static final long SEED = 42L;
+    static final String NODE_PROPERTY = "score";
+    static final String RELATIONSHIP_PROPERTY = "weight";
+
+    private BenchmarkGraphs() {}
+
+    /**
+     * A directed power-law graph with a random double node and relationship property.
+     * The same parameters always produce the same graph.
+     */
+    static HugeGraph powerLaw(long nodeCount, long averageDegree, AdjacencyFormat format) {
+        return generate(nodeCount, averageDegree, RelationshipDistribution.POWER_LAW, format);
+    }
+
+    static HugeGraph generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        AdjacencyFormat format
+    ) {
+        return format.apply(() -> RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .nodePropertyProducer(PropertyProducer.randomDouble(NODE_PROPERTY, 0, 1))
+            .relationshipPropertyProducer(PropertyProducer.randomDouble(RELATIONSHIP_PROPERTY, 0, 1))
+            .seed(SEED)
+            .build()
+            .generate());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential and random access to {@link HugeLongArray} and {@link HugeAtomicLongArray}.
+ * Sizes below and above a single page select the single and the paged implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeArrayBenchmark {
+
+    private static final int RANDOM_ACCESSES = 1 << 20;
+
+    @Param({"100000", "100000000"})
+    public long size;
+
+    private HugeLongArray array;
+    private HugeAtomicLongArray atomicArray;
+    private long[] randomIndices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        array = HugeLongArray.newArray(size);
+        array.setAll(index -> index);
+        atomicArray = HugeAtomicLongArray.newArray(size);
+        randomIndices = new SplittableRandom(BenchmarkGraphs.SEED).longs(RANDOM_ACCESSES, 0, size).toArray();
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialCursor() {
+        long sum = 0;
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                long[] page = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    sum += page[i];
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomGet() {
+        long sum = 0;
+        for (long index : randomIndices) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void randomSet() {
+        for (long index : randomIndices) {
+            array.set(index, index);
+        }
+    }
+
+    @Benchmark
+    public long atomicRandomGetAndAdd() {
+        long sum = 0;
+        for (long index : randomIndices) {
+            sum += atomicArray.getAndAdd(index, 1L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void atomicRandomCompareAndSet() {
+        for (long index : randomIndices) {
+            long current = atomicArray.get(index);
+            atomicArray.compareAndSet(index, current, current + 1);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.LazyIdMapBuilder;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping between original and internal node ids for the default id map ({@code ArrayIdMap} in the
+ * open edition) and for the {@code HighLimitIdMap} that is used for very large original ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IdMapBenchmark {
+
+    public enum IdMapType {
+        ARRAY,
+        HIGH_LIMIT
+    }
+
+    private static final int LOOKUPS = 1 << 20;
+    // spreads the original ids to simulate sparse store ids
+    private static final long ID_STRIDE = 7L;
+
+    @Param({"10000000"})
+    public long nodeCount;
+
+    @Param({"ARRAY", "HIGH_LIMIT"})
+    public IdMapType idMapType;
+
+    private IdMap idMap;
+    private long[] originalIds;
+    private long[] mappedIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        idMap = idMapType == IdMapType.ARRAY ? arrayIdMap() : highLimitIdMap();
+
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        mappedIds = random.longs(LOOKUPS, 0, nodeCount).toArray();
+        originalIds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            originalIds[i] = idMap.toOriginalNodeId(mappedIds[i]);
+        }
+    }
+
+    @Benchmark
+    public long toMappedNodeId() {
+        long sum = 0;
+        for (long originalId : originalIds) {
+            sum += idMap.toMappedNodeId(originalId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long toOriginalNodeId() {
+        long sum = 0;
+        for (long mappedId : mappedIds) {
+            sum += idMap.toOriginalNodeId(mappedId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int contains() {
+        int found = 0;
+        for (long originalId : originalIds) {
+            if (idMap.contains(originalId + 1)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private IdMap arrayIdMap() {
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .nodeCount(nodeCount)
+            .maxOriginalId(nodeCount * ID_STRIDE)
+            .hasLabelInformation(false)
+            .build();
+        for (long i = 0; i < nodeCount; i++) {
+            nodesBuilder.addNode(i * ID_STRIDE);
+        }
+        return nodesBuilder.build().idMap();
+    }
+
+    private IdMap highLimitIdMap() {
+        var builder = new LazyIdMapBuilder(1, false, false);
+        // the high limit id map is meant for ids that exceed the range of the regular id maps
+        long base = 1L << 50;
+        for (long i = 0; i < nodeCount; i++) {
+            builder.addNode(base + i * ID_STRIDE, NodeLabelTokens.empty());
+        }
+        builder.prepareForFlush();
+        return builder.build().idMap();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node property lookups and relationship property iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-opens=java.base/java.nio=ALL-UNNAMED"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PropertyBenchmark {
+
+    private static final int RANDOM_LOOKUPS = 1 << 20;
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"COMPRESSED", "PACKED", "UNCOMPRESSED"})
+    public AdjacencyFormat adjacencyFormat;
+
+    private HugeGraph graph;
+    private NodePropertyValues nodeProperties;
+    private long[] randomNodes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = BenchmarkGraphs.powerLaw(nodeCount, averageDegree, adjacencyFormat);
+        nodeProperties = graph.nodeProperties(BenchmarkGraphs.NODE_PROPERTY);
+        randomNodes = new SplittableRandom(BenchmarkGraphs.SEED).longs(RANDOM_LOOKUPS, 0, nodeCount).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+    }
+
+    @Benchmark
+    public double sequentialNodeProperty() {
+        double sum = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            sum += nodeProperties.doubleValue(node);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double randomNodeProperty() {
+        double sum = 0;
+        for (long node : randomNodes) {
+            sum += nodeProperties.doubleValue(node);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double forEachRelationshipWithProperty() {
+        var sum = new double[1];
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, Double.NaN, (source, target, weight) -> {
+                sum[0] += weight;
+                return true;
+            });
+        }
+        return sum[0];
+    }
+}
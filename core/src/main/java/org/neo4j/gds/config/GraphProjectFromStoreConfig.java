@@ -34,6 +34,8 @@ import org.neo4j.gds.api.GraphStoreFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.NativeFactory;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -50,6 +52,8 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
     String RELATIONSHIP_PROJECTION_KEY = "relationshipProjection";
     String NODE_PROPERTIES_KEY = "nodeProperties";
     String RELATIONSHIP_PROPERTIES_KEY = "relationshipProperties";
+    String ADJACENCY_INDEX_STORAGE_KEY = "adjacencyIndexStorage";
+    String COMPRESS_RELATIONSHIP_PROPERTIES_KEY = "compressRelationshipProperties";
 
     @Key(NODE_PROJECTION_KEY)
     @ConvertWith(method = "org.neo4j.gds.AbstractNodeProjections#fromObject")
@@ -77,6 +81,32 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    /**
+     * Where the adjacency index, i.e. the degrees and the offsets into the adjacency lists and relationship
+     * property lists, is stored. Only these per-node arrays move off the heap; the pages of the adjacency and
+     * property lists, node properties and the id map always stay on the heap.
+     * Storage outside of the heap is released when the graph is dropped.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Key(ADJACENCY_INDEX_STORAGE_KEY)
+    @ConvertWith(method = "org.neo4j.gds.core.utils.paged.HugeArrayStorage#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.utils.paged.HugeArrayStorage#toString")
+    default HugeArrayStorage adjacencyIndexStorage() {
+        return HugeArrayStorage.HEAP;
+    }
+
+    /**
+     * Whether the projected relationship properties are stored in compressed blocks.
+     * Defaults to the state of the {@code useCompressedAdjacencyProperties} feature toggle.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Key(COMPRESS_RELATIONSHIP_PROPERTIES_KEY)
+    default boolean compressRelationshipProperties() {
+        return GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled();
+    }
+
     @Configuration.Ignore
     @Override
     default GraphStoreFactory.Supplier graphStoreFactory() {
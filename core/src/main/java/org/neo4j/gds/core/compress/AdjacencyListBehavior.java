@@ -21,14 +21,26 @@ package org.neo4j.gds.core.compress;
 
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.CompressedAdjacencyProperties;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.AdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.CompressedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.CompressedAdjacencyPropertiesBuilderFactory;
 import org.neo4j.gds.core.loading.DeltaVarLongCompressor;
+import org.neo4j.gds.core.loading.PackedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.PackedCompressor;
 import org.neo4j.gds.core.loading.RawCompressor;
 import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
@@ -36,7 +48,7 @@ import java.util.function.LongSupplier;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, packed or uncompressed.
  */
 public interface AdjacencyListBehavior {
 
@@ -44,27 +56,93 @@ public interface AdjacencyListBehavior {
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations
+    ) {
+        return asConfigured(
+            nodeCountSupplier,
+            propertyMappings,
+            aggregations,
+            HugeArrayStorage.HEAP,
+            GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled()
+        );
+    }
+
+    /**
+     * @param adjacencyIndexStorage where to store the degrees and offsets of the adjacency lists
+     * @param compressProperties    whether to store relationship properties in compressed blocks
+     */
+    static AdjacencyCompressorFactory asConfigured(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
     ) {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-            : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return uncompressed(
+                nodeCountSupplier,
+                propertyMappings,
+                resolvedAggregations,
+                noAggregation,
+                adjacencyIndexStorage,
+                compressProperties
+            );
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return packed(
+                nodeCountSupplier,
+                propertyMappings,
+                resolvedAggregations,
+                noAggregation,
+                adjacencyIndexStorage,
+                compressProperties
+            );
+        }
+        return compressed(
+            nodeCountSupplier,
+            propertyMappings,
+            resolvedAggregations,
+            noAggregation,
+            adjacencyIndexStorage,
+            compressProperties
+        );
     }
 
     static AdjacencyCompressorFactory compressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
-        boolean noAggregation
+        boolean noAggregation,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
     ) {
         return DeltaVarLongCompressor.factory(
             nodeCountSupplier,
-            CompressedAdjacencyListBuilderFactory.of(),
+            withConfiguredProperties(CompressedAdjacencyListBuilderFactory.of(), compressProperties),
             propertyMappings,
             aggregations,
-            noAggregation
+            noAggregation,
+            adjacencyIndexStorage
+        );
+    }
+
+    static AdjacencyCompressorFactory packed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
+    ) {
+        return PackedCompressor.factory(
+            nodeCountSupplier,
+            withConfiguredProperties(PackedAdjacencyListBuilderFactory.of(), compressProperties),
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            adjacencyIndexStorage
         );
     }
 
@@ -72,30 +150,104 @@ public interface AdjacencyListBehavior {
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
-        boolean noAggregation
+        boolean noAggregation,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
     ) {
         return RawCompressor.factory(
             nodeCountSupplier,
-            UncompressedAdjacencyListBuilderFactory.of(),
+            withConfiguredProperties(UncompressedAdjacencyListBuilderFactory.of(), compressProperties),
             propertyMappings,
             aggregations,
-            noAggregation
+            noAggregation,
+            adjacencyIndexStorage
         );
     }
 
+    /**
+     * Replaces the property storage of the given factory with block-compressed properties if requested.
+     */
+    private static <PAGE, T extends AdjacencyList> AdjacencyListBuilderFactory<PAGE, T, long[], ? extends AdjacencyProperties> withConfiguredProperties(
+        AdjacencyListBuilderFactory<PAGE, T, long[], ? extends AdjacencyProperties> factory,
+        boolean compressProperties
+    ) {
+        if (compressProperties) {
+            return CompressedAdjacencyPropertiesBuilderFactory.of(factory);
+        }
+        return factory;
+    }
+
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
+        return adjacencyPropertiesEstimation(
+            relationshipType,
+            undirected,
+            GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled()
+        );
+    }
+
+    static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        boolean compressProperties
+    ) {
+        if (compressProperties) {
+            return CompressedAdjacencyProperties.adjacencyPropertiesEstimation(relationshipType, undirected);
+        }
         return UncompressedAdjacencyList.adjacencyPropertiesEstimation(relationshipType, undirected);
     }
+
+    /**
+     * Estimates the heap usage of an adjacency list whose degrees and offsets are stored in
+     * {@code adjacencyIndexStorage}.
+     */
+    static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        HugeArrayStorage adjacencyIndexStorage
+    ) {
+        var estimation = adjacencyListEstimation(relationshipType, undirected);
+        if (adjacencyIndexStorage == HugeArrayStorage.HEAP) {
+            return estimation;
+        }
+        return MemoryEstimations.andThen(estimation, (range, dimensions, concurrency) -> range
+            .subtract(HugeIntArray.memoryEstimation(dimensions.nodeCount()))
+            .subtract(HugeLongArray.memoryEstimation(dimensions.nodeCount())));
+    }
+
+    /**
+     * Estimates the heap usage of a property list whose offsets are stored in {@code adjacencyIndexStorage}.
+     */
+    static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
+    ) {
+        var estimation = adjacencyPropertiesEstimation(relationshipType, undirected, compressProperties);
+        if (adjacencyIndexStorage == HugeArrayStorage.HEAP) {
+            return estimation;
+        }
+        return MemoryEstimations.andThen(estimation, (range, dimensions, concurrency) -> range
+            .subtract(HugeLongArray.memoryEstimation(dimensions.nodeCount())));
+    }
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Limits the number of jobs that run at the same time on a delegate executor.
+ * <p>
+ * A job, e.g. writing the results of one procedure call, is {@link #admit() admitted} once
+ * and then submits all of its tasks to the returned {@link Job} without waiting for admission again.
+ * Submitters that exceed the limit are blocked until a running job finishes.
+ * Admission is granted in submission order and waiting submitters are woken up
+ * as soon as a slot becomes available instead of polling the work queue,
+ * unlike the caller-blocks policy of {@link Pools#DEFAULT}.
+ * {@link ParallelUtil} and {@link RunWithConcurrency} admit a job for every batch of tasks they run on this executor.
+ * Tasks that are submitted directly to this executor are admitted as a job of their own.
+ * <p>
+ * Jobs that are admitted from within a task of this executor do not wait for admission,
+ * which prevents nested submissions from deadlocking on the admission limit.
+ * <p>
+ * Whether a job uses virtual threads is decided when it is admitted,
+ * so toggling {@link org.neo4j.gds.utils.GdsFeatureToggles#USE_VIRTUAL_THREADS} takes effect for the next job.
+ */
+public final class AdmissionControlledExecutor extends AbstractExecutorService {
+
+    private final ExecutorService platformThreads;
+    private final BooleanSupplier useVirtualThreads;
+    private final Semaphore admission;
+    private final int maxConcurrentJobs;
+    private final ThreadLocal<Boolean> isWorker;
+
+    private final LongAdder admittedJobs;
+    private final LongAdder completedJobs;
+    private final LongAdder activeJobs;
+    private final LongAdder submittedTasks;
+    private final LongAdder totalQueueWaitNanos;
+    private final LongAccumulator maxQueueWaitNanos;
+
+    public AdmissionControlledExecutor(ExecutorService platformThreads, int maxConcurrentJobs) {
+        this(platformThreads, maxConcurrentJobs, () -> false);
+    }
+
+    /**
+     * @param platformThreads   runs the tasks of jobs that do not use virtual threads
+     * @param maxConcurrentJobs the number of jobs that can be admitted at the same time
+     * @param useVirtualThreads checked for every admitted job,
+     *                          virtual threads are only used if they are supported by the runtime
+     */
+    public AdmissionControlledExecutor(
+        ExecutorService platformThreads,
+        int maxConcurrentJobs,
+        BooleanSupplier useVirtualThreads
+    ) {
+        if (maxConcurrentJobs < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of concurrent jobs must be at least 1, but got %d",
+                maxConcurrentJobs
+            ));
+        }
+        this.platformThreads = platformThreads;
+        this.useVirtualThreads = useVirtualThreads;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.admission = new Semaphore(maxConcurrentJobs, true);
+        this.isWorker = ThreadLocal.withInitial(() -> Boolean.FALSE);
+        this.admittedJobs = new LongAdder();
+        this.completedJobs = new LongAdder();
+        this.activeJobs = new LongAdder();
+        this.submittedTasks = new LongAdder();
+        this.totalQueueWaitNanos = new LongAdder();
+        this.maxQueueWaitNanos = new LongAccumulator(Math::max, 0L);
+    }
+
+    public int maxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public QueueWaitMetrics metrics() {
+        return ImmutableQueueWaitMetrics.builder()
+            .admittedJobs(admittedJobs.sum())
+            .completedJobs(completedJobs.sum())
+            .activeJobs(activeJobs.sum())
+            .submittedTasks(submittedTasks.sum())
+            .totalQueueWaitNanos(totalQueueWaitNanos.sum())
+            .maxQueueWaitNanos(maxQueueWaitNanos.get())
+            .build();
+    }
+
+    /**
+     * Blocks until a new job can be admitted.
+     * The job must be {@link Job#close() closed} after all of its tasks have been submitted,
+     * its slot is freed once it is closed and all of its tasks have finished.
+     *
+     * @throws RejectedExecutionException if the calling thread is interrupted while waiting for admission
+     */
+    public Job admit() {
+        long submittedAt = System.nanoTime();
+
+        boolean holdsPermit = !isWorker.get();
+        if (holdsPermit) {
+            try {
+                admission.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for admission", e);
+            }
+        }
+
+        long queueWait = System.nanoTime() - submittedAt;
+        totalQueueWaitNanos.add(queueWait);
+        maxQueueWaitNanos.accumulate(queueWait);
+        admittedJobs.increment();
+        activeJobs.increment();
+
+        var virtualThreads = useVirtualThreads.getAsBoolean()
+            ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+            : Optional.<ExecutorService>empty();
+
+        return virtualThreads
+            .map(executor -> new Job(executor, true, holdsPermit))
+            .orElseGet(() -> new Job(platformThreads, false, holdsPermit));
+    }
+
+    /**
+     * Runs the task as a job of its own.
+     */
+    @Override
+    public void execute(Runnable command) {
+        var job = admit();
+        try {
+            job.execute(command);
+        } finally {
+            job.close();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        platformThreads.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return platformThreads.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return platformThreads.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return platformThreads.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return platformThreads.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * An admitted job. Its tasks run without waiting for admission.
+     * The job does not accept tasks once it is closed.
+     */
+    public final class Job extends AbstractExecutorService implements AutoCloseable {
+
+        private final ExecutorService executor;
+        private final boolean ownsExecutor;
+        private final boolean holdsPermit;
+        // counts the running tasks plus one for the job itself until it is closed
+        private final AtomicInteger pending;
+        private final AtomicBoolean closed;
+
+        private Job(ExecutorService executor, boolean ownsExecutor, boolean holdsPermit) {
+            this.executor = executor;
+            this.ownsExecutor = ownsExecutor;
+            this.holdsPermit = holdsPermit;
+            this.pending = new AtomicInteger(1);
+            this.closed = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (closed.get()) {
+                throw new RejectedExecutionException("The job has already been closed.");
+            }
+            submittedTasks.increment();
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    boolean wasWorker = isWorker.get();
+                    isWorker.set(Boolean.TRUE);
+                    try {
+                        command.run();
+                    } finally {
+                        isWorker.set(wasWorker);
+                        finishTask();
+                    }
+                });
+            } catch (RuntimeException e) {
+                finishTask();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                finishTask();
+            }
+        }
+
+        private void finishTask() {
+            if (pending.decrementAndGet() == 0) {
+                if (ownsExecutor) {
+                    executor.shutdown();
+                }
+                activeJobs.decrement();
+                completedJobs.increment();
+                if (holdsPermit) {
+                    admission.release();
+                }
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            close();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            close();
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return closed.get() || executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return pending.get() == 0;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            return true;
+        }
+    }
+}
@@ -320,6 +320,12 @@ public final class ParallelUtil {
      * Runs a single task and waits until it's finished.
      */
     public static void run(Runnable task, ExecutorService executor) {
+        if (executor instanceof AdmissionControlledExecutor) {
+            try (var job = ((AdmissionControlledExecutor) executor).admit()) {
+                awaitTermination(Collections.singleton(job.submit(task)));
+            }
+            return;
+        }
         awaitTermination(Collections.singleton(executor.submit(task)));
     }
 
@@ -342,6 +348,12 @@ public final class ParallelUtil {
         final ExecutorService executor,
         final Collection<Future<?>> futures
     ) {
+        if (executor instanceof AdmissionControlledExecutor) {
+            try (var job = ((AdmissionControlledExecutor) executor).admit()) {
+                awaitTermination(run(tasks, true, job, futures));
+            }
+            return;
+        }
         awaitTermination(run(tasks, true, executor, futures));
     }
 
@@ -377,6 +389,18 @@ public final class ParallelUtil {
     }
 
     static void runWithConcurrency(RunWithConcurrency params) {
+        var executor = params.executor();
+        if (executor instanceof AdmissionControlledExecutor) {
+            // all tasks of a run are admitted together
+            try (var job = ((AdmissionControlledExecutor) executor).admit()) {
+                runWithConcurrency(params, job);
+            }
+            return;
+        }
+        runWithConcurrency(params, executor);
+    }
+
+    private static void runWithConcurrency(RunWithConcurrency params, @Nullable ExecutorService executor) {
         runWithConcurrency(
             params.concurrency(),
             params.tasks(),
@@ -385,7 +409,7 @@ public final class ParallelUtil {
             params.maxWaitRetries(),
             params.mayInterruptIfRunning(),
             params.terminationFlag(),
-            params.executor()
+            executor
         );
     }
 
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.concurrency;
 
 import org.neo4j.gds.concurrency.PoolSizesService;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.helpers.NamedThreadFactory;
 
 import java.util.concurrent.ArrayBlockingQueue;
@@ -29,6 +30,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -40,7 +42,20 @@ public final class Pools {
     private static final String THREAD_NAME_PREFIX = "gds";
     private static final ThreadFactory DEFAULT_THREAD_FACTORY = NamedThreadFactory.daemon(THREAD_NAME_PREFIX);
 
+    // I/O bound tasks spend most of their time waiting, so the I/O pool has more threads than the default pool
+    static final int IO_TASKS_PER_THREAD = 4;
+
+    /**
+     * Sized pool for CPU bound work, such as running algorithms.
+     */
     public static final ExecutorService DEFAULT = createDefaultPool();
+    /**
+     * Pool for I/O bound work, such as writing results back to the database.
+     * At most as many jobs as the default pool has threads run at the same time.
+     * Jobs use virtual threads if {@link GdsFeatureToggles#USE_VIRTUAL_THREADS enabled} when they are admitted
+     * and if virtual threads are supported by the runtime.
+     */
+    public static final AdmissionControlledExecutor IO = createIoPool();
     public static final ExecutorService DEFAULT_SINGLE_THREAD_POOL = createSingleThreadPool("algo");
 
     private Pools() {
@@ -60,6 +75,31 @@ public final class Pools {
         );
     }
 
+    static AdmissionControlledExecutor createIoPool() {
+        var poolSizes = PoolSizesService.poolSizes();
+        int maxConcurrentJobs = poolSizes.maxPoolSize();
+
+        return new AdmissionControlledExecutor(
+            createIoThreadPool(maxConcurrentJobs * IO_TASKS_PER_THREAD),
+            maxConcurrentJobs,
+            GdsFeatureToggles.USE_VIRTUAL_THREADS::isEnabled
+        );
+    }
+
+    private static ExecutorService createIoThreadPool(int poolSize) {
+        // the admission control bounds the number of queued tasks
+        var pool = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            30L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            NamedThreadFactory.daemon(THREAD_NAME_PREFIX + "-io")
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
     public static ExecutorService createSingleThreadPool(String threadPrefix) {
         return Executors.newSingleThreadExecutor(NamedThreadFactory.daemon(threadPrefix));
     }
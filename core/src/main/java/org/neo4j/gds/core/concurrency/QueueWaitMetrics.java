@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the jobs that went through an {@link AdmissionControlledExecutor}.
+ * The queue wait of a job is the time its submitter was blocked waiting for admission.
+ */
+@ValueClass
+public interface QueueWaitMetrics {
+
+    long admittedJobs();
+
+    long completedJobs();
+
+    long activeJobs();
+
+    long submittedTasks();
+
+    long totalQueueWaitNanos();
+
+    long maxQueueWaitNanos();
+
+    @Value.Derived
+    default double averageQueueWaitMillis() {
+        if (admittedJobs() == 0) {
+            return 0.0;
+        }
+        return (double) totalQueueWaitNanos() / admittedJobs() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
@@ -102,18 +103,58 @@ public final class CompressedAdjacencyList implements AdjacencyList {
     private byte[][] pages;
     private HugeIntArray degrees;
     private HugeLongArray offsets;
+    private SharedHugeArray<HugeIntArray> sharedDegrees;
+    private SharedHugeArray<HugeLongArray> sharedOffsets;
 
     public CompressedAdjacencyList(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this(pages, SharedHugeArray.of(degrees), SharedHugeArray.of(offsets));
+    }
+
+    /**
+     * Creates an adjacency list that shares its degrees and offsets with other adjacency or property lists.
+     * The shared arrays are released when the last list using them is closed.
+     */
+    public CompressedAdjacencyList(
+        byte[][] pages,
+        SharedHugeArray<HugeIntArray> degrees,
+        SharedHugeArray<HugeLongArray> offsets
+    ) {
         this.pages = pages;
-        this.degrees = degrees;
-        this.offsets = offsets;
+        this.sharedDegrees = degrees;
+        this.sharedOffsets = offsets;
+        this.degrees = degrees.acquire();
+        this.offsets = offsets.acquire();
+    }
+
+    /**
+     * The pages, degrees and offsets are exposed to write them verbatim into a graph snapshot.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
     }
 
     @Override
     public void close() {
         pages = null;
+        // degrees and offsets are shared with other lists and might be stored off-heap
+        if (sharedDegrees != null) {
+            sharedDegrees.release();
+        }
+        if (sharedOffsets != null) {
+            sharedOffsets.release();
+        }
         degrees = null;
         offsets = null;
+        sharedDegrees = null;
+        sharedOffsets = null;
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.loading.BlockDoubleCodec;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * Relationship properties that are encoded in blocks by a {@link BlockDoubleCodec}.
+ * The cursor decodes one block at a time and returns the raw long bits of the property values.
+ */
+public final class CompressedAdjacencyProperties implements AdjacencyProperties {
+
+    public static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        boolean undirected
+    ) {
+        return MemoryEstimations
+            .builder(CompressedAdjacencyProperties.class)
+            .perGraphDimension("pages", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                long relCountForType = dimensions
+                    .relationshipCounts()
+                    .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+                long relCount = undirected ? relCountForType * 2 : relCountForType;
+                long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+                long blocksPerList = ceilDiv(avgDegree, BlockDoubleCodec.BLOCK_SIZE);
+
+                // Best case scenario: every block holds a single constant value.
+                long bestCaseSize = nodeCount * blocksPerList * (1 + Long.BYTES);
+                // Worst case scenario: no block can be encoded better than the raw values.
+                long worstCaseSize = nodeCount * (blocksPerList + avgDegree * Long.BYTES);
+
+                return MemoryRange.of(pagesSize(bestCaseSize), pagesSize(worstCaseSize));
+            })
+            // the degrees are shared with the adjacency list, only the offsets are owned by the properties
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private static long pagesSize(long bytes) {
+        int pages = PageUtil.numPagesFor(bytes, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        return pages * MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE) + MemoryUsage.sizeOfObjectArray(pages);
+    }
+
+    private byte[][] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+    private SharedHugeArray<HugeIntArray> sharedDegrees;
+    private SharedHugeArray<HugeLongArray> sharedOffsets;
+
+    public CompressedAdjacencyProperties(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this(pages, SharedHugeArray.of(degrees), SharedHugeArray.of(offsets));
+    }
+
+    /**
+     * Creates property lists that share their degrees and offsets with other adjacency or property lists.
+     * The shared arrays are released when the last list using them is closed.
+     */
+    public CompressedAdjacencyProperties(
+        byte[][] pages,
+        SharedHugeArray<HugeIntArray> degrees,
+        SharedHugeArray<HugeLongArray> offsets
+    ) {
+        this.pages = pages;
+        this.sharedDegrees = degrees;
+        this.sharedOffsets = offsets;
+        this.degrees = degrees.acquire();
+        this.offsets = offsets.acquire();
+    }
+
+    /**
+     * The pages, degrees and offsets are exposed to write them verbatim into a graph snapshot.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = new Cursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(pages);
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+        // degrees and offsets are shared with other lists and might be stored off-heap
+        if (sharedDegrees != null) {
+            sharedDegrees.release();
+        }
+        if (sharedOffsets != null) {
+            sharedOffsets.release();
+        }
+        degrees = null;
+        offsets = null;
+        sharedDegrees = null;
+        sharedOffsets = null;
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private final long[] block;
+        private byte[][] pages;
+
+        private byte[] currentPage;
+        private int offset;
+        private int remaining;
+        private int blockIndex;
+        private int blockLength;
+
+        private Cursor(byte[][] pages) {
+            this.pages = pages;
+            this.block = new long[BlockDoubleCodec.BLOCK_SIZE];
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            currentPage = pages[pageIndex(index, BumpAllocator.PAGE_SHIFT)];
+            offset = indexInPage(index, BumpAllocator.PAGE_MASK);
+            remaining = degree;
+            blockIndex = 0;
+            blockLength = 0;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return blockIndex < blockLength || remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (blockIndex == blockLength) {
+                blockLength = Math.min(remaining, BlockDoubleCodec.BLOCK_SIZE);
+                offset = BlockDoubleCodec.decompressBlock(currentPage, offset, blockLength, block);
+                remaining -= blockLength;
+                blockIndex = 0;
+            }
+            return block[blockIndex++];
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            currentPage = null;
+        }
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.loading.AdjacencyPacker;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * An adjacency list that stores sorted target ids in off-heap pages, bit-packed in blocks of
+ * {@link AdjacencyPacking#BLOCK_SIZE} delta-encoded values.
+ *
+ * The layout of a single adjacency list with {@code n} full blocks is
+ * <ul>
+ *     <li>{@code n} longs, holding the last (absolute) target id of each block</li>
+ *     <li>{@code n} bytes, holding the bit width of each block, padded to a multiple of 8 bytes</li>
+ *     <li>{@code n} bit-packed blocks, see {@link AdjacencyPacking}</li>
+ *     <li>the remaining {@code degree % BLOCK_SIZE} targets, var-long encoded</li>
+ * </ul>
+ *
+ * The last value of each block allows the cursor to skip entire blocks without decoding them.
+ * The off-heap memory is released when the adjacency list is closed.
+ */
+public final class PackedAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Best case scenario:
+        // Difference between node identifiers in each adjacency list is 1.
+        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, 1L);
+
+        // Worst case scenario:
+        // Relationships are equally distributed across nodes, i.e. each node has the same number of rels.
+        // Within each adjacency list, all identifiers have the highest possible difference between each other.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        // The pages are stored off-heap and reported by the NativeMemoryTracker,
+        // we only account for the on-heap arrays holding the page addresses and sizes.
+        long minPages = ceilDiv(bestCaseAdjacencySize, BumpAllocator.PAGE_SIZE);
+        long maxPages = ceilDiv(worstCaseAdjacencySize, BumpAllocator.PAGE_SIZE);
+
+        MemoryRange pagesMemoryRange = MemoryRange.of(
+            2 * MemoryUsage.sizeOfLongArray(minPages),
+            2 * MemoryUsage.sizeOfLongArray(maxPages)
+        );
+
+        return MemoryEstimations
+            .builder(PackedAdjacencyList.class)
+            .fixed("pages", pagesMemoryRange)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    /* test private */
+    static long computeAdjacencyByteSize(long avgDegree, long nodeCount, long delta) {
+        if (avgDegree == 0) {
+            return 0L;
+        }
+        long fullBlocks = avgDegree / AdjacencyPacking.BLOCK_SIZE;
+        long tail = avgDegree % AdjacencyPacking.BLOCK_SIZE;
+
+        int bitsPerValue = Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(delta));
+        // the first block contains the absolute first target id
+        int bitsForFirstBlock = Long.SIZE - Long.numberOfLeadingZeros(nodeCount);
+
+        long blockBytes = fullBlocks > 0
+            ? (long) bitsForFirstBlock * Long.BYTES + (fullBlocks - 1) * bitsPerValue * Long.BYTES
+            : 0L;
+        long tailBytes = tail * encodedVLongSize(delta);
+        long headerBytes = AdjacencyPacker.headerSize((int) fullBlocks);
+
+        return BitUtil.align(headerBytes + blockBytes + tailBytes, Long.BYTES) * nodeCount;
+    }
+
+    private long[] pages;
+    private long[] pageSizes;
+    private Runnable releasePages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+    private SharedHugeArray<HugeIntArray> sharedDegrees;
+    private SharedHugeArray<HugeLongArray> sharedOffsets;
+
+    public PackedAdjacencyList(long[] pages, long[] pageSizes, HugeIntArray degrees, HugeLongArray offsets) {
+        this(pages, pageSizes, SharedHugeArray.of(degrees), SharedHugeArray.of(offsets));
+    }
+
+    /**
+     * Creates an adjacency list that shares its degrees and offsets with other adjacency or property lists.
+     * The shared arrays are released when the last list using them is closed.
+     */
+    public PackedAdjacencyList(
+        long[] pages,
+        long[] pageSizes,
+        SharedHugeArray<HugeIntArray> degrees,
+        SharedHugeArray<HugeLongArray> offsets
+    ) {
+        this(pages, pageSizes, () -> {
+            for (int i = 0; i < pages.length; i++) {
+                NativeMemoryTracker.free(pages[i], pageSizes[i]);
+            }
+        }, degrees, offsets);
+    }
+
+    /**
+     * Creates an adjacency list over pages that it does not own, for example the memory-mapped pages of a graph snapshot.
+     * Instead of freeing the pages, {@code releasePages} is run when the list is closed.
+     */
+    public PackedAdjacencyList(
+        long[] pages,
+        long[] pageSizes,
+        Runnable releasePages,
+        SharedHugeArray<HugeIntArray> degrees,
+        SharedHugeArray<HugeLongArray> offsets
+    ) {
+        this.pages = pages;
+        this.pageSizes = pageSizes;
+        this.releasePages = releasePages;
+        this.sharedDegrees = degrees;
+        this.sharedOffsets = offsets;
+        this.degrees = degrees.acquire();
+        this.offsets = offsets.acquire();
+    }
+
+    /**
+     * The addresses and sizes of the off-heap pages, the degrees and offsets are exposed
+     * to write them verbatim into a graph snapshot.
+     */
+    public long[] pages() {
+        return pages;
+    }
+
+    public long[] pageSizes() {
+        return pageSizes;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public void close() {
+        if (pages != null) {
+            releasePages.run();
+        }
+        pages = null;
+        pageSizes = null;
+        releasePages = null;
+        // degrees and offsets are shared with other lists and might be stored off-heap
+        if (sharedDegrees != null) {
+            sharedDegrees.release();
+        }
+        if (sharedOffsets != null) {
+            sharedOffsets.release();
+        }
+        degrees = null;
+        offsets = null;
+        sharedDegrees = null;
+        sharedOffsets = null;
+    }
+
+    // Cursors
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new BlockDecodingCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof BlockDecodingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new BlockDecodingCursor(pages);
+    }
+
+    public static final class BlockDecodingCursor implements AdjacencyCursor {
+
+        private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+        private long[] pages;
+        private final long[] block;
+
+        private int degree;
+        private int fullBlocks;
+
+        // points to the last values of all full blocks
+        private long lastValuesPtr;
+        // points to the bit widths of all full blocks
+        private long bitsPtr;
+        // points to the next block that has not been decoded or skipped
+        private long blockPtr;
+        // index of the next block that has not been decoded or skipped
+        private int nextBlock;
+        // last value of the most recently decoded or skipped block
+        private long lastValue;
+
+        // position in the currently decoded block
+        private int pos;
+        // number of values in the currently decoded block
+        private int blockLength;
+        // number of targets that have been consumed in total
+        private int consumed;
+
+        private BlockDecodingCursor(long[] pages) {
+            this.pages = pages;
+            this.block = new long[BLOCK_SIZE];
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            long ptr = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)] + indexInPage(
+                fromIndex,
+                BumpAllocator.PAGE_MASK
+            );
+            this.degree = degree;
+            this.fullBlocks = degree / BLOCK_SIZE;
+            this.lastValuesPtr = ptr;
+            this.bitsPtr = ptr + (long) fullBlocks * Long.BYTES;
+            this.blockPtr = ptr + AdjacencyPacker.headerSize(fullBlocks);
+            this.nextBlock = 0;
+            this.lastValue = 0L;
+            this.pos = 0;
+            this.blockLength = 0;
+            this.consumed = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof BlockDecodingCursor
+                ? (BlockDecodingCursor) destination
+                : new BlockDecodingCursor(pages);
+            System.arraycopy(this.block, 0, dest.block, 0, this.blockLength);
+            dest.degree = this.degree;
+            dest.fullBlocks = this.fullBlocks;
+            dest.lastValuesPtr = this.lastValuesPtr;
+            dest.bitsPtr = this.bitsPtr;
+            dest.blockPtr = this.blockPtr;
+            dest.nextBlock = this.nextBlock;
+            dest.lastValue = this.lastValue;
+            dest.pos = this.pos;
+            dest.blockLength = this.blockLength;
+            dest.consumed = this.consumed;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - consumed;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return consumed < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (pos == blockLength) {
+                decodeNextBlock();
+            }
+            consumed++;
+            return block[pos++];
+        }
+
+        @Override
+        public long peekVLong() {
+            if (pos == blockLength) {
+                decodeNextBlock();
+            }
+            return block[pos];
+        }
+
+        /**
+         * Read and decode target ids until it is strictly larger than ({@literal >}) the provided {@code target}.
+         * Full blocks whose last value is not larger than the {@code target} are skipped without decoding them.
+         * If there are no such targets before this cursor is exhausted, the last target is returned.
+         * If the cursor was already exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
+         */
+        @Override
+        public long skipUntil(long target) {
+            return advanceTo(target + 1);
+        }
+
+        /**
+         * Read and decode target ids until it is larger than or equal ({@literal >=}) the provided {@code target}.
+         * Full blocks whose last value is smaller than the {@code target} are skipped without decoding them.
+         * If there are no such targets before this cursor is exhausted, the last target is returned.
+         * If the cursor was already exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
+         */
+        @Override
+        public long advance(long target) {
+            return advanceTo(target);
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            if (remaining() <= n) {
+                consumed = degree;
+                pos = blockLength;
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            int skip = n;
+            while (skip >= blockLength - pos) {
+                skip -= blockLength - pos;
+                consumed += blockLength - pos;
+                pos = blockLength;
+                if (skip >= BLOCK_SIZE && nextBlock < fullBlocks) {
+                    skipBlock();
+                    skip -= BLOCK_SIZE;
+                } else {
+                    decodeNextBlock();
+                }
+            }
+
+            pos += skip;
+            consumed += skip + 1;
+            return block[pos++];
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+        }
+
+        private long advanceTo(long target) {
+            if (consumed >= degree) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            long value = AdjacencyCursor.NOT_FOUND;
+            while (consumed < degree) {
+                if (pos == blockLength) {
+                    // skip all full blocks that end before the target
+                    while (nextBlock < fullBlocks && lastValueOfBlock(nextBlock) < target) {
+                        skipBlock();
+                    }
+                    if (consumed >= degree) {
+                        // we skipped over the last target, this is the last value of the last block
+                        return lastValue;
+                    }
+                    decodeNextBlock();
+                }
+                while (pos < blockLength) {
+                    value = block[pos++];
+                    consumed++;
+                    if (value >= target) {
+                        return value;
+                    }
+                }
+            }
+            return value;
+        }
+
+        private long lastValueOfBlock(int blockIndex) {
+            return UnsafeUtil.getLong(lastValuesPtr + (long) blockIndex * Long.BYTES);
+        }
+
+        private void skipBlock() {
+            int bits = UnsafeUtil.getByte(bitsPtr + nextBlock);
+            blockPtr += (long) bits * Long.BYTES;
+            lastValue = lastValueOfBlock(nextBlock);
+            consumed += BLOCK_SIZE;
+            nextBlock++;
+        }
+
+        private void decodeNextBlock() {
+            long[] block = this.block;
+            long value = this.lastValue;
+            int length;
+            if (nextBlock < fullBlocks) {
+                int bits = UnsafeUtil.getByte(bitsPtr + nextBlock);
+                blockPtr = AdjacencyPacking.unpack(bits, block, 0, blockPtr);
+                length = BLOCK_SIZE;
+                for (int i = 0; i < length; i++) {
+                    value = block[i] += value;
+                }
+            } else {
+                length = degree - fullBlocks * BLOCK_SIZE;
+                long ptr = blockPtr;
+                for (int i = 0; i < length; i++) {
+                    long delta = 0L;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = UnsafeUtil.getByte(ptr++);
+                        delta |= (b & 127L) << shift;
+                        shift += 7;
+                    } while ((b & 128) == 0);
+                    value = block[i] = value + delta;
+                }
+                blockPtr = ptr;
+            }
+            nextBlock++;
+            lastValue = value;
+            blockLength = length;
+            pos = 0;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.mem.MemoryUsage;
 
@@ -112,11 +113,27 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
     private long[][] pages;
     private HugeIntArray degrees;
     private HugeLongArray offsets;
+    private SharedHugeArray<HugeIntArray> sharedDegrees;
+    private SharedHugeArray<HugeLongArray> sharedOffsets;
 
     public UncompressedAdjacencyList(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this(pages, SharedHugeArray.of(degrees), SharedHugeArray.of(offsets));
+    }
+
+    /**
+     * Creates an adjacency list that shares its degrees and offsets with other adjacency or property lists.
+     * The shared arrays are released when the last list using them is closed.
+     */
+    public UncompressedAdjacencyList(
+        long[][] pages,
+        SharedHugeArray<HugeIntArray> degrees,
+        SharedHugeArray<HugeLongArray> offsets
+    ) {
         this.pages = pages;
-        this.degrees = degrees;
-        this.offsets = offsets;
+        this.sharedDegrees = degrees;
+        this.sharedOffsets = offsets;
+        this.degrees = degrees.acquire();
+        this.offsets = offsets.acquire();
     }
 
     @Override
@@ -154,11 +171,32 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         return new Cursor(pages);
     }
 
+    public long[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public void close() {
         pages = null;
+        // degrees and offsets are shared with other lists and might be stored off-heap
+        if (sharedDegrees != null) {
+            sharedDegrees.release();
+        }
+        if (sharedOffsets != null) {
+            sharedOffsets.release();
+        }
         degrees = null;
         offsets = null;
+        sharedDegrees = null;
+        sharedOffsets = null;
     }
 
     @Override
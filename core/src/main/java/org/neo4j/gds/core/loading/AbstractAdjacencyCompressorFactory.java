@@ -25,9 +25,13 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.AdjacencyListsWithProperties;
 import org.neo4j.gds.core.compress.ImmutableAdjacencyListsWithProperties;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
 
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongSupplier;
 
@@ -39,17 +43,19 @@ abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_PAGE> im
     final boolean noAggregation;
     final Aggregation[] aggregations;
     final LongAdder relationshipCounter;
+    final HugeArrayStorage adjacencyIndexStorage;
 
     HugeIntArray adjacencyDegrees;
     HugeLongArray adjacencyOffsets;
-    HugeLongArray propertyOffsets;
+    HugeLongArray[] propertyOffsets;
 
     AbstractAdjacencyCompressorFactory(
         LongSupplier nodeCountSupplier,
         AdjacencyListBuilder<TARGET_PAGE, ? extends AdjacencyList> adjacencyBuilder,
         AdjacencyListBuilder<PROPERTY_PAGE, ? extends AdjacencyProperties>[] propertyBuilders,
         boolean noAggregation,
-        Aggregation[] aggregations
+        Aggregation[] aggregations,
+        HugeArrayStorage adjacencyIndexStorage
     ) {
         this.adjacencyBuilder = adjacencyBuilder;
         this.propertyBuilders = propertyBuilders;
@@ -57,14 +63,23 @@ abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_PAGE> im
         this.noAggregation = noAggregation;
         this.aggregations = aggregations;
         this.relationshipCounter = new LongAdder();
+        this.adjacencyIndexStorage = adjacencyIndexStorage;
     }
 
     @Override
     public void init() {
         var nodeCount = this.nodeCountSupplier.getAsLong();
-        this.adjacencyDegrees = HugeIntArray.newArray(nodeCount);
-        this.adjacencyOffsets = HugeLongArray.newArray(nodeCount);
-        this.propertyOffsets = HugeLongArray.newArray(nodeCount);
+        this.adjacencyDegrees = HugeIntArray.newArray(nodeCount, adjacencyIndexStorage);
+        this.adjacencyOffsets = HugeLongArray.newArray(nodeCount, adjacencyIndexStorage);
+        // property lists written at the position of the first property share its offsets
+        var sharedPropertyOffsets = HugeLongArray.newArray(nodeCount, adjacencyIndexStorage);
+        this.propertyOffsets = new HugeLongArray[propertyBuilders.length];
+        Arrays.setAll(
+            this.propertyOffsets,
+            i -> i == 0 || propertyBuilders[i].positionalWrites()
+                ? sharedPropertyOffsets
+                : HugeLongArray.newArray(nodeCount, adjacencyIndexStorage)
+        );
     }
 
     @Override
@@ -74,14 +89,18 @@ abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_PAGE> im
 
     @Override
     public AdjacencyListsWithProperties build() {
+        // the degrees are shared by all lists and some property lists share their offsets,
+        // the shared arrays are released once all lists that use them have been closed
+        var degrees = SharedHugeArray.of(this.adjacencyDegrees);
         var builder = ImmutableAdjacencyListsWithProperties
             .builder()
-            .adjacency(adjacencyBuilder.build(this.adjacencyDegrees, this.adjacencyOffsets));
+            .adjacency(adjacencyBuilder.build(degrees, SharedHugeArray.of(this.adjacencyOffsets)));
 
         var propertyBuilders = this.propertyBuilders;
-        var propertyOffsets = this.propertyOffsets;
-        for (var propertyBuilder : propertyBuilders) {
-            var properties = propertyBuilder.build(this.adjacencyDegrees, propertyOffsets);
+        var propertyOffsets = new IdentityHashMap<HugeLongArray, SharedHugeArray<HugeLongArray>>();
+        for (int i = 0; i < propertyBuilders.length; i++) {
+            var offsets = propertyOffsets.computeIfAbsent(this.propertyOffsets[i], SharedHugeArray::of);
+            var properties = propertyBuilders[i].build(degrees, offsets);
             builder.addProperty(properties);
         }
 
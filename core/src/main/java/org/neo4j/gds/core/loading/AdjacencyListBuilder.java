@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.neo4j.gds.core.utils.PageReordering;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 public interface AdjacencyListBuilder<PAGE, T> {
@@ -30,7 +31,22 @@ public interface AdjacencyListBuilder<PAGE, T> {
 
     Allocator<PAGE> newPositionalAllocator();
 
-    T build(HugeIntArray degrees, HugeLongArray offsets);
+    /**
+     * Whether the allocators returned by {@link #newPositionalAllocator()} write to the given address.
+     * Builders that ignore the address need their own offsets for every list they build.
+     */
+    default boolean positionalWrites() {
+        return true;
+    }
+
+    default T build(HugeIntArray degrees, HugeLongArray offsets) {
+        return build(SharedHugeArray.of(degrees), SharedHugeArray.of(offsets));
+    }
+
+    /**
+     * Builds a list that holds a reference to the given degrees and offsets, which might be shared with other lists.
+     */
+    T build(SharedHugeArray<HugeIntArray> degrees, SharedHugeArray<HugeLongArray> offsets);
 
     interface Allocator<PAGE> extends AutoCloseable {
 
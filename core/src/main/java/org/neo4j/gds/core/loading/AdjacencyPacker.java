@@ -20,9 +20,9 @@
 package org.neo4j.gds.core.loading;
 
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.internal.unsafe.UnsafeUtil;
-import org.neo4j.memory.EmptyMemoryTracker;
 
 import java.util.Arrays;
 
@@ -46,7 +46,7 @@ public final class AdjacencyPacker {
         }
 
         public void free() {
-            UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+            NativeMemoryTracker.free(address, bytes);
         }
 
         @Override
@@ -89,7 +89,7 @@ public final class AdjacencyPacker {
         }
 
         bytes = BitUtil.align(bytes, Long.BYTES);
-        long mem = UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE);
+        long mem = NativeMemoryTracker.allocate(bytes);
         long ptr = mem;
 
         i = offset;
@@ -132,6 +132,78 @@ public final class AdjacencyPacker {
         return values;
     }
 
+    /**
+     * Computes the number of bytes required to store the given sorted and delta-encoded
+     * adjacency list in the layout of {@link org.neo4j.gds.core.huge.PackedAdjacencyList}.
+     * The bit width of every full block is written into {@code blockBits},
+     * which must be able to hold at least {@code length / BLOCK_SIZE} values.
+     * The returned size is aligned to {@link Long#BYTES}.
+     */
+    public static long packedSize(long[] values, int length, byte[] blockBits) {
+        int fullBlocks = length / AdjacencyPacking.BLOCK_SIZE;
+        long bytes = headerSize(fullBlocks);
+
+        int offset = 0;
+        for (int block = 0; block < fullBlocks; block++) {
+            int bits = bitsNeeded(values, offset, AdjacencyPacking.BLOCK_SIZE);
+            blockBits[block] = (byte) bits;
+            bytes += bytesNeeded(bits);
+            offset += AdjacencyPacking.BLOCK_SIZE;
+        }
+
+        bytes += VarLongEncoding.encodedVLongsSize(values, offset, length - offset);
+        return BitUtil.align(bytes, Long.BYTES);
+    }
+
+    /**
+     * Writes the given sorted and delta-encoded adjacency list to {@code ptr}.
+     * The {@code blockBits} must have been computed by {@link #packedSize(long[], int, byte[])}
+     * and the memory at {@code ptr} must be at least as large as the size returned from that method.
+     *
+     * Full blocks are bit-packed, preceded by a header that stores the last (absolute) value of each block
+     * followed by the bit width of each block. The remaining tail values are var-long encoded.
+     */
+    public static void pack(long[] values, int length, byte[] blockBits, long ptr) {
+        int fullBlocks = length / AdjacencyPacking.BLOCK_SIZE;
+        long lastValuesPtr = ptr;
+        long bitsPtr = lastValuesPtr + (long) fullBlocks * Long.BYTES;
+        long blockPtr = lastValuesPtr + headerSize(fullBlocks);
+
+        long value = 0L;
+        int offset = 0;
+        for (int block = 0; block < fullBlocks; block++) {
+            int end = offset + AdjacencyPacking.BLOCK_SIZE;
+            for (int i = offset; i < end; i++) {
+                value += values[i];
+            }
+            byte bits = blockBits[block];
+            UnsafeUtil.putLong(lastValuesPtr + (long) block * Long.BYTES, value);
+            UnsafeUtil.putByte(bitsPtr + block, bits);
+            blockPtr = AdjacencyPacking.pack(bits, values, offset, blockPtr);
+            offset = end;
+        }
+
+        for (int i = offset; i < length; i++) {
+            blockPtr = putVLong(values[i], blockPtr);
+        }
+    }
+
+    /**
+     * The size of the block header, that is the last value and the bit width of each full block.
+     */
+    public static long headerSize(int fullBlocks) {
+        return (long) fullBlocks * Long.BYTES + BitUtil.align(fullBlocks, Long.BYTES);
+    }
+
+    private static long putVLong(long value, long ptr) {
+        while (value >= VarLongEncoding.THRESHOLD_1_BYTE) {
+            UnsafeUtil.putByte(ptr++, (byte) (value & 127L));
+            value >>>= 7;
+        }
+        UnsafeUtil.putByte(ptr++, (byte) (value | 128L));
+        return ptr;
+    }
+
     private static int bitsNeeded(long[] values, int offset, int length) {
         long bits = 0L;
         for (int i = offset; i < offset + length; i++) {
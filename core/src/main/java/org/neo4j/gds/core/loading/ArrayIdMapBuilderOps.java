@@ -30,7 +30,7 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 public final class ArrayIdMapBuilderOps {
 
-    static ArrayIdMap build(
+    public static ArrayIdMap build(
         HugeLongArray graphIds,
         long nodeCount,
         LabelInformation.Builder labelInformationBuilder,
@@ -60,7 +60,7 @@ public final class ArrayIdMapBuilderOps {
     }
 
     @NotNull
-    static HugeSparseLongArray buildSparseIdMap(
+    public static HugeSparseLongArray buildSparseIdMap(
         long nodeCount,
         long highestNodeId,
         int concurrency,
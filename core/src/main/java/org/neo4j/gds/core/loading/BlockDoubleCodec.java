@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.util.Arrays;
+
+/**
+ * Compresses relationship property values, given as {@link Double#doubleToRawLongBits(double) raw long bits},
+ * in blocks of {@value #BLOCK_SIZE} values.
+ * <p>
+ * Every block picks the smallest of the following encodings that can represent all of its values exactly:
+ * <ul>
+ *     <li>{@code CONSTANT}: all values are equal and stored once.</li>
+ *     <li>{@code DICTIONARY}: at most {@value #MAX_DICTIONARY_SIZE} distinct values, every value is a bit-packed index into them.</li>
+ *     <li>{@code INTEGER}: all values are integers, stored bit-packed as the difference to the smallest of them.</li>
+ *     <li>{@code FLOAT}: all values are representable as {@code float} without loss.</li>
+ *     <li>{@code RAW}: the plain eight bytes of every value.</li>
+ * </ul>
+ * A block starts with a single byte identifying its encoding.
+ * The number of values in a block is not stored; it follows from the number of values in the list.
+ * <p>
+ * Unlike {@link DoubleCodec}, which compresses every value on its own, the encodings depend on all values of a block.
+ * Instances hold scratch buffers and must not be shared between threads.
+ */
+public final class BlockDoubleCodec {
+
+    public static final int BLOCK_SIZE = 64;
+
+    static final int MAX_DICTIONARY_SIZE = 16;
+
+    static final byte CONSTANT = 0;
+    static final byte DICTIONARY = 1;
+    static final byte INTEGER = 2;
+    static final byte FLOAT = 3;
+    static final byte RAW = 4;
+
+    // all integers up to this magnitude are exactly representable as a double
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+
+    private final long[] dictionary;
+    private final long[] packed;
+
+    public BlockDoubleCodec() {
+        this.dictionary = new long[MAX_DICTIONARY_SIZE];
+        this.packed = new long[BLOCK_SIZE];
+    }
+
+    /**
+     * An upper bound for the number of bytes needed to compress {@code length} values.
+     */
+    public static int maxCompressedSize(int length) {
+        int blocks = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        return blocks + length * Long.BYTES;
+    }
+
+    /**
+     * Compresses the first {@code length} values into {@code out}, which must hold at least
+     * {@link #maxCompressedSize(int)} bytes.
+     *
+     * @return the number of bytes written
+     */
+    public int compress(long[] values, int length, byte[] out) {
+        int position = 0;
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            position = compressBlock(values, start, Math.min(BLOCK_SIZE, length - start), out, position);
+        }
+        return position;
+    }
+
+    private int compressBlock(long[] values, int start, int length, byte[] out, int position) {
+        long first = values[start];
+        boolean constant = true;
+        boolean floats = true;
+        boolean integers = true;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int dictionarySize = 0;
+
+        for (int i = start; i < start + length; i++) {
+            long bits = values[i];
+            double value = Double.longBitsToDouble(bits);
+
+            constant &= bits == first;
+            floats = floats && Double.doubleToRawLongBits((float) value) == bits;
+            if (integers) {
+                long integer = (long) value;
+                // also rejects NaN and -0.0, which do not survive the round trip
+                if (Math.abs(integer) <= MAX_EXACT_INTEGER && Double.doubleToRawLongBits((double) integer) == bits) {
+                    min = Math.min(min, integer);
+                    max = Math.max(max, integer);
+                } else {
+                    integers = false;
+                }
+            }
+            if (dictionarySize <= MAX_DICTIONARY_SIZE && indexOf(dictionary, dictionarySize, bits) < 0) {
+                if (dictionarySize < MAX_DICTIONARY_SIZE) {
+                    dictionary[dictionarySize] = bits;
+                }
+                dictionarySize++;
+            }
+        }
+
+        if (constant) {
+            out[position++] = CONSTANT;
+            return writeLong(first, out, position);
+        }
+
+        int encoding = RAW;
+        int size = 1 + length * Long.BYTES;
+        int integerBits = integers ? Long.SIZE - Long.numberOfLeadingZeros(max - min) : 0;
+        if (integers) {
+            int integerSize = 2 + Long.BYTES + packedSize(length, integerBits);
+            if (integerSize < size) {
+                encoding = INTEGER;
+                size = integerSize;
+            }
+        }
+        int dictionaryBits = Integer.SIZE - Integer.numberOfLeadingZeros(dictionarySize - 1);
+        if (dictionarySize <= MAX_DICTIONARY_SIZE) {
+            int dictionaryEncodingSize = 2 + dictionarySize * Long.BYTES + packedSize(length, dictionaryBits);
+            if (dictionaryEncodingSize < size) {
+                encoding = DICTIONARY;
+                size = dictionaryEncodingSize;
+            }
+        }
+        if (floats && 1 + length * Float.BYTES < size) {
+            encoding = FLOAT;
+        }
+
+        out[position++] = (byte) encoding;
+        switch (encoding) {
+            case INTEGER:
+                out[position++] = (byte) integerBits;
+                position = writeLong(min, out, position);
+                for (int i = 0; i < length; i++) {
+                    packed[i] = ((long) Double.longBitsToDouble(values[start + i])) - min;
+                }
+                return pack(packed, length, integerBits, out, position);
+            case DICTIONARY:
+                out[position++] = (byte) dictionarySize;
+                for (int i = 0; i < dictionarySize; i++) {
+                    position = writeLong(dictionary[i], out, position);
+                }
+                for (int i = 0; i < length; i++) {
+                    packed[i] = indexOf(dictionary, dictionarySize, values[start + i]);
+                }
+                return pack(packed, length, dictionaryBits, out, position);
+            case FLOAT:
+                for (int i = start; i < start + length; i++) {
+                    int floatBits = Float.floatToRawIntBits((float) Double.longBitsToDouble(values[i]));
+                    position = writeInt(floatBits, out, position);
+                }
+                return position;
+            default:
+                for (int i = start; i < start + length; i++) {
+                    position = writeLong(values[i], out, position);
+                }
+                return position;
+        }
+    }
+
+    /**
+     * Decompresses a block of {@code length} values, starting at {@code position}, into {@code out}.
+     *
+     * @return the position of the next block
+     */
+    public static int decompressBlock(byte[] data, int position, int length, long[] out) {
+        byte encoding = data[position++];
+        switch (encoding) {
+            case CONSTANT:
+                Arrays.fill(out, 0, length, readLong(data, position));
+                return position + Long.BYTES;
+            case DICTIONARY: {
+                int dictionarySize = data[position++];
+                int dictionaryStart = position;
+                position += dictionarySize * Long.BYTES;
+                int bits = Integer.SIZE - Integer.numberOfLeadingZeros(dictionarySize - 1);
+                position = unpack(data, position, length, bits, out);
+                for (int i = 0; i < length; i++) {
+                    out[i] = readLong(data, dictionaryStart + (int) out[i] * Long.BYTES);
+                }
+                return position;
+            }
+            case INTEGER: {
+                int bits = data[position++];
+                long min = readLong(data, position);
+                position = unpack(data, position + Long.BYTES, length, bits, out);
+                for (int i = 0; i < length; i++) {
+                    out[i] = Double.doubleToRawLongBits((double) (min + out[i]));
+                }
+                return position;
+            }
+            case FLOAT:
+                for (int i = 0; i < length; i++) {
+                    out[i] = Double.doubleToRawLongBits(Float.intBitsToFloat(readInt(data, position)));
+                    position += Integer.BYTES;
+                }
+                return position;
+            case RAW:
+                for (int i = 0; i < length; i++) {
+                    out[i] = readLong(data, position);
+                    position += Long.BYTES;
+                }
+                return position;
+            default:
+                throw new IllegalStateException("Unknown block encoding: " + encoding);
+        }
+    }
+
+    private static int indexOf(long[] dictionary, int size, long value) {
+        for (int i = 0; i < Math.min(size, dictionary.length); i++) {
+            if (dictionary[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int packedSize(int length, int bits) {
+        return (length * bits + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    private static int pack(long[] values, int length, int bits, byte[] out, int position) {
+        int bytes = packedSize(length, bits);
+        Arrays.fill(out, position, position + bytes, (byte) 0);
+        long bitPosition = 0;
+        for (int i = 0; i < length; i++) {
+            long value = values[i];
+            for (int written = 0; written < bits; ) {
+                int index = position + (int) (bitPosition >>> 3);
+                int shift = (int) (bitPosition & 7);
+                int count = Math.min(bits - written, Byte.SIZE - shift);
+                out[index] |= (byte) (((value >>> written) & ((1L << count) - 1)) << shift);
+                written += count;
+                bitPosition += count;
+            }
+        }
+        return position + bytes;
+    }
+
+    private static int unpack(byte[] data, int position, int length, int bits, long[] out) {
+        long bitPosition = 0;
+        for (int i = 0; i < length; i++) {
+            long value = 0;
+            for (int read = 0; read < bits; ) {
+                int index = position + (int) (bitPosition >>> 3);
+                int shift = (int) (bitPosition & 7);
+                int count = Math.min(bits - read, Byte.SIZE - shift);
+                value |= (((data[index] & 0xFFL) >>> shift) & ((1L << count) - 1)) << read;
+                read += count;
+                bitPosition += count;
+            }
+            out[i] = value;
+        }
+        return position + packedSize(length, bits);
+    }
+
+    private static int writeLong(long value, byte[] out, int position) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            out[position++] = (byte) (value >>> (i * Byte.SIZE));
+        }
+        return position;
+    }
+
+    private static int writeInt(int value, byte[] out, int position) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            out[position++] = (byte) (value >>> (i * Byte.SIZE));
+        }
+        return position;
+    }
+
+    private static long readLong(byte[] data, int position) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value |= (data[position + i] & 0xFFL) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+
+    private static int readInt(byte[] data, int position) {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value |= (data[position + i] & 0xFF) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+}
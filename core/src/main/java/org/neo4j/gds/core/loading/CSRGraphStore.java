@@ -595,6 +595,12 @@ public class CSRGraphStore implements GraphStore {
         if (this.nodes instanceof AutoCloseable) {
             closeables.accept((AutoCloseable) this.nodes);
         }
+        // for example node properties that are memory-mapped from a graph snapshot
+        this.nodeProperties.properties().values().forEach(property -> {
+            if (property.values() instanceof AutoCloseable) {
+                closeables.add((AutoCloseable) property.values());
+            }
+        });
         this.relationships.values().forEach(relationship -> {
             closeables.add(relationship.topology().adjacencyList());
             relationship
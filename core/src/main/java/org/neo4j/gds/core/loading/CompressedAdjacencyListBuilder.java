@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
 
 import java.util.Arrays;
 
@@ -44,13 +45,18 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
     }
 
     @Override
-    public CompressedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+    public boolean positionalWrites() {
+        return false;
+    }
+
+    @Override
+    public CompressedAdjacencyList build(SharedHugeArray<HugeIntArray> degrees, SharedHugeArray<HugeLongArray> offsets) {
         var intoPages = builder.intoPages();
-        reorder(intoPages, offsets, degrees);
+        reorder(intoPages, offsets.array(), degrees.array());
         return new CompressedAdjacencyList(intoPages, degrees, offsets);
     }
 
-    private enum Factory implements BumpAllocator.Factory<byte[]> {
+    enum Factory implements BumpAllocator.Factory<byte[]> {
         INSTANCE;
 
         @Override
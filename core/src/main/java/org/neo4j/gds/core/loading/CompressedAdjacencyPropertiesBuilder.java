@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.CompressedAdjacencyProperties;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
+
+/**
+ * Builds {@link CompressedAdjacencyProperties} by encoding every property list with a {@link BlockDoubleCodec}.
+ * The encoded lists vary in length, so every property needs its own offsets.
+ */
+public final class CompressedAdjacencyPropertiesBuilder implements AdjacencyListBuilder<long[], CompressedAdjacencyProperties> {
+
+    private final BumpAllocator<byte[]> builder;
+
+    CompressedAdjacencyPropertiesBuilder() {
+        this.builder = new BumpAllocator<>(CompressedAdjacencyListBuilder.Factory.INSTANCE);
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this.builder.newLocalAllocator());
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public boolean positionalWrites() {
+        return false;
+    }
+
+    @Override
+    public CompressedAdjacencyProperties build(SharedHugeArray<HugeIntArray> degrees, SharedHugeArray<HugeLongArray> offsets) {
+        var intoPages = builder.intoPages();
+        reorder(intoPages, offsets.array(), degrees.array());
+        return new CompressedAdjacencyProperties(intoPages, degrees, offsets);
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final BumpAllocator.LocalAllocator<byte[]> allocator;
+        private final BlockDoubleCodec codec;
+        private byte[] buffer;
+
+        private Allocator(BumpAllocator.LocalAllocator<byte[]> allocator) {
+            this.allocator = allocator;
+            this.codec = new BlockDoubleCodec();
+            this.buffer = new byte[0];
+        }
+
+        @Override
+        public void close() {
+            buffer = null;
+        }
+
+        @Override
+        public long write(long[] properties, int length, long address) {
+            int maxSize = BlockDoubleCodec.maxCompressedSize(length);
+            if (buffer.length <= maxSize) {
+                // keep the buffer larger than the data, otherwise the allocator
+                // would take it over as an oversized page instead of copying from it
+                buffer = new byte[maxSize + 1];
+            }
+            int size = codec.compress(properties, length, buffer);
+            return allocator.insert(buffer, size);
+        }
+    }
+}
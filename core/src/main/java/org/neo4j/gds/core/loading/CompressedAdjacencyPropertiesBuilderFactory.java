@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.CompressedAdjacencyProperties;
+
+/**
+ * Uses the targets of the given factory and stores all relationship properties
+ * as {@link CompressedAdjacencyProperties}.
+ */
+public final class CompressedAdjacencyPropertiesBuilderFactory<TARGET_PAGE, TARGET_TYPE> implements AdjacencyListBuilderFactory<TARGET_PAGE, TARGET_TYPE, long[], CompressedAdjacencyProperties> {
+
+    private final AdjacencyListBuilderFactory<TARGET_PAGE, TARGET_TYPE, ?, ?> targetsFactory;
+
+    public static <TARGET_PAGE, TARGET_TYPE> CompressedAdjacencyPropertiesBuilderFactory<TARGET_PAGE, TARGET_TYPE> of(
+        AdjacencyListBuilderFactory<TARGET_PAGE, TARGET_TYPE, ?, ?> targetsFactory
+    ) {
+        return new CompressedAdjacencyPropertiesBuilderFactory<>(targetsFactory);
+    }
+
+    private CompressedAdjacencyPropertiesBuilderFactory(AdjacencyListBuilderFactory<TARGET_PAGE, TARGET_TYPE, ?, ?> targetsFactory) {
+        this.targetsFactory = targetsFactory;
+    }
+
+    @Override
+    public AdjacencyListBuilder<TARGET_PAGE, TARGET_TYPE> newAdjacencyListBuilder() {
+        return targetsFactory.newAdjacencyListBuilder();
+    }
+
+    @Override
+    public CompressedAdjacencyPropertiesBuilder newAdjacencyPropertiesBuilder() {
+        return new CompressedAdjacencyPropertiesBuilder();
+    }
+}
@@ -39,6 +39,7 @@ import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -46,6 +47,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
 import java.util.List;
@@ -83,18 +85,52 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            true,
+            storeConfig.adjacencyIndexStorage(),
+            storeConfig.compressRelationshipProperties()
+        );
     }
 
     @Override
     public MemoryEstimation estimateMemoryUsageAfterLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), false);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            false,
+            storeConfig.adjacencyIndexStorage(),
+            storeConfig.compressRelationshipProperties()
+        );
     }
 
     public static MemoryEstimation getMemoryEstimation(
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(
+            nodeProjections,
+            relationshipProjections,
+            isLoading,
+            HugeArrayStorage.HEAP,
+            GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled()
+        );
+    }
+
+    /**
+     * Degrees and offsets that are not stored in {@link HugeArrayStorage#HEAP} are excluded from the estimation,
+     * their native memory is reported by {@link org.neo4j.gds.core.utils.mem.NativeMemoryTracker} instead.
+     *
+     * @param compressProperties whether relationship properties are estimated as compressed blocks
+     */
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
@@ -110,12 +146,29 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             boolean undirected = relationshipProjection.orientation() == Orientation.UNDIRECTED;
             if (isLoading) {
                 builder.max(List.of(
-                    relationshipEstimationDuringLoading(relationshipType, relationshipProjection, undirected),
-                    relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected)
+                    relationshipEstimationDuringLoading(
+                        relationshipType,
+                        relationshipProjection,
+                        undirected,
+                        adjacencyIndexStorage
+                    ),
+                    relationshipEstimationAfterLoading(
+                        relationshipType,
+                        relationshipProjection,
+                        undirected,
+                        adjacencyIndexStorage,
+                        compressProperties
+                    )
                 ));
             } else {
                 builder.add(MemoryEstimations.builder(HugeGraph.class).build());
-                builder.add(relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected));
+                builder.add(relationshipEstimationAfterLoading(
+                    relationshipType,
+                    relationshipProjection,
+                    undirected,
+                    adjacencyIndexStorage,
+                    compressProperties
+                ));
             }
         });
 
@@ -126,7 +179,8 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
     private static MemoryEstimation relationshipEstimationDuringLoading(
         RelationshipType relationshipType,
         RelationshipProjection relationshipProjection,
-        boolean undirected
+        boolean undirected,
+        HugeArrayStorage adjacencyIndexStorage
     ) {
         var duringLoadingEstimation = MemoryEstimations.builder("size during loading");
 
@@ -139,21 +193,23 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         );
 
         // Offsets and degrees are eagerly initialized and exist next to the fully populated AdjacencyBuffer
-        duringLoadingEstimation.perNode(
-            formatWithLocale("offsets for '%s'", relationshipType),
-            HugeLongArray::memoryEstimation
-        );
-        duringLoadingEstimation.perNode(
-            formatWithLocale("degrees for '%s'", relationshipType),
-            HugeIntArray::memoryEstimation
-        );
-        relationshipProjection
-            .properties()
-            .mappings()
-            .forEach(resolvedPropertyMapping -> duringLoadingEstimation.perNode(
-                formatWithLocale("property '%s.%s'", relationshipType, resolvedPropertyMapping.propertyKey()),
+        if (adjacencyIndexStorage == HugeArrayStorage.HEAP) {
+            duringLoadingEstimation.perNode(
+                formatWithLocale("offsets for '%s'", relationshipType),
                 HugeLongArray::memoryEstimation
-            ));
+            );
+            duringLoadingEstimation.perNode(
+                formatWithLocale("degrees for '%s'", relationshipType),
+                HugeIntArray::memoryEstimation
+            );
+            relationshipProjection
+                .properties()
+                .mappings()
+                .forEach(resolvedPropertyMapping -> duringLoadingEstimation.perNode(
+                    formatWithLocale("property '%s.%s'", relationshipType, resolvedPropertyMapping.propertyKey()),
+                    HugeLongArray::memoryEstimation
+                ));
+        }
 
         return duringLoadingEstimation.build();
     }
@@ -161,19 +217,26 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
     private static MemoryEstimation relationshipEstimationAfterLoading(
         RelationshipType relationshipType,
         RelationshipProjection relationshipProjection,
-        boolean undirected
+        boolean undirected,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
     ) {
         var afterLoadingEstimation = MemoryEstimations.builder("size after loading");
         // adjacency list
         afterLoadingEstimation.add(
             formatWithLocale("adjacency list for '%s'", relationshipType),
-            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected)
+            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected, adjacencyIndexStorage)
         );
         // all properties per projection
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
             afterLoadingEstimation.add(
                 formatWithLocale("property '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
-                AdjacencyListBehavior.adjacencyPropertiesEstimation(relationshipType, undirected)
+                AdjacencyListBehavior.adjacencyPropertiesEstimation(
+                    relationshipType,
+                    undirected,
+                    adjacencyIndexStorage,
+                    compressProperties
+                )
             );
         });
 
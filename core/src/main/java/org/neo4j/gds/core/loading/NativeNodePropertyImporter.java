@@ -33,6 +33,7 @@ import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.PropertyReference;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.internal.kernel.api.PropertyCursor;
 import org.neo4j.kernel.api.KernelTransaction;
@@ -42,6 +43,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 
 import static java.util.stream.Collectors.toMap;
@@ -143,6 +145,7 @@ public final class NativeNodePropertyImporter {
 
     public static final class Builder {
         private int concurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
+        private ExecutorService executorService = Pools.DEFAULT;
         private Map<NodeLabel, PropertyMappings> propertyMappings;
         private GraphDimensions dimensions;
 
@@ -155,6 +158,11 @@ public final class NativeNodePropertyImporter {
             return this;
         }
 
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         public Builder propertyMappings(Map<NodeLabel, PropertyMappings> propertyMappingsByLabel) {
             this.propertyMappings = propertyMappingsByLabel;
             return this;
@@ -168,7 +176,8 @@ public final class NativeNodePropertyImporter {
         public NativeNodePropertyImporter build() {
             var nodePropertyBuilders = BuildersByLabel.create(
                 propertyMappings,
-                concurrency
+                concurrency,
+                executorService
             );
             var buildersByLabelIdAndPropertyId = BuildersByLabelIdAndPropertyId.create(
                 nodePropertyBuilders,
@@ -185,7 +194,8 @@ public final class NativeNodePropertyImporter {
 
         static BuildersByLabel create(
             Map<NodeLabel, PropertyMappings> propertyMappingsByLabel,
-            int concurrency
+            int concurrency,
+            ExecutorService executorService
         ) {
             var propertyBuildersByKey = new HashMap<String, NodePropertiesFromStoreBuilder>();
 
@@ -197,7 +207,8 @@ public final class NativeNodePropertyImporter {
                      propertyMapping.propertyKey(),
                      NodePropertiesFromStoreBuilder.of(
                          propertyMapping.defaultValue(),
-                         concurrency
+                         concurrency,
+                         executorService
                      )
                  ));
 
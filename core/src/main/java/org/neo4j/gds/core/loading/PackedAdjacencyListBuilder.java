@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Builds a {@link PackedAdjacencyList} from sorted and delta-encoded target lists.
+ *
+ * The pages are allocated off-heap and follow the same addressing scheme as the {@link BumpAllocator}:
+ * an address consists of the page index and the offset within that page.
+ * Adjacency lists that do not fit into a single page get their own, oversized page.
+ */
+public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<long[], PackedAdjacencyList> {
+
+    private final ReentrantLock growLock;
+    private long[] pages;
+    private long[] pageSizes;
+    private int numPages;
+
+    PackedAdjacencyListBuilder() {
+        this.growLock = new ReentrantLock(true);
+        this.pages = new long[0];
+        this.pageSizes = new long[0];
+        this.numPages = 0;
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this);
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public boolean positionalWrites() {
+        return false;
+    }
+
+    @Override
+    public PackedAdjacencyList build(SharedHugeArray<HugeIntArray> degrees, SharedHugeArray<HugeLongArray> offsets) {
+        growLock.lock();
+        try {
+            return new PackedAdjacencyList(
+                Arrays.copyOf(pages, numPages),
+                Arrays.copyOf(pageSizes, numPages),
+                degrees,
+                offsets
+            );
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    /**
+     * Allocates a new off-heap page and returns its page index.
+     */
+    private int allocatePage(long bytes) {
+        long address = NativeMemoryTracker.allocate(bytes);
+        growLock.lock();
+        try {
+            int pageIndex = numPages++;
+            if (pageIndex >= pages.length) {
+                int newLength = Math.max(16, pages.length << 1);
+                pages = Arrays.copyOf(pages, newLength);
+                pageSizes = Arrays.copyOf(pageSizes, newLength);
+            }
+            pages[pageIndex] = address;
+            pageSizes[pageIndex] = bytes;
+            return pageIndex;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    private long pageAddress(int pageIndex) {
+        growLock.lock();
+        try {
+            return pages[pageIndex];
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final PackedAdjacencyListBuilder builder;
+
+        private byte[] blockBits;
+
+        private long pageAddress;
+        private int pageIndex;
+        private int offset;
+
+        private Allocator(PackedAdjacencyListBuilder builder) {
+            this.builder = builder;
+            this.blockBits = new byte[0];
+            this.offset = PAGE_SIZE;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        /**
+         * Packs the given sorted and delta-encoded {@code targets} and returns their global address.
+         */
+        @Override
+        public long write(long[] targets, int length, long address) {
+            int fullBlocks = length / AdjacencyPacking.BLOCK_SIZE;
+            if (blockBits.length < fullBlocks) {
+                blockBits = new byte[fullBlocks];
+            }
+
+            long bytes = AdjacencyPacker.packedSize(targets, length, blockBits);
+
+            if (bytes > PAGE_SIZE) {
+                // oversized adjacency lists get their own page
+                int oversizedPage = builder.allocatePage(bytes);
+                AdjacencyPacker.pack(targets, length, blockBits, builder.pageAddress(oversizedPage));
+                return PageUtil.capacityFor(oversizedPage, PAGE_SHIFT);
+            }
+
+            if (offset + bytes > PAGE_SIZE) {
+                pageIndex = builder.allocatePage(PAGE_SIZE);
+                pageAddress = builder.pageAddress(pageIndex);
+                offset = 0;
+            }
+
+            AdjacencyPacker.pack(targets, length, blockBits, pageAddress + offset);
+            long globalAddress = PageUtil.capacityFor(pageIndex, PAGE_SHIFT) + offset;
+            offset += (int) bytes;
+            return globalAddress;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compress.AdjacencyCompressor;
+import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Sorts and delta-encodes the target ids and hands them over to an allocator
+ * that bit-packs them in blocks, see {@link PackedAdjacencyListBuilder}.
+ */
+public final class PackedCompressor implements AdjacencyCompressor {
+
+    private final AdjacencyListBuilder.Allocator<long[]> adjacencyAllocator;
+    private final AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators;
+    private final HugeIntArray adjacencyDegrees;
+    private final HugeLongArray adjacencyOffsets;
+    private final HugeLongArray[] propertyOffsets;
+    private final boolean noAggregation;
+    private final Aggregation[] aggregations;
+
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<long[], ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        HugeArrayStorage adjacencyIndexStorage
+    ) {
+        @SuppressWarnings("unchecked")
+        AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings.numberOfMappings()];
+        Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder());
+
+        return new Factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory.newAdjacencyListBuilder(),
+            propertyBuilders,
+            noAggregation,
+            aggregations,
+            adjacencyIndexStorage
+        );
+    }
+
+    private PackedCompressor(
+        AdjacencyListBuilder.Allocator<long[]> adjacencyAllocator,
+        AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators,
+        HugeIntArray adjacencyDegrees,
+        HugeLongArray adjacencyOffsets,
+        HugeLongArray[] propertyOffsets,
+        boolean noAggregation,
+        Aggregation[] aggregations
+    ) {
+        this.adjacencyAllocator = adjacencyAllocator;
+        this.propertiesAllocators = propertiesAllocators;
+        this.adjacencyDegrees = adjacencyDegrees;
+        this.adjacencyOffsets = adjacencyOffsets;
+        this.propertyOffsets = propertyOffsets;
+        this.noAggregation = noAggregation;
+        this.aggregations = aggregations;
+    }
+
+    @Override
+    public int compress(
+        long nodeId,
+        byte[] targets,
+        long[][] properties,
+        int numberOfCompressedTargets,
+        int compressedBytesSize,
+        LongArrayBuffer buffer,
+        ValueMapper mapper
+    ) {
+        // decompress target ids into buffer, ordered by whatever order they've been read
+        AdjacencyCompression.copyFrom(buffer, targets, numberOfCompressedTargets, compressedBytesSize, mapper);
+
+        // sort, aggregate and delta encode, the first value is kept as is
+        int degree = properties != null
+            ? AdjacencyCompression.applyDeltaEncoding(buffer, properties, aggregations, noAggregation)
+            : AdjacencyCompression.applyDeltaEncoding(buffer, aggregations[0]);
+
+        long address = adjacencyAllocator.write(buffer.buffer, degree, -1L);
+
+        if (properties != null) {
+            copyProperties(properties, degree, nodeId, propertyOffsets);
+        }
+
+        this.adjacencyDegrees.set(nodeId, degree);
+        this.adjacencyOffsets.set(nodeId, address);
+
+        return degree;
+    }
+
+    @Override
+    public void close() {
+        adjacencyAllocator.close();
+        for (var propertiesAllocator : propertiesAllocators) {
+            if (propertiesAllocator != null) {
+                propertiesAllocator.close();
+            }
+        }
+    }
+
+    private void copyProperties(long[][] properties, int degree, long nodeId, HugeLongArray[] offsets) {
+        long offset = propertiesAllocators[0].write(properties[0], degree, -1L);
+        offsets[0].set(nodeId, offset);
+
+        for (int i = 1; i < properties.length; i++) {
+            // positional allocators write at the offset of the first property and return it,
+            // others allocate on their own and return the address they have written to
+            offsets[i].set(nodeId, propertiesAllocators[i].write(properties[i], degree, offset));
+        }
+    }
+
+    private static final class Factory extends AbstractAdjacencyCompressorFactory<long[], long[]> {
+
+        Factory(
+            LongSupplier nodeCountSupplier,
+            AdjacencyListBuilder<long[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            boolean noAggregation,
+            Aggregation[] aggregations,
+            HugeArrayStorage adjacencyIndexStorage
+        ) {
+            super(
+                nodeCountSupplier,
+                adjacencyBuilder,
+                propertyBuilders,
+                noAggregation,
+                aggregations,
+                adjacencyIndexStorage
+            );
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public PackedCompressor createCompressor() {
+            var propertyAllocators = new AdjacencyListBuilder.Allocator[propertyBuilders.length];
+            Arrays.setAll(
+                propertyAllocators,
+                i -> i == 0 ? propertyBuilders[i].newAllocator() : propertyBuilders[i].newPositionalAllocator()
+            );
+
+            return new PackedCompressor(
+                adjacencyBuilder.newAllocator(),
+                propertyAllocators,
+                adjacencyDegrees,
+                adjacencyOffsets,
+                propertyOffsets,
+                noAggregation,
+                aggregations
+            );
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.LongArrayBuffer;
 import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
@@ -40,7 +41,7 @@ public final class RawCompressor implements AdjacencyCompressor {
     private final AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators;
     private final HugeIntArray adjacencyDegrees;
     private final HugeLongArray adjacencyOffsets;
-    private final HugeLongArray propertyOffsets;
+    private final HugeLongArray[] propertyOffsets;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
 
@@ -49,7 +50,8 @@ public final class RawCompressor implements AdjacencyCompressor {
         AdjacencyListBuilderFactory<long[], ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
-        boolean noAggregation
+        boolean noAggregation,
+        HugeArrayStorage adjacencyIndexStorage
     ) {
         @SuppressWarnings("unchecked")
         AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings.numberOfMappings()];
@@ -60,7 +62,8 @@ public final class RawCompressor implements AdjacencyCompressor {
             adjacencyListBuilderFactory.newAdjacencyListBuilder(),
             propertyBuilders,
             noAggregation,
-            aggregations
+            aggregations,
+            adjacencyIndexStorage
         );
     }
 
@@ -69,7 +72,7 @@ public final class RawCompressor implements AdjacencyCompressor {
         AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators,
         HugeIntArray adjacencyDegrees,
         HugeLongArray adjacencyOffsets,
-        HugeLongArray propertyOffsets,
+        HugeLongArray[] propertyOffsets,
         boolean noAggregation,
         Aggregation[] aggregations
     ) {
@@ -247,14 +250,15 @@ public final class RawCompressor implements AdjacencyCompressor {
         return degree;
     }
 
-    private void copyProperties(long[][] properties, int degree, long nodeId, HugeLongArray offsets) {
+    private void copyProperties(long[][] properties, int degree, long nodeId, HugeLongArray[] offsets) {
         long offset = propertiesAllocators[0].write(properties[0], degree, -1L);
+        offsets[0].set(nodeId, offset);
 
         for (int i = 1; i < properties.length; i++) {
-            propertiesAllocators[i].write(properties[i], degree, offset);
+            // positional allocators write at the offset of the first property and return it,
+            // others allocate on their own and return the address they have written to
+            offsets[i].set(nodeId, propertiesAllocators[i].write(properties[i], degree, offset));
         }
-
-        offsets.set(nodeId, offset);
     }
 
     private long copy(long[] data, int degree, AdjacencyListBuilder.Allocator<long[]> allocator) {
@@ -268,14 +272,16 @@ public final class RawCompressor implements AdjacencyCompressor {
             AdjacencyListBuilder<long[], ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
             boolean noAggregation,
-            Aggregation[] aggregations
+            Aggregation[] aggregations,
+            HugeArrayStorage adjacencyIndexStorage
         ) {
             super(
                 nodeCountSupplier,
                 adjacencyBuilder,
                 propertyBuilders,
                 noAggregation,
-                aggregations
+                aggregations,
+                adjacencyIndexStorage
             );
         }
 
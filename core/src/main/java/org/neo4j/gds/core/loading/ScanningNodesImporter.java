@@ -42,6 +42,7 @@ import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -95,7 +96,8 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         var nodePropertyImporter = initializeNodePropertyImporter(
             propertyMappings,
             dimensions,
-            concurrency
+            concurrency,
+            loadingContext.executor()
         );
 
         return new ScanningNodesImporter(
@@ -217,7 +219,11 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
                 .stream()
                 .flatMap(propertyMappings -> propertyMappings.mappings().stream())
                 .forEach(propertyMapping ->
-                    buildersByPropertyKey.put(propertyMapping.property(), NodePropertiesFromStoreBuilder.of(propertyMapping.property().defaultValue(), concurrency)));
+                    buildersByPropertyKey.put(propertyMapping.property(), NodePropertiesFromStoreBuilder.of(
+                        propertyMapping.property().defaultValue(),
+                        concurrency,
+                        executorService
+                    )));
 
             var indexScanningImporters = propertyMappings.indexedProperties()
                 .entrySet()
@@ -283,7 +289,8 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
     private static @Nullable NativeNodePropertyImporter initializeNodePropertyImporter(
         IndexPropertyMappings.LoadablePropertyMappings propertyMappings,
         GraphDimensions dimensions,
-        int concurrency
+        int concurrency,
+        ExecutorService executorService
     ) {
         var propertyMappingsByLabel = propertyMappings.storedProperties();
         boolean loadProperties = propertyMappingsByLabel
@@ -295,6 +302,7 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             return NativeNodePropertyImporter
                 .builder()
                 .concurrency(concurrency)
+                .executorService(executorService)
                 .dimensions(dimensions)
                 .propertyMappings(propertyMappingsByLabel)
                 .build();
@@ -109,6 +109,8 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
                         .nodeCountSupplier(dimensions::nodeCount)
                         .importSizing(sizing)
                         .validateRelationships(graphProjectConfig.validateRelationships())
+                        .adjacencyIndexStorage(graphProjectConfig.adjacencyIndexStorage())
+                        .compressProperties(graphProjectConfig.compressRelationshipProperties())
                         .build();
 
                     var contexts = new ArrayList<SingleTypeRelationshipImportContext>();
@@ -161,6 +163,8 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             .nodeCountSupplier(dimensions::nodeCount)
             .importSizing(sizing)
             .validateRelationships(graphProjectConfig.validateRelationships())
+            .adjacencyIndexStorage(graphProjectConfig.adjacencyIndexStorage())
+            .compressProperties(graphProjectConfig.compressRelationshipProperties())
             .build();
 
         return ImmutableSingleTypeRelationshipImportContext.builder()
@@ -31,6 +31,7 @@ import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
 import org.neo4j.gds.core.compress.AdjacencyListsWithProperties;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
 import org.neo4j.kernel.api.KernelTransaction;
 
 import java.util.Collection;
@@ -55,12 +56,16 @@ public final class SingleTypeRelationshipImporter {
         ImportMetaData importMetaData,
         LongSupplier nodeCountSupplier,
         boolean validateRelationships,
-        ImportSizing importSizing
+        ImportSizing importSizing,
+        HugeArrayStorage adjacencyIndexStorage,
+        boolean compressProperties
     ) {
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             nodeCountSupplier,
             importMetaData.projection().properties(),
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            adjacencyIndexStorage,
+            compressProperties
         );
 
         var adjacencyBuffer = new AdjacencyBufferBuilder()
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
 
 import java.util.Arrays;
 
@@ -44,9 +45,9 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
     }
 
     @Override
-    public UncompressedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+    public UncompressedAdjacencyList build(SharedHugeArray<HugeIntArray> degrees, SharedHugeArray<HugeLongArray> offsets) {
         var intoPages = builder.intoPages();
-        reorder(intoPages, offsets, degrees);
+        reorder(intoPages, offsets.array(), degrees.array());
         return new UncompressedAdjacencyList(intoPages, degrees, offsets);
     }
 
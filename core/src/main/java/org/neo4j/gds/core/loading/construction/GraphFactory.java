@@ -50,6 +50,8 @@ import org.neo4j.gds.core.loading.ImportSizing;
 import org.neo4j.gds.core.loading.RecordsBatchBuffer;
 import org.neo4j.gds.core.loading.SingleTypeRelationshipImporterBuilder;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.gds.core.utils.paged.HugeArrayStorage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.List;
@@ -269,6 +271,8 @@ public final class GraphFactory {
             .nodeCountSupplier(() -> nodes.rootNodeCount().orElse(0L))
             .importSizing(importSizing)
             .validateRelationships(validateRelationships.orElse(false))
+            .adjacencyIndexStorage(HugeArrayStorage.HEAP)
+            .compressProperties(GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled())
             .build();
 
         return new RelationshipsBuilder(
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+
+/**
+ * Stores non-negative values with a fixed number of bits per value in consecutive words.
+ * A value may span two words.
+ * <p>
+ * Writes are not thread-safe. Concurrent writers need to write to index ranges
+ * that start at a multiple of {@link Long#SIZE}, which map to disjoint words.
+ */
+final class BitPackedLongArray {
+
+    private final HugeLongArray words;
+    private final int bits;
+    private final long mask;
+
+    static long memoryEstimation(long size, int bits) {
+        return HugeLongArray.memoryEstimation(wordCount(size, bits));
+    }
+
+    BitPackedLongArray(long size, int bits) {
+        assert bits >= 0 && bits < Long.SIZE;
+        this.words = HugeLongArray.newArray(wordCount(size, bits));
+        this.bits = bits;
+        this.mask = (1L << bits) - 1;
+    }
+
+    long get(long index) {
+        if (bits == 0) {
+            return 0L;
+        }
+        long bitIndex = index * bits;
+        long wordIndex = bitIndex >>> 6;
+        int shift = (int) (bitIndex & 63);
+        long value = words.get(wordIndex) >>> shift;
+        if (shift + bits > Long.SIZE) {
+            value |= words.get(wordIndex + 1) << (Long.SIZE - shift);
+        }
+        return value & mask;
+    }
+
+    void set(long index, long value) {
+        if (bits == 0) {
+            return;
+        }
+        long bitIndex = index * bits;
+        long wordIndex = bitIndex >>> 6;
+        int shift = (int) (bitIndex & 63);
+        words.or(wordIndex, (value & mask) << shift);
+        if (shift + bits > Long.SIZE) {
+            words.or(wordIndex + 1, (value & mask) >>> (Long.SIZE - shift));
+        }
+    }
+
+    private static long wordCount(long size, int bits) {
+        return BitUtil.ceilDiv(size * bits, Long.SIZE);
+    }
+}
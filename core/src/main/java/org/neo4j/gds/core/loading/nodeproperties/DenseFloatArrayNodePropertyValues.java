@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * Float arrays of the same length for every node, stored in a {@link HugeFloatMatrix}.
+ * Every call to {@link #floatArrayValue(long)} returns a fresh copy of the row,
+ * consumers that read many values should use {@link #copyInto(long, float[])} with a reused buffer
+ * or read the rows in place from the {@link #matrix()}.
+ */
+public final class DenseFloatArrayNodePropertyValues implements FloatArrayNodePropertyValues {
+
+    private final HugeFloatMatrix matrix;
+
+    /**
+     * Copies float array values of the nodes {@code 0} until {@code nodeCount} into a dense matrix.
+     * Values of other types, values with missing arrays or arrays of different lengths are returned unchanged.
+     */
+    public static NodePropertyValues densify(NodePropertyValues values, long nodeCount, int concurrency) {
+        if (values instanceof DenseFloatArrayNodePropertyValues
+            || values.valueType() != ValueType.FLOAT_ARRAY
+            || nodeCount == 0) {
+            return values;
+        }
+        var first = values.floatArrayValue(0);
+        if (first == null || first.length == 0) {
+            return values;
+        }
+
+        int dimension = first.length;
+        // check all rows before allocating the matrix, irregular values are not copied
+        var irregular = new AtomicBoolean(false);
+        forEachNode(nodeCount, concurrency, nodeId -> {
+            if (!irregular.get()) {
+                var value = values.floatArrayValue(nodeId);
+                if (value == null || value.length != dimension) {
+                    irregular.set(true);
+                }
+            }
+        });
+        if (irregular.get()) {
+            return values;
+        }
+
+        var matrix = HugeFloatMatrix.of(nodeCount, dimension);
+        forEachNode(nodeCount, concurrency, nodeId -> matrix.setRow(nodeId, values.floatArrayValue(nodeId)));
+
+        return new DenseFloatArrayNodePropertyValues(matrix);
+    }
+
+    private static void forEachNode(long nodeCount, int concurrency, LongConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(consumer),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+    }
+
+    public DenseFloatArrayNodePropertyValues(HugeFloatMatrix matrix) {
+        this.matrix = matrix;
+    }
+
+    public HugeFloatMatrix matrix() {
+        return matrix;
+    }
+
+    public int dimension() {
+        return matrix.dimension();
+    }
+
+    /**
+     * Copies the array of the given node into the first {@link #dimension()} entries of {@code target}.
+     */
+    public void copyInto(long nodeId, float[] target) {
+        matrix.copyRow(nodeId, target);
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        return matrix.row(nodeId);
+    }
+
+    @Override
+    public long size() {
+        return matrix.rows();
+    }
+}
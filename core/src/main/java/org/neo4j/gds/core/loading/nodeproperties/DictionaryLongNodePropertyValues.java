@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+
+import java.util.OptionalLong;
+
+/**
+ * Dictionary encoded values: every value is stored as the bit-packed index of its entry in a small dictionary.
+ */
+final class DictionaryLongNodePropertyValues implements LongNodePropertyValues {
+
+    private final long[] dictionary;
+    private final BitPackedLongArray codes;
+    private final long nodeCount;
+    private final long size;
+    private final OptionalLong maxValue;
+
+    DictionaryLongNodePropertyValues(
+        long[] dictionary,
+        BitPackedLongArray codes,
+        long nodeCount,
+        long size,
+        OptionalLong maxValue
+    ) {
+        this.dictionary = dictionary;
+        this.codes = codes;
+        this.nodeCount = nodeCount;
+        this.size = size;
+        this.maxValue = maxValue;
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return nodeId < nodeCount ? dictionary[(int) codes.get(nodeId)] : DefaultValue.LONG_DEFAULT_FALLBACK;
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        return maxValue;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import com.carrotsearch.hppc.cursors.LongLongCursor;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.HugeSparseLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replaces long node property values with a more compact representation, if there is one.
+ * <p>
+ * The values are analyzed in a first pass and the smallest of the following representations is chosen:
+ * <ul>
+ *     <li>frame-of-reference: the difference to the smallest value, bit-packed with as many bits as the largest difference needs,</li>
+ *     <li>dictionary: up to {@value #MAX_DICTIONARY_SIZE} distinct values, every node stores the bit-packed index of its value,</li>
+ *     <li>sparse: only values that differ from the most frequent value are stored in a {@link HugeSparseLongArray}.</li>
+ * </ul>
+ * If none of them is smaller than the current representation, the values are returned unchanged.
+ * The values are also returned unchanged if the {@code useCompressedLongNodeProperties} feature toggle is disabled.
+ */
+public final class LongNodePropertyValuesCompressor {
+
+    static final int MAX_DICTIONARY_SIZE = 256;
+
+    // matches the page size of the sparse arrays, every chunk is analyzed and written by a single thread
+    private static final int CHUNK_SIZE = 4096;
+
+    private LongNodePropertyValuesCompressor() {}
+
+    /**
+     * Compresses the values of the nodes {@code 0} until {@code nodeCount}, which are assumed to be stored densely.
+     * Values of other types are returned unchanged.
+     */
+    public static NodePropertyValues compress(
+        NodePropertyValues values,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        return compress(values, nodeCount, OptionalLong.empty(), null, concurrency, executorService);
+    }
+
+    /**
+     * @param storedDefault the default value of the sparse array that currently stores the values, if any
+     * @param maxValue      the maximum value to report, computed from the values if {@code null}
+     */
+    static NodePropertyValues compress(
+        NodePropertyValues values,
+        long nodeCount,
+        OptionalLong storedDefault,
+        @Nullable OptionalLong maxValue,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        if (GdsFeatureToggles.USE_COMPRESSED_LONG_NODE_PROPERTIES.isDisabled()
+            || values.valueType() != ValueType.LONG
+            || nodeCount == 0) {
+            return values;
+        }
+
+        var stats = analyze(values, nodeCount, storedDefault, concurrency, executorService);
+
+        long currentSize = storedDefault.isPresent()
+            ? sparseSize(nodeCount, stats.nonDefaultChunks)
+            : HugeLongArray.memoryEstimation(nodeCount);
+        var reportedMax = maxValue != null ? maxValue : OptionalLong.of(stats.max);
+
+        // the difference is interpreted as unsigned, which covers the full range of long values
+        int packedBits = Long.SIZE - Long.numberOfLeadingZeros(stats.max - stats.min);
+        long packedSize = packedBits < Long.SIZE
+            ? BitPackedLongArray.memoryEstimation(nodeCount, packedBits)
+            : Long.MAX_VALUE;
+
+        long dictionarySize = Long.MAX_VALUE;
+        int dictionaryBits = 0;
+        long sparseSize = Long.MAX_VALUE;
+        long mostFrequent = 0L;
+        if (stats.counts != null) {
+            int distinctValues = stats.counts.size();
+            dictionaryBits = Integer.SIZE - Integer.numberOfLeadingZeros(distinctValues - 1);
+            dictionarySize = BitPackedLongArray.memoryEstimation(nodeCount, dictionaryBits)
+                             + MemoryUsage.sizeOfLongArray(distinctValues);
+
+            long mostFrequentCount = 0L;
+            for (LongLongCursor cursor : stats.counts) {
+                if (cursor.value > mostFrequentCount) {
+                    mostFrequent = cursor.key;
+                    mostFrequentCount = cursor.value;
+                }
+            }
+            // a sparse array stores whole pages, it can only be smaller if most values are the same
+            if (mostFrequentCount * 2 >= nodeCount) {
+                var nonDefaultChunks = analyze(values, nodeCount, OptionalLong.of(mostFrequent), concurrency, executorService).nonDefaultChunks;
+                sparseSize = sparseSize(nodeCount, nonDefaultChunks);
+            }
+        }
+
+        long smallest = Math.min(packedSize, Math.min(dictionarySize, sparseSize));
+        if (smallest >= currentSize) {
+            return values;
+        }
+        if (smallest == packedSize) {
+            return packed(values, nodeCount, stats.min, packedBits, reportedMax, concurrency, executorService);
+        }
+        if (smallest == dictionarySize) {
+            return dictionary(
+                values,
+                nodeCount,
+                stats.counts.keys().toArray(),
+                dictionaryBits,
+                reportedMax,
+                concurrency,
+                executorService
+            );
+        }
+        return sparse(values, nodeCount, mostFrequent, reportedMax, concurrency, executorService);
+    }
+
+    private static NodePropertyValues packed(
+        NodePropertyValues values,
+        long nodeCount,
+        long base,
+        int bits,
+        OptionalLong maxValue,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var packed = new BitPackedLongArray(nodeCount, bits);
+        forEachChunk(nodeCount, concurrency, executorService, () -> (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                packed.set(nodeId, values.longValue(nodeId) - base);
+            }
+        });
+        return new PackedLongNodePropertyValues(packed, base, nodeCount, values.size(), maxValue);
+    }
+
+    private static NodePropertyValues dictionary(
+        NodePropertyValues values,
+        long nodeCount,
+        long[] dictionary,
+        int bits,
+        OptionalLong maxValue,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        Arrays.sort(dictionary);
+        var codes = new BitPackedLongArray(nodeCount, bits);
+        forEachChunk(nodeCount, concurrency, executorService, () -> (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                codes.set(nodeId, Arrays.binarySearch(dictionary, values.longValue(nodeId)));
+            }
+        });
+        return new DictionaryLongNodePropertyValues(dictionary, codes, nodeCount, values.size(), maxValue);
+    }
+
+    private static NodePropertyValues sparse(
+        NodePropertyValues values,
+        long nodeCount,
+        long defaultValue,
+        OptionalLong maxValue,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var builder = HugeSparseLongArray.builder(defaultValue, nodeCount);
+        forEachChunk(nodeCount, concurrency, executorService, () -> (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                long value = values.longValue(nodeId);
+                if (value != defaultValue) {
+                    builder.set(nodeId, value);
+                }
+            }
+        });
+        return new LongNodePropertiesBuilder.LongStoreNodePropertyValues(builder.build(), values.size(), maxValue);
+    }
+
+    private static Stats analyze(
+        NodePropertyValues values,
+        long nodeCount,
+        OptionalLong sparseDefault,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var allStats = new ArrayList<Stats>();
+        forEachChunk(nodeCount, concurrency, executorService, () -> {
+            var stats = new Stats(values, sparseDefault);
+            synchronized (allStats) {
+                allStats.add(stats);
+            }
+            return stats;
+        });
+
+        var result = allStats.get(0);
+        for (int i = 1; i < allStats.size(); i++) {
+            result.merge(allStats.get(i));
+        }
+        return result;
+    }
+
+    private static long sparseSize(long nodeCount, long nonDefaultChunks) {
+        long chunks = BitUtil.ceilDiv(nodeCount, CHUNK_SIZE);
+        return MemoryUsage.sizeOfObjectArray(chunks) + nonDefaultChunks * MemoryUsage.sizeOfLongArray(CHUNK_SIZE);
+    }
+
+    /**
+     * Hands out chunks of {@value #CHUNK_SIZE} nodes to {@code concurrency} workers,
+     * each worker processes its chunks with its own consumer.
+     */
+    private static void forEachChunk(
+        long nodeCount,
+        int concurrency,
+        ExecutorService executorService,
+        ChunkConsumerFactory consumerFactory
+    ) {
+        long chunkCount = BitUtil.ceilDiv(nodeCount, CHUNK_SIZE);
+        var nextChunk = new AtomicLong();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < Math.min(concurrency, chunkCount); i++) {
+            var consumer = consumerFactory.newConsumer();
+            tasks.add(() -> {
+                long chunk;
+                while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                    long start = chunk * CHUNK_SIZE;
+                    consumer.accept(start, Math.min(start + CHUNK_SIZE, nodeCount));
+                }
+            });
+        }
+        ParallelUtil.run(tasks, executorService);
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(long start, long end);
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumerFactory {
+        ChunkConsumer newConsumer();
+    }
+
+    private static final class Stats implements ChunkConsumer {
+
+        private final NodePropertyValues values;
+        private final OptionalLong sparseDefault;
+        private long min;
+        private long max;
+        // null once there are more distinct values than fit into a dictionary
+        private @Nullable LongLongHashMap counts;
+        private long nonDefaultChunks;
+
+        private Stats(NodePropertyValues values, OptionalLong sparseDefault) {
+            this.values = values;
+            this.sparseDefault = sparseDefault;
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+            this.counts = new LongLongHashMap();
+        }
+
+        @Override
+        public void accept(long start, long end) {
+            boolean containsNonDefault = false;
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                long value = values.longValue(nodeId);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                containsNonDefault |= sparseDefault.isPresent() && value != sparseDefault.getAsLong();
+                if (counts != null) {
+                    counts.addTo(value, 1L);
+                    if (counts.size() > MAX_DICTIONARY_SIZE) {
+                        counts = null;
+                    }
+                }
+            }
+            if (containsNonDefault) {
+                nonDefaultChunks++;
+            }
+        }
+
+        void merge(Stats other) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            nonDefaultChunks += other.nonDefaultChunks;
+            if (counts == null || other.counts == null) {
+                counts = null;
+                return;
+            }
+            for (LongLongCursor cursor : other.counts) {
+                counts.addTo(cursor.key, cursor.value);
+            }
+            if (counts.size() > MAX_DICTIONARY_SIZE) {
+                counts = null;
+            }
+        }
+    }
+}
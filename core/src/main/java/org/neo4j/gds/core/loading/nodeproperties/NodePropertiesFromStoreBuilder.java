@@ -24,12 +24,15 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.HugeSparseCollections;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.ValueConverter;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -57,20 +60,34 @@ public final class NodePropertiesFromStoreBuilder {
         DefaultValue defaultValue,
         int concurrency
     ) {
-        return new NodePropertiesFromStoreBuilder(defaultValue, concurrency);
+        return of(defaultValue, concurrency, Pools.DEFAULT);
+    }
+
+    /**
+     * @param executorService runs the compression of the built values
+     */
+    public static NodePropertiesFromStoreBuilder of(
+        DefaultValue defaultValue,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        return new NodePropertiesFromStoreBuilder(defaultValue, concurrency, executorService);
     }
 
     private final DefaultValue defaultValue;
     private final int concurrency;
+    private final ExecutorService executorService;
     private final AtomicReference<InnerNodePropertiesBuilder> innerBuilder;
     private final LongAdder size;
 
     private NodePropertiesFromStoreBuilder(
         DefaultValue defaultValue,
-        int concurrency
+        int concurrency,
+        ExecutorService executorService
     ) {
         this.defaultValue = defaultValue;
         this.concurrency = concurrency;
+        this.executorService = executorService;
         this.innerBuilder = new AtomicReference<>();
         this.size = new LongAdder();
     }
@@ -94,7 +111,22 @@ public final class NodePropertiesFromStoreBuilder {
             }
         }
 
-        return innerBuilder.get().build(this.size.sum(), idMap, idMap.highestOriginalId());
+        var propertyValues = innerBuilder.get().build(this.size.sum(), idMap, idMap.highestOriginalId());
+        if (propertyValues.valueType() == ValueType.FLOAT_ARRAY) {
+            return DenseFloatArrayNodePropertyValues.densify(propertyValues, idMap.nodeCount(), concurrency);
+        }
+        if (propertyValues.valueType() != ValueType.LONG) {
+            return propertyValues;
+        }
+        // the values are stored in a sparse array, which also knows their maximum
+        return LongNodePropertyValuesCompressor.compress(
+            propertyValues,
+            idMap.nodeCount(),
+            OptionalLong.of(defaultValue.longValue()),
+            propertyValues.getMaxLongPropertyValue(),
+            concurrency,
+            executorService
+        );
     }
 
     // This is synchronized as we want to prevent the creation of multiple InnerNodePropertiesBuilders of which only once survives.
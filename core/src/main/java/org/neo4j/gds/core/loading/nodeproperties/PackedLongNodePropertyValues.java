@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+
+import java.util.OptionalLong;
+
+/**
+ * Frame-of-reference encoded values: every value is stored as its bit-packed difference to the smallest value.
+ */
+final class PackedLongNodePropertyValues implements LongNodePropertyValues {
+
+    private final BitPackedLongArray packed;
+    private final long base;
+    private final long nodeCount;
+    private final long size;
+    private final OptionalLong maxValue;
+
+    PackedLongNodePropertyValues(
+        BitPackedLongArray packed,
+        long base,
+        long nodeCount,
+        long size,
+        OptionalLong maxValue
+    ) {
+        this.packed = packed;
+        this.base = base;
+        this.nodeCount = nodeCount;
+        this.size = size;
+        this.maxValue = maxValue;
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return nodeId < nodeCount ? base + packed.get(nodeId) : DefaultValue.LONG_DEFAULT_FALLBACK;
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        return maxValue;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+}
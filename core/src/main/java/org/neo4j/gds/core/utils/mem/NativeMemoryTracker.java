@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.mem;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allocates and frees native memory and keeps track of the number of bytes
+ * that are currently allocated by GDS data structures outside of the heap.
+ *
+ * All off-heap allocations of GDS must go through this class,
+ * otherwise they are invisible to the memory reporting.
+ */
+public final class NativeMemoryTracker {
+
+    private static final LongAdder ALLOCATED_BYTES = new LongAdder();
+
+    private NativeMemoryTracker() {}
+
+    /**
+     * Allocates {@code bytes} of native memory and returns its address.
+     */
+    public static long allocate(long bytes) {
+        long address = UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE);
+        ALLOCATED_BYTES.add(bytes);
+        return address;
+    }
+
+    /**
+     * Frees native memory that has been allocated with {@link #allocate(long)} using the same number of {@code bytes}.
+     */
+    public static void free(long address, long bytes) {
+        UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+        ALLOCATED_BYTES.add(-bytes);
+    }
+
+    /**
+     * Registers native memory that is not allocated by this class, e.g. memory mapped files.
+     */
+    public static void track(long bytes) {
+        ALLOCATED_BYTES.add(bytes);
+    }
+
+    /**
+     * Unregisters native memory that has been registered using {@link #track(long)}.
+     */
+    public static void untrack(long bytes) {
+        ALLOCATED_BYTES.add(-bytes);
+    }
+
+    /**
+     * @return the number of bytes that are currently allocated.
+     */
+    public static long allocatedBytes() {
+        return ALLOCATED_BYTES.sum();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Selects where the pages of a huge array are stored.
+ *
+ * <ul>
+ * <li>{@link #HEAP} uses regular Java arrays, this is the default.</li>
+ * <li>{@link #OFF_HEAP} allocates native memory that is not managed by the garbage collector.</li>
+ * <li>{@link #MAPPED} memory-maps a temporary file that is deleted once the array is released.</li>
+ * </ul>
+ *
+ * Arrays that are not stored on the heap must be released explicitly via {@link HugeArray#release()}.
+ */
+public enum HugeArrayStorage {
+    HEAP,
+    OFF_HEAP,
+    MAPPED;
+
+    public static HugeArrayStorage parse(Object input) {
+        if (input instanceof HugeArrayStorage) {
+            return (HugeArrayStorage) input;
+        }
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            for (HugeArrayStorage storage : values()) {
+                if (storage.name().equals(inputString)) {
+                    return storage;
+                }
+            }
+            throw new IllegalArgumentException(formatWithLocale(
+                "Array storage `%s` is not supported. Must be one of: %s.",
+                input,
+                Arrays.toString(values())
+            ));
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected array storage or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(HugeArrayStorage storage) {
+        return storage.name();
+    }
+}
@@ -94,6 +94,16 @@ public final class HugeAtomicBitSet {
         HugeAtomicBitSetOps.forEachSetBit(bits, consumer);
     }
 
+    /**
+     * Iterates the bits from the startIndex (inclusive) to the endIndex (exclusive)
+     * in increasing order and calls the given consumer for each set bit.
+     *
+     * This method is not thread-safe.
+     */
+    public void forEachSetBit(long startIndex, long endIndex, LongConsumer consumer) {
+        HugeAtomicBitSetOps.forEachSetBit(bits, numBits, startIndex, endIndex, consumer);
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
@@ -183,6 +183,48 @@ public final class HugeAtomicBitSetOps {
         }
     }
 
+    /**
+     * Iterates the bits from the startIndex (inclusive) to the endIndex (exclusive)
+     * in increasing order and calls the given consumer for each set bit.
+     *
+     * This method is not thread-safe.
+     */
+    static void forEachSetBit(
+        HugeAtomicLongArray bits,
+        long numBits,
+        long startIndex,
+        long endIndex,
+        LongConsumer consumer
+    ) {
+        assert (startIndex <= endIndex);
+        assert (endIndex <= numBits);
+
+        if (startIndex == endIndex) {
+            return;
+        }
+
+        long startWordIndex = startIndex / NUM_BITS;
+        long endWordIndex = (endIndex - 1) / NUM_BITS;
+
+        // the shifts only consider the lower 6 bits, i.e. the bit index within the word
+        long startBitMask = -1L << startIndex;
+        long endBitMask = -1L >>> -endIndex;
+
+        for (long wordIndex = startWordIndex; wordIndex <= endWordIndex; wordIndex++) {
+            long word = bits.get(wordIndex);
+            if (wordIndex == startWordIndex) {
+                word &= startBitMask;
+            }
+            if (wordIndex == endWordIndex) {
+                word &= endBitMask;
+            }
+            while (word != 0) {
+                consumer.accept(Long.SIZE * wordIndex + Long.numberOfTrailingZeros(word));
+                word = word ^ Long.lowestOneBit(word);
+            }
+        }
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
@@ -221,6 +221,17 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
         return PagedHugeByteArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size, stored as specified by {@code storage}.
+     * Arrays that are not stored on the heap have to be {@link #release() released} explicitly.
+     */
+    public static HugeByteArray newArray(long size, HugeArrayStorage storage) {
+        if (storage == HugeArrayStorage.HEAP) {
+            return newArray(size);
+        }
+        return OffHeapHugeByteArray.of(size, storage);
+    }
+
     public static HugeByteArray of(final byte... values) {
         return new SingleHugeByteArray(values.length, values);
     }
@@ -253,6 +264,15 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
         return SingleHugeByteArray.of(size);
     }
 
+    private static void copyElementwise(HugeByteArray source, HugeByteArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, (byte) 0);
+        }
+    }
+
     private static final class SingleHugeByteArray extends HugeByteArray {
 
         private static HugeByteArray of(long size) {
@@ -331,6 +351,10 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeByteArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeByteArray) {
                 SingleHugeByteArray dst = (SingleHugeByteArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -494,6 +518,10 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeByteArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeByteArray) {
                 SingleHugeByteArray dst = (SingleHugeByteArray) dest;
                 int start = 0;
@@ -553,4 +581,136 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    /**
+     * Stores the values outside of the Java heap, either in native memory or in a memory-mapped file.
+     * The memory is only freed when the array is {@link #release() released}.
+     */
+    private static final class OffHeapHugeByteArray extends HugeByteArray {
+
+        private static HugeByteArray of(long size, HugeArrayStorage storage) {
+            return new OffHeapHugeByteArray(size, OffHeapMemory.allocate(storage, size));
+        }
+
+        private final long size;
+        private OffHeapMemory memory;
+
+        private OffHeapHugeByteArray(long size, OffHeapMemory memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        @Override
+        public byte get(long index) {
+            assert index < size;
+            return memory.getByte(index);
+        }
+
+        @Override
+        public byte getAndAdd(long index, byte delta) {
+            assert index < size;
+            var value = memory.getByte(index);
+            memory.putByte(index, (byte) (value + delta));
+            return value;
+        }
+
+        @Override
+        public void set(long index, byte value) {
+            assert index < size;
+            memory.putByte(index, value);
+        }
+
+        @Override
+        public void or(long index, byte value) {
+            assert index < size;
+            memory.putByte(index, (byte) (memory.getByte(index) | value));
+        }
+
+        @Override
+        public byte and(long index, byte value) {
+            assert index < size;
+            byte result = (byte) (memory.getByte(index) & value);
+            memory.putByte(index, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, byte value) {
+            assert index < size;
+            memory.putByte(index, (byte) (memory.getByte(index) + value));
+        }
+
+        @Override
+        public void setAll(LongToByteFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.valueOf(i));
+            }
+        }
+
+        @Override
+        public void fill(byte value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeByteArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(byte[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                set(sliceStart + i, source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory == null ? 0L : memory.bytes;
+        }
+
+        @Override
+        public long release() {
+            if (memory != null) {
+                var freed = memory.release();
+                memory = null;
+                return freed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<byte[]> newCursor() {
+            var buffer = new byte[(int) Math.min(size, HugeArrays.PAGE_SIZE)];
+            return new HugeCursor.CopyingCursor<>(
+                size,
+                buffer,
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        page[i] = get(fromIndex + i);
+                    }
+                },
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        set(fromIndex + i, page[i]);
+                    }
+                }
+            );
+        }
+    }
 }
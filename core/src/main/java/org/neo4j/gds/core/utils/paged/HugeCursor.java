@@ -201,4 +201,99 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * Cursor over an array whose data does not live in Java arrays, e.g. off-heap memory.
+     * The values are copied into a reusable buffer, one page at a time.
+     * The buffer is written back to the underlying storage before the cursor moves on and when it is closed,
+     * so changes to {@link #array} behave as for the heap-backed cursors.
+     */
+    static final class CopyingCursor<Array> extends HugeCursor<Array> {
+
+        @FunctionalInterface
+        interface PageReader<Array> {
+            /**
+             * Copies {@code length} values, starting at the global index {@code fromIndex}, into {@code buffer}.
+             */
+            void read(long fromIndex, Array buffer, int length);
+        }
+
+        @FunctionalInterface
+        interface PageWriter<Array> {
+            /**
+             * Copies {@code length} values from {@code buffer} into the storage, starting at the global index {@code fromIndex}.
+             */
+            void write(long fromIndex, Array buffer, int length);
+        }
+
+        private final long capacity;
+        private PageReader<Array> reader;
+        private PageWriter<Array> writer;
+        private long from;
+        private long end;
+        // the window that is currently copied into the buffer
+        private long windowStart;
+        private int windowLength;
+
+        CopyingCursor(long capacity, Array buffer, PageReader<Array> reader, PageWriter<Array> writer) {
+            super();
+            this.capacity = capacity;
+            this.array = buffer;
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        void setRange(long start, long end) {
+            writeBack();
+            this.from = start;
+            this.end = end;
+            this.base = start;
+            this.offset = 0;
+            this.limit = 0;
+        }
+
+        @Override
+        public boolean next() {
+            writeBack();
+            if (from >= end) {
+                return false;
+            }
+            // align the windows to the page boundaries so that they never exceed the buffer
+            long to = Math.min(end, ((long) pageIndex(from) + 1) << PAGE_SHIFT);
+            int length = (int) (to - from);
+            reader.read(from, array, length);
+            windowStart = from;
+            windowLength = length;
+            base = from;
+            offset = 0;
+            limit = length;
+            from = to;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            writeBack();
+            array = null;
+            reader = null;
+            writer = null;
+            base = 0L;
+            from = 0L;
+            end = 0L;
+            limit = 0;
+        }
+
+        private void writeBack() {
+            if (windowLength > 0) {
+                writer.write(windowStart, array, windowLength);
+                windowLength = 0;
+            }
+        }
+    }
 }
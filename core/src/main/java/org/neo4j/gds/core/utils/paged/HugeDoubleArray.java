@@ -22,10 +22,12 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.mem.HugeArrays;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SIZE;
@@ -205,6 +207,25 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return PagedHugeDoubleArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size, stored as specified by {@code storage}.
+     * Arrays that are not stored on the heap have to be {@link #release() released} explicitly.
+     */
+    public static HugeDoubleArray newArray(long size, HugeArrayStorage storage) {
+        if (storage == HugeArrayStorage.HEAP) {
+            return newArray(size);
+        }
+        return OffHeapHugeDoubleArray.of(size, storage);
+    }
+
+    /**
+     * Memory-maps an existing file that contains the values in little-endian byte order, e.g. one written as part of a graph snapshot.
+     * The array is not backed by the heap and should be {@link #release() released} explicitly; this does not delete the file.
+     */
+    public static HugeDoubleArray map(Path file) {
+        return OffHeapHugeDoubleArray.of(file);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -237,6 +258,15 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return SingleHugeDoubleArray.of(size);
     }
 
+    private static void copyElementwise(HugeDoubleArray source, HugeDoubleArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0D);
+        }
+    }
+
     private static final class SingleHugeDoubleArray extends HugeDoubleArray {
 
         private static HugeDoubleArray of(long size) {
@@ -291,6 +321,10 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeDoubleArray) {
                 SingleHugeDoubleArray dst = (SingleHugeDoubleArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -431,6 +465,10 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeDoubleArray) {
                 SingleHugeDoubleArray dst = (SingleHugeDoubleArray) dest;
                 int start = 0;
@@ -495,4 +533,124 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    /**
+     * Stores the values outside of the Java heap, either in native memory or in a memory-mapped file.
+     * The memory is only freed when the array is {@link #release() released}.
+     */
+    private static final class OffHeapHugeDoubleArray extends HugeDoubleArray {
+
+        private static HugeDoubleArray of(long size, HugeArrayStorage storage) {
+            return new OffHeapHugeDoubleArray(size, OffHeapMemory.allocate(storage, size << 3));
+        }
+
+        private static HugeDoubleArray of(Path file) {
+            var memory = OffHeapMemory.map(file);
+            return new OffHeapHugeDoubleArray(memory.bytes >>> 3, memory);
+        }
+
+        private final long size;
+        private OffHeapMemory memory;
+
+        private OffHeapHugeDoubleArray(long size, OffHeapMemory memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        @Override
+        public double get(long index) {
+            assert index < size;
+            return memory.getDouble((index << 3));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            assert index < size;
+            memory.putDouble((index << 3), value);
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            assert index < size;
+            memory.putDouble((index << 3), memory.getDouble((index << 3)) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsDouble(i));
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(double[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                set(sliceStart + i, source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory == null ? 0L : memory.bytes;
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+
+        @Override
+        public long release() {
+            if (memory != null) {
+                var freed = memory.release();
+                memory = null;
+                return freed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            var buffer = new double[(int) Math.min(size, HugeArrays.PAGE_SIZE)];
+            return new HugeCursor.CopyingCursor<>(
+                size,
+                buffer,
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        page[i] = get(fromIndex + i);
+                    }
+                },
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        set(fromIndex + i, page[i]);
+                    }
+                }
+            );
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A dense matrix of floats with a fixed number of columns, e.g. one embedding per node.
+ * <p>
+ * Rows are stored consecutively in pages, every page holds a power-of-two number of complete rows.
+ * Compared to a {@link HugeObjectArray} of {@code float[]}, there is no object header and reference per row.
+ */
+public final class HugeFloatMatrix {
+
+    private final float[][] pages;
+    private final long rows;
+    private final int dimension;
+    private final int rowShift;
+    private final long rowMask;
+
+    public static HugeFloatMatrix of(long rows, int dimension) {
+        int rowShift = rowShift(dimension);
+        long rowsPerPage = 1L << rowShift;
+        int pageCount = Math.toIntExact(BitUtil.ceilDiv(rows, rowsPerPage));
+        var pages = new float[pageCount][];
+        for (int page = 0; page < pageCount; page++) {
+            long rowsInPage = Math.min(rowsPerPage, rows - page * rowsPerPage);
+            pages[page] = new float[Math.toIntExact(rowsInPage * dimension)];
+        }
+        return new HugeFloatMatrix(pages, rows, dimension, rowShift);
+    }
+
+    public static long memoryEstimation(long rows, int dimension) {
+        long rowsPerPage = 1L << rowShift(dimension);
+        long fullPages = rows / rowsPerPage;
+        long lastPageRows = rows % rowsPerPage;
+        long pageCount = fullPages + (lastPageRows > 0 ? 1 : 0);
+        return MemoryUsage.sizeOfInstance(HugeFloatMatrix.class)
+               + MemoryUsage.sizeOfObjectArray(pageCount)
+               + fullPages * MemoryUsage.sizeOfFloatArray(rowsPerPage * dimension)
+               + (lastPageRows > 0 ? MemoryUsage.sizeOfFloatArray(lastPageRows * dimension) : 0);
+    }
+
+    private static int rowShift(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException(formatWithLocale("The dimension must be positive, but got %d.", dimension));
+        }
+        return Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(1, HugeArrays.PAGE_SIZE / dimension)));
+    }
+
+    private HugeFloatMatrix(float[][] pages, long rows, int dimension, int rowShift) {
+        this.pages = pages;
+        this.rows = rows;
+        this.dimension = dimension;
+        this.rowShift = rowShift;
+        this.rowMask = (1L << rowShift) - 1;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public float get(long row, int column) {
+        assert column < dimension;
+        return rowPage(row)[rowOffset(row) + column];
+    }
+
+    public void set(long row, int column, float value) {
+        assert column < dimension;
+        rowPage(row)[rowOffset(row) + column] = value;
+    }
+
+    /**
+     * Copies the first {@link #dimension()} values into the given row.
+     */
+    public void setRow(long row, float[] values) {
+        System.arraycopy(values, 0, rowPage(row), rowOffset(row), dimension);
+    }
+
+    /**
+     * Copies the given row into the first {@link #dimension()} entries of {@code target}.
+     */
+    public void copyRow(long row, float[] target) {
+        System.arraycopy(rowPage(row), rowOffset(row), target, 0, dimension);
+    }
+
+    /**
+     * @return a copy of the given row
+     */
+    public float[] row(long row) {
+        var target = new float[dimension];
+        copyRow(row, target);
+        return target;
+    }
+
+    /**
+     * The page that holds the given row, starting at {@link #rowOffset(long)}.
+     * Allows reading and updating a row in place without copying it.
+     */
+    public float[] rowPage(long row) {
+        assert row < rows;
+        return pages[(int) (row >>> rowShift)];
+    }
+
+    public int rowOffset(long row) {
+        return (int) (row & rowMask) * dimension;
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.mem.HugeArrays;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToIntFunction;
@@ -221,10 +222,29 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return PagedHugeIntArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size, stored as specified by {@code storage}.
+     * Arrays that are not stored on the heap have to be {@link #release() released} explicitly.
+     */
+    public static HugeIntArray newArray(long size, HugeArrayStorage storage) {
+        if (storage == HugeArrayStorage.HEAP) {
+            return newArray(size);
+        }
+        return OffHeapHugeIntArray.of(size, storage);
+    }
+
     public static HugeIntArray of(final int... values) {
         return new HugeIntArray.SingleHugeIntArray(values.length, values);
     }
 
+    /**
+     * Memory-maps an existing file that contains the values in little-endian byte order, e.g. one written as part of a graph snapshot.
+     * The array is not backed by the heap and should be {@link #release() released} explicitly; this does not delete the file.
+     */
+    public static HugeIntArray map(Path file) {
+        return OffHeapHugeIntArray.of(file);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -253,6 +273,15 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return SingleHugeIntArray.of(size);
     }
 
+    private static void copyElementwise(HugeIntArray source, HugeIntArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0);
+        }
+    }
+
     private static final class SingleHugeIntArray extends HugeIntArray {
 
         private static HugeIntArray of(long size) {
@@ -328,6 +357,10 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeIntArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeIntArray) {
                 SingleHugeIntArray dst = (SingleHugeIntArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -489,6 +522,10 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeIntArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeIntArray) {
                 SingleHugeIntArray dst = (SingleHugeIntArray) dest;
                 int start = 0;
@@ -548,4 +585,141 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    /**
+     * Stores the values outside of the Java heap, either in native memory or in a memory-mapped file.
+     * The memory is only freed when the array is {@link #release() released}.
+     */
+    private static final class OffHeapHugeIntArray extends HugeIntArray {
+
+        private static HugeIntArray of(long size, HugeArrayStorage storage) {
+            return new OffHeapHugeIntArray(size, OffHeapMemory.allocate(storage, size << 2));
+        }
+
+        private static HugeIntArray of(Path file) {
+            var memory = OffHeapMemory.map(file);
+            return new OffHeapHugeIntArray(memory.bytes >>> 2, memory);
+        }
+
+        private final long size;
+        private OffHeapMemory memory;
+
+        private OffHeapHugeIntArray(long size, OffHeapMemory memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        @Override
+        public int get(long index) {
+            assert index < size;
+            return memory.getInt((index << 2));
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            assert index < size;
+            var value = memory.getInt((index << 2));
+            memory.putInt((index << 2), value + delta);
+            return value;
+        }
+
+        @Override
+        public void set(long index, int value) {
+            assert index < size;
+            memory.putInt((index << 2), value);
+        }
+
+        @Override
+        public void or(long index, int value) {
+            assert index < size;
+            memory.putInt((index << 2), memory.getInt((index << 2)) | value);
+        }
+
+        @Override
+        public int and(long index, int value) {
+            assert index < size;
+            int result = memory.getInt((index << 2)) & value;
+            memory.putInt((index << 2), result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            assert index < size;
+            memory.putInt((index << 2), memory.getInt((index << 2)) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsInt(i));
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(int[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                set(sliceStart + i, source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory == null ? 0L : memory.bytes;
+        }
+
+        @Override
+        public long release() {
+            if (memory != null) {
+                var freed = memory.release();
+                memory = null;
+                return freed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            var buffer = new int[(int) Math.min(size, HugeArrays.PAGE_SIZE)];
+            return new HugeCursor.CopyingCursor<>(
+                size,
+                buffer,
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        page[i] = get(fromIndex + i);
+                    }
+                },
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        set(fromIndex + i, page[i]);
+                    }
+                }
+            );
+        }
+    }
 }
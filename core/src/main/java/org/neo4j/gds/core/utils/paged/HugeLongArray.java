@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
@@ -223,6 +224,25 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return PagedHugeLongArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size, stored as specified by {@code storage}.
+     * Arrays that are not stored on the heap have to be {@link #release() released} explicitly.
+     */
+    public static HugeLongArray newArray(long size, HugeArrayStorage storage) {
+        if (storage == HugeArrayStorage.HEAP) {
+            return newArray(size);
+        }
+        return OffHeapHugeLongArray.of(size, storage);
+    }
+
+    /**
+     * Memory-maps an existing file that contains the values in little-endian byte order, e.g. one written as part of a graph snapshot.
+     * The array is not backed by the heap and should be {@link #release() released} explicitly; this does not delete the file.
+     */
+    public static HugeLongArray map(Path file) {
+        return OffHeapHugeLongArray.of(file);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -263,6 +283,15 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return SingleHugeLongArray.of(size);
     }
 
+    private static void copyElementwise(HugeLongArray source, HugeLongArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0L);
+        }
+    }
+
     private static final class SingleHugeLongArray extends HugeLongArray {
 
         private static HugeLongArray of(long size) {
@@ -329,6 +358,10 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeLongArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeLongArray) {
                 SingleHugeLongArray dst = (SingleHugeLongArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -494,6 +527,10 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeLongArray) {
+                copyElementwise(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeLongArray) {
                 SingleHugeLongArray dst = (SingleHugeLongArray) dest;
                 int start = 0;
@@ -569,4 +606,151 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         }
 
     }
+
+    /**
+     * Stores the values outside of the Java heap, either in native memory or in a memory-mapped file.
+     * The memory is only freed when the array is {@link #release() released}.
+     */
+    private static final class OffHeapHugeLongArray extends HugeLongArray {
+
+        private static HugeLongArray of(long size, HugeArrayStorage storage) {
+            return new OffHeapHugeLongArray(size, OffHeapMemory.allocate(storage, size << 3));
+        }
+
+        private static HugeLongArray of(Path file) {
+            var memory = OffHeapMemory.map(file);
+            return new OffHeapHugeLongArray(memory.bytes >>> 3, memory);
+        }
+
+        private final long size;
+        private OffHeapMemory memory;
+
+        private OffHeapHugeLongArray(long size, OffHeapMemory memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        @Override
+        public long get(long index) {
+            assert index < size;
+            return memory.getLong((index << 3));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            assert index < size;
+            memory.putLong((index << 3), value);
+        }
+
+        @Override
+        public void or(long index, long value) {
+            assert index < size;
+            memory.putLong((index << 3), memory.getLong((index << 3)) | value);
+        }
+
+        @Override
+        public long and(long index, long value) {
+            assert index < size;
+            long result = memory.getLong((index << 3)) & value;
+            memory.putLong((index << 3), result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            assert index < size;
+            memory.putLong((index << 3), memory.getLong((index << 3)) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsLong(i));
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(long[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            for (int i = 0; i < length; i++) {
+                set(sliceStart + i, source[i]);
+            }
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory == null ? 0L : memory.bytes;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midValue = get(mid);
+                if (midValue < searchValue) {
+                    low = mid + 1;
+                } else if (midValue > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            if (memory != null) {
+                var freed = memory.release();
+                memory = null;
+                return freed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            var buffer = new long[(int) Math.min(size, HugeArrays.PAGE_SIZE)];
+            return new HugeCursor.CopyingCursor<>(
+                size,
+                buffer,
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        page[i] = get(fromIndex + i);
+                    }
+                },
+                (fromIndex, page, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        set(fromIndex + i, page[i]);
+                    }
+                }
+            );
+        }
+    }
 }
@@ -70,4 +70,8 @@ public final class HugeLongArrayStack {
     public boolean isEmpty() {
         return size() == 0;
     }
+
+    public void clear() {
+        size = 0;
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A contiguous, byte-addressed block of memory outside of the Java heap.
+ * Offsets are in bytes and must be aligned to the size of the accessed type.
+ */
+abstract class OffHeapMemory {
+
+    static OffHeapMemory allocate(HugeArrayStorage storage, long bytes) {
+        switch (storage) {
+            case OFF_HEAP:
+                return new Allocated(bytes);
+            case MAPPED:
+                return new Mapped(bytes);
+            default:
+                throw new IllegalArgumentException("Heap storage is not backed by off-heap memory.");
+        }
+    }
+
+    /**
+     * Maps an existing file, for example a graph snapshot, that stores its values in little-endian byte order.
+     * Writes are private to this mapping and do not modify the file; the file is kept when the memory is released.
+     */
+    static OffHeapMemory map(Path file) {
+        try {
+            return new Mapped(file, Files.size(file), FileChannel.MapMode.PRIVATE, ByteOrder.LITTLE_ENDIAN, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    final long bytes;
+
+    OffHeapMemory(long bytes) {
+        this.bytes = bytes;
+    }
+
+    abstract long getLong(long offset);
+
+    abstract void putLong(long offset, long value);
+
+    abstract int getInt(long offset);
+
+    abstract void putInt(long offset, int value);
+
+    abstract byte getByte(long offset);
+
+    abstract void putByte(long offset, byte value);
+
+    /**
+     * Frees the memory, the instance must not be used afterwards.
+     *
+     * @return the number of bytes that were freed
+     */
+    abstract long release();
+
+    double getDouble(long offset) {
+        return Double.longBitsToDouble(getLong(offset));
+    }
+
+    void putDouble(long offset, double value) {
+        putLong(offset, Double.doubleToRawLongBits(value));
+    }
+
+    private static final class Allocated extends OffHeapMemory {
+
+        private long address;
+
+        Allocated(long bytes) {
+            super(bytes);
+            // allocating zero bytes is not supported by all platforms
+            this.address = NativeMemoryTracker.allocate(Math.max(bytes, Long.BYTES));
+            UnsafeUtil.setMemory(address, Math.max(bytes, Long.BYTES), (byte) 0);
+        }
+
+        @Override
+        long getLong(long offset) {
+            return UnsafeUtil.getLong(address + offset);
+        }
+
+        @Override
+        void putLong(long offset, long value) {
+            UnsafeUtil.putLong(address + offset, value);
+        }
+
+        @Override
+        int getInt(long offset) {
+            return UnsafeUtil.getInt(address + offset);
+        }
+
+        @Override
+        void putInt(long offset, int value) {
+            UnsafeUtil.putInt(address + offset, value);
+        }
+
+        @Override
+        byte getByte(long offset) {
+            return UnsafeUtil.getByte(address + offset);
+        }
+
+        @Override
+        void putByte(long offset, byte value) {
+            UnsafeUtil.putByte(address + offset, value);
+        }
+
+        @Override
+        synchronized long release() {
+            if (address == 0L) {
+                return 0L;
+            }
+            NativeMemoryTracker.free(address, Math.max(bytes, Long.BYTES));
+            address = 0L;
+            return bytes;
+        }
+    }
+
+    /**
+     * Maps a file in segments of at most 1 GiB.
+     * Values never cross a segment boundary as long as the offsets are aligned.
+     * The segments are unmapped when the memory is released, the mapped bytes are reported to the
+     * {@link NativeMemoryTracker} while they are mapped.
+     */
+    private static final class Mapped extends OffHeapMemory {
+
+        private static final int SEGMENT_SHIFT = 30;
+        private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+        private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+        private final Path file;
+        private final boolean deleteOnRelease;
+        private MappedByteBuffer[] segments;
+
+        Mapped(long bytes) {
+            this(createTempFile(), bytes, FileChannel.MapMode.READ_WRITE, ByteOrder.nativeOrder(), true);
+        }
+
+        Mapped(Path file, long bytes, FileChannel.MapMode mode, ByteOrder order, boolean deleteOnRelease) {
+            super(bytes);
+            this.file = file;
+            this.deleteOnRelease = deleteOnRelease;
+            int numSegments = (int) ((bytes + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            this.segments = new MappedByteBuffer[numSegments];
+            var openOptions = mode == FileChannel.MapMode.READ_WRITE
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+            try (var channel = FileChannel.open(file, openOptions)) {
+                for (int i = 0; i < numSegments; i++) {
+                    long position = (long) i << SEGMENT_SHIFT;
+                    long length = Math.min(SEGMENT_SIZE, bytes - position);
+                    segments[i] = channel.map(mode, position, length);
+                    segments[i].order(order);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            NativeMemoryTracker.track(bytes);
+            if (deleteOnRelease) {
+                // the mapping outlives the directory entry on most platforms,
+                // if the file cannot be deleted yet, it is deleted on release
+                tryDelete(file);
+            }
+        }
+
+        private static Path createTempFile() {
+            try {
+                return Files.createTempFile("gds-huge-array", ".bin");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void tryDelete(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException | SecurityException ignored) {
+                // still mapped, e.g. on Windows
+            }
+        }
+
+        @Override
+        long getLong(long offset) {
+            return segments[(int) (offset >>> SEGMENT_SHIFT)].getLong((int) (offset & SEGMENT_MASK));
+        }
+
+        @Override
+        void putLong(long offset, long value) {
+            segments[(int) (offset >>> SEGMENT_SHIFT)].putLong((int) (offset & SEGMENT_MASK), value);
+        }
+
+        @Override
+        int getInt(long offset) {
+            return segments[(int) (offset >>> SEGMENT_SHIFT)].getInt((int) (offset & SEGMENT_MASK));
+        }
+
+        @Override
+        void putInt(long offset, int value) {
+            segments[(int) (offset >>> SEGMENT_SHIFT)].putInt((int) (offset & SEGMENT_MASK), value);
+        }
+
+        @Override
+        byte getByte(long offset) {
+            return segments[(int) (offset >>> SEGMENT_SHIFT)].get((int) (offset & SEGMENT_MASK));
+        }
+
+        @Override
+        void putByte(long offset, byte value) {
+            segments[(int) (offset >>> SEGMENT_SHIFT)].put((int) (offset & SEGMENT_MASK), value);
+        }
+
+        @Override
+        synchronized long release() {
+            if (segments == null) {
+                return 0L;
+            }
+            for (var segment : segments) {
+                UnsafeUtil.invokeCleaner(segment);
+            }
+            segments = null;
+            NativeMemoryTracker.untrack(bytes);
+            if (deleteOnRelease) {
+                tryDelete(file);
+            }
+            return bytes;
+        }
+    }
+}
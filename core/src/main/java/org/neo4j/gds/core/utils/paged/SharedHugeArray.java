@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link HugeArray} that is used by more than one data structure,
+ * e.g. the degrees of an adjacency list that are also read by its property lists.
+ *
+ * Every user {@link #acquire() acquires} the array and {@link #release() releases} it when it is closed.
+ * The array itself is only released together with the last reference,
+ * which frees arrays that are not stored on the heap exactly once.
+ */
+public final class SharedHugeArray<ARRAY extends HugeArray<?, ?, ARRAY>> {
+
+    private final ARRAY array;
+    private final AtomicInteger references;
+
+    private SharedHugeArray(ARRAY array) {
+        this.array = array;
+        this.references = new AtomicInteger(0);
+    }
+
+    public static <ARRAY extends HugeArray<?, ?, ARRAY>> SharedHugeArray<ARRAY> of(ARRAY array) {
+        return new SharedHugeArray<>(array);
+    }
+
+    /**
+     * Returns the shared array without adding a reference.
+     */
+    public ARRAY array() {
+        return array;
+    }
+
+    /**
+     * Adds a reference and returns the shared array.
+     */
+    public ARRAY acquire() {
+        references.incrementAndGet();
+        return array;
+    }
+
+    /**
+     * Removes a reference and releases the array if it was the last one.
+     *
+     * @return the number of bytes that have been freed
+     */
+    public long release() {
+        int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            return array.release();
+        }
+        if (remaining < 0) {
+            throw new IllegalStateException("The shared array has been released more often than it was acquired.");
+        }
+        return 0L;
+    }
+}
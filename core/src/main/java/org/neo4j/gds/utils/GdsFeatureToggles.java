@@ -34,7 +34,11 @@ public enum GdsFeatureToggles {
     USE_BIT_ID_MAP(true),
     USE_SHARDED_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
+    USE_PACKED_ADJACENCY_LIST(false),
+    USE_COMPRESSED_ADJACENCY_PROPERTIES(false),
+    USE_COMPRESSED_LONG_NODE_PROPERTIES(true),
     USE_REORDERED_ADJACENCY_LIST(false),
+    USE_VIRTUAL_THREADS(false),
     ENABLE_ARROW_DATABASE_IMPORT(true);
 
     public boolean isEnabled() {
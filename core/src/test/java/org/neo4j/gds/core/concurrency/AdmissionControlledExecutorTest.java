@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlledExecutorTest {
+
+    private ExecutorService delegate;
+
+    @BeforeEach
+    void setup() {
+        delegate = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void teardown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void shouldLimitConcurrentJobs() {
+        var executor = new AdmissionControlledExecutor(delegate, 2);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        var futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(executor.submit(() -> {
+                int current = running.incrementAndGet();
+                maxRunning.accumulateAndGet(current, Math::max);
+                sleep(5);
+                running.decrementAndGet();
+            }));
+        }
+        ParallelUtil.awaitTermination(futures);
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+
+        var metrics = executor.metrics();
+        assertThat(metrics.admittedJobs()).isEqualTo(20);
+        assertThat(metrics.submittedTasks()).isEqualTo(20);
+        // later jobs had to wait for earlier ones to finish
+        assertThat(metrics.maxQueueWaitNanos()).isGreaterThan(0L);
+        assertThat(metrics.totalQueueWaitNanos()).isGreaterThanOrEqualTo(metrics.maxQueueWaitNanos());
+    }
+
+    @Test
+    void shouldAdmitAllTasksOfAJobAtOnce() {
+        var executor = new AdmissionControlledExecutor(delegate, 1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        var futures = new ArrayList<Future<?>>();
+        try (var job = executor.admit()) {
+            for (int i = 0; i < 4; i++) {
+                futures.add(job.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                }));
+            }
+        }
+        ParallelUtil.awaitTermination(futures);
+
+        // the tasks of a single job are not limited by the admission
+        assertThat(maxRunning.get()).isGreaterThan(1);
+
+        var metrics = executor.metrics();
+        assertThat(metrics.admittedJobs()).isEqualTo(1);
+        assertThat(metrics.submittedTasks()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldFreeTheSlotOnceAllTasksOfAClosedJobFinished() throws Exception {
+        var executor = new AdmissionControlledExecutor(delegate, 1);
+        var release = new CountDownLatch(1);
+
+        var job = executor.admit();
+        job.submit(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        job.close();
+
+        assertThat(executor.metrics().activeJobs()).isEqualTo(1);
+        assertThatThrownBy(() -> job.submit(() -> {})).isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(job.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // admission does not block anymore
+        try (var nextJob = executor.admit()) {
+            ParallelUtil.awaitTermination(List.of(nextJob.submit(() -> {})));
+        }
+
+        var metrics = executor.metrics();
+        assertThat(metrics.admittedJobs()).isEqualTo(2);
+        assertThat(metrics.completedJobs()).isEqualTo(2);
+        assertThat(metrics.activeJobs()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotWaitForAdmissionOfNestedJobs() throws Exception {
+        var executor = new AdmissionControlledExecutor(delegate, 1);
+        var latch = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            var nested = executor.submit(() -> {});
+            ParallelUtil.awaitTermination(List.of(nested));
+            latch.countDown();
+        });
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.metrics().admittedJobs()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadTheVirtualThreadSettingPerJob() {
+        var useVirtualThreads = new AtomicBoolean(false);
+        var executor = new AdmissionControlledExecutor(delegate, 1, useVirtualThreads::get);
+
+        assertThat(runsOnVirtualThread(executor)).isFalse();
+
+        useVirtualThreads.set(true);
+        boolean supported = VirtualThreads.newVirtualThreadPerTaskExecutor().map(e -> {
+            e.shutdown();
+            return true;
+        }).orElse(false);
+        assertThat(runsOnVirtualThread(executor)).isEqualTo(supported);
+    }
+
+    @Test
+    void shouldRunWithConcurrencyAsASingleJob() {
+        var executor = new AdmissionControlledExecutor(delegate, 3);
+        var counter = new AtomicInteger();
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(counter::incrementAndGet);
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(4)
+            .tasks(tasks)
+            .executor(executor)
+            .run();
+
+        assertThat(counter.get()).isEqualTo(100);
+        assertThat(executor.metrics().admittedJobs()).isEqualTo(1);
+        assertThat(executor.metrics().submittedTasks()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRejectInvalidLimit() {
+        assertThatThrownBy(() -> new AdmissionControlledExecutor(delegate, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at least 1");
+    }
+
+    private static boolean runsOnVirtualThread(AdmissionControlledExecutor executor) {
+        var isVirtual = new AtomicBoolean();
+        try (var job = executor.admit()) {
+            ParallelUtil.awaitTermination(List.of(job.submit(() -> isVirtual.set(isVirtual(Thread.currentThread())))));
+        }
+        return isVirtual.get();
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -35,4 +35,14 @@ class PoolsTest {
         assertEquals(4, defaultPool.getMaximumPoolSize());
     }
 
+    @Test
+    void shouldAdmitAsManyIoJobsAsThreads() {
+        var ioPool = Pools.createIoPool();
+        try {
+            assertEquals(4, ioPool.maxConcurrentJobs());
+        } finally {
+            ioPool.shutdown();
+        }
+    }
+
 }
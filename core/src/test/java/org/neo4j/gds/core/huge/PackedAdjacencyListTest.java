@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.TestMethodRunner;
+import org.neo4j.gds.core.loading.AdjacencyListBuilder;
+import org.neo4j.gds.core.loading.PackedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.neo4j.gds.core.huge.TransientCsrListTest.adjacencyCursorFromTargets;
+
+class PackedAdjacencyListTest {
+
+    // three full blocks and a tail of 10 targets
+    private static final int DEGREE = 3 * 64 + 10;
+
+    private static long[] targets() {
+        var targets = new long[DEGREE];
+        Arrays.setAll(targets, i -> i);
+        return targets;
+    }
+
+    private static AdjacencyCursor packedCursor(long[] targets) {
+        var cursor = new AtomicReference<AdjacencyCursor>();
+        TestMethodRunner.runPacked(() -> cursor.set(adjacencyCursorFromTargets(targets)));
+        return cursor.get();
+    }
+
+    /**
+     * Packs the given targets directly, the id mapping in {@link #packedCursor(long[])} would make all gaps 1.
+     */
+    private static void withPackedList(long[] targets, Consumer<PackedAdjacencyList> test) {
+        var deltas = new long[targets.length];
+        deltas[0] = targets[0];
+        for (int i = 1; i < targets.length; i++) {
+            deltas[i] = targets[i] - targets[i - 1];
+        }
+
+        AdjacencyListBuilder<long[], PackedAdjacencyList> builder = PackedAdjacencyListBuilderFactory
+            .of()
+            .newAdjacencyListBuilder();
+        var allocator = builder.newAllocator();
+        long address = allocator.write(deltas, deltas.length, -1L);
+        allocator.close();
+
+        var adjacencyList = builder.build(HugeIntArray.of(targets.length), HugeLongArray.of(address));
+        try {
+            test.accept(adjacencyList);
+        } finally {
+            adjacencyList.close();
+        }
+    }
+
+    @Test
+    void shouldUsePackedCursor() {
+        assertThat(packedCursor(targets())).isInstanceOf(PackedAdjacencyList.BlockDecodingCursor.class);
+    }
+
+    @Test
+    void shouldDecodeAllBlocks() {
+        var targets = targets();
+        var cursor = packedCursor(targets);
+        assertThat(cursor.size()).isEqualTo(DEGREE);
+        for (long target : targets) {
+            assertEquals(target, cursor.peekVLong());
+            assertEquals(target, cursor.nextVLong());
+        }
+        assertFalse(cursor.hasNextVLong());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 63, 64, 127, 130, 192, 200})
+    void shouldSkipUntilAcrossBlocks(long target) {
+        var cursor = packedCursor(targets());
+
+        long expected = target + 1;
+        assertThat(cursor.skipUntil(target)).isEqualTo(expected);
+        assertThat(cursor.remaining()).isEqualTo(DEGREE - (int) expected - 1);
+        if (cursor.hasNextVLong()) {
+            assertThat(cursor.nextVLong()).isEqualTo(expected + 1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 2, 63, 64, 128, 130, 192, 201})
+    void shouldAdvanceAcrossBlocks(long target) {
+        var cursor = packedCursor(targets());
+
+        assertThat(cursor.advance(target)).isEqualTo(target);
+        assertThat(cursor.remaining()).isEqualTo(DEGREE - (int) target - 1);
+    }
+
+    @Test
+    void shouldReturnLastTargetWhenAdvancingBeyondAllBlocks() {
+        var cursor = packedCursor(targets());
+        assertThat(cursor.advance(Long.MAX_VALUE - 1)).isEqualTo(DEGREE - 1);
+        assertFalse(cursor.hasNextVLong());
+        assertThat(cursor.advance(0)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 5, 63, 64, 65, 128, 150, DEGREE - 1})
+    void shouldAdvanceBy(int n) {
+        var cursor = packedCursor(targets());
+        assertThat(cursor.advanceBy(n)).isEqualTo(n);
+        assertThat(cursor.remaining()).isEqualTo(DEGREE - n - 1);
+    }
+
+    static Stream<Arguments> irregularTargets() {
+        var growingGaps = new long[DEGREE];
+        Arrays.setAll(growingGaps, i -> 37L * i * (i + 1) / 2);
+
+        // a single outlier forces its whole block to a wide bit width
+        var outliers = targets();
+        for (int i = 100; i < DEGREE; i++) {
+            outliers[i] += 1L << 40;
+        }
+        for (int i = 196; i < DEGREE; i++) {
+            outliers[i] += 1L << 20;
+        }
+
+        // every block and the tail need a different bit width
+        var mixedWidths = new long[DEGREE];
+        long[] gapPerBlock = {1L, 1000L, 1L << 33, 1L << 50};
+        for (int i = 1; i < DEGREE; i++) {
+            mixedWidths[i] = mixedWidths[i - 1] + gapPerBlock[i / 64];
+        }
+
+        return Stream.of(
+            Arguments.of("growing gaps", growingGaps),
+            Arguments.of("outliers", outliers),
+            Arguments.of("mixed widths", mixedWidths)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("irregularTargets")
+    void shouldDecodeIrregularGaps(String description, long[] targets) {
+        withPackedList(targets, adjacencyList -> {
+            var cursor = adjacencyList.adjacencyCursor(0);
+            assertThat(cursor.size()).isEqualTo(DEGREE);
+            for (long target : targets) {
+                assertEquals(target, cursor.peekVLong());
+                assertEquals(target, cursor.nextVLong());
+            }
+            assertFalse(cursor.hasNextVLong());
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("irregularTargets")
+    void shouldSkipAndAdvanceOverIrregularGaps(String description, long[] targets) {
+        withPackedList(targets, adjacencyList -> {
+            for (int index : new int[]{0, 1, 63, 64, 99, 100, 127, 128, 191, 192, 195, 196, DEGREE - 2}) {
+                var skipping = adjacencyList.adjacencyCursor(0);
+                assertThat(skipping.skipUntil(targets[index])).isEqualTo(targets[index + 1]);
+                assertThat(skipping.remaining()).isEqualTo(DEGREE - index - 2);
+
+                var advancing = adjacencyList.adjacencyCursor(0);
+                assertThat(advancing.advance(targets[index])).isEqualTo(targets[index]);
+                assertThat(advancing.remaining()).isEqualTo(DEGREE - index - 1);
+
+                var advancingBy = adjacencyList.adjacencyCursor(0);
+                assertThat(advancingBy.advanceBy(index)).isEqualTo(targets[index]);
+                assertThat(advancingBy.remaining()).isEqualTo(DEGREE - index - 1);
+            }
+        });
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        var cursor = packedCursor(targets());
+        cursor.advance(100);
+
+        var copied = cursor.shallowCopy(null);
+        assertThat(copied.remaining()).isEqualTo(cursor.remaining());
+        while (cursor.hasNextVLong()) {
+            assertThat(copied.nextVLong()).isEqualTo(cursor.nextVLong());
+        }
+        assertFalse(copied.hasNextVLong());
+    }
+}
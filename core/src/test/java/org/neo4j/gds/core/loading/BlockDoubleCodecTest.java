@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockDoubleCodecTest {
+
+    static Stream<Arguments> blocks() {
+        var random = new Random(42);
+        return Stream.of(
+            Arguments.of("constant", BlockDoubleCodec.CONSTANT, (IntToDoubleFunction) i -> 1.0),
+            Arguments.of("constant NaN", BlockDoubleCodec.CONSTANT, (IntToDoubleFunction) i -> Double.NaN),
+            Arguments.of("dictionary", BlockDoubleCodec.DICTIONARY, (IntToDoubleFunction) i -> (i % 3) * 0.1),
+            Arguments.of("dictionary with -0.0", BlockDoubleCodec.DICTIONARY, (IntToDoubleFunction) i -> i % 2 == 0 ? 0.0 : -0.0),
+            Arguments.of("integers", BlockDoubleCodec.INTEGER, (IntToDoubleFunction) i -> 1000 + i * 7),
+            Arguments.of("negative integers", BlockDoubleCodec.INTEGER, (IntToDoubleFunction) i -> -i * 1_000_003L),
+            Arguments.of("floats", BlockDoubleCodec.FLOAT, (IntToDoubleFunction) i -> random.nextFloat()),
+            Arguments.of("raw", BlockDoubleCodec.RAW, (IntToDoubleFunction) i -> random.nextDouble())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("blocks")
+    void shouldRoundTripBlocks(String name, byte expectedEncoding, IntToDoubleFunction values) {
+        var input = IntStream.range(0, BlockDoubleCodec.BLOCK_SIZE)
+            .mapToLong(i -> Double.doubleToRawLongBits(values.applyAsDouble(i)))
+            .toArray();
+        var compressed = new byte[BlockDoubleCodec.maxCompressedSize(input.length)];
+
+        int size = new BlockDoubleCodec().compress(input, input.length, compressed);
+
+        assertThat(compressed[0]).isEqualTo(expectedEncoding);
+        var output = new long[BlockDoubleCodec.BLOCK_SIZE];
+        assertThat(BlockDoubleCodec.decompressBlock(compressed, 0, input.length, output)).isEqualTo(size);
+        assertThat(output).containsExactly(input);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void shouldRoundTripMixedBlocks(int length) {
+        var random = new Random(length);
+        var input = new long[length];
+        for (int i = 0; i < length; i++) {
+            // switch the kind of values every few blocks
+            double value;
+            switch ((i / BlockDoubleCodec.BLOCK_SIZE) % 4) {
+                case 0: value = 42.0; break;
+                case 1: value = random.nextInt(1 << 20); break;
+                case 2: value = random.nextInt(5) / 4.0; break;
+                default: value = random.nextDouble();
+            }
+            input[i] = Double.doubleToRawLongBits(value);
+        }
+        var compressed = new byte[BlockDoubleCodec.maxCompressedSize(length)];
+        int size = new BlockDoubleCodec().compress(input, length, compressed);
+
+        var output = new long[length];
+        var block = new long[BlockDoubleCodec.BLOCK_SIZE];
+        int position = 0;
+        for (int start = 0; start < length; start += BlockDoubleCodec.BLOCK_SIZE) {
+            int blockLength = Math.min(BlockDoubleCodec.BLOCK_SIZE, length - start);
+            position = BlockDoubleCodec.decompressBlock(compressed, position, blockLength, block);
+            System.arraycopy(block, 0, output, start, blockLength);
+        }
+
+        assertThat(position).isEqualTo(size);
+        assertThat(output).containsExactly(input);
+    }
+
+    static Stream<Integer> lengths() {
+        return Stream.of(1, 7, 63, 64, 65, 200, 1000);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void shouldCompressUnitWeightsToOneValuePerBlock(int length) {
+        var input = new long[length];
+        Arrays.fill(input, Double.doubleToRawLongBits(1.0));
+        var compressed = new byte[BlockDoubleCodec.maxCompressedSize(length)];
+
+        int size = new BlockDoubleCodec().compress(input, length, compressed);
+
+        int blocks = (length + BlockDoubleCodec.BLOCK_SIZE - 1) / BlockDoubleCodec.BLOCK_SIZE;
+        assertThat(size).isEqualTo(blocks * (1 + Long.BYTES));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedAdjacencyPropertiesBuilderTest {
+
+    @Test
+    void shouldDecodePropertiesOfAllNodes() {
+        int nodeCount = 4;
+        int[] nodeDegrees = {3, 0, 130, 64};
+
+        var builder = new CompressedAdjacencyPropertiesBuilder();
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+        var expected = new long[nodeCount][];
+
+        try (var allocator = builder.newAllocator()) {
+            for (int node = 0; node < nodeCount; node++) {
+                int n = node;
+                expected[node] = IntStream
+                    .range(0, nodeDegrees[node])
+                    .mapToDouble(i -> n == 2 ? (i < 64 ? 1.0 : i * 0.5) : n + i / 10.0)
+                    .mapToLong(Double::doubleToRawLongBits)
+                    .toArray();
+                degrees.set(node, nodeDegrees[node]);
+                offsets.set(node, allocator.write(expected[node], nodeDegrees[node], -1L));
+            }
+        }
+
+        var properties = builder.build(degrees, offsets);
+
+        var cursor = properties.rawPropertyCursor();
+        for (int node = 0; node < nodeCount; node++) {
+            cursor = properties.propertyCursor(cursor, node, Double.NaN);
+            var actual = new long[nodeDegrees[node]];
+            int i = 0;
+            while (cursor.hasNextLong()) {
+                actual[i++] = cursor.nextLong();
+            }
+            assertThat(i).isEqualTo(nodeDegrees[node]);
+            assertThat(actual).containsExactly(expected[node]);
+        }
+    }
+}
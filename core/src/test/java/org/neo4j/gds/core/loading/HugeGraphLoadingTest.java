@@ -33,16 +33,21 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.StoreLoaderBuilder;
+import org.neo4j.gds.StoreLoaderWithConfigBuilder;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.huge.CompressedAdjacencyProperties;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.roaringbitmap.longlong.Roaring64Bitmap;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -406,6 +411,37 @@ final class HugeGraphLoadingTest extends BaseTest {
         });
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testCompressedRelationshipPropertiesPerProjection(boolean compressRelationshipProperties) {
+        runQuery(
+            "CREATE (a)-[:REL {w: 1.0}]->(b), (a)-[:REL {w: 2.5}]->(c), (b)-[:REL {w: 42.0}]->(c)"
+        );
+
+        var config = GraphProjectFromStoreConfig.of(
+            "",
+            "graph",
+            "*",
+            Map.of("REL", Map.of("properties", "w")),
+            CypherMapWrapper.create(Map.of("compressRelationshipProperties", compressRelationshipProperties))
+        );
+        var graphStore = new StoreLoaderWithConfigBuilder()
+            .databaseService(db)
+            .graphProjectConfig(config)
+            .build()
+            .graphStore();
+
+        var propertiesList = graphStore
+            .relationshipPropertyValues(RelationshipType.of("REL"), "w")
+            .values()
+            .propertiesList();
+        assertThat(propertiesList instanceof CompressedAdjacencyProperties).isEqualTo(compressRelationshipProperties);
+        assertGraphEquals(
+            fromGdl("(a)-[{w: 1.0}]->(b), (a)-[{w: 2.5}]->(c), (b)-[{w: 42.0}]->(c)"),
+            graphStore.getUnion()
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void testMultiLabelPartitionedTokenIndexRespectingBatchSize(int concurrency) {
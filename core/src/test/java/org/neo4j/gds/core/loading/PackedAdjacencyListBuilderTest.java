@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.TestMethodRunner;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @Test
+    void test() {
+        TestMethodRunner.runPacked(this::testAdjacencyList);
+    }
+
+    @Test
+    void testMapper() {
+        TestMethodRunner.runPacked(this::testValueMapper);
+    }
+
+    @Test
+    void positionalAllocatorAllocatesOnItsOwn() {
+        var builder = new PackedAdjacencyListBuilder();
+        assertThat(builder.positionalWrites()).isFalse();
+
+        var allocator = builder.newPositionalAllocator();
+        long address = allocator.write(new long[]{1, 1, 1}, 3, 42L);
+        allocator.close();
+
+        var adjacencyList = builder.build(HugeIntArray.of(3), HugeLongArray.of(address));
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(new long[]{cursor.nextVLong(), cursor.nextVLong(), cursor.nextVLong()}).containsExactly(1, 2, 3);
+        adjacencyList.close();
+    }
+
+    @Test
+    void tracksOffHeapAllocations() {
+        var builder = new PackedAdjacencyListBuilder();
+        var allocator = builder.newAllocator();
+        long address = allocator.write(new long[]{1, 1, 1}, 3, -1L);
+        allocator.close();
+        var adjacencyList = builder.build(HugeIntArray.of(3), HugeLongArray.of(address));
+
+        // assert on the pages of this list, the global tracker is shared with every other test in the JVM
+        assertThat(adjacencyList.pages()).isNotEmpty().doesNotContain(0L);
+        assertThat(adjacencyList.pageSizes()).hasSameSizeAs(adjacencyList.pages());
+        assertThat(Arrays.stream(adjacencyList.pageSizes()).sum()).isGreaterThanOrEqualTo(Long.BYTES);
+
+        adjacencyList.close();
+
+        assertThat(adjacencyList.pages()).isNull();
+        assertThat(adjacencyList.pageSizes()).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DenseFloatArrayNodePropertyValuesTest {
+
+    private static final int NODE_COUNT = 50_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldDensifyArraysOfSameLength(int concurrency) {
+        var values = values(nodeId -> new float[]{nodeId, -nodeId, 0.5f});
+
+        var dense = DenseFloatArrayNodePropertyValues.densify(values, NODE_COUNT, concurrency);
+
+        assertThat(dense).isInstanceOf(DenseFloatArrayNodePropertyValues.class);
+        assertThat(dense.size()).isEqualTo(NODE_COUNT);
+        var buffer = new float[3];
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(dense.floatArrayValue(nodeId)).containsExactly(values.floatArrayValue(nodeId));
+            ((DenseFloatArrayNodePropertyValues) dense).copyInto(nodeId, buffer);
+            assertThat(buffer).containsExactly(values.floatArrayValue(nodeId));
+        }
+        assertThat(dense.doubleArrayValue(2)).containsExactly(2.0, -2.0, 0.5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldKeepMissingValues(int concurrency) {
+        var values = values(nodeId -> nodeId == NODE_COUNT - 1 ? null : new float[]{nodeId});
+
+        assertThat(DenseFloatArrayNodePropertyValues.densify(values, NODE_COUNT, concurrency)).isSameAs(values);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldKeepArraysOfDifferentLengths(int concurrency) {
+        var values = values(nodeId -> new float[(int) (nodeId % 1000 == 999 ? 2 : 1)]);
+
+        assertThat(DenseFloatArrayNodePropertyValues.densify(values, NODE_COUNT, concurrency)).isSameAs(values);
+    }
+
+    private static NodePropertyValues values(LongFunction<float[]> valueFunction) {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return valueFunction.apply(nodeId);
+            }
+
+            @Override
+            public long size() {
+                return NODE_COUNT;
+            }
+        };
+    }
+}
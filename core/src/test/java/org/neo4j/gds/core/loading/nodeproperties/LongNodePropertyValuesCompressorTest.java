@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongNodePropertyValuesCompressorTest {
+
+    private static final int NODE_COUNT = 10_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldBitPackSmallRanges(int concurrency) {
+        var values = values(nodeId -> 1990 + nodeId % 35);
+
+        var compressed = LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, concurrency, Pools.DEFAULT);
+
+        assertThat(compressed).isInstanceOf(PackedLongNodePropertyValues.class);
+        assertSameValues(values, compressed);
+        assertThat(compressed.getMaxLongPropertyValue()).hasValue(2024L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldUseDictionaryForFewDistinctValues(int concurrency) {
+        var values = values(nodeId -> (nodeId % 7) * 1_000_000_007L - 42);
+
+        var compressed = LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, concurrency, Pools.DEFAULT);
+
+        assertThat(compressed).isInstanceOf(DictionaryLongNodePropertyValues.class);
+        assertSameValues(values, compressed);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldStoreMostlyEqualValuesSparsely(int concurrency) {
+        int nodeCount = 1_000_000;
+        var randomValues = new Random(42).longs(100).toArray();
+        // only the first page contains values other than -1
+        var values = values(nodeCount, nodeId -> nodeId < 100 ? randomValues[(int) nodeId] : -1L);
+
+        var compressed = LongNodePropertyValuesCompressor.compress(values, nodeCount, concurrency, Pools.DEFAULT);
+
+        assertThat(compressed).isInstanceOf(LongNodePropertiesBuilder.LongStoreNodePropertyValues.class);
+        assertSameValues(nodeCount, values, compressed);
+    }
+
+    @Test
+    void shouldKeepValuesWithoutCompactRepresentation() {
+        var random = new Random(42);
+        var randomValues = random.longs(NODE_COUNT).toArray();
+        var values = values(nodeId -> randomValues[(int) nodeId]);
+
+        assertThat(LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, 4, Pools.DEFAULT)).isSameAs(values);
+    }
+
+    @Test
+    void shouldPackValuesCloseToMinValue() {
+        var values = values(nodeId -> Long.MIN_VALUE + nodeId * 3);
+
+        var compressed = LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, 4, Pools.DEFAULT);
+
+        assertThat(compressed).isInstanceOf(PackedLongNodePropertyValues.class);
+        assertSameValues(values, compressed);
+    }
+
+    @Test
+    void shouldKeepValuesSpanningTheFullLongRange() {
+        var values = values(nodeId -> nodeId % 2 == 0 ? Long.MIN_VALUE + nodeId : Long.MAX_VALUE - nodeId);
+
+        assertThat(LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, 4, Pools.DEFAULT)).isSameAs(values);
+    }
+
+    @Test
+    void shouldKeepReportedMaxValueAndSize() {
+        var values = values(nodeId -> nodeId % 3);
+
+        var compressed = LongNodePropertyValuesCompressor.compress(
+            values,
+            NODE_COUNT,
+            OptionalLong.of(0),
+            OptionalLong.of(1),
+            1,
+            Pools.DEFAULT
+        );
+
+        assertThat(compressed.getMaxLongPropertyValue()).hasValue(1L);
+        assertThat(compressed.size()).isEqualTo(values.size());
+    }
+
+    @Test
+    void shouldKeepValuesIfCompressionIsDisabled() {
+        var values = values(nodeId -> 1990 + nodeId % 35);
+
+        GdsFeatureToggles.USE_COMPRESSED_LONG_NODE_PROPERTIES.disableAndRun(() ->
+            assertThat(LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, 4, Pools.DEFAULT)).isSameAs(values)
+        );
+    }
+
+    @Test
+    void shouldIgnoreOtherValueTypes() {
+        DoubleNodePropertyValues values = new DoubleNodePropertyValues() {
+            @Override
+            public double doubleValue(long nodeId) {
+                return 1.0;
+            }
+
+            @Override
+            public long size() {
+                return NODE_COUNT;
+            }
+        };
+
+        assertThat(LongNodePropertyValuesCompressor.compress(values, NODE_COUNT, 4, Pools.DEFAULT)).isSameAs(values);
+    }
+
+    private static void assertSameValues(NodePropertyValues expected, NodePropertyValues actual) {
+        assertSameValues(NODE_COUNT, expected, actual);
+    }
+
+    private static void assertSameValues(long nodeCount, NodePropertyValues expected, NodePropertyValues actual) {
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(actual.longValue(nodeId)).as("value of node %d", nodeId).isEqualTo(expected.longValue(nodeId));
+        }
+    }
+
+    private static LongNodePropertyValues values(LongUnaryOperator valueFunction) {
+        return values(NODE_COUNT, valueFunction);
+    }
+
+    private static LongNodePropertyValues values(long nodeCount, LongUnaryOperator valueFunction) {
+        return new LongNodePropertyValues() {
+            @Override
+            public long longValue(long nodeId) {
+                return valueFunction.applyAsLong(nodeId);
+            }
+
+            @Override
+            public long size() {
+                return nodeCount;
+            }
+        };
+    }
+}
@@ -68,6 +68,23 @@ class HugeAtomicBitSetTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @CsvSource({"0,4096", "0,0", "1,64", "3,65", "64,128", "72,1338", "421,1337", "4095,4096"})
+    void testForEachSetBitInRange(long startIndex, long endIndex) {
+        var bitSet = HugeAtomicBitSet.create(4096);
+
+        var setBits = List.of(0L, 1L, 3L, 7L, 15L, 63L, 64L, 72L, 128L, 420L, 1337L, 4095L);
+        setBits.forEach(bitSet::set);
+
+        var expected = new ArrayList<Long>();
+        setBits.stream().filter(bit -> bit >= startIndex && bit < endIndex).forEach(expected::add);
+
+        var actual = new ArrayList<Long>();
+        bitSet.forEachSetBit(startIndex, endIndex, actual::add);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @ParameterizedTest
     @MethodSource("suppliers")
     void getAndSetReturnsTrueIfTheBitWasSet(HabsSupplier supplier) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.mem.HugeArrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HugeFloatMatrixTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 64, 256, HugeArrays.PAGE_SIZE + 1})
+    void shouldStoreRowsAcrossPages(int dimension) {
+        long rows = 3L * HugeArrays.PAGE_SIZE / dimension + 7;
+        var matrix = HugeFloatMatrix.of(rows, dimension);
+
+        var row = new float[dimension];
+        for (long r = 0; r < rows; r++) {
+            for (int column = 0; column < dimension; column++) {
+                row[column] = r * 31 + column;
+            }
+            matrix.setRow(r, row);
+        }
+
+        assertThat(matrix.rows()).isEqualTo(rows);
+        assertThat(matrix.dimension()).isEqualTo(dimension);
+        for (long r = 0; r < rows; r++) {
+            var actual = matrix.row(r);
+            for (int column = 0; column < dimension; column++) {
+                assertThat(actual[column]).isEqualTo((float) (r * 31 + column));
+            }
+            assertThat(matrix.get(r, dimension - 1)).isEqualTo(actual[dimension - 1]);
+        }
+    }
+
+    @Test
+    void shouldSetSingleValues() {
+        var matrix = HugeFloatMatrix.of(10, 4);
+        matrix.set(7, 2, 42.0f);
+
+        assertThat(matrix.row(7)).containsExactly(0.0f, 0.0f, 42.0f, 0.0f);
+        assertThat(matrix.row(6)).containsOnly(0.0f);
+    }
+
+    @Test
+    void shouldExposeRowsInPlace() {
+        int dimension = 3;
+        long rows = 2L * HugeArrays.PAGE_SIZE / dimension;
+        var matrix = HugeFloatMatrix.of(rows, dimension);
+        long lastRow = rows - 1;
+        matrix.setRow(lastRow, new float[]{1, 2, 3});
+
+        var page = matrix.rowPage(lastRow);
+        int offset = matrix.rowOffset(lastRow);
+        assertThat(page).containsSequence(1, 2, 3);
+        assertThat(page[offset + 2]).isEqualTo(3);
+
+        page[offset] = 42;
+        assertThat(matrix.row(lastRow)).containsExactly(42, 2, 3);
+        assertThat(matrix.rowPage(0)).isNotSameAs(page);
+    }
+
+    @Test
+    void shouldEstimateLessMemoryThanObjectArrays() {
+        long rows = 1_000_000;
+        int dimension = 64;
+
+        long rawSize = rows * dimension * Float.BYTES;
+        assertThat(HugeFloatMatrix.memoryEstimation(rows, dimension))
+            .isGreaterThanOrEqualTo(rawSize)
+            .isLessThan(rawSize + rows * 16);
+    }
+
+    @Test
+    void shouldRejectEmptyRows() {
+        assertThatThrownBy(() -> HugeFloatMatrix.of(10, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The dimension must be positive, but got 0.");
+    }
+}
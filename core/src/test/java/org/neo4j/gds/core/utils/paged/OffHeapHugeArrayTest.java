@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
+import org.neo4j.gds.mem.HugeArrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapHugeArrayTest {
+
+    private static final int SIZE = HugeArrays.PAGE_SIZE * 2 + 42;
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void longArray(HugeArrayStorage storage) {
+        var array = HugeLongArray.newArray(SIZE, storage);
+        try {
+            assertThat(array.get(SIZE - 1)).isEqualTo(0L);
+
+            array.setAll(i -> i * 2);
+            assertThat(array.get(1337)).isEqualTo(2674L);
+
+            array.addTo(1337, 1);
+            array.or(1337, 2);
+            assertThat(array.get(1337)).isEqualTo(2675L | 2);
+            assertThat(array.and(1337, 1)).isEqualTo(1L);
+
+            array.setAll(i -> i * 2);
+            assertThat(array.binarySearch(43)).isEqualTo(21L);
+            assertThat(array.binarySearch(-1)).isEqualTo(-1L);
+            assertThat(array.binarySearch(Long.MAX_VALUE)).isEqualTo(SIZE - 1);
+
+            assertThat(array.toArray()).hasSize(SIZE).startsWith(0L, 2L, 4L).endsWith((SIZE - 1) * 2L);
+        } finally {
+            array.release();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void intArray(HugeArrayStorage storage) {
+        var array = HugeIntArray.newArray(SIZE, storage);
+        try {
+            array.fill(7);
+            assertThat(array.getAndAdd(SIZE - 1, 3)).isEqualTo(7);
+            assertThat(array.get(SIZE - 1)).isEqualTo(10);
+            assertThat(array.get(0)).isEqualTo(7);
+        } finally {
+            array.release();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void doubleArray(HugeArrayStorage storage) {
+        var array = HugeDoubleArray.newArray(SIZE, storage);
+        try {
+            array.setAll(i -> i / 2.0);
+            array.addTo(3, 0.25);
+            assertThat(array.get(3)).isEqualTo(1.75);
+            assertThat(array.stream().count()).isEqualTo(SIZE);
+        } finally {
+            array.release();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void byteArray(HugeArrayStorage storage) {
+        var array = HugeByteArray.newArray(SIZE, storage);
+        try {
+            array.set(SIZE - 1, (byte) 127);
+            array.addTo(SIZE - 1, (byte) 1);
+            assertThat(array.get(SIZE - 1)).isEqualTo(Byte.MIN_VALUE);
+        } finally {
+            array.release();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void cursorCoversRange(HugeArrayStorage storage) {
+        var array = HugeLongArray.newArray(SIZE, storage);
+        array.setAll(i -> i);
+
+        long start = HugeArrays.PAGE_SIZE - 10;
+        long end = SIZE - 5;
+        long expected = start;
+        try (var cursor = array.initCursor(array.newCursor(), start, end)) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    assertThat(cursor.array[i]).isEqualTo(cursor.base + i);
+                    assertThat(cursor.array[i]).isEqualTo(expected++);
+                }
+            }
+        }
+        assertThat(expected).isEqualTo(end);
+
+        array.release();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void copyBetweenStorages(HugeArrayStorage storage) {
+        var heap = HugeLongArray.newArray(SIZE);
+        heap.setAll(i -> i + 1);
+
+        var offHeap = HugeLongArray.newArray(SIZE, storage);
+        heap.copyTo(offHeap, SIZE - 1);
+        assertThat(offHeap.get(SIZE - 2)).isEqualTo(SIZE - 1);
+        assertThat(offHeap.get(SIZE - 1)).isEqualTo(0L);
+
+        var copy = offHeap.copyOf(10);
+        assertThat(copy.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        assertThat(offHeap.copyFromArrayIntoSlice(new long[]{42, 43}, 5, 10)).isEqualTo(2);
+        assertThat(offHeap.get(5)).isEqualTo(42L);
+        assertThat(offHeap.get(6)).isEqualTo(43L);
+
+        offHeap.release();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void releaseFreesMemoryOnce(HugeArrayStorage storage) {
+        var array = HugeIntArray.newArray(SIZE, storage);
+        assertThat(array.sizeOf()).isEqualTo((long) SIZE * Integer.BYTES);
+        assertThat(array.release()).isEqualTo((long) SIZE * Integer.BYTES);
+        assertThat(array.release()).isEqualTo(0L);
+        assertThat(array.sizeOf()).isEqualTo(0L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void cursorWritesBackChanges(HugeArrayStorage storage) {
+        var array = HugeLongArray.newArray(SIZE, storage);
+
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    cursor.array[i] = cursor.base + i + 1;
+                }
+            }
+        }
+        assertThat(array.get(0)).isEqualTo(1L);
+        assertThat(array.get(HugeArrays.PAGE_SIZE)).isEqualTo(HugeArrays.PAGE_SIZE + 1L);
+        assertThat(array.get(SIZE - 1)).isEqualTo(SIZE);
+
+        array.release();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HugeArrayStorage.class, names = {"OFF_HEAP", "MAPPED"})
+    void tracksNativeMemory(HugeArrayStorage storage) {
+        long allocatedBefore = NativeMemoryTracker.allocatedBytes();
+
+        var array = HugeIntArray.newArray(SIZE, storage);
+        assertThat(NativeMemoryTracker.allocatedBytes() - allocatedBefore).isEqualTo((long) SIZE * Integer.BYTES);
+
+        array.release();
+        assertThat(NativeMemoryTracker.allocatedBytes()).isEqualTo(allocatedBefore);
+    }
+
+    @Test
+    void sharedArrayIsReleasedWithTheLastReference() {
+        var array = HugeLongArray.newArray(SIZE, HugeArrayStorage.OFF_HEAP);
+        var shared = SharedHugeArray.of(array);
+        shared.acquire();
+        shared.acquire();
+
+        assertThat(shared.release()).isEqualTo(0L);
+        assertThat(array.sizeOf()).isEqualTo((long) SIZE * Long.BYTES);
+
+        assertThat(shared.release()).isEqualTo((long) SIZE * Long.BYTES);
+        assertThat(array.sizeOf()).isEqualTo(0L);
+
+        assertThatThrownBy(shared::release).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void parseStorage() {
+        assertThat(HugeArrayStorage.parse("off_heap")).isEqualTo(HugeArrayStorage.OFF_HEAP);
+        assertThat(HugeArrayStorage.parse(HugeArrayStorage.MAPPED)).isEqualTo(HugeArrayStorage.MAPPED);
+        assertThatThrownBy(() -> HugeArrayStorage.parse("disk"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Array storage `disk` is not supported");
+    }
+}
@@ -24,6 +24,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.CompositeRelationshipIterator;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.graph.GraphProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.compat.CompatInput;
 import org.neo4j.gds.compat.CompatPropertySizeCalculator;
 import org.neo4j.gds.compat.InputEntityIdVisitor;
@@ -464,7 +465,7 @@ public final class GraphStoreInput implements CompatInput {
                                 .forEach((propertyKey, properties) -> exportProperty(
                                     visitor,
                                     propertyKey,
-                                    properties::getObject
+                                    properties
                                 ));
                         }
                     }
@@ -472,7 +473,7 @@ public final class GraphStoreInput implements CompatInput {
                     nodeStore.nodeProperties.forEach((label, nodeProperties) -> nodeProperties.forEach((propertyKey, properties) -> exportProperty(
                         visitor,
                         propertyKey,
-                        properties::getObject
+                        properties
                     )));
                 }
 
@@ -487,6 +488,14 @@ public final class GraphStoreInput implements CompatInput {
             return false;
         }
 
+        private void exportProperty(InputEntityVisitor visitor, String propertyKey, NodePropertyValues properties) {
+            if (visitor instanceof NodePropertyValuesVisitor) {
+                ((NodePropertyValuesVisitor) visitor).nodeProperty(propertyKey, properties, id);
+            } else {
+                exportProperty(visitor, propertyKey, properties::getObject);
+            }
+        }
+
         private void exportProperty(InputEntityVisitor visitor, String propertyKey, LongFunction<Object> propertyFn) {
             var value = propertyFn.apply(id);
             if (value != null) {
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+/**
+ * Implemented by node visitors that read the property values of a node themselves.
+ * {@link GraphStoreInput} then hands over the property values of the graph store instead of boxing every value for
+ * {@link org.neo4j.internal.batchimport.input.InputEntityVisitor#property(String, Object)}.
+ */
+public interface NodePropertyValuesVisitor {
+
+    /**
+     * @param nodeId the internal id of the current node, used to read its value from {@code values}
+     */
+    void nodeProperty(String key, NodePropertyValues values, long nodeId);
+}
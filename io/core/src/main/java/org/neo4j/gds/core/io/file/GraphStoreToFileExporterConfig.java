@@ -39,6 +39,43 @@ public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseCo
 
     String exportName();
 
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.io.file.FileExportFormat#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.io.file.FileExportFormat#toString")
+    default FileExportFormat exportFormat() {
+        return FileExportFormat.CSV;
+    }
+
+    /**
+     * Compresses the column blocks of a {@link FileExportFormat#COLUMNAR} export.
+     */
+    @Value.Default
+    default boolean compressBlocks() {
+        return false;
+    }
+
+    /**
+     * Columnar exports can only be imported together with their meta data.
+     */
+    @Override
+    @Configuration.Ignore
+    @Value.Default
+    default boolean includeMetaData() {
+        return exportFormat() == FileExportFormat.COLUMNAR;
+    }
+
+    @Value.Check
+    default void validateExportFormat() {
+        if (exportFormat() == FileExportFormat.CSV && compressBlocks()) {
+            throw new IllegalArgumentException("Block compression is only supported for the `COLUMNAR` export format.");
+        }
+        if (exportFormat() == FileExportFormat.COLUMNAR && !additionalNodeProperties().mappings().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Additional node properties are only supported for the `CSV` export format."
+            );
+        }
+    }
+
     static GraphStoreToFileExporterConfig of(String username, CypherMapWrapper config) {
         return new GraphStoreToFileExporterConfigImpl(username, config);
     }
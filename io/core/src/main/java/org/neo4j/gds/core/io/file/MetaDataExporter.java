@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import org.neo4j.gds.core.io.MetaDataStore;
+import org.neo4j.gds.core.io.schema.ElementSchemaVisitor;
+import org.neo4j.gds.core.io.schema.NodeSchemaVisitor;
+import org.neo4j.gds.core.io.schema.RelationshipSchemaVisitor;
+import org.neo4j.gds.core.loading.Capabilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Writes the user name, graph info, schemas and capabilities of a graph store.
+ * Shared by the file exporters that write the graph data itself in different formats.
+ */
+public final class MetaDataExporter {
+
+    private final Supplier<SingleRowVisitor<String>> userInfoVisitorSupplier;
+    private final Supplier<SingleRowVisitor<GraphInfo>> graphInfoVisitorSupplier;
+    private final Supplier<NodeSchemaVisitor> nodeSchemaVisitorSupplier;
+    private final Supplier<RelationshipSchemaVisitor> relationshipSchemaVisitorSupplier;
+    private final Supplier<ElementSchemaVisitor> graphPropertySchemaVisitorSupplier;
+    private final Supplier<SimpleWriter<Capabilities>> graphCapabilitiesWriterSupplier;
+
+    public MetaDataExporter(
+        Supplier<SingleRowVisitor<String>> userInfoVisitorSupplier,
+        Supplier<SingleRowVisitor<GraphInfo>> graphInfoVisitorSupplier,
+        Supplier<NodeSchemaVisitor> nodeSchemaVisitorSupplier,
+        Supplier<RelationshipSchemaVisitor> relationshipSchemaVisitorSupplier,
+        Supplier<ElementSchemaVisitor> graphPropertySchemaVisitorSupplier,
+        Supplier<SimpleWriter<Capabilities>> graphCapabilitiesWriterSupplier
+    ) {
+        this.userInfoVisitorSupplier = userInfoVisitorSupplier;
+        this.graphInfoVisitorSupplier = graphInfoVisitorSupplier;
+        this.nodeSchemaVisitorSupplier = nodeSchemaVisitorSupplier;
+        this.relationshipSchemaVisitorSupplier = relationshipSchemaVisitorSupplier;
+        this.graphPropertySchemaVisitorSupplier = graphPropertySchemaVisitorSupplier;
+        this.graphCapabilitiesWriterSupplier = graphCapabilitiesWriterSupplier;
+    }
+
+    public void export(String userName, MetaDataStore metaDataStore, Capabilities capabilities) {
+        exportUserName(userName);
+        exportGraphInfo(metaDataStore);
+        exportNodeSchema(metaDataStore);
+        exportRelationshipSchema(metaDataStore);
+        exportGraphPropertySchema(metaDataStore);
+        exportGraphCapabilities(capabilities);
+    }
+
+    private void exportUserName(String userName) {
+        try (var userInfoVisitor = userInfoVisitorSupplier.get()) {
+            userInfoVisitor.export(userName);
+        }
+    }
+
+    private void exportGraphInfo(MetaDataStore metaDataStore) {
+        GraphInfo graphInfo = metaDataStore.graphInfo();
+        try (var graphInfoVisitor = graphInfoVisitorSupplier.get()) {
+            graphInfoVisitor.export(graphInfo);
+        }
+    }
+
+    private void exportNodeSchema(MetaDataStore metaDataStore) {
+        var nodeSchema = metaDataStore.nodeSchema();
+        try (var nodeSchemaVisitor = nodeSchemaVisitorSupplier.get()) {
+            nodeSchema.entries().forEach(nodeEntry -> {
+                if (nodeEntry.properties().isEmpty()) {
+                    nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
+                    nodeSchemaVisitor.endOfEntity();
+                } else {
+                    nodeEntry.properties().forEach((propertyKey, propertySchema) -> {
+                        nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
+                        nodeSchemaVisitor.key(propertyKey);
+                        nodeSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                        nodeSchemaVisitor.valueType(propertySchema.valueType());
+                        nodeSchemaVisitor.state(propertySchema.state());
+                        nodeSchemaVisitor.endOfEntity();
+                    });
+                }
+            });
+        }
+    }
+
+    private void exportRelationshipSchema(MetaDataStore metaDataStore) {
+        var relationshipSchema = metaDataStore.relationshipSchema();
+        try (var relationshipSchemaVisitor = relationshipSchemaVisitorSupplier.get()) {
+            relationshipSchema.entries().forEach(relationshipEntry -> {
+                if (relationshipEntry.properties().isEmpty()) {
+                    relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
+                    relationshipSchemaVisitor.direction(relationshipEntry.direction());
+                    relationshipSchemaVisitor.endOfEntity();
+                } else {
+                    relationshipEntry.properties().forEach((propertyKey, propertySchema) -> {
+                        relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
+                        relationshipSchemaVisitor.direction(relationshipEntry.direction());
+                        relationshipSchemaVisitor.key(propertyKey);
+                        relationshipSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                        relationshipSchemaVisitor.valueType(propertySchema.valueType());
+                        relationshipSchemaVisitor.aggregation(propertySchema.aggregation());
+                        relationshipSchemaVisitor.state(propertySchema.state());
+                        relationshipSchemaVisitor.endOfEntity();
+                    });
+                }
+            });
+        }
+    }
+
+    private void exportGraphPropertySchema(MetaDataStore metaDataStore) {
+        var graphPropertySchema = metaDataStore.graphPropertySchema();
+        try (var graphPropertySchemaVisitor = graphPropertySchemaVisitorSupplier.get()) {
+            graphPropertySchema.forEach((key, propertySchema) -> {
+                graphPropertySchemaVisitor.key(key);
+                graphPropertySchemaVisitor.defaultValue(propertySchema.defaultValue());
+                graphPropertySchemaVisitor.valueType(propertySchema.valueType());
+                graphPropertySchemaVisitor.state(propertySchema.state());
+                graphPropertySchemaVisitor.endOfEntity();
+            });
+        }
+    }
+
+    private void exportGraphCapabilities(Capabilities capabilities) {
+        var capabilitiesMapper = graphCapabilitiesWriterSupplier.get();
+        try {
+            capabilitiesMapper.write(capabilities);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
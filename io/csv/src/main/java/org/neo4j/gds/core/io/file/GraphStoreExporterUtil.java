@@ -25,6 +25,8 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.GraphStoreExportSettings;
 import org.neo4j.gds.core.io.GraphStoreExporter;
 import org.neo4j.gds.core.io.NeoNodeProperties;
+import org.neo4j.gds.core.io.file.columnar.BlockCompression;
+import org.neo4j.gds.core.io.file.columnar.GraphStoreToColumnarExporter;
 import org.neo4j.gds.core.io.file.csv.GraphStoreToCsvExporter;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
 import org.neo4j.graphdb.config.Configuration;
@@ -52,7 +54,7 @@ public final class GraphStoreExporterUtil {
         Log log
     ) {
         try {
-            var exporter = GraphStoreToCsvExporter.create(graphStore, config, path, neoNodeProperties, taskRegistryFactory, log);
+            var exporter = exporter(graphStore, path, config, neoNodeProperties, taskRegistryFactory, log);
 
             var start = System.nanoTime();
             var exportedProperties = exporter.run();
@@ -70,6 +72,31 @@ public final class GraphStoreExporterUtil {
         }
     }
 
+    private static GraphStoreToFileExporter exporter(
+        GraphStore graphStore,
+        Path path,
+        GraphStoreToFileExporterConfig config,
+        Optional<NeoNodeProperties> neoNodeProperties,
+        TaskRegistryFactory taskRegistryFactory,
+        Log log
+    ) {
+        switch (config.exportFormat()) {
+            case CSV:
+                return GraphStoreToCsvExporter.create(graphStore, config, path, neoNodeProperties, taskRegistryFactory, log);
+            case COLUMNAR:
+                return GraphStoreToColumnarExporter.create(
+                    graphStore,
+                    config,
+                    path,
+                    config.compressBlocks() ? BlockCompression.DEFLATE : BlockCompression.NONE,
+                    taskRegistryFactory,
+                    log
+                );
+            default:
+                throw new IllegalStateException("Unexpected export format " + config.exportFormat());
+        }
+    }
+
     public static Path exportLocation(Configuration neo4jConfig, GraphStoreToFileExporterConfig config) {
         var rootPath = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
         var exportPath = rootPath != null ? rootPath.resolve(EXPORT_DIR) : null;
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Collects the values of one column for the current block.
+ *
+ * Values are stored back to back in little-endian order, arrays are prefixed with their length.
+ * Missing values are tracked in a bitmap and take no space in the data section.
+ */
+final class ColumnBuffer {
+
+    static final byte RAW = 0;
+    static final byte DEFLATED = 1;
+
+    private final ValueType valueType;
+    private ByteBuffer data;
+    private long[] nulls;
+    private boolean hasNulls;
+    private int rows;
+
+    ColumnBuffer(ValueType valueType, int blockSize) {
+        this.valueType = valueType;
+        this.data = ByteBuffer.allocate(blockSize * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.nulls = new long[(blockSize + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    void appendLong(long value) {
+        ensureCapacity(Long.BYTES);
+        data.putLong(value);
+        rows++;
+    }
+
+    void appendDouble(double value) {
+        ensureCapacity(Double.BYTES);
+        data.putDouble(value);
+        rows++;
+    }
+
+    void appendLongArray(@Nullable long[] values) {
+        if (values == null) {
+            appendNull();
+            return;
+        }
+        ensureCapacity(Integer.BYTES + values.length * Long.BYTES);
+        data.putInt(values.length);
+        data.asLongBuffer().put(values);
+        data.position(data.position() + values.length * Long.BYTES);
+        rows++;
+    }
+
+    void appendDoubleArray(@Nullable double[] values) {
+        if (values == null) {
+            appendNull();
+            return;
+        }
+        ensureCapacity(Integer.BYTES + values.length * Double.BYTES);
+        data.putInt(values.length);
+        data.asDoubleBuffer().put(values);
+        data.position(data.position() + values.length * Double.BYTES);
+        rows++;
+    }
+
+    void appendFloatArray(@Nullable float[] values) {
+        if (values == null) {
+            appendNull();
+            return;
+        }
+        ensureCapacity(Integer.BYTES + values.length * Float.BYTES);
+        data.putInt(values.length);
+        data.asFloatBuffer().put(values);
+        data.position(data.position() + values.length * Float.BYTES);
+        rows++;
+    }
+
+    void appendNull() {
+        nulls[rows >>> 6] |= 1L << rows;
+        hasNulls = true;
+        rows++;
+    }
+
+    /**
+     * Appends the value of the given node without boxing it.
+     * The value is read as the type of this column.
+     */
+    void append(NodePropertyValues values, long nodeId) {
+        switch (valueType) {
+            case LONG:
+                appendLong(values.longValue(nodeId));
+                break;
+            case DOUBLE:
+                appendDouble(values.doubleValue(nodeId));
+                break;
+            case LONG_ARRAY:
+                appendLongArray(values.longArrayValue(nodeId));
+                break;
+            case DOUBLE_ARRAY:
+                appendDoubleArray(values.doubleArrayValue(nodeId));
+                break;
+            case FLOAT_ARRAY:
+                appendFloatArray(values.floatArrayValue(nodeId));
+                break;
+            default:
+                throw unsupportedValueType();
+        }
+    }
+
+    void append(@Nullable Object value) {
+        if (value == null) {
+            appendNull();
+            return;
+        }
+        switch (valueType) {
+            case LONG:
+                appendLong((long) value);
+                break;
+            case DOUBLE:
+                appendDouble((double) value);
+                break;
+            case LONG_ARRAY:
+                appendLongArray((long[]) value);
+                break;
+            case DOUBLE_ARRAY:
+                appendDoubleArray((double[]) value);
+                break;
+            case FLOAT_ARRAY:
+                appendFloatArray((float[]) value);
+                break;
+            default:
+                throw unsupportedValueType();
+        }
+    }
+
+    /**
+     * Writes the null bitmap and the data section of this column and clears it for the next block.
+     */
+    void writeTo(DataOutput out, BlockCompression compression, Deflater deflater, byte[] compressionBuffer) throws IOException {
+        int nullWords = hasNulls ? (rows + Long.SIZE - 1) / Long.SIZE : 0;
+        out.writeInt(nullWords);
+        for (int i = 0; i < nullWords; i++) {
+            out.writeLong(nulls[i]);
+        }
+
+        int rawLength = data.position();
+        int compressedLength = compression == BlockCompression.DEFLATE
+            ? deflate(deflater, rawLength, compressionBuffer)
+            : -1;
+
+        if (compressedLength >= 0 && compressedLength < rawLength) {
+            out.writeByte(DEFLATED);
+            out.writeInt(rawLength);
+            out.writeInt(compressedLength);
+            out.write(compressionBuffer, 0, compressedLength);
+        } else {
+            out.writeByte(RAW);
+            out.writeInt(rawLength);
+            out.writeInt(rawLength);
+            out.write(data.array(), 0, rawLength);
+        }
+
+        data.clear();
+        if (hasNulls) {
+            Arrays.fill(nulls, 0L);
+            hasNulls = false;
+        }
+        rows = 0;
+    }
+
+    /**
+     * @return the compressed length or -1 if the compressed data does not fit into the buffer
+     */
+    private int deflate(Deflater deflater, int rawLength, byte[] compressionBuffer) {
+        deflater.reset();
+        deflater.setInput(data.array(), 0, rawLength);
+        deflater.finish();
+        int length = deflater.deflate(compressionBuffer, 0, compressionBuffer.length);
+        return deflater.finished() ? length : -1;
+    }
+
+    int rawLength() {
+        return data.position();
+    }
+
+    private UnsupportedOperationException unsupportedValueType() {
+        return new UnsupportedOperationException(formatWithLocale(
+            "Values of type %s are not supported by the columnar format.",
+            valueType
+        ));
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (data.remaining() < bytes) {
+            int newCapacity = Math.max(data.capacity() << 1, data.position() + bytes);
+            data = ByteBuffer
+                .wrap(Arrays.copyOf(data.array(), newCapacity))
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .position(data.position());
+        }
+    }
+}
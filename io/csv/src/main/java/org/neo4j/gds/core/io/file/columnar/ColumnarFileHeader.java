@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes the columns of a data file: the id columns come first, followed by one column per property.
+ * The identifiers are the node labels, the relationship type or nothing for graph properties.
+ */
+@ValueClass
+interface ColumnarFileHeader {
+
+    int MAGIC = 0x47445343;
+    int VERSION = 1;
+
+    List<String> identifiers();
+
+    int idColumns();
+
+    List<String> propertyKeys();
+
+    List<ValueType> valueTypes();
+
+    default void write(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(identifiers().size());
+        for (var identifier : identifiers()) {
+            out.writeUTF(identifier);
+        }
+        out.writeInt(idColumns());
+        out.writeInt(propertyKeys().size());
+        for (int i = 0; i < propertyKeys().size(); i++) {
+            out.writeUTF(propertyKeys().get(i));
+            out.writeUTF(valueTypes().get(i).name());
+        }
+    }
+
+    static ColumnarFileHeader read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a columnar data file of version " + VERSION);
+        }
+        int identifierCount = in.readInt();
+        var identifiers = new ArrayList<String>(identifierCount);
+        for (int i = 0; i < identifierCount; i++) {
+            identifiers.add(in.readUTF());
+        }
+        int idColumns = in.readInt();
+        int propertyCount = in.readInt();
+        var propertyKeys = new ArrayList<String>(propertyCount);
+        var valueTypes = new ArrayList<ValueType>(propertyCount);
+        for (int i = 0; i < propertyCount; i++) {
+            propertyKeys.add(in.readUTF());
+            valueTypes.add(ValueType.valueOf(in.readUTF()));
+        }
+        return ImmutableColumnarFileHeader.of(identifiers, idColumns, propertyKeys, valueTypes);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.compat.CompatPropertySizeCalculator;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.GraphInfo;
+import org.neo4j.gds.core.io.file.csv.CsvImportFileUtil;
+import org.neo4j.gds.core.loading.Capabilities;
+import org.neo4j.internal.batchimport.InputIterable;
+import org.neo4j.internal.batchimport.InputIterator;
+import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.Groups;
+import org.neo4j.internal.batchimport.input.IdType;
+import org.neo4j.internal.batchimport.input.Input;
+import org.neo4j.internal.batchimport.input.InputChunk;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+import org.neo4j.internal.batchimport.input.ReadableGroups;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the columnar data files, one file per chunk. The meta data is shared with the CSV format.
+ */
+final class ColumnarFileInput implements FileInput {
+
+    private final Path importPath;
+    private final FileInput metaData;
+
+    ColumnarFileInput(Path importPath) {
+        this.importPath = importPath;
+        this.metaData = CsvImportFileUtil.fileInput(importPath);
+    }
+
+    @Override
+    public InputIterable nodes(Collector badCollector) {
+        var nodeSchema = metaData.nodeSchema();
+        return () -> new FileIterator(
+            dataFiles("nodes_"),
+            header -> {
+                var propertySchemas = nodeSchema.unionProperties();
+                return header.propertyKeys().stream().map(propertySchemas::get).collect(Collectors.toList());
+            },
+            (reader, defaults, visitor) -> {
+                visitor.labels(reader.header().identifiers().toArray(String[]::new));
+                visitor.id(reader.id(0));
+                visitProperties(reader, defaults, visitor);
+            }
+        );
+    }
+
+    @Override
+    public InputIterable relationships(Collector badCollector) {
+        var relationshipSchema = metaData.relationshipSchema();
+        return () -> new FileIterator(
+            dataFiles("relationships_"),
+            header -> {
+                var relationshipType = RelationshipType.of(header.identifiers().get(0));
+                var propertySchemas = relationshipSchema.get(relationshipType).properties();
+                return header.propertyKeys().stream().map(propertySchemas::get).collect(Collectors.toList());
+            },
+            (reader, defaults, visitor) -> {
+                visitor.type(reader.header().identifiers().get(0));
+                visitor.startId(reader.id(0));
+                visitor.endId(reader.id(1));
+                visitProperties(reader, defaults, visitor);
+            }
+        );
+    }
+
+    @Override
+    public InputIterable graphProperties() {
+        var graphPropertySchema = metaData.graphPropertySchema();
+        return () -> new FileIterator(
+            dataFiles("graph_property_"),
+            header -> header.propertyKeys().stream().map(graphPropertySchema::get).collect(Collectors.toList()),
+            ColumnarFileInput::visitProperties
+        );
+    }
+
+    private List<Path> dataFiles(String prefix) {
+        try (var files = Files.list(importPath)) {
+            return files
+                .filter(file -> {
+                    var fileName = file.getFileName().toString();
+                    return fileName.startsWith(prefix) && fileName.endsWith(".bin");
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void visitProperties(ColumnarFileReader reader, Object[] defaults, InputEntityVisitor visitor) {
+        var propertyKeys = reader.header().propertyKeys();
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            var value = reader.property(i);
+            visitor.property(propertyKeys.get(i), value == null ? defaults[i] : value);
+        }
+    }
+
+    private static Object defaultValue(PropertySchema propertySchema) {
+        var defaultValue = propertySchema.defaultValue();
+        switch (propertySchema.valueType()) {
+            case LONG:
+                return defaultValue.longValue();
+            case DOUBLE:
+                return defaultValue.doubleValue();
+            case LONG_ARRAY:
+                return defaultValue.longArrayValue();
+            case DOUBLE_ARRAY:
+                return defaultValue.doubleArrayValue();
+            case FLOAT_ARRAY:
+                return defaultValue.floatArrayValue();
+            default:
+                return defaultValue.getObject();
+        }
+    }
+
+    @Override
+    public IdType idType() {
+        return IdType.ACTUAL;
+    }
+
+    @Override
+    public ReadableGroups groups() {
+        return Groups.EMPTY;
+    }
+
+    @Override
+    public Input.Estimates calculateEstimates(CompatPropertySizeCalculator propertySizeCalculator) {
+        return null;
+    }
+
+    @Override
+    public String userName() {
+        return metaData.userName();
+    }
+
+    @Override
+    public GraphInfo graphInfo() {
+        return metaData.graphInfo();
+    }
+
+    @Override
+    public NodeSchema nodeSchema() {
+        return metaData.nodeSchema();
+    }
+
+    @Override
+    public RelationshipSchema relationshipSchema() {
+        return metaData.relationshipSchema();
+    }
+
+    @Override
+    public Map<String, PropertySchema> graphPropertySchema() {
+        return metaData.graphPropertySchema();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return metaData.capabilities();
+    }
+
+    @FunctionalInterface
+    interface RowVisitor {
+        void visit(ColumnarFileReader reader, Object[] defaults, InputEntityVisitor visitor);
+    }
+
+    static final class FileIterator implements InputIterator {
+
+        private final Iterator<Path> files;
+        private final Function<ColumnarFileHeader, List<? extends PropertySchema>> propertySchemas;
+        private final RowVisitor rowVisitor;
+
+        FileIterator(
+            List<Path> files,
+            Function<ColumnarFileHeader, List<? extends PropertySchema>> propertySchemas,
+            RowVisitor rowVisitor
+        ) {
+            this.files = files.iterator();
+            this.propertySchemas = propertySchemas;
+            this.rowVisitor = rowVisitor;
+        }
+
+        @Override
+        public InputChunk newChunk() {
+            return new FileChunk(propertySchemas, rowVisitor);
+        }
+
+        @Override
+        public synchronized boolean next(InputChunk chunk) throws IOException {
+            if (files.hasNext()) {
+                ((FileChunk) chunk).initialize(files.next());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static final class FileChunk implements InputChunk {
+
+        private final Function<ColumnarFileHeader, List<? extends PropertySchema>> propertySchemas;
+        private final RowVisitor rowVisitor;
+
+        private ColumnarFileReader reader;
+        private Object[] defaults;
+
+        FileChunk(
+            Function<ColumnarFileHeader, List<? extends PropertySchema>> propertySchemas,
+            RowVisitor rowVisitor
+        ) {
+            this.propertySchemas = propertySchemas;
+            this.rowVisitor = rowVisitor;
+        }
+
+        void initialize(Path file) throws IOException {
+            close();
+            this.reader = ColumnarFileReader.open(file);
+            this.defaults = propertySchemas
+                .apply(reader.header())
+                .stream()
+                .map(ColumnarFileInput::defaultValue)
+                .toArray();
+        }
+
+        @Override
+        public boolean next(InputEntityVisitor visitor) throws IOException {
+            if (reader.nextRow()) {
+                rowVisitor.visit(reader, defaults, visitor);
+                visitor.endOfEntity();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+        }
+    }
+}
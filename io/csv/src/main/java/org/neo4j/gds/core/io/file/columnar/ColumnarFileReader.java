@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads the files written by {@link ColumnarFileWriter} row by row, decoding one block at a time.
+ * Every row must read all of its id and property columns in order.
+ */
+final class ColumnarFileReader implements Closeable {
+
+    private final DataInputStream in;
+    private final ColumnarFileHeader header;
+    private final Inflater inflater;
+    private final Column[] columns;
+    private final long[] previousIds;
+
+    private byte[] compressedBuffer;
+    private int remainingRows;
+
+    static ColumnarFileReader open(Path file) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        return new ColumnarFileReader(in, ColumnarFileHeader.read(in));
+    }
+
+    private ColumnarFileReader(DataInputStream in, ColumnarFileHeader header) {
+        this.in = in;
+        this.header = header;
+        this.inflater = new Inflater();
+        this.columns = new Column[header.idColumns() + header.valueTypes().size()];
+        Arrays.setAll(
+            columns,
+            i -> new Column(i < header.idColumns() ? ValueType.LONG : header.valueTypes().get(i - header.idColumns()))
+        );
+        this.previousIds = new long[header.idColumns()];
+        this.compressedBuffer = new byte[0];
+    }
+
+    ColumnarFileHeader header() {
+        return header;
+    }
+
+    boolean nextRow() throws IOException {
+        if (remainingRows == 0 && !readBlock()) {
+            return false;
+        }
+        remainingRows--;
+        return true;
+    }
+
+    long id(int column) {
+        previousIds[column] += columns[column].data.getLong();
+        return previousIds[column];
+    }
+
+    Object property(int index) {
+        return columns[header.idColumns() + index].next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        in.close();
+    }
+
+    private boolean readBlock() throws IOException {
+        int rows = in.readInt();
+        if (rows == 0) {
+            return false;
+        }
+        for (var column : columns) {
+            readColumn(column);
+        }
+        Arrays.fill(previousIds, 0L);
+        remainingRows = rows;
+        return true;
+    }
+
+    private void readColumn(Column column) throws IOException {
+        int nullWords = in.readInt();
+        if (nullWords > 0) {
+            column.nulls = new long[nullWords];
+            for (int i = 0; i < nullWords; i++) {
+                column.nulls[i] = in.readLong();
+            }
+        } else {
+            column.nulls = null;
+        }
+        column.row = 0;
+
+        byte codec = in.readByte();
+        int rawLength = in.readInt();
+        int storedLength = in.readInt();
+        var raw = column.data == null || column.data.capacity() < rawLength
+            ? new byte[rawLength]
+            : column.data.array();
+
+        if (codec == ColumnBuffer.DEFLATED) {
+            if (compressedBuffer.length < storedLength) {
+                compressedBuffer = new byte[storedLength];
+            }
+            in.readFully(compressedBuffer, 0, storedLength);
+            inflater.reset();
+            inflater.setInput(compressedBuffer, 0, storedLength);
+            try {
+                inflater.inflate(raw, 0, rawLength);
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupt column chunk", e);
+            }
+        } else {
+            in.readFully(raw, 0, rawLength);
+        }
+        column.data = ByteBuffer.wrap(raw, 0, rawLength).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static final class Column {
+        private final ValueType valueType;
+        private ByteBuffer data;
+        private long[] nulls;
+        private int row;
+
+        private Column(ValueType valueType) {
+            this.valueType = valueType;
+        }
+
+        private Object next() {
+            int currentRow = row++;
+            if (nulls != null && (nulls[currentRow >>> 6] & (1L << currentRow)) != 0) {
+                return null;
+            }
+            switch (valueType) {
+                case LONG:
+                    return data.getLong();
+                case DOUBLE:
+                    return data.getDouble();
+                case LONG_ARRAY:
+                    var longs = new long[data.getInt()];
+                    data.asLongBuffer().get(longs);
+                    data.position(data.position() + longs.length * Long.BYTES);
+                    return longs;
+                case DOUBLE_ARRAY:
+                    var doubles = new double[data.getInt()];
+                    data.asDoubleBuffer().get(doubles);
+                    data.position(data.position() + doubles.length * Double.BYTES);
+                    return doubles;
+                case FLOAT_ARRAY:
+                    var floats = new float[data.getInt()];
+                    data.asFloatBuffer().get(floats);
+                    data.position(data.position() + floats.length * Float.BYTES);
+                    return floats;
+                default:
+                    throw new UnsupportedOperationException("Unsupported column type " + valueType);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Buffers rows into blocks of at most {@link #BLOCK_SIZE} rows and writes each block column by column.
+ *
+ * Id columns are delta-encoded within a block, which keeps the mostly ascending ids small and compressible.
+ * A file ends with a block of zero rows.
+ */
+final class ColumnarFileWriter implements Closeable {
+
+    static final int BLOCK_SIZE = 4096;
+
+    private final DataOutputStream out;
+    private final BlockCompression compression;
+    private final Deflater deflater;
+    private final ColumnBuffer[] idColumns;
+    private final ColumnBuffer[] propertyColumns;
+    private final long[] previousIds;
+
+    private byte[] compressionBuffer;
+    private int rows;
+    private int currentProperty;
+
+    static ColumnarFileWriter create(Path file, ColumnarFileHeader header, BlockCompression compression) throws IOException {
+        var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        header.write(out);
+        return new ColumnarFileWriter(out, header, compression);
+    }
+
+    private ColumnarFileWriter(DataOutputStream out, ColumnarFileHeader header, BlockCompression compression) {
+        this.out = out;
+        this.compression = compression;
+        this.deflater = new Deflater(Deflater.BEST_SPEED);
+        this.idColumns = new ColumnBuffer[header.idColumns()];
+        Arrays.setAll(idColumns, i -> new ColumnBuffer(ValueType.LONG, BLOCK_SIZE));
+        this.propertyColumns = new ColumnBuffer[header.valueTypes().size()];
+        Arrays.setAll(propertyColumns, i -> new ColumnBuffer(header.valueTypes().get(i), BLOCK_SIZE));
+        this.previousIds = new long[idColumns.length];
+        this.compressionBuffer = new byte[0];
+    }
+
+    void id(int column, long id) {
+        idColumns[column].appendLong(id - previousIds[column]);
+        previousIds[column] = id;
+    }
+
+    void property(Object value) {
+        propertyColumns[currentProperty++].append(value);
+    }
+
+    void property(NodePropertyValues values, long nodeId) {
+        propertyColumns[currentProperty++].append(values, nodeId);
+    }
+
+    void endRow() throws IOException {
+        currentProperty = 0;
+        if (++rows == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    void flush() throws IOException {
+        writeBlock();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBlock();
+            out.writeInt(0);
+            out.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        out.writeInt(rows);
+        for (var column : idColumns) {
+            writeColumn(column);
+        }
+        for (var column : propertyColumns) {
+            writeColumn(column);
+        }
+        Arrays.fill(previousIds, 0L);
+        rows = 0;
+    }
+
+    private void writeColumn(ColumnBuffer column) throws IOException {
+        if (compression != BlockCompression.NONE && compressionBuffer.length < column.rawLength()) {
+            compressionBuffer = new byte[column.rawLength()];
+        }
+        column.writeTo(out, compression, deflater, compressionBuffer);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.GraphPropertyVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes one single-column file per graph property and visitor.
+ */
+final class ColumnarGraphPropertyVisitor extends GraphPropertyVisitor {
+
+    private final Path fileLocation;
+    private final Map<String, PropertySchema> graphPropertySchemas;
+    private final BlockCompression compression;
+    private final int visitorId;
+    private final Map<String, ColumnarFileWriter> writers;
+
+    ColumnarGraphPropertyVisitor(
+        Path fileLocation,
+        Map<String, PropertySchema> graphPropertySchemas,
+        BlockCompression compression,
+        int visitorId
+    ) {
+        this.fileLocation = fileLocation;
+        this.graphPropertySchemas = graphPropertySchemas;
+        this.compression = compression;
+        this.visitorId = visitorId;
+        this.writers = new HashMap<>();
+    }
+
+    @Override
+    public boolean property(String key, Object value) {
+        var writer = writers.computeIfAbsent(key, this::createWriter);
+        writer.property(value);
+        try {
+            writer.endRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (var writer : writers.values()) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (var writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private ColumnarFileWriter createWriter(String propertyKey) {
+        var header = ImmutableColumnarFileHeader.of(
+            List.of(),
+            0,
+            List.of(propertyKey),
+            List.of(graphPropertySchemas.get(propertyKey).valueType())
+        );
+        var file = fileLocation.resolve(formatWithLocale("graph_property_%d_%d.bin", visitorId, writers.size()));
+        try {
+            return ColumnarFileWriter.create(file, header, compression);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
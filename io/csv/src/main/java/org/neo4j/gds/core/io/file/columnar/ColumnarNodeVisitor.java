@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.core.io.NodePropertyValuesVisitor;
+import org.neo4j.gds.core.io.file.NodeVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the node properties of the graph store directly from their property values,
+ * which avoids boxing every value on its way into the typed columns.
+ */
+final class ColumnarNodeVisitor extends NodeVisitor implements NodePropertyValuesVisitor {
+
+    private final Path fileLocation;
+    private final BlockCompression compression;
+    private final int visitorId;
+    private final Map<String, ColumnarFileWriter> writers;
+    private final Map<String, NodePropertyValues> currentValues;
+    private long currentNodeId;
+
+    ColumnarNodeVisitor(Path fileLocation, NodeSchema nodeSchema, BlockCompression compression, int visitorId) {
+        super(nodeSchema);
+        this.fileLocation = fileLocation;
+        this.compression = compression;
+        this.visitorId = visitorId;
+        this.writers = new HashMap<>();
+        this.currentValues = new HashMap<>();
+    }
+
+    @Override
+    public void nodeProperty(String key, NodePropertyValues values, long nodeId) {
+        currentValues.put(key, values);
+        currentNodeId = nodeId;
+    }
+
+    @Override
+    protected void exportElement() {
+        var writer = writers.computeIfAbsent(elementIdentifier(), ignore -> createWriter());
+        writer.id(0, id());
+        forEachProperty((key, value) -> {
+            var values = currentValues.get(key);
+            if (values != null) {
+                writer.property(values, currentNodeId);
+            } else {
+                writer.property(value);
+            }
+        });
+        currentValues.clear();
+        try {
+            writer.endRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (var writer : writers.values()) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (var writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private ColumnarFileWriter createWriter() {
+        var propertyKeys = new ArrayList<String>();
+        var valueTypes = new ArrayList<ValueType>();
+        forEachPropertyWithType((key, value, type) -> {
+            propertyKeys.add(key);
+            valueTypes.add(type);
+        });
+        var header = ImmutableColumnarFileHeader.of(labels(), 1, propertyKeys, valueTypes);
+        // label combinations are numbered per visitor, so that labels never need to be encoded in file names
+        var file = fileLocation.resolve(formatWithLocale("nodes_%d_%d.bin", visitorId, writers.size()));
+        try {
+            return ColumnarFileWriter.create(file, header, compression);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.io.file.RelationshipVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+final class ColumnarRelationshipVisitor extends RelationshipVisitor {
+
+    private final Path fileLocation;
+    private final BlockCompression compression;
+    private final int visitorId;
+    private final Map<String, ColumnarFileWriter> writers;
+
+    ColumnarRelationshipVisitor(
+        Path fileLocation,
+        RelationshipSchema relationshipSchema,
+        BlockCompression compression,
+        int visitorId
+    ) {
+        super(relationshipSchema);
+        this.fileLocation = fileLocation;
+        this.compression = compression;
+        this.visitorId = visitorId;
+        this.writers = new HashMap<>();
+    }
+
+    @Override
+    protected void exportElement() {
+        var writer = writers.computeIfAbsent(relationshipType(), ignore -> createWriter());
+        writer.id(0, startNode());
+        writer.id(1, endNode());
+        forEachProperty((key, value) -> writer.property(value));
+        try {
+            writer.endRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (var writer : writers.values()) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (var writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private ColumnarFileWriter createWriter() {
+        var propertyKeys = new ArrayList<String>();
+        var valueTypes = new ArrayList<ValueType>();
+        forEachPropertyWithType((key, value, type) -> {
+            propertyKeys.add(key);
+            valueTypes.add(type);
+        });
+        var header = ImmutableColumnarFileHeader.of(List.of(relationshipType()), 2, propertyKeys, valueTypes);
+        var file = fileLocation.resolve(formatWithLocale("relationships_%d_%d.bin", visitorId, writers.size()));
+        try {
+            return ColumnarFileWriter.create(file, header, compression);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
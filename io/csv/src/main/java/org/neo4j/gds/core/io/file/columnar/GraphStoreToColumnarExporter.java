@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporter;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.io.file.csv.CsvGraphCapabilitiesWriter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvGraphPropertySchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.UserInfoVisitor;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.NullLog;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Exports node, relationship and graph property values in typed column blocks instead of CSV lines.
+ * Every export thread writes its own file per label combination, relationship type or graph property.
+ * The meta data files are the same as for the CSV export.
+ */
+public final class GraphStoreToColumnarExporter {
+
+    private GraphStoreToColumnarExporter() {}
+
+    @TestOnly
+    public static GraphStoreToFileExporter create(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath,
+        BlockCompression compression
+    ) {
+        return create(graphStore, config, exportPath, compression, TaskRegistryFactory.empty(), NullLog.getInstance());
+    }
+
+    public static GraphStoreToFileExporter create(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath,
+        BlockCompression compression,
+        TaskRegistryFactory taskRegistryFactory,
+        Log log
+    ) {
+        var nodeSchema = graphStore.schema().nodeSchema();
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var graphPropertySchema = graphStore.schema().graphProperties();
+
+        return new GraphStoreToFileExporter(
+            graphStore,
+            config,
+            Optional.empty(),
+            () -> new UserInfoVisitor(exportPath),
+            () -> new CsvGraphInfoVisitor(exportPath),
+            () -> new CsvNodeSchemaVisitor(exportPath),
+            () -> new CsvRelationshipSchemaVisitor(exportPath),
+            () -> new CsvGraphPropertySchemaVisitor(exportPath),
+            () -> new CsvGraphCapabilitiesWriter(exportPath),
+            (index) -> new ColumnarNodeVisitor(exportPath, nodeSchema, compression, index),
+            (index) -> new ColumnarRelationshipVisitor(exportPath, relationshipSchema, compression, index),
+            (index) -> new ColumnarGraphPropertyVisitor(exportPath, graphPropertySchema, compression, index),
+            taskRegistryFactory,
+            log,
+            "Columnar"
+        );
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
+import org.neo4j.gds.core.io.file.FileInput;
 import org.neo4j.gds.core.io.file.GraphPropertyFileHeader;
 import org.neo4j.gds.core.io.file.NodeFileHeader;
 import org.neo4j.gds.core.io.file.RelationshipFileHeader;
@@ -40,6 +41,14 @@ public final class CsvImportFileUtil {
 
     private CsvImportFileUtil() {}
 
+    /**
+     * The user name, graph info, schemas and capabilities are read eagerly,
+     * the node, relationship and graph property files only when iterated.
+     */
+    public static FileInput fileInput(Path csvDirectory) {
+        return new CsvFileInput(csvDirectory);
+    }
+
     public static NodeFileHeader parseNodeHeader(Path headerFile) {
         try (var headerReader = Files.newBufferedReader(headerFile, StandardCharsets.UTF_8)) {
             return NodeFileHeader.of(checkedReadLine(headerReader), inferNodeLabels(headerFile));
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.columnar;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+@GdlExtension
+class ColumnarToGraphStoreImporterIntegrationTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [0.30000001192092896D, 0.20000000298023224D]})" +
+        ", (b:A:B { prop1: 1, prop2: 43})" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @TempDir
+    Path graphLocation;
+
+    static Stream<Arguments> concurrencyAndCompression() {
+        return crossArguments(
+            () -> Stream.of(Arguments.of(1), Arguments.of(4)),
+            () -> Stream.of(Arguments.of(BlockCompression.NONE), Arguments.of(BlockCompression.DEFLATE))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrencyAndCompression")
+    void shouldImportProperties(int concurrency, BlockCompression compression) {
+        GraphStoreToColumnarExporter.create(graphStore, exportConfig(concurrency), graphLocation, compression).run();
+
+        var importer = new ColumnarToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraph = importer.run().graphStore().getUnion();
+
+        assertGraphEquals(graph, importedGraph);
+    }
+
+    // these values are read from the node property values without boxing them
+    @ParameterizedTest
+    @MethodSource("concurrencyAndCompression")
+    void shouldImportTypedNodeProperties(int concurrency, BlockCompression compression) {
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "score", new DoubleNodePropertyValues() {
+            @Override
+            public double doubleValue(long nodeId) {
+                return nodeId * 0.5;
+            }
+
+            @Override
+            public long size() {
+                return graphStore.nodeCount();
+            }
+        });
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "embedding", new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return new float[]{nodeId, -1.5f};
+            }
+
+            @Override
+            public long size() {
+                return graphStore.nodeCount();
+            }
+        });
+
+        GraphStoreToColumnarExporter.create(graphStore, exportConfig(concurrency), graphLocation, compression).run();
+
+        var importer = new ColumnarToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraph = importer.run().graphStore().getUnion();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraph);
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrencyAndCompression")
+    void shouldImportGraphProperties(int concurrency, BlockCompression compression) {
+        // more values than fit into a single block
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 10_000);
+            }
+
+            @Override
+            public long size() {
+                return 10_000;
+            }
+        });
+        graphStore.addGraphProperty("doubleArrayProp", new DoubleArrayGraphPropertyValues() {
+            @Override
+            public Stream<double[]> doubleArrayValues() {
+                return LongStream.range(0, 1337).mapToObj(i -> new double[]{(double) i, 42.0});
+            }
+
+            @Override
+            public long size() {
+                return 1337;
+            }
+        });
+
+        GraphStoreToColumnarExporter.create(graphStore, exportConfig(concurrency), graphLocation, compression).run();
+        var importer = new ColumnarToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertThat(importedGraphStore.graphPropertyKeys()).containsExactlyInAnyOrder("longProp", "doubleArrayProp");
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, 10_000).toArray());
+        assertThat(importedGraphStore.graphProperty("doubleArrayProp").values().doubleArrayValues().collect(Collectors.toList()))
+            .containsExactlyInAnyOrder(LongStream
+                .range(0, 1337)
+                .mapToObj(i -> new double[]{(double) i, 42.0})
+                .toArray(double[][]::new));
+    }
+
+    private GraphStoreToFileExporterConfig exportConfig(int concurrency) {
+        return ImmutableGraphStoreToFileExporterConfig.builder()
+            .exportName("my-export")
+            .writeConcurrency(concurrency)
+            .includeMetaData(true)
+            .build();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.dbms.api.DatabaseManagementService;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.graphdb.event.DatabaseEventContext;
+import org.neo4j.graphdb.event.DatabaseEventListener;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.Log;
+
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restores the graph snapshots of a database whenever it starts.
+ * Graphs are removed from the catalog when their database shuts down,
+ * so restoring on startup covers restarts of single databases as well as of the whole DBMS.
+ */
+class GraphSnapshotRestorer extends LifecycleAdapter implements DatabaseEventListener {
+    private final DatabaseManagementService dbms;
+    private final Path location;
+    private final Log log;
+
+    GraphSnapshotRestorer(DatabaseManagementService dbms, Path location, Log log) {
+        this.dbms = dbms;
+        this.location = location;
+        this.log = log;
+    }
+
+    @Override
+    public void init() throws Exception {
+        dbms.registerDatabaseEventListener(this);
+    }
+
+    @Override
+    public void shutdown() throws Exception {
+        dbms.unregisterDatabaseEventListener(this);
+    }
+
+    @Override
+    public void databaseStart(DatabaseEventContext eventContext) {
+        var databaseName = eventContext.getDatabaseName();
+        int restored = GraphSnapshots.restore(location, databaseName, ConcurrencyConfig.DEFAULT_CONCURRENCY, log);
+        if (restored > 0) {
+            log.info(formatWithLocale("Restored %d graph snapshot(s) of database `%s`.", restored, databaseName));
+        }
+    }
+
+    @Override
+    public void databaseShutdown(DatabaseEventContext eventContext) {
+
+    }
+
+    @Override
+    public void databasePanic(DatabaseEventContext eventContext) {
+
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.io.file.csv.CsvImportFileUtil;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.graphdb.config.Configuration;
+import org.neo4j.io.fs.FileUtils;
+import org.neo4j.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores graph snapshots below {@link GraphSnapshotSettings#snapshot_location_setting}
+ * and restores them into the {@link GraphStoreCatalog}.
+ *
+ * A snapshot is written to {@code <location>/<database>/user-<user>/graph-<graph>}, with user and graph name URL-encoded.
+ * Restored graph stores memory-map their snapshot files, which therefore must not be modified while they are loaded.
+ * Writing a snapshot replaces the directory of a previous snapshot of the same graph instead of overwriting its files.
+ */
+public final class GraphSnapshots {
+
+    private static final String USER_PREFIX = "user-";
+    private static final String GRAPH_PREFIX = "graph-";
+    private static final String TEMP_PREFIX = ".tmp-";
+
+    private GraphSnapshots() {}
+
+    public static Path location(Configuration neo4jConfig) {
+        var location = neo4jConfig.get(GraphSnapshotSettings.snapshot_location_setting);
+        if (location == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The configuration option '%s' must be set.",
+                GraphSnapshotSettings.snapshot_location_setting.name()
+            ));
+        }
+        return location;
+    }
+
+    public static Path write(
+        GraphStore graphStore,
+        String userName,
+        String graphName,
+        Path location,
+        int concurrency
+    ) {
+        var snapshotPath = snapshotPath(location, graphStore.databaseId().databaseName(), userName, graphName);
+        var tempPath = snapshotPath.resolveSibling(TEMP_PREFIX + snapshotPath.getFileName());
+        try {
+            if (Files.exists(tempPath)) {
+                FileUtils.deleteDirectory(tempPath);
+            }
+            Files.createDirectories(tempPath);
+            new GraphStoreToSnapshotExporter(graphStore, userName, graphName, tempPath, concurrency).run();
+            if (Files.exists(snapshotPath)) {
+                FileUtils.deleteDirectory(snapshotPath);
+            }
+            Files.move(tempPath, snapshotPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return snapshotPath;
+    }
+
+    /**
+     * Restores all snapshots of the given database that are not already in the catalog.
+     * Snapshots that fail to load are logged and skipped.
+     *
+     * @return the number of restored graphs
+     */
+    public static int restore(Path location, String databaseName, int concurrency, Log log) {
+        int restored = 0;
+        for (var snapshotPath : snapshotPaths(location.resolve(encode(databaseName)))) {
+            try {
+                // checked before importing, an imported graph store holds mapped files until it is released
+                var graphName = SnapshotManifest.read(snapshotPath).graphName();
+                var fileInput = CsvImportFileUtil.fileInput(snapshotPath);
+                var userName = fileInput.userName();
+                if (GraphStoreCatalog.exists(userName, fileInput.graphInfo().databaseId(), graphName)) {
+                    continue;
+                }
+                var graphStore = new SnapshotToGraphStoreImporter(concurrency, snapshotPath).run().graphStore();
+                try {
+                    GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(userName, graphName), graphStore);
+                } catch (RuntimeException e) {
+                    graphStore.release();
+                    throw e;
+                }
+                restored++;
+            } catch (RuntimeException e) {
+                log.warn(formatWithLocale("Could not restore the graph snapshot at `%s`.", snapshotPath), e);
+            }
+        }
+        return restored;
+    }
+
+    static Path snapshotPath(Path location, String databaseName, String userName, String graphName) {
+        return location
+            .resolve(encode(databaseName))
+            .resolve(USER_PREFIX + encode(userName))
+            .resolve(GRAPH_PREFIX + encode(graphName));
+    }
+
+    private static List<Path> snapshotPaths(Path databasePath) {
+        if (!Files.isDirectory(databasePath)) {
+            return List.of();
+        }
+        var snapshotPaths = new ArrayList<Path>();
+        try (var userPaths = Files.list(databasePath)) {
+            for (var userPath : userPaths.filter(path -> hasPrefix(path, USER_PREFIX)).collect(Collectors.toList())) {
+                try (var graphPaths = Files.list(userPath)) {
+                    graphPaths.filter(path -> hasPrefix(path, GRAPH_PREFIX)).forEach(snapshotPaths::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return snapshotPaths;
+    }
+
+    private static boolean hasPrefix(Path path, String prefix) {
+        return Files.isDirectory(path) && path.getFileName().toString().startsWith(prefix);
+    }
+
+    private static String encode(String name) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.CompressedAdjacencyProperties;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.io.MetaDataStore;
+import org.neo4j.gds.core.io.file.MetaDataExporter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphCapabilitiesWriter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvGraphPropertySchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.UserInfoVisitor;
+import org.neo4j.gds.core.io.snapshot.SnapshotManifest.ListFormat;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a graph store as a snapshot that {@link SnapshotToGraphStoreImporter} can load without re-building it.
+ *
+ * The meta data is written in the same CSV format as {@link org.neo4j.gds.core.io.file.csv.GraphStoreToCsvExporter} does.
+ * Original ids, labels, scalar node properties and the degrees and offsets of every adjacency list are written
+ * as flat little-endian arrays, so that they can be memory-mapped on import.
+ * The pages of the adjacency and property lists are written verbatim in the format they are stored in,
+ * including the inverse adjacency lists of inverse indexed relationship types.
+ */
+public final class GraphStoreToSnapshotExporter {
+
+    private final GraphStore graphStore;
+    private final String userName;
+    private final String graphName;
+    private final Path exportPath;
+    private final int concurrency;
+
+    public GraphStoreToSnapshotExporter(
+        GraphStore graphStore,
+        String userName,
+        String graphName,
+        Path exportPath,
+        int concurrency
+    ) {
+        this.graphStore = graphStore;
+        this.userName = userName;
+        this.graphName = graphName;
+        this.exportPath = exportPath;
+        this.concurrency = concurrency;
+    }
+
+    public void run() {
+        var relationshipTypes = new ArrayList<>(graphStore.relationshipTypes());
+
+        var manifestBuilder = ImmutableSnapshotManifest.builder()
+            .graphName(graphName)
+            .nodeLabels(graphStore.nodes().availableNodeLabels())
+            .nodePropertyKeys(graphStore.nodePropertyKeys())
+            .graphPropertyKeys(graphStore.graphPropertyKeys());
+
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            var relationshipType = relationshipTypes.get(i);
+            var topology = topology(relationshipType);
+            var entry = ImmutableRelationshipTypeEntry.builder()
+                .relationshipType(relationshipType)
+                .elementCount(topology.elementCount())
+                .isMultiGraph(topology.isMultiGraph());
+
+            var adjacencyList = topology.adjacencyList();
+            var adjacencyFormat = adjacencyFormat(relationshipType, adjacencyList);
+            entry.adjacencyFormat(adjacencyFormat);
+            var list = SnapshotFiles.adjacencyList(i, false);
+            tasks.add(() -> exportAdjacencyList(list, adjacencyList, adjacencyFormat));
+
+            if (topology.inverseAdjacencyList().isPresent()) {
+                var inverseAdjacencyList = topology.inverseAdjacencyList().get();
+                var inverseFormat = adjacencyFormat(relationshipType, inverseAdjacencyList);
+                entry.inverseAdjacencyFormat(inverseFormat);
+                var inverseList = SnapshotFiles.adjacencyList(i, true);
+                tasks.add(() -> exportAdjacencyList(inverseList, inverseAdjacencyList, inverseFormat));
+            }
+
+            var propertyKeys = List.copyOf(graphStore.relationshipPropertyKeys(relationshipType));
+            entry.propertyKeys(propertyKeys);
+            for (int j = 0; j < propertyKeys.size(); j++) {
+                var propertyList = graphStore
+                    .relationshipPropertyValues(relationshipType, propertyKeys.get(j))
+                    .values()
+                    .propertiesList();
+                var propertyFormat = propertyFormat(relationshipType, propertyList);
+                entry.addPropertyFormat(propertyFormat);
+                var propertyListName = SnapshotFiles.propertyList(i, j);
+                tasks.add(() -> exportPropertyList(propertyListName, propertyList, propertyFormat));
+            }
+
+            manifestBuilder.addRelationshipType(entry.build());
+        }
+        var manifest = manifestBuilder.build();
+
+        tasks.add(this::exportMetaData);
+        tasks.add(() -> manifest.write(exportPath));
+        tasks.add(this::exportOriginalIds);
+        for (int i = 0; i < manifest.nodeLabels().size(); i++) {
+            int index = i;
+            tasks.add(() -> exportLabel(index, manifest.nodeLabels().get(index)));
+        }
+        for (int i = 0; i < manifest.nodePropertyKeys().size(); i++) {
+            int index = i;
+            tasks.add(() -> exportNodeProperty(index, manifest.nodePropertyKeys().get(index)));
+        }
+        for (int i = 0; i < manifest.graphPropertyKeys().size(); i++) {
+            int index = i;
+            tasks.add(() -> exportGraphProperty(index, manifest.graphPropertyKeys().get(index)));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .run();
+    }
+
+    private Relationships.Topology topology(RelationshipType relationshipType) {
+        return ((CSRGraph) graphStore.getGraph(relationshipType))
+            .relationshipTopologies()
+            .get(relationshipType);
+    }
+
+    private static ListFormat adjacencyFormat(RelationshipType relationshipType, AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            return ListFormat.COMPRESSED;
+        }
+        if (adjacencyList instanceof UncompressedAdjacencyList) {
+            return ListFormat.UNCOMPRESSED;
+        }
+        if (adjacencyList instanceof PackedAdjacencyList) {
+            return ListFormat.PACKED;
+        }
+        throw unsupportedList(relationshipType, adjacencyList);
+    }
+
+    private static ListFormat propertyFormat(RelationshipType relationshipType, AdjacencyProperties propertyList) {
+        if (propertyList instanceof CompressedAdjacencyProperties) {
+            return ListFormat.COMPRESSED;
+        }
+        if (propertyList instanceof UncompressedAdjacencyList) {
+            return ListFormat.UNCOMPRESSED;
+        }
+        throw unsupportedList(relationshipType, propertyList);
+    }
+
+    private static UnsupportedOperationException unsupportedList(RelationshipType relationshipType, Object list) {
+        return new UnsupportedOperationException(formatWithLocale(
+            "Graph snapshots do not support a `%s` for relationship type `%s`.",
+            list.getClass().getSimpleName(),
+            relationshipType.name
+        ));
+    }
+
+    private void exportAdjacencyList(String list, AdjacencyList adjacencyList, ListFormat format) {
+        switch (format) {
+            case COMPRESSED:
+                var compressed = (CompressedAdjacencyList) adjacencyList;
+                exportDegrees(list, compressed.degrees());
+                exportOffsets(list, compressed.offsets());
+                exportPages(list, compressed.pages());
+                break;
+            case UNCOMPRESSED:
+                var uncompressed = (UncompressedAdjacencyList) adjacencyList;
+                exportDegrees(list, uncompressed.degrees());
+                exportOffsets(list, uncompressed.offsets());
+                exportPages(list, uncompressed.pages());
+                break;
+            case PACKED:
+                var packed = (PackedAdjacencyList) adjacencyList;
+                exportDegrees(list, packed.degrees());
+                exportOffsets(list, packed.offsets());
+                exportPages(list, packed.pages(), packed.pageSizes());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected adjacency list format " + format);
+        }
+    }
+
+    // property lists share the degrees of the topology they belong to
+    private void exportPropertyList(String list, AdjacencyProperties propertyList, ListFormat format) {
+        switch (format) {
+            case COMPRESSED:
+                var compressed = (CompressedAdjacencyProperties) propertyList;
+                exportOffsets(list, compressed.offsets());
+                exportPages(list, compressed.pages());
+                break;
+            case UNCOMPRESSED:
+                var uncompressed = (UncompressedAdjacencyList) propertyList;
+                exportOffsets(list, uncompressed.offsets());
+                exportPages(list, uncompressed.pages());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected property list format " + format);
+        }
+    }
+
+    private void exportMetaData() {
+        new MetaDataExporter(
+            () -> new UserInfoVisitor(exportPath),
+            () -> new CsvGraphInfoVisitor(exportPath),
+            () -> new CsvNodeSchemaVisitor(exportPath),
+            () -> new CsvRelationshipSchemaVisitor(exportPath),
+            () -> new CsvGraphPropertySchemaVisitor(exportPath),
+            () -> new CsvGraphCapabilitiesWriter(exportPath)
+        ).export(userName, MetaDataStore.of(graphStore), graphStore.capabilities());
+    }
+
+    private void exportOriginalIds() {
+        var idMap = graphStore.nodes();
+        try (var writer = SnapshotWriter.create(exportPath.resolve(SnapshotFiles.ORIGINAL_IDS))) {
+            long nodeCount = idMap.nodeCount();
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                writer.putLong(idMap.toOriginalNodeId(nodeId));
+            }
+        }
+    }
+
+    private void exportLabel(int index, NodeLabel nodeLabel) {
+        var idMap = graphStore.nodes();
+        try (var writer = SnapshotWriter.create(SnapshotFiles.label(exportPath, index))) {
+            long nodeCount = idMap.nodeCount();
+            for (long wordStart = 0; wordStart < nodeCount; wordStart += Long.SIZE) {
+                long word = 0L;
+                long wordEnd = Math.min(nodeCount, wordStart + Long.SIZE);
+                for (long nodeId = wordStart; nodeId < wordEnd; nodeId++) {
+                    if (idMap.hasLabel(nodeId, nodeLabel)) {
+                        word |= 1L << (nodeId - wordStart);
+                    }
+                }
+                writer.putLong(word);
+            }
+        }
+    }
+
+    private void exportNodeProperty(int index, String propertyKey) {
+        NodePropertyValues values = graphStore.nodeProperty(propertyKey).values();
+        long nodeCount = graphStore.nodeCount();
+        try (var writer = SnapshotWriter.create(SnapshotFiles.nodeProperty(exportPath, index))) {
+            switch (values.valueType()) {
+                case LONG:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.putLong(values.longValue(nodeId));
+                    }
+                    break;
+                case DOUBLE:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.putDouble(values.doubleValue(nodeId));
+                    }
+                    break;
+                case LONG_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writeArray(writer, values.longArrayValue(nodeId));
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writeArray(writer, values.doubleArrayValue(nodeId));
+                    }
+                    break;
+                case FLOAT_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writeArray(writer, values.floatArrayValue(nodeId));
+                    }
+                    break;
+                default:
+                    throw new UnsupportedOperationException(formatWithLocale(
+                        "Node property `%s` of type %s is not supported by graph snapshots.",
+                        propertyKey,
+                        values.valueType()
+                    ));
+            }
+        }
+    }
+
+    private void exportDegrees(String list, HugeIntArray degrees) {
+        try (var writer = SnapshotWriter.create(SnapshotFiles.degrees(exportPath, list))) {
+            writer.putInts(degrees);
+        }
+    }
+
+    private void exportOffsets(String list, HugeLongArray offsets) {
+        try (var writer = SnapshotWriter.create(SnapshotFiles.offsets(exportPath, list))) {
+            writer.putLongs(offsets);
+        }
+    }
+
+    // pages are prefixed with their length, -1 marks a missing page
+
+    private void exportPages(String list, byte[][] pages) {
+        try (var writer = SnapshotWriter.create(SnapshotFiles.pages(exportPath, list))) {
+            writer.putInt(pages.length);
+            for (byte[] page : pages) {
+                if (page == null) {
+                    writer.putInt(-1);
+                } else {
+                    writer.putInt(page.length);
+                    writer.putBytes(page);
+                }
+            }
+        }
+    }
+
+    private void exportPages(String list, long[][] pages) {
+        try (var writer = SnapshotWriter.create(SnapshotFiles.pages(exportPath, list))) {
+            writer.putInt(pages.length);
+            for (long[] page : pages) {
+                writeArray(writer, page);
+            }
+        }
+    }
+
+    // every page starts at a multiple of 8 bytes, so that it can be memory-mapped, see MappedPages
+    private void exportPages(String list, long[] pageAddresses, long[] pageSizes) {
+        try (var writer = SnapshotWriter.create(SnapshotFiles.pages(exportPath, list))) {
+            writer.putLong(pageAddresses.length);
+            for (int i = 0; i < pageAddresses.length; i++) {
+                writer.putLong(pageSizes[i]);
+                writer.putMemory(pageAddresses[i], pageSizes[i]);
+                writer.putBytes(new byte[(int) (BitUtil.align(pageSizes[i], Long.BYTES) - pageSizes[i])]);
+            }
+        }
+    }
+
+    private void exportGraphProperty(int index, String propertyKey) {
+        GraphPropertyValues values = graphStore.graphPropertyValues(propertyKey);
+        try (var writer = SnapshotWriter.create(SnapshotFiles.graphProperty(exportPath, index))) {
+            switch (values.valueType()) {
+                case LONG:
+                    var longs = values.longValues().toArray();
+                    writer.putLong(longs.length);
+                    for (long value : longs) {
+                        writer.putLong(value);
+                    }
+                    break;
+                case DOUBLE:
+                    var doubles = values.doubleValues().toArray();
+                    writer.putLong(doubles.length);
+                    for (double value : doubles) {
+                        writer.putDouble(value);
+                    }
+                    break;
+                case LONG_ARRAY:
+                    var longArrays = values.longArrayValues().collect(Collectors.toList());
+                    writer.putLong(longArrays.size());
+                    longArrays.forEach(value -> writeArray(writer, value));
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubleArrays = values.doubleArrayValues().collect(Collectors.toList());
+                    writer.putLong(doubleArrays.size());
+                    doubleArrays.forEach(value -> writeArray(writer, value));
+                    break;
+                case FLOAT_ARRAY:
+                    var floatArrays = values.floatArrayValues().collect(Collectors.toList());
+                    writer.putLong(floatArrays.size());
+                    floatArrays.forEach(value -> writeArray(writer, value));
+                    break;
+                default:
+                    throw new UnsupportedOperationException(formatWithLocale(
+                        "Graph property `%s` of type %s is not supported by graph snapshots.",
+                        propertyKey,
+                        values.valueType()
+                    ));
+            }
+        }
+    }
+
+    // arrays are prefixed with their length, -1 marks a missing value
+
+    private static void writeArray(SnapshotWriter writer, long[] values) {
+        if (values == null) {
+            writer.putInt(-1);
+            return;
+        }
+        writer.putInt(values.length);
+        for (long value : values) {
+            writer.putLong(value);
+        }
+    }
+
+    private static void writeArray(SnapshotWriter writer, double[] values) {
+        if (values == null) {
+            writer.putInt(-1);
+            return;
+        }
+        writer.putInt(values.length);
+        for (double value : values) {
+            writer.putDouble(value);
+        }
+    }
+
+    private static void writeArray(SnapshotWriter writer, float[] values) {
+        if (values == null) {
+            writer.putInt(-1);
+            return;
+        }
+        writer.putInt(values.length);
+        for (float value : values) {
+            writer.putFloat(value);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory-maps the native pages of a packed adjacency list from a snapshot file.
+ *
+ * The file stores the number of pages, followed by the size and the bytes of every page, padded to whole longs.
+ * It is mapped read-only in segments of at most {@link #MAX_SEGMENT_SIZE} bytes, a page never spans two segments.
+ * The mapped bytes are reported to the {@link NativeMemoryTracker} until the pages are released.
+ */
+final class MappedPages {
+
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private final long[] addresses;
+    private final long[] sizes;
+    private final long mappedBytes;
+    private List<MappedByteBuffer> segments;
+
+    /**
+     * The pages store native longs, which are only the little-endian longs of the file on little-endian platforms.
+     */
+    static boolean canMap() {
+        return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    static MappedPages map(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int pageCount = Math.toIntExact(readLong(channel, 0L));
+            var positions = new long[pageCount];
+            var sizes = new long[pageCount];
+            long position = Long.BYTES;
+            for (int page = 0; page < pageCount; page++) {
+                sizes[page] = readLong(channel, position);
+                positions[page] = position + Long.BYTES;
+                position = positions[page] + BitUtil.align(sizes[page], Long.BYTES);
+            }
+
+            var addresses = new long[pageCount];
+            var segments = new ArrayList<MappedByteBuffer>();
+            long mappedBytes = 0L;
+            int page = 0;
+            while (page < pageCount) {
+                long segmentStart = positions[page];
+                int lastPage = page;
+                while (lastPage + 1 < pageCount
+                       && positions[lastPage + 1] + sizes[lastPage + 1] - segmentStart <= MAX_SEGMENT_SIZE) {
+                    lastPage++;
+                }
+                long segmentSize = positions[lastPage] + sizes[lastPage] - segmentStart;
+                var segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentSize);
+                long segmentAddress = UnsafeUtil.getDirectByteBufferAddress(segment);
+                for (; page <= lastPage; page++) {
+                    addresses[page] = segmentAddress + positions[page] - segmentStart;
+                }
+                segments.add(segment);
+                mappedBytes += segmentSize;
+            }
+
+            NativeMemoryTracker.track(mappedBytes);
+            return new MappedPages(addresses, sizes, mappedBytes, segments);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedPages(long[] addresses, long[] sizes, long mappedBytes, List<MappedByteBuffer> segments) {
+        this.addresses = addresses;
+        this.sizes = sizes;
+        this.mappedBytes = mappedBytes;
+        this.segments = segments;
+    }
+
+    long[] addresses() {
+        return addresses;
+    }
+
+    long[] sizes() {
+        return sizes;
+    }
+
+    /**
+     * Unmaps the pages, their addresses must not be used afterwards.
+     */
+    synchronized void release() {
+        if (segments == null) {
+            return;
+        }
+        segments.forEach(UnsafeUtil::invokeCleaner);
+        segments = null;
+        NativeMemoryTracker.untrack(mappedBytes);
+    }
+
+    private static long readLong(FileChannel channel, long position) throws IOException {
+        var buffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of snapshot file");
+            }
+        }
+        return buffer.getLong(0);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import java.nio.file.Path;
+
+/**
+ * Names of the binary files of a graph snapshot.
+ * Elements are numbered by their position in the manifest, so keys and types never end up in a file name.
+ * Every adjacency and property list is identified by a name prefix, see {@link #adjacencyList(int, boolean)}
+ * and {@link #propertyList(int, int)}.
+ */
+final class SnapshotFiles {
+
+    static final String MANIFEST = "manifest.bin";
+    static final int MAGIC = 0x47445353;
+    static final int VERSION = 3;
+
+    static final String ORIGINAL_IDS = "ids.bin";
+
+    private SnapshotFiles() {}
+
+    static Path label(Path directory, int index) {
+        return directory.resolve("label-" + index + ".bin");
+    }
+
+    static Path nodeProperty(Path directory, int index) {
+        return directory.resolve("node-property-" + index + ".bin");
+    }
+
+    static String adjacencyList(int relationshipType, boolean inverse) {
+        return inverse
+            ? "relationship-" + relationshipType + ".inverse"
+            : "relationship-" + relationshipType;
+    }
+
+    static String propertyList(int relationshipType, int property) {
+        return "relationship-" + relationshipType + ".property-" + property;
+    }
+
+    static Path degrees(Path directory, String list) {
+        return directory.resolve(list + ".degrees.bin");
+    }
+
+    static Path offsets(Path directory, String list) {
+        return directory.resolve(list + ".offsets.bin");
+    }
+
+    static Path pages(Path directory, String list) {
+        return directory.resolve(list + ".pages.bin");
+    }
+
+    static Path graphProperty(Path directory, int index) {
+        return directory.resolve("graph-property-" + index + ".bin");
+    }
+}
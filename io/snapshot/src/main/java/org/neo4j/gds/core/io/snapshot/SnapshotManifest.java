@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Fixes the order of labels, properties and relationship types, which determines the names of the data files.
+ * It also records the format of every adjacency and property list, which is restored as it was.
+ * Value types, default values and aggregations are not repeated here, they are part of the CSV schema files.
+ */
+@ValueClass
+interface SnapshotManifest {
+
+    /**
+     * The in-memory layout of an adjacency or property list.
+     */
+    enum ListFormat {
+        COMPRESSED,
+        UNCOMPRESSED,
+        PACKED
+    }
+
+    String graphName();
+
+    List<NodeLabel> nodeLabels();
+
+    List<String> nodePropertyKeys();
+
+    List<RelationshipTypeEntry> relationshipTypes();
+
+    List<String> graphPropertyKeys();
+
+    @ValueClass
+    interface RelationshipTypeEntry {
+        RelationshipType relationshipType();
+
+        long elementCount();
+
+        boolean isMultiGraph();
+
+        ListFormat adjacencyFormat();
+
+        Optional<ListFormat> inverseAdjacencyFormat();
+
+        List<String> propertyKeys();
+
+        List<ListFormat> propertyFormats();
+    }
+
+    // marks a relationship type without an inverse index
+    int NO_FORMAT = -1;
+
+    default void write(Path directory) {
+        var file = directory.resolve(SnapshotFiles.MANIFEST);
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(SnapshotFiles.MAGIC);
+            out.writeInt(SnapshotFiles.VERSION);
+            out.writeUTF(graphName());
+
+            out.writeInt(nodeLabels().size());
+            for (var nodeLabel : nodeLabels()) {
+                out.writeUTF(nodeLabel.name());
+            }
+            writeStrings(out, nodePropertyKeys());
+
+            out.writeInt(relationshipTypes().size());
+            for (var entry : relationshipTypes()) {
+                out.writeUTF(entry.relationshipType().name());
+                out.writeLong(entry.elementCount());
+                out.writeBoolean(entry.isMultiGraph());
+                out.writeByte(entry.adjacencyFormat().ordinal());
+                out.writeByte(entry.inverseAdjacencyFormat().map(Enum::ordinal).orElse(NO_FORMAT));
+                writeStrings(out, entry.propertyKeys());
+                for (var format : entry.propertyFormats()) {
+                    out.writeByte(format.ordinal());
+                }
+            }
+
+            writeStrings(out, graphPropertyKeys());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static SnapshotManifest read(Path directory) {
+        var file = directory.resolve(SnapshotFiles.MANIFEST);
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int magic = in.readInt();
+            int version = in.readInt();
+            if (magic != SnapshotFiles.MAGIC || version != SnapshotFiles.VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "'%s' is not a graph snapshot of version %d.",
+                    directory,
+                    SnapshotFiles.VERSION
+                ));
+            }
+
+            var builder = ImmutableSnapshotManifest.builder().graphName(in.readUTF());
+
+            int labelCount = in.readInt();
+            for (int i = 0; i < labelCount; i++) {
+                builder.addNodeLabel(NodeLabel.of(in.readUTF()));
+            }
+            builder.nodePropertyKeys(readStrings(in));
+
+            int typeCount = in.readInt();
+            for (int i = 0; i < typeCount; i++) {
+                var entry = ImmutableRelationshipTypeEntry.builder()
+                    .relationshipType(RelationshipType.of(in.readUTF()))
+                    .elementCount(in.readLong())
+                    .isMultiGraph(in.readBoolean())
+                    .adjacencyFormat(format(in.readByte()));
+                byte inverseFormat = in.readByte();
+                if (inverseFormat != NO_FORMAT) {
+                    entry.inverseAdjacencyFormat(format(inverseFormat));
+                }
+                var propertyKeys = readStrings(in);
+                entry.propertyKeys(propertyKeys);
+                for (int j = 0; j < propertyKeys.size(); j++) {
+                    entry.addPropertyFormat(format(in.readByte()));
+                }
+                builder.addRelationshipType(entry.build());
+            }
+
+            return builder.graphPropertyKeys(readStrings(in)).build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ListFormat format(int ordinal) {
+        return ListFormat.values()[ordinal];
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (var value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        var values = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+}
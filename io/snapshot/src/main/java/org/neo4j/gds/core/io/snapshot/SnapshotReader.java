@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequentially reads the little-endian files written by {@link SnapshotWriter}.
+ * Only used for the data that has to end up on the heap or in native pages; everything else is memory-mapped.
+ */
+final class SnapshotReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotReader open(Path file) {
+        try {
+            return new SnapshotReader(FileChannel.open(file, StandardOpenOption.READ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SnapshotReader(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.limit(0);
+    }
+
+    long getLong() {
+        ensureAvailable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    int getInt() {
+        ensureAvailable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    double getDouble() {
+        ensureAvailable(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    float getFloat() {
+        ensureAvailable(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    void getBytes(byte[] values) {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureAvailable(1);
+            int length = Math.min(buffer.remaining(), values.length - offset);
+            buffer.get(values, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Reads {@code bytes} bytes into native memory starting at {@code address}.
+     */
+    void getMemory(long address, long bytes) {
+        long offset = 0L;
+        for (; offset + Long.BYTES <= bytes; offset += Long.BYTES) {
+            UnsafeUtil.putLong(address + offset, getLong());
+        }
+        for (; offset < bytes; offset++) {
+            ensureAvailable(1);
+            UnsafeUtil.putByte(address + offset, buffer.get());
+        }
+    }
+
+    void getLongs(long[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getLong();
+        }
+    }
+
+    private void ensureAvailable(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of snapshot file");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
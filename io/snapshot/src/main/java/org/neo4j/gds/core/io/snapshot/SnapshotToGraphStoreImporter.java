@@ -0,0 +1,582 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.DoubleGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.FloatArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.GraphProperty;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.collections.HugeSparseLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.CompressedAdjacencyProperties;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.ImmutableUserGraphStore;
+import org.neo4j.gds.core.io.file.csv.CsvImportFileUtil;
+import org.neo4j.gds.core.io.snapshot.SnapshotManifest.ListFormat;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.SharedHugeArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.values.storable.NumberType;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Loads a graph snapshot written by {@link GraphStoreToSnapshotExporter}.
+ *
+ * Original ids, scalar node properties and the degrees and offsets of all adjacency lists are memory-mapped.
+ * The adjacency and property lists are restored in the format they were written in, without decompressing or sorting them.
+ * The native pages of packed adjacency lists are memory-mapped as well, the pages of the other formats are read
+ * into heap arrays, which their cursors decode.
+ * Only the sparse original-to-mapped id lookup and the label bitsets are rebuilt.
+ * The mapped files must not be deleted or modified while the graph store is in use,
+ * they are unmapped when the graph store is released.
+ */
+public final class SnapshotToGraphStoreImporter {
+
+    private final int concurrency;
+    private final Path importPath;
+
+    public SnapshotToGraphStoreImporter(int concurrency, Path importPath) {
+        this.concurrency = concurrency;
+        this.importPath = importPath;
+    }
+
+    public FileToGraphStoreImporter.UserGraphStore run() {
+        var fileInput = CsvImportFileUtil.fileInput(importPath);
+        var manifest = SnapshotManifest.read(importPath);
+
+        var graphStoreBuilder = new GraphStoreBuilder()
+            .concurrency(concurrency)
+            .databaseId(fileInput.graphInfo().databaseId())
+            .capabilities(fileInput.capabilities())
+            .schema(GraphSchema.of(
+                fileInput.nodeSchema(),
+                fileInput.relationshipSchema(),
+                fileInput.graphPropertySchema()
+            ));
+
+        var nodeProperties = new ConcurrentHashMap<String, NodePropertyValues>();
+        var topologies = new ConcurrentHashMap<RelationshipType, Relationships.Topology>();
+        var relationshipProperties = new ConcurrentHashMap<RelationshipType, RelationshipPropertyStore>();
+        var graphProperties = new ConcurrentHashMap<String, GraphProperty>();
+
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < manifest.nodePropertyKeys().size(); i++) {
+            var propertyKey = manifest.nodePropertyKeys().get(i);
+            var valueType = fileInput.nodeSchema().unionProperties().get(propertyKey).valueType();
+            var file = SnapshotFiles.nodeProperty(importPath, i);
+            long nodeCount = fileInput.graphInfo().nodeCount();
+            tasks.add(() -> nodeProperties.put(propertyKey, importNodeProperty(file, valueType, nodeCount)));
+        }
+        for (int i = 0; i < manifest.relationshipTypes().size(); i++) {
+            var entry = manifest.relationshipTypes().get(i);
+            int index = i;
+            tasks.add(() -> importRelationshipType(index, entry, fileInput, topologies, relationshipProperties));
+        }
+        for (int i = 0; i < manifest.graphPropertyKeys().size(); i++) {
+            var propertyKey = manifest.graphPropertyKeys().get(i);
+            var valueType = fileInput.graphPropertySchema().get(propertyKey).valueType();
+            var file = SnapshotFiles.graphProperty(importPath, i);
+            tasks.add(() -> graphProperties.put(
+                propertyKey,
+                GraphProperty.of(propertyKey, importGraphProperty(file, valueType))
+            ));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .run();
+
+        graphStoreBuilder.nodes(importNodes(fileInput, manifest));
+        CSRGraphStoreUtil.extractNodeProperties(
+            graphStoreBuilder,
+            fileInput.nodeSchema().unionProperties()::get,
+            nodeProperties
+        );
+        graphStoreBuilder.relationshipImportResult(RelationshipImportResult.of(
+            topologies,
+            relationshipProperties,
+            fileInput.relationshipSchema().directions()
+        ));
+        var graphPropertyStore = GraphPropertyStore.builder();
+        graphProperties.forEach(graphPropertyStore::putProperty);
+        graphStoreBuilder.graphProperties(graphPropertyStore.build());
+
+        return ImmutableUserGraphStore.of(fileInput.userName(), graphStoreBuilder.build());
+    }
+
+    private IdMap importNodes(FileInput fileInput, SnapshotManifest manifest) {
+        long nodeCount = fileInput.graphInfo().nodeCount();
+        long highestOriginalId = fileInput.graphInfo().maxOriginalId();
+        var originalIds = HugeLongArray.map(importPath.resolve(SnapshotFiles.ORIGINAL_IDS));
+
+        var nodeToOriginalIds = ArrayIdMapBuilderOps.buildSparseIdMap(
+            nodeCount,
+            highestOriginalId,
+            concurrency,
+            originalIds
+        );
+        var labelInformation = labelInformationBuilder(manifest, originalIds, nodeCount, highestOriginalId)
+            .build(nodeCount, nodeToOriginalIds::get);
+
+        return new MappedIdMap(originalIds, nodeToOriginalIds, labelInformation, nodeCount, highestOriginalId);
+    }
+
+    private LabelInformation.Builder labelInformationBuilder(
+        SnapshotManifest manifest,
+        HugeLongArray originalIds,
+        long nodeCount,
+        long highestOriginalId
+    ) {
+        var nodeLabels = manifest.nodeLabels();
+        if (nodeLabels.size() == 1 && countLabeledNodes(0) == nodeCount) {
+            return LabelInformationBuilders.singleLabel(nodeLabels.get(0));
+        }
+
+        var builder = LabelInformationBuilders.multiLabelWithCapacityAndLabelInformation(
+            highestOriginalId + 1,
+            nodeLabels,
+            List.of()
+        );
+        for (int i = 0; i < nodeLabels.size(); i++) {
+            NodeLabel nodeLabel = nodeLabels.get(i);
+            var words = HugeLongArray.map(SnapshotFiles.label(importPath, i));
+            for (long wordIndex = 0; wordIndex < words.size(); wordIndex++) {
+                long word = words.get(wordIndex);
+                while (word != 0L) {
+                    long nodeId = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                    builder.addNodeIdToLabel(nodeLabel, originalIds.get(nodeId));
+                    word &= word - 1;
+                }
+            }
+            words.release();
+        }
+        return builder;
+    }
+
+    private long countLabeledNodes(int labelIndex) {
+        var words = HugeLongArray.map(SnapshotFiles.label(importPath, labelIndex));
+        long count = 0L;
+        for (long wordIndex = 0; wordIndex < words.size(); wordIndex++) {
+            count += Long.bitCount(words.get(wordIndex));
+        }
+        words.release();
+        return count;
+    }
+
+    private void importRelationshipType(
+        int index,
+        SnapshotManifest.RelationshipTypeEntry entry,
+        FileInput fileInput,
+        Map<RelationshipType, Relationships.Topology> topologies,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipProperties
+    ) {
+        var relationshipType = entry.relationshipType();
+        var list = SnapshotFiles.adjacencyList(index, false);
+        // the degrees of the property lists are the ones of the topology
+        var degrees = SharedHugeArray.of(HugeIntArray.map(SnapshotFiles.degrees(importPath, list)));
+        var topology = ImmutableTopology.builder()
+            .adjacencyList(importAdjacencyList(list, entry.adjacencyFormat(), degrees))
+            .elementCount(entry.elementCount())
+            .isMultiGraph(entry.isMultiGraph());
+        entry.inverseAdjacencyFormat().ifPresent(format -> {
+            var inverseList = SnapshotFiles.adjacencyList(index, true);
+            var inverseDegrees = SharedHugeArray.of(HugeIntArray.map(SnapshotFiles.degrees(importPath, inverseList)));
+            topology.inverseAdjacencyList(importAdjacencyList(inverseList, format, inverseDegrees));
+        });
+        topologies.put(relationshipType, topology.build());
+
+        if (entry.propertyKeys().isEmpty()) {
+            return;
+        }
+
+        var propertySchemas = fileInput.relationshipSchema().get(relationshipType).properties();
+        var propertyStore = RelationshipPropertyStore.builder();
+        for (int j = 0; j < entry.propertyKeys().size(); j++) {
+            var propertyKey = entry.propertyKeys().get(j);
+            var propertySchema = propertySchemas.get(propertyKey);
+            var propertyList = importPropertyList(
+                SnapshotFiles.propertyList(index, j),
+                entry.propertyFormats().get(j),
+                degrees
+            );
+            propertyStore.putIfAbsent(propertyKey, RelationshipProperty.of(
+                propertyKey,
+                NumberType.FLOATING_POINT,
+                propertySchema.state(),
+                ImmutableProperties.of(propertyList, entry.elementCount(), propertySchema.defaultValue().doubleValue()),
+                propertySchema.defaultValue(),
+                propertySchema.aggregation()
+            ));
+        }
+        relationshipProperties.put(relationshipType, propertyStore.build());
+    }
+
+    private AdjacencyList importAdjacencyList(String list, ListFormat format, SharedHugeArray<HugeIntArray> degrees) {
+        var offsets = SharedHugeArray.of(HugeLongArray.map(SnapshotFiles.offsets(importPath, list)));
+        var pages = SnapshotFiles.pages(importPath, list);
+        switch (format) {
+            case COMPRESSED:
+                return new CompressedAdjacencyList(readBytePages(pages), degrees, offsets);
+            case UNCOMPRESSED:
+                return new UncompressedAdjacencyList(readLongPages(pages), degrees, offsets);
+            case PACKED:
+                if (MappedPages.canMap()) {
+                    var mappedPages = MappedPages.map(pages);
+                    return new PackedAdjacencyList(
+                        mappedPages.addresses(),
+                        mappedPages.sizes(),
+                        mappedPages::release,
+                        degrees,
+                        offsets
+                    );
+                }
+                // the pages store native longs, on big-endian platforms they are read into native pages instead
+                try (var reader = SnapshotReader.open(pages)) {
+                    var pageAddresses = new long[Math.toIntExact(reader.getLong())];
+                    var pageSizes = new long[pageAddresses.length];
+                    for (int i = 0; i < pageAddresses.length; i++) {
+                        pageSizes[i] = reader.getLong();
+                        pageAddresses[i] = NativeMemoryTracker.allocate(pageSizes[i]);
+                        reader.getMemory(pageAddresses[i], pageSizes[i]);
+                        reader.getBytes(new byte[(int) (BitUtil.align(pageSizes[i], Long.BYTES) - pageSizes[i])]);
+                    }
+                    return new PackedAdjacencyList(pageAddresses, pageSizes, degrees, offsets);
+                }
+            default:
+                throw new IllegalStateException("Unexpected adjacency list format " + format);
+        }
+    }
+
+    private AdjacencyProperties importPropertyList(
+        String list,
+        ListFormat format,
+        SharedHugeArray<HugeIntArray> degrees
+    ) {
+        var offsets = SharedHugeArray.of(HugeLongArray.map(SnapshotFiles.offsets(importPath, list)));
+        var pages = SnapshotFiles.pages(importPath, list);
+        switch (format) {
+            case COMPRESSED:
+                return new CompressedAdjacencyProperties(readBytePages(pages), degrees, offsets);
+            case UNCOMPRESSED:
+                return new UncompressedAdjacencyList(readLongPages(pages), degrees, offsets);
+            default:
+                throw new IllegalStateException("Unexpected property list format " + format);
+        }
+    }
+
+    private static byte[][] readBytePages(Path file) {
+        try (var reader = SnapshotReader.open(file)) {
+            var pages = new byte[reader.getInt()][];
+            for (int i = 0; i < pages.length; i++) {
+                int length = reader.getInt();
+                if (length >= 0) {
+                    pages[i] = new byte[length];
+                    reader.getBytes(pages[i]);
+                }
+            }
+            return pages;
+        }
+    }
+
+    private static long[][] readLongPages(Path file) {
+        try (var reader = SnapshotReader.open(file)) {
+            var pages = new long[reader.getInt()][];
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = readArray(reader, long[].class);
+            }
+            return pages;
+        }
+    }
+
+    private static NodePropertyValues importNodeProperty(Path file, ValueType valueType, long nodeCount) {
+        switch (valueType) {
+            case LONG:
+                return new MappedLongNodePropertyValues(HugeLongArray.map(file));
+            case DOUBLE:
+                return new MappedDoubleNodePropertyValues(HugeDoubleArray.map(file));
+            case LONG_ARRAY:
+                return readArrays(file, long[].class, nodeCount).asNodeProperties();
+            case DOUBLE_ARRAY:
+                return readArrays(file, double[].class, nodeCount).asNodeProperties();
+            case FLOAT_ARRAY:
+                return readArrays(file, float[].class, nodeCount).asNodeProperties();
+            default:
+                throw new UnsupportedOperationException("Unsupported node property type " + valueType);
+        }
+    }
+
+    private static GraphPropertyValues importGraphProperty(Path file, ValueType valueType) {
+        switch (valueType) {
+            case LONG: {
+                long[] values = readLongs(file);
+                return new LongGraphPropertyValues() {
+                    @Override
+                    public LongStream longValues() {
+                        return Arrays.stream(values);
+                    }
+
+                    @Override
+                    public long size() {
+                        return values.length;
+                    }
+                };
+            }
+            case DOUBLE: {
+                double[] values = readDoubles(file);
+                return new DoubleGraphPropertyValues() {
+                    @Override
+                    public DoubleStream doubleValues() {
+                        return Arrays.stream(values);
+                    }
+
+                    @Override
+                    public long size() {
+                        return values.length;
+                    }
+                };
+            }
+            case LONG_ARRAY: {
+                var values = readGraphPropertyArrays(file, long[].class);
+                return new LongArrayGraphPropertyValues() {
+                    @Override
+                    public Stream<long[]> longArrayValues() {
+                        return values.stream();
+                    }
+
+                    @Override
+                    public long size() {
+                        return values.size();
+                    }
+                };
+            }
+            case DOUBLE_ARRAY: {
+                var values = readGraphPropertyArrays(file, double[].class);
+                return new DoubleArrayGraphPropertyValues() {
+                    @Override
+                    public Stream<double[]> doubleArrayValues() {
+                        return values.stream();
+                    }
+
+                    @Override
+                    public long size() {
+                        return values.size();
+                    }
+                };
+            }
+            case FLOAT_ARRAY: {
+                var values = readGraphPropertyArrays(file, float[].class);
+                return new FloatArrayGraphPropertyValues() {
+                    @Override
+                    public Stream<float[]> floatArrayValues() {
+                        return values.stream();
+                    }
+
+                    @Override
+                    public long size() {
+                        return values.size();
+                    }
+                };
+            }
+            default:
+                throw new UnsupportedOperationException("Unsupported graph property type " + valueType);
+        }
+    }
+
+    private static long[] readLongs(Path file) {
+        try (var reader = SnapshotReader.open(file)) {
+            var values = new long[Math.toIntExact(reader.getLong())];
+            reader.getLongs(values);
+            return values;
+        }
+    }
+
+    private static double[] readDoubles(Path file) {
+        try (var reader = SnapshotReader.open(file)) {
+            var values = new double[Math.toIntExact(reader.getLong())];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = reader.getDouble();
+            }
+            return values;
+        }
+    }
+
+    private static <T> List<T> readGraphPropertyArrays(Path file, Class<T> arrayClass) {
+        try (var reader = SnapshotReader.open(file)) {
+            int size = Math.toIntExact(reader.getLong());
+            var values = new ArrayList<T>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readArray(reader, arrayClass));
+            }
+            return values;
+        }
+    }
+
+    private static <T> HugeObjectArray<T> readArrays(Path file, Class<T> arrayClass, long nodeCount) {
+        var values = HugeObjectArray.newArray(arrayClass, nodeCount);
+        try (var reader = SnapshotReader.open(file)) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                values.set(nodeId, readArray(reader, arrayClass));
+            }
+        }
+        return values;
+    }
+
+    private static <T> T readArray(SnapshotReader reader, Class<T> arrayClass) {
+        int length = reader.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (arrayClass == long[].class) {
+            var array = new long[length];
+            reader.getLongs(array);
+            return arrayClass.cast(array);
+        }
+        if (arrayClass == double[].class) {
+            var array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = reader.getDouble();
+            }
+            return arrayClass.cast(array);
+        }
+        var array = new float[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = reader.getFloat();
+        }
+        return arrayClass.cast(array);
+    }
+
+    /**
+     * Releases the memory-mapped original ids when the graph store is released.
+     */
+    private static final class MappedIdMap extends ArrayIdMap implements AutoCloseable {
+
+        private final HugeLongArray originalIds;
+
+        MappedIdMap(
+            HugeLongArray originalIds,
+            HugeSparseLongArray nodeToOriginalIds,
+            LabelInformation labelInformation,
+            long nodeCount,
+            long highestOriginalId
+        ) {
+            super(originalIds, nodeToOriginalIds, labelInformation, nodeCount, highestOriginalId);
+            this.originalIds = originalIds;
+        }
+
+        @Override
+        public void close() {
+            originalIds.release();
+        }
+    }
+
+    // scalar node properties are memory-mapped, they are released together with the graph store
+
+    private static final class MappedLongNodePropertyValues implements LongNodePropertyValues, AutoCloseable {
+
+        private final HugeLongArray values;
+
+        MappedLongNodePropertyValues(HugeLongArray values) {
+            this.values = values;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public long size() {
+            return values.size();
+        }
+
+        @Override
+        public void close() {
+            values.release();
+        }
+    }
+
+    private static final class MappedDoubleNodePropertyValues implements DoubleNodePropertyValues, AutoCloseable {
+
+        private final HugeDoubleArray values;
+
+        MappedDoubleNodePropertyValues(HugeDoubleArray values) {
+            this.values = values;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public long size() {
+            return values.size();
+        }
+
+        @Override
+        public void close() {
+            values.release();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes primitive values in little-endian byte order, which is the layout
+ * the memory-mapped huge arrays expect when the file is loaded again.
+ */
+final class SnapshotWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotWriter create(Path file) {
+        try {
+            return new SnapshotWriter(FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void putLong(long value) {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void putInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void putDouble(double value) {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void putFloat(float value) {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void putBytes(byte[] values) {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureCapacity(1);
+            int length = Math.min(buffer.remaining(), values.length - offset);
+            buffer.put(values, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes {@code bytes} bytes of native memory starting at {@code address}.
+     */
+    void putMemory(long address, long bytes) {
+        long offset = 0L;
+        for (; offset + Long.BYTES <= bytes; offset += Long.BYTES) {
+            putLong(UnsafeUtil.getLong(address + offset));
+        }
+        for (; offset < bytes; offset++) {
+            ensureCapacity(1);
+            buffer.put(UnsafeUtil.getByte(address + offset));
+        }
+    }
+
+    void putLongs(HugeLongArray values) {
+        long size = values.size();
+        for (long i = 0; i < size; i++) {
+            putLong(values.get(i));
+        }
+    }
+
+    void putInts(HugeIntArray values) {
+        long size = values.size();
+        for (long i = 0; i < size; i++) {
+            putInt(values.get(i));
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
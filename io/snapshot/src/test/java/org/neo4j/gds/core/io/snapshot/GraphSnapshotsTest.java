@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphSnapshotsTest {
+
+    @TempDir
+    Path location;
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldNotImportSnapshotsOfGraphsInTheCatalog() throws IOException {
+        var graphStore = GdlFactory.of("(a)-[:REL]->(b)").build();
+        var snapshotPath = GraphSnapshots.write(graphStore, "alice", "g", location, 1);
+        var databaseName = graphStore.databaseId().databaseName();
+        var log = Neo4jProxy.testLog();
+
+        assertThat(GraphSnapshots.restore(location, databaseName, 1, log)).isEqualTo(1);
+
+        // importing the snapshot again would fail without the original ids
+        Files.delete(snapshotPath.resolve(SnapshotFiles.ORIGINAL_IDS));
+
+        assertThat(GraphSnapshots.restore(location, databaseName, 1, log)).isEqualTo(0);
+        assertThat(log.hasMessages(TestLog.WARN)).isFalse();
+    }
+}
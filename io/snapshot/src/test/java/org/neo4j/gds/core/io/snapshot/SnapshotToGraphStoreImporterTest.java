@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class SnapshotToGraphStoreImporterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42.0, prop3: [0.3D, 0.2D]})" +
+        ", (b:A:B { prop1: 1, prop2: 43.0})" +
+        ", (c:A:C { prop1: 2, prop2: 44.0, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2]->(c)" +
+        ", (c)-[:REL2]->(d)" +
+        ", (d)-[:REL2]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @TempDir
+    Path snapshotLocation;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRoundTripGraphStore(int concurrency) {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 1337);
+            }
+
+            @Override
+            public long size() {
+                return 1337;
+            }
+        });
+
+        new GraphStoreToSnapshotExporter(graphStore, "alice", "g", snapshotLocation, concurrency).run();
+        var userGraphStore = new SnapshotToGraphStoreImporter(concurrency, snapshotLocation).run();
+        var importedGraphStore = userGraphStore.graphStore();
+
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        assertThat(SnapshotManifest.read(snapshotLocation).graphName()).isEqualTo("g");
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+        assertThat(importedGraphStore.nodes().hasLabel(importedGraphStore.nodes().toMappedNodeId(3), NodeLabel.of("C")))
+            .isFalse();
+        assertThat(importedGraphStore.relationshipCount(RelationshipType.of("REL1"))).isEqualTo(3);
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactly(LongStream.range(0, 1337).toArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"()-[]->()", "(:A)-[:R {w: 1.0}]->(:A)"})
+    void shouldRoundTripSingleLabelGraphs(String gdl) {
+        var singleLabelGraphStore = GdlFactory.of(gdl).build();
+
+        new GraphStoreToSnapshotExporter(singleLabelGraphStore, "", "g", snapshotLocation, 1).run();
+        var importedGraphStore = new SnapshotToGraphStoreImporter(1, snapshotLocation).run().graphStore();
+
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(singleLabelGraphStore.nodeLabels());
+        assertGraphEquals(singleLabelGraphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    static Stream<GdsFeatureToggles> adjacencyFormats() {
+        return Stream.of(
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST,
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST,
+            GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("adjacencyFormats")
+    void shouldKeepAdjacencyFormat(GdsFeatureToggles adjacencyFormat) {
+        adjacencyFormat.enableAndRun(() -> {
+            var formatGraphStore = GdlFactory.of(GDL).build();
+            var relationshipType = RelationshipType.of("REL1");
+
+            new GraphStoreToSnapshotExporter(formatGraphStore, "", "g", snapshotLocation, 4).run();
+            var importedGraphStore = new SnapshotToGraphStoreImporter(4, snapshotLocation).run().graphStore();
+
+            assertThat(topology(importedGraphStore, relationshipType).adjacencyList())
+                .isExactlyInstanceOf(topology(formatGraphStore, relationshipType).adjacencyList().getClass());
+            for (var propertyKey : formatGraphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    formatGraphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+            // unmaps the snapshot files
+            importedGraphStore.release();
+        });
+    }
+
+    private static Relationships.Topology topology(GraphStore graphStore, RelationshipType relationshipType) {
+        return ((CSRGraph) graphStore.getGraph(relationshipType)).relationshipTopologies().get(relationshipType);
+    }
+}
@@ -27,6 +27,7 @@ import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.LongDoubleHashMap;
 import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
 import com.carrotsearch.hppc.ObjectLongIdentityHashMap;
 import com.carrotsearch.hppc.ObjectLongMap;
 import org.neo4j.gds.annotation.SuppressForbidden;
@@ -227,6 +228,13 @@ public final class MemoryUsage {
         return sizeOfLongDoubleHashMap(length);
     }
 
+    public static long sizeOfLongLongHashMap(long length) {
+        long keyArraySize = sizeOfLongArray((int) Math.ceil(length * 1.25));
+        long valueArraySize = sizeOfLongArray((int) Math.ceil(length * 1.25));
+
+        return keyArraySize + valueArraySize + sizeOfInstance(LongLongHashMap.class);
+    }
+
 
     public static long sizeOfLongHashSet(long length) {
         return sizeOfOpenHashContainer(length) + sizeOfInstance(LongHashSet.class);
@@ -20,25 +20,18 @@
 package org.neo4j.gds.ml.core.tensor.operations;
 
 import com.carrotsearch.hppc.predicates.FloatPredicate;
+import org.neo4j.gds.simd.ArrayKernels;
 
 public final class FloatVectorOperations {
 
     private FloatVectorOperations() {}
 
     public static void addInPlace(float[] lhs, float[] rhs) {
-        var length = Math.min(lhs.length, rhs.length);
-
-        for (int i = 0; i < length; i++) {
-            lhs[i] += rhs[i];
-        }
+        ArrayKernels.addInPlace(lhs, rhs, Math.min(lhs.length, rhs.length));
     }
 
     public static void addWeightedInPlace(float[] lhs, float[] rhs, float weight) {
-        var length = Math.min(lhs.length, rhs.length);
-
-        for (int i = 0; i < length; i++) {
-            lhs[i] += weight * rhs[i];
-        }
+        ArrayKernels.addWeightedInPlace(lhs, rhs, weight, Math.min(lhs.length, rhs.length));
     }
 
     public static void scale(float[] lhs, float scalar) {
@@ -48,19 +41,11 @@ public final class FloatVectorOperations {
     public static void scale(float[] lhs, float scalar, float[] out) {
         assert out.length == lhs.length;
 
-        int length = lhs.length;
-        for (int i = 0; i < length; i++) {
-            out[i] = lhs[i] * scalar;
-        }
+        ArrayKernels.scale(lhs, scalar, out);
     }
 
     public static float l2Norm(float[] data) {
-        float sum = 0.0f;
-        for (float value : data) {
-            sum += value * value;
-        }
-
-        return (float) Math.sqrt(sum);
+        return (float) Math.sqrt(ArrayKernels.sumOfSquares(data));
     }
 
     public static void l2Normalize(float[] array) {
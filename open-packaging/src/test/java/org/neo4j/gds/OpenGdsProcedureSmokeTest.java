@@ -50,9 +50,13 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.graph.sample.rwr",
 
+        "gds.alpha.graph.snapshot",
+
         "gds.alpha.create.cypherdb",
 
         "gds.alpha.allShortestPaths.stream",
+        "gds.alpha.allShortestPaths.delta.multiSource.stream",
+        "gds.alpha.allShortestPaths.delta.multiSource.stream.estimate",
 
         "gds.beta.collapsePath.mutate",
 
@@ -165,6 +169,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.scc.write",
         "gds.alpha.scc.stream",
+        "gds.alpha.scc.mutate",
+        "gds.alpha.scc.mutate.estimate",
 
         "gds.alpha.scaleProperties.mutate",
         "gds.alpha.scaleProperties.stream",
@@ -197,6 +203,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.ml.splitRelationships.mutate",
         "gds.alpha.influenceMaximization.greedy.stream",
 
+        "gds.alpha.wcc.incremental.mutate",
+        "gds.alpha.wcc.incremental.mutate.estimate",
+
         "gds.beta.influenceMaximization.celf.mutate",
         "gds.beta.influenceMaximization.celf.mutate.estimate",
         "gds.beta.influenceMaximization.celf.stats",
@@ -410,6 +419,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.pageRank.write",
         "gds.pageRank.write.estimate",
 
+        "gds.alpha.shortestPath.landmarks.mutate",
+        "gds.alpha.shortestPath.landmarks.mutate.estimate",
+
         "gds.shortestPath.astar.mutate",
         "gds.shortestPath.astar.mutate.estimate",
         "gds.shortestPath.astar.stream",
@@ -530,7 +542,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 377;
+        int expectedCount = 386;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
@@ -112,7 +112,9 @@ public final class ComputationStatsProc extends PregelStatsProc<ComputationAlgor
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
                     computation.reducer().isEmpty(),
-                    configuration.isAsynchronous()
+                    configuration.isAsynchronous(),
+                    computation.gatherMessages(),
+                    configuration.hasRelationshipWeightProperty()
                 );
             }
         };
@@ -107,7 +107,9 @@ public final class ComputationStreamProc extends PregelStreamProc<ComputationAlg
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
                     computation.reducer().isEmpty(),
-                    configuration.isAsynchronous()
+                    configuration.isAsynchronous(),
+                    computation.gatherMessages(),
+                    configuration.hasRelationshipWeightProperty()
                 );
             }
         };
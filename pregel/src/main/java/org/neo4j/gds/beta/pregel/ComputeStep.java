@@ -43,6 +43,8 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     Partition nodeBatch();
 
+    Frontier frontier();
+
     InitContext<CONFIG> initContext();
 
     ComputeContext<CONFIG> computeContext();
@@ -81,6 +83,14 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    void sendLongTo(long targetNodeId, long message);
+
+    void sendTo(long targetNodeId, double[] message);
+
+    void sendTo(long targetNodeId, long[] message);
+
+    void publish(long sourceNodeId, double message);
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -91,8 +101,9 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        frontier.forEachNode(nodeBatch, nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 computation.init(initContext);
@@ -104,6 +115,10 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computation.compute(computeContext, messages);
+
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
         });
         progressTracker().logProgress(nodeBatch.nodeCount());
@@ -123,6 +138,27 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         });
     }
 
+    default void sendLongToNeighbors(long sourceNodeId, long message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendLongTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    default void sendToNeighbors(long sourceNodeId, double[] message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    default void sendToNeighbors(long sourceNodeId, long[] message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
     default void forEachNeighbor(long sourceNodeId, LongConsumer targetConsumer) {
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             targetConsumer.accept(targetNodeId);
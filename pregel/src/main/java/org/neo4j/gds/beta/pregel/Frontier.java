@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the nodes that are active in a superstep, i.e. nodes that either
+ * received a message or did not vote to halt in the previous superstep.
+ *
+ * While a superstep is running, the compute steps record the active nodes
+ * of the next superstep. If only a small fraction of the nodes is active,
+ * the next superstep only visits those nodes instead of scanning the whole
+ * node range of every batch.
+ *
+ * Once enough nodes are active for the next superstep to be dense, the
+ * remaining activations of the running superstep are not recorded, as a
+ * dense superstep does not read the frontier. Computations that keep most
+ * nodes active therefore only pay for tracking the first few activations.
+ *
+ * The frontier is only tracked for synchronous messengers. Asynchronous
+ * messages can be received within the same superstep, which is why those
+ * computations always visit all nodes.
+ */
+public final class Frontier {
+
+    // Below this fraction of active nodes, iterating the set bits is cheaper
+    // than visiting each node and checking its messages and vote bit.
+    static final double SPARSE_RATIO = 0.25;
+
+    private final long sparseThreshold;
+    private final AtomicLong nextActiveNodeCount;
+
+    private @Nullable HugeAtomicBitSet activeNodes;
+    private @Nullable HugeAtomicBitSet nextActiveNodes;
+    private boolean isSparse;
+    private volatile boolean isNextSuperstepDense;
+
+    static Frontier create(long nodeCount) {
+        return new Frontier(
+            (long) (nodeCount * SPARSE_RATIO),
+            HugeAtomicBitSet.create(nodeCount),
+            HugeAtomicBitSet.create(nodeCount)
+        );
+    }
+
+    static Frontier untracked() {
+        return new Frontier(0, null, null);
+    }
+
+    static long memoryEstimation(long nodeCount) {
+        return 2 * HugeAtomicBitSet.memoryEstimation(nodeCount);
+    }
+
+    private Frontier(
+        long sparseThreshold,
+        @Nullable HugeAtomicBitSet activeNodes,
+        @Nullable HugeAtomicBitSet nextActiveNodes
+    ) {
+        this.sparseThreshold = sparseThreshold;
+        this.activeNodes = activeNodes;
+        this.nextActiveNodes = nextActiveNodes;
+        this.nextActiveNodeCount = new AtomicLong();
+        this.isSparse = false;
+        this.isNextSuperstepDense = false;
+    }
+
+    /**
+     * Marks the given node as active in the next superstep.
+     */
+    void activate(long nodeId) {
+        if (nextActiveNodes == null || isNextSuperstepDense) {
+            return;
+        }
+        if (!nextActiveNodes.getAndSet(nodeId) && nextActiveNodeCount.incrementAndGet() >= sparseThreshold) {
+            isNextSuperstepDense = true;
+        }
+    }
+
+    /**
+     * Makes the nodes activated during the previous superstep the active nodes
+     * of the given superstep and decides how the superstep visits them.
+     * The initial superstep always visits all nodes.
+     *
+     * Must not be called while a superstep is running.
+     */
+    void advance(int iteration) {
+        if (activeNodes == null || nextActiveNodes == null) {
+            return;
+        }
+
+        var tmp = activeNodes;
+        this.activeNodes = nextActiveNodes;
+        this.nextActiveNodes = tmp;
+        this.nextActiveNodes.clear();
+
+        this.isSparse = iteration > 0 && !isNextSuperstepDense;
+
+        this.nextActiveNodeCount.set(0);
+        this.isNextSuperstepDense = false;
+    }
+
+    boolean isSparse() {
+        return isSparse;
+    }
+
+    /**
+     * Calls the consumer for all nodes of the given batch that need to be visited in the current superstep.
+     * In dense supersteps, these are all nodes of the batch.
+     */
+    void forEachNode(Partition nodeBatch, LongConsumer consumer) {
+        if (isSparse && activeNodes != null) {
+            var startNode = nodeBatch.startNode();
+            activeNodes.forEachSetBit(startNode, startNode + nodeBatch.nodeCount(), consumer);
+        } else {
+            nodeBatch.consume(consumer);
+        }
+    }
+}
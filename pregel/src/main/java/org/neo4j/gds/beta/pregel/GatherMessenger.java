@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.loading.AdjacencyBuffer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A messenger for computations that only send messages to all neighbors of a node.
+ *
+ * Instead of delivering a message to each neighbor, the sending node publishes
+ * a single value. In the next superstep, every node reads the published values
+ * of its incoming neighbors and reduces them with the {@link Reducer}.
+ * Each node only writes its own value and only reads values of the previous
+ * superstep, which requires neither atomic updates nor message storage.
+ * Messages are always reduced in the order of the incoming relationships,
+ * which makes the results independent of the concurrency.
+ *
+ * Undirected graphs are traversed as they are. For all other graphs,
+ * the incoming relationships are indexed when the messenger is created.
+ * Published {@code NaN} values are treated as if no message was sent.
+ */
+final class GatherMessenger implements Messenger<GatherMessenger.GatheringMessageIterator> {
+
+    private final Graph graph;
+    private final Graph inverseGraph;
+    private final PregelConfig config;
+    private final PregelComputation<?> computation;
+    private final Reducer reducer;
+
+    private HugeDoubleArray sendArray;
+    private HugeDoubleArray receiveArray;
+
+    GatherMessenger(Graph graph, PregelConfig config, PregelComputation<?> computation, Reducer reducer) {
+        this.graph = graph;
+        this.config = config;
+        this.computation = computation;
+        this.reducer = reducer;
+        this.inverseGraph = graph.schema().isUndirected()
+            ? graph
+            : inverseGraph(graph, config);
+
+        this.sendArray = HugeDoubleArray.newArray(graph.nodeCount());
+        this.receiveArray = HugeDoubleArray.newArray(graph.nodeCount());
+    }
+
+    static MemoryEstimation memoryEstimation(boolean isWeighted) {
+        // upper bound, undirected graphs are not indexed
+        return MemoryEstimations.builder(GatherMessenger.class)
+            .perNode("send array", HugeDoubleArray::memoryEstimation)
+            .perNode("receive array", HugeDoubleArray::memoryEstimation)
+            .max("inverse graph", List.of(
+                inverseGraphEstimationDuringBuilding(isWeighted),
+                inverseGraphEstimationAfterBuilding(isWeighted)
+            ))
+            .build();
+    }
+
+    private static MemoryEstimation inverseGraphEstimationDuringBuilding(boolean isWeighted) {
+        // the relationships builder buffers all relationships next to the eagerly initialized offsets and degrees
+        var builder = MemoryEstimations.builder("size during building")
+            .add(
+                "inverse adjacency buffer",
+                AdjacencyBuffer.memoryEstimation(RelationshipType.ALL_RELATIONSHIPS, isWeighted ? 1 : 0, false)
+            )
+            .perNode("inverse offsets", HugeLongArray::memoryEstimation)
+            .perNode("inverse degrees", HugeIntArray::memoryEstimation);
+
+        if (isWeighted) {
+            builder.perNode("inverse property offsets", HugeLongArray::memoryEstimation);
+        }
+
+        return builder.build();
+    }
+
+    private static MemoryEstimation inverseGraphEstimationAfterBuilding(boolean isWeighted) {
+        var builder = MemoryEstimations.builder("size after building")
+            .add(
+                "inverse adjacency list",
+                AdjacencyListBehavior.adjacencyListEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            );
+
+        if (isWeighted) {
+            builder.add(
+                "inverse adjacency properties",
+                AdjacencyListBehavior.adjacencyPropertiesEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            );
+        }
+
+        return builder.build();
+    }
+
+    private static Graph inverseGraph(Graph graph, PregelConfig config) {
+        var relationshipsBuilderBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graph)
+            .orientation(Orientation.NATURAL)
+            .concurrency(config.concurrency());
+
+        boolean isWeighted = config.hasRelationshipWeightProperty();
+        if (isWeighted) {
+            relationshipsBuilderBuilder.addPropertyConfig(Aggregation.NONE, DefaultValue.forDouble());
+        }
+
+        var relationshipsBuilder = relationshipsBuilderBuilder.build();
+
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            config.concurrency(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> {
+                    if (isWeighted) {
+                        localGraph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                            relationshipsBuilder.addFromInternal(targetNodeId, sourceNodeId, weight);
+                            return true;
+                        });
+                    } else {
+                        localGraph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                            relationshipsBuilder.addFromInternal(targetNodeId, sourceNodeId);
+                            return true;
+                        });
+                    }
+                });
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(tasks)
+            .run();
+
+        return GraphFactory.create(graph, relationshipsBuilder.build());
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> sendArray.set(nodeId, Double.NaN)
+        );
+    }
+
+    @Override
+    public boolean gathersMessages() {
+        return true;
+    }
+
+    @Override
+    public void publish(long sourceNodeId, double message) {
+        sendArray.set(sourceNodeId, message);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(
+            "Computations that gather messages can only send messages to all neighbors."
+        );
+    }
+
+    @Override
+    public GatheringMessageIterator messageIterator() {
+        return new GatheringMessageIterator(
+            inverseGraph.concurrentCopy(),
+            computation,
+            reducer,
+            config.hasRelationshipWeightProperty()
+        );
+    }
+
+    @Override
+    public void initMessageIterator(
+        GatheringMessageIterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        if (isFirstIteration) {
+            messageIterator.init(reducer.identity(), false);
+        } else {
+            messageIterator.gather(nodeId, receiveArray);
+        }
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+        if (inverseGraph != graph) {
+            inverseGraph.release();
+        }
+    }
+
+    static final class GatheringMessageIterator extends ReducingMessenger.SingleMessageIterator
+        implements RelationshipConsumer, RelationshipWithPropertyConsumer {
+
+        private final Graph inverseGraph;
+        private final PregelComputation<?> computation;
+        private final Reducer reducer;
+        private final boolean isWeighted;
+
+        private HugeDoubleArray publishedValues;
+        private double reducedValue;
+        private boolean hasMessage;
+
+        GatheringMessageIterator(
+            Graph inverseGraph,
+            PregelComputation<?> computation,
+            Reducer reducer,
+            boolean isWeighted
+        ) {
+            super(1);
+            this.inverseGraph = inverseGraph;
+            this.computation = computation;
+            this.reducer = reducer;
+            this.isWeighted = isWeighted;
+        }
+
+        void gather(long nodeId, HugeDoubleArray publishedValues) {
+            this.publishedValues = publishedValues;
+            this.reducedValue = reducer.identity();
+            this.hasMessage = false;
+
+            if (isWeighted) {
+                inverseGraph.forEachRelationship(nodeId, 1.0, this);
+            } else {
+                inverseGraph.forEachRelationship(nodeId, this);
+            }
+
+            init(reducedValue, hasMessage);
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighborNodeId) {
+            double value = publishedValues.get(neighborNodeId);
+            if (!Double.isNaN(value)) {
+                reducedValue = reducer.reduce(reducedValue, value);
+                hasMessage = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighborNodeId, double weight) {
+            double value = publishedValues.get(neighborNodeId);
+            if (!Double.isNaN(value)) {
+                reducedValue = reducer.reduce(reducedValue, computation.applyRelationshipWeight(value, weight));
+                hasMessage = true;
+            }
+            return true;
+        }
+    }
+}
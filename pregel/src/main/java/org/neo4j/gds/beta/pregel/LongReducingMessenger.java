@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The long counterpart of the {@link ReducingMessenger}, used for
+ * computations that declare long or long array messages together
+ * with a {@link Reducer} that supports long values.
+ */
+public class LongReducingMessenger implements Messenger<LongReducingMessenger.SingleMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final long identity;
+    private final int messageWidth;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+
+    LongReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, int messageWidth) {
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        // fails early if the reducer does not support long messages
+        this.identity = reducer.longIdentity();
+        this.messageWidth = messageWidth;
+
+        this.receiveArray = HugeAtomicLongArray.newArray(graph.nodeCount() * messageWidth);
+        this.sendArray = HugeAtomicLongArray.newArray(graph.nodeCount() * messageWidth);
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return MemoryEstimations.builder(LongReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * messageWidth))
+            .perNode("receive array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * messageWidth))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> {
+                long offset = nodeId * messageWidth;
+                for (int i = 0; i < messageWidth; i++) {
+                    sendArray.set(offset + i, identity);
+                }
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(
+            "The computation declares long messages in its schema and cannot send double messages."
+        );
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        checkMessageWidth(1);
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.reduce(current, message)
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        checkMessageWidth(message.length);
+        long offset = targetNodeId * messageWidth;
+        for (int i = 0; i < messageWidth; i++) {
+            long value = message[i];
+            sendArray.update(
+                offset + i,
+                current -> reducer.reduce(current, value)
+            );
+        }
+    }
+
+    @Override
+    public LongReducingMessenger.SingleMessageIterator messageIterator() {
+        return new SingleMessageIterator(messageWidth);
+    }
+
+    @Override
+    public void initMessageIterator(
+        LongReducingMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        // the receive array is only accessed by the thread computing the node,
+        // so reading and resetting the entries does not need to be atomic
+        long offset = nodeId * messageWidth;
+        var message = messageIterator.message;
+        boolean hasMessage = false;
+        for (int i = 0; i < messageWidth; i++) {
+            message[i] = receiveArray.get(offset + i);
+            receiveArray.set(offset + i, identity);
+            hasMessage |= message[i] != identity;
+        }
+        messageIterator.init(hasMessage);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    private void checkMessageWidth(int width) {
+        if (width != messageWidth) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of width %d, got %d.",
+                messageWidth,
+                width
+            ));
+        }
+    }
+
+    static class SingleMessageIterator implements Messages.MessageIterator {
+
+        final long[] message;
+
+        boolean hasNext;
+
+        SingleMessageIterator(int messageWidth) {
+            this.message = new long[messageWidth];
+        }
+
+        void init(boolean hasNext) {
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            hasNext = false;
+            return message[0];
+        }
+
+        @Override
+        public long[] nextLongArray() {
+            hasNext = false;
+            return message;
+        }
+
+        @Override
+        public double nextDouble() {
+            throw new UnsupportedOperationException("The computation declares long messages, use the long iterators.");
+        }
+    }
+}
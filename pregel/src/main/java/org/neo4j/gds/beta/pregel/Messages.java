@@ -24,6 +24,15 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The messages a node received in the previous superstep.
+ *
+ * Messages are accessed with the iterator that matches the
+ * message type declared in the {@link PregelSchema}. Double
+ * messages, which are the default, are read via {@link #doubleIterator()}.
+ */
 public final class Messages implements Iterable<Double> {
 
     @NotNull
@@ -34,12 +43,75 @@ public final class Messages implements Iterable<Double> {
 
     interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        default long nextLong() {
+            throw unsupportedMessageType("long");
+        }
+
+        /**
+         * Returns the next message. The returned array is reused
+         * and only valid until the next message is retrieved.
+         */
+        default double[] nextDoubleArray() {
+            throw unsupportedMessageType("double array");
+        }
+
+        /**
+         * Returns the next message. The returned array is reused
+         * and only valid until the next message is retrieved.
+         */
+        default long[] nextLongArray() {
+            throw unsupportedMessageType("long array");
+        }
+
+        private static UnsupportedOperationException unsupportedMessageType(String messageType) {
+            return new UnsupportedOperationException(formatWithLocale(
+                "Reading %s messages requires declaring them in the Pregel schema.",
+                messageType
+            ));
+        }
     }
 
     private final MessageIterator iterator;
+    private final PrimitiveIterator.OfLong longIterator;
+    private final Iterator<double[]> doubleArrayIterator;
+    private final Iterator<long[]> longArrayIterator;
 
     Messages(MessageIterator iterator) {
         this.iterator = iterator;
+        this.longIterator = new PrimitiveIterator.OfLong() {
+            @Override
+            public long nextLong() {
+                return iterator.nextLong();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+        };
+        this.doubleArrayIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double[] next() {
+                return iterator.nextDoubleArray();
+            }
+        };
+        this.longArrayIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long[] next() {
+                return iterator.nextLongArray();
+            }
+        };
     }
 
     @NotNull
@@ -47,6 +119,32 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    /**
+     * Iterates messages of type {@link org.neo4j.gds.api.nodeproperties.ValueType#LONG}.
+     */
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        return longIterator;
+    }
+
+    /**
+     * Iterates messages of type {@link org.neo4j.gds.api.nodeproperties.ValueType#DOUBLE_ARRAY}.
+     * The returned arrays are reused and must not be kept beyond the next call to {@code next()}.
+     */
+    @NotNull
+    public Iterator<double[]> doubleArrayIterator() {
+        return doubleArrayIterator;
+    }
+
+    /**
+     * Iterates messages of type {@link org.neo4j.gds.api.nodeproperties.ValueType#LONG_ARRAY}.
+     * The returned arrays are reused and must not be kept beyond the next call to {@code next()}.
+     */
+    @NotNull
+    public Iterator<long[]> longArrayIterator() {
+        return longArrayIterator;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
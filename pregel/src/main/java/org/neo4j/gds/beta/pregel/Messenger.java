@@ -19,15 +19,52 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void initIteration(int iteration);
 
     void sendTo(long targetNodeId, double message);
 
+    default void sendLongTo(long targetNodeId, long message) {
+        throw unsupportedMessageType("long");
+    }
+
+    default void sendTo(long targetNodeId, double[] message) {
+        throw unsupportedMessageType("double array");
+    }
+
+    default void sendTo(long targetNodeId, long[] message) {
+        throw unsupportedMessageType("long array");
+    }
+
+    /**
+     * Indicates whether the receiving nodes gather their messages from their
+     * neighbors instead of messages being delivered to them. Such messengers
+     * only support {@link #publish(long, double)}.
+     */
+    default boolean gathersMessages() {
+        return false;
+    }
+
+    /**
+     * Publishes a message of the source node which all its neighbors read in the next superstep.
+     */
+    default void publish(long sourceNodeId, double message) {
+        throw new UnsupportedOperationException("Publishing messages is only supported when gathering messages.");
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
+
+    private static UnsupportedOperationException unsupportedMessageType(String messageType) {
+        return new UnsupportedOperationException(formatWithLocale(
+            "Sending %s messages requires declaring them in the Pregel schema.",
+            messageType
+        ));
+    }
 }
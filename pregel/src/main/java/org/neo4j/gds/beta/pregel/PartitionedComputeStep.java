@@ -34,6 +34,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private final ProgressTracker progressTracker;
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
     private final Messenger<ITERATOR> messenger;
     private final PregelComputation<CONFIG> computation;
 
@@ -51,6 +52,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -58,6 +60,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         this.nodeValue = nodeValue;
         this.computation = computation;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
@@ -100,6 +103,11 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         return nodeBatch;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public InitContext<CONFIG> initContext() {
         return initContext;
@@ -123,6 +131,35 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
+        onMessageSent(targetNodeId);
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        messenger.sendLongTo(targetNodeId, message);
+        onMessageSent(targetNodeId);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        messenger.sendTo(targetNodeId, message);
+        onMessageSent(targetNodeId);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        messenger.sendTo(targetNodeId, message);
+        onMessageSent(targetNodeId);
+    }
+
+    @Override
+    public void publish(long sourceNodeId, double message) {
+        messenger.publish(sourceNodeId, message);
+        hasSentMessage = true;
+    }
+
+    private void onMessageSent(long targetNodeId) {
+        frontier.activate(targetNodeId);
         hasSentMessage = true;
     }
 
@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.immutables.value.Value;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
@@ -34,6 +35,8 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
@@ -47,6 +50,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final Frontier frontier;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -78,19 +83,55 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isGathering
+    ) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, isGathering, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isGathering,
+        boolean isWeighted
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
+        if (isGathering) {
+            return estimationBuilder
+                .add("message arrays", GatherMessenger.memoryEstimation(isWeighted))
+                .build();
+        }
+
+        if (!isQueueBased || !isAsync) {
+            estimationBuilder.perNode("frontier", Frontier::memoryEstimation);
+        }
+
+        int messageWidth = pregelSchema.messageWidth();
+        boolean hasLongMessages = hasLongMessages(pregelSchema);
+
         if (isQueueBased) {
             if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+            } else if (hasLongMessages) {
+                estimationBuilder.add("message queues", SyncLongQueueMessenger.memoryEstimation(messageWidth));
             } else {
-                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation(messageWidth));
             }
+        } else if (hasLongMessages) {
+            estimationBuilder.add("message arrays", LongReducingMessenger.memoryEstimation(messageWidth));
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(messageWidth));
         }
 
         return estimationBuilder.build();
@@ -134,11 +175,13 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
         var reducer = computation.reducer();
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        this.messenger = createMessenger(graph, config, computation, initialNodeValue.schema());
+
+        // asynchronous messages can activate nodes within the running superstep
+        // and gathering nodes do not know whether their neighbors published a message
+        this.frontier = (reducer.isPresent() || !config.isAsynchronous()) && !messenger.gathersMessages()
+            ? Frontier.create(graph.nodeCount())
+            : Frontier.untracked();
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -147,6 +190,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
             .executorService(config.useForkJoin()
                 ? Pools.createForkJoinPool(config.concurrency())
                 : executor)
@@ -154,6 +198,61 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static Messenger<?> createMessenger(
+        Graph graph,
+        PregelConfig config,
+        PregelComputation<?> computation,
+        PregelSchema schema
+    ) {
+        int messageWidth = schema.messageWidth();
+        boolean hasLongMessages = hasLongMessages(schema);
+        var reducer = computation.reducer();
+
+        if (computation.gatherMessages()) {
+            if (reducer.isEmpty()) {
+                throw new IllegalArgumentException("Gathering messages requires the computation to define a reducer.");
+            }
+            if (config.isAsynchronous()) {
+                throw new IllegalArgumentException(
+                    "Gathering messages is not supported for asynchronous computations."
+                );
+            }
+            if (schema.messageType() != ValueType.DOUBLE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Gathering messages only supports %s messages, but the schema declares %s messages.",
+                    ValueType.DOUBLE,
+                    schema.messageType()
+                ));
+            }
+            return new GatherMessenger(graph, config, computation, reducer.get());
+        }
+
+        if (reducer.isPresent()) {
+            return hasLongMessages
+                ? new LongReducingMessenger(graph, config, reducer.get(), messageWidth)
+                : new ReducingMessenger(graph, config, reducer.get(), messageWidth);
+        }
+
+        if (config.isAsynchronous()) {
+            if (schema.messageType() != ValueType.DOUBLE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Asynchronous computations only support %s messages, but the schema declares %s messages.",
+                    ValueType.DOUBLE,
+                    schema.messageType()
+                ));
+            }
+            return new AsyncQueueMessenger(graph.nodeCount());
+        }
+
+        return hasLongMessages
+            ? new SyncLongQueueMessenger(graph.nodeCount(), messageWidth)
+            : new SyncQueueMessenger(graph.nodeCount(), messageWidth);
+    }
+
+    private static boolean hasLongMessages(PregelSchema schema) {
+        return schema.messageType() == ValueType.LONG || schema.messageType() == ValueType.LONG_ARRAY;
+    }
+
     public void setTerminationFlag(TerminationFlag terminationFlag) {
         this.terminationFlag = terminationFlag;
     }
@@ -171,6 +270,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 terminationFlag.assertRunning();
                 progressTracker.beginSubTask();
 
+                frontier.advance(iteration);
                 computer.initIteration(iteration);
                 messenger.initIteration(iteration);
                 computer.runIteration();
@@ -203,6 +303,11 @@ public final class Pregel<CONFIG extends PregelConfig> {
         messenger.release();
     }
 
+    /* test-only */
+    Frontier frontier() {
+        return frontier;
+    }
+
     private boolean runMasterComputeStep(int iteration) {
         var context = new MasterComputeContext<>(config, graph, iteration, nodeValues, executor, progressTracker);
         var didConverge = computation.masterCompute(context);
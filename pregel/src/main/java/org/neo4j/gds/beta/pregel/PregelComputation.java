@@ -103,6 +103,23 @@ public interface PregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * Computations that only send messages to all neighbors of a node, i.e.
+     * via {@link ComputeContext#sendToNeighbors(double)}, can let the receiving
+     * nodes gather their messages instead. A node then reads the messages of its
+     * incoming neighbors from the previous superstep and reduces them using the
+     * {@link #reducer()}, which is required for this mode.
+     * <br>
+     * Gathering avoids synchronization and message storage per relationship
+     * and the reduced messages do not depend on the concurrency. For directed
+     * graphs, the incoming relationships are indexed before the first superstep,
+     * which requires additional memory. Sending messages to specific nodes is
+     * not supported and every node is visited in every superstep.
+     */
+    default boolean gatherMessages() {
+        return false;
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -25,6 +25,8 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 public interface PregelSchema {
 
@@ -34,9 +36,22 @@ public interface PregelSchema {
 
     Set<Element> elements();
 
+    /**
+     * The type of the messages sent between nodes, defaults to {@link ValueType#DOUBLE}.
+     */
+    ValueType messageType();
+
+    /**
+     * The number of values in a single message. Array messages have a fixed
+     * width, scalar messages always have a width of 1.
+     */
+    int messageWidth();
+
     class Builder {
 
         private final Set<Element> elements = new HashSet<>();
+        private ValueType messageType = ValueType.DOUBLE;
+        private int messageWidth = 1;
 
         public PregelSchema.Builder add(String propertyKey, ValueType propertyType) {
             return add(propertyKey, propertyType, Visibility.PUBLIC);
@@ -47,8 +62,49 @@ public interface PregelSchema {
             return this;
         }
 
+        /**
+         * Declares the type of the messages, either {@link ValueType#DOUBLE} or {@link ValueType#LONG}.
+         */
+        public PregelSchema.Builder messages(ValueType messageType) {
+            if (messageType != ValueType.DOUBLE && messageType != ValueType.LONG) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported message type `%s`, expected one of %s or %s. Array messages need to declare a width.",
+                    messageType,
+                    ValueType.DOUBLE,
+                    ValueType.LONG
+                ));
+            }
+            this.messageType = messageType;
+            this.messageWidth = 1;
+            return this;
+        }
+
+        /**
+         * Declares array messages, either {@link ValueType#DOUBLE_ARRAY} or {@link ValueType#LONG_ARRAY},
+         * where each message consists of exactly {@code width} values.
+         */
+        public PregelSchema.Builder messages(ValueType arrayType, int width) {
+            if (arrayType != ValueType.DOUBLE_ARRAY && arrayType != ValueType.LONG_ARRAY) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported array message type `%s`, expected one of %s or %s.",
+                    arrayType,
+                    ValueType.DOUBLE_ARRAY,
+                    ValueType.LONG_ARRAY
+                ));
+            }
+            if (width < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The width of array messages must be positive, got %d.",
+                    width
+                ));
+            }
+            this.messageType = arrayType;
+            this.messageWidth = width;
+            return this;
+        }
+
         public PregelSchema build() {
-            return ImmutablePregelSchema.of(elements);
+            return ImmutablePregelSchema.of(elements, messageType, messageWidth);
         }
     }
 }
@@ -54,9 +54,14 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(MIN_CAPACITY);
+    }
+
+    public static MemoryEstimation memoryEstimation(int initialQueueCapacity) {
+        var queueSize = MemoryUsage.sizeOfDoubleArray(Math.max(initialQueueCapacity, MIN_CAPACITY));
         return MemoryEstimations.builder(PrimitiveSyncDoubleQueues.class)
-            .add("current queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)))
-            .add("previous queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)))
+            .add("current queues", HugeObjectArray.memoryEstimation(queueSize))
+            .add("previous queues", HugeObjectArray.memoryEstimation(queueSize))
             .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -95,8 +100,8 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     void grow(long nodeId, int minCapacity) {
         var queue = queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        // grow by 50%, but at least to fit the reserved slots
+        var newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
         queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
     }
 
@@ -109,10 +114,23 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
 
     static class Iterator implements Messages.MessageIterator {
 
+        private final double[] arrayMessage;
+
         double[] queue;
         private int length;
         private int pos;
 
+        Iterator() {
+            this(1);
+        }
+
+        /**
+         * @param messageWidth the number of values that make up a single array message
+         */
+        Iterator(int messageWidth) {
+            this.arrayMessage = new double[messageWidth];
+        }
+
         void init(double[] queue, int length) {
             this.queue = queue;
             this.pos = 0;
@@ -129,6 +147,13 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
             return queue[pos++];
         }
 
+        @Override
+        public double[] nextDoubleArray() {
+            System.arraycopy(queue, pos, arrayMessage, 0, arrayMessage.length);
+            pos += arrayMessage.length;
+            return arrayMessage;
+        }
+
         @Override
         public boolean isEmpty() {
             return length == 0;
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * The long counterpart of {@link PrimitiveSyncDoubleQueues}
+ * used for computations that send long or long array messages.
+ */
+public final class PrimitiveSyncLongQueues extends PrimitiveQueues<long[]> {
+    // Used to insert into a single message queue array.
+    private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Represents the queues of the previous iteration.
+    // super.queues and prevQueues are being toggled after each iteration.
+    private HugeObjectArray<long[]> prevQueues;
+    private HugeAtomicLongArray prevTails;
+
+    public static PrimitiveSyncLongQueues of(long nodeCount) {
+        return of(nodeCount, MIN_CAPACITY);
+    }
+
+    public static PrimitiveSyncLongQueues of(long nodeCount, int initialQueueCapacity) {
+        var currentTails = HugeAtomicLongArray.newArray(nodeCount);
+        var prevTails = HugeAtomicLongArray.newArray(nodeCount);
+
+        var currentQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+        var prevQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+
+        var referenceCounts = HugeAtomicLongArray.newArray(nodeCount);
+
+        var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
+        currentQueues.setAll(value -> new long[capacity]);
+        prevQueues.setAll(value -> new long[capacity]);
+
+        return new PrimitiveSyncLongQueues(currentQueues, currentTails, prevQueues, prevTails, referenceCounts);
+    }
+
+    public static MemoryEstimation memoryEstimation(int initialQueueCapacity) {
+        var queueSize = MemoryUsage.sizeOfLongArray(Math.max(initialQueueCapacity, MIN_CAPACITY));
+        return MemoryEstimations.builder(PrimitiveSyncLongQueues.class)
+            .add("current queues", HugeObjectArray.memoryEstimation(queueSize))
+            .add("previous queues", HugeObjectArray.memoryEstimation(queueSize))
+            .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private PrimitiveSyncLongQueues(
+        HugeObjectArray<long[]> currentQueues,
+        HugeAtomicLongArray currentTails,
+        HugeObjectArray<long[]> prevQueues,
+        HugeAtomicLongArray prevTails,
+        HugeAtomicLongArray referenceCounts
+    ) {
+        super(currentQueues, currentTails, referenceCounts);
+        this.prevQueues = prevQueues;
+        this.prevTails = prevTails;
+    }
+
+    public void push(long nodeId, long message) {
+        int idx = reserve(nodeId, 1);
+
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Pushes all values of the given array as a single message.
+     * The values are stored consecutively in the queue of the node.
+     */
+    public void push(long nodeId, long[] message) {
+        int idx = reserve(nodeId, message.length);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        for (int i = 0; i < message.length; i++) {
+            ARRAY_HANDLE.setVolatile(queue, idx + i, message[i]);
+        }
+        dropSharedReference(nodeId);
+    }
+
+    void swapQueues() {
+        // swap tail indexes
+        var tmpTails = tails;
+        this.tails = prevTails;
+        this.prevTails = tmpTails;
+        this.tails.setAll(0);
+        // swap queues
+        var tmpQueues = queues;
+        this.queues = prevQueues;
+        this.prevQueues = tmpQueues;
+    }
+
+    void initIterator(Iterator iterator, long nodeId) {
+        iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
+    }
+
+    @Override
+    int capacity(long[] queue) {
+        return queue.length;
+    }
+
+    @Override
+    void grow(long nodeId, int minCapacity) {
+        var queue = queues.get(nodeId);
+        var capacity = queue.length;
+        // grow by 50%, but at least to fit the reserved slots
+        var newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
+    }
+
+    @Override
+    void release() {
+        super.release();
+        this.prevTails.release();
+        this.prevQueues.release();
+    }
+
+    static class Iterator implements Messages.MessageIterator {
+
+        private final long[] arrayMessage;
+
+        long[] queue;
+        private int length;
+        private int pos;
+
+        /**
+         * @param messageWidth the number of values that make up a single array message
+         */
+        Iterator(int messageWidth) {
+            this.arrayMessage = new long[messageWidth];
+        }
+
+        void init(long[] queue, int length) {
+            this.queue = queue;
+            this.pos = 0;
+            this.length = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pos < length;
+        }
+
+        @Override
+        public long nextLong() {
+            return queue[pos++];
+        }
+
+        @Override
+        public long[] nextLongArray() {
+            System.arraycopy(queue, pos, arrayMessage, 0, arrayMessage.length);
+            pos += arrayMessage.length;
+            return arrayMessage;
+        }
+
+        @Override
+        public double nextDouble() {
+            throw new UnsupportedOperationException("The computation declares long messages, use the long iterators.");
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return length == 0;
+        }
+    }
+}
@@ -19,6 +19,15 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Combines the messages sent to a node into a single message.
+ *
+ * Double messages are reduced via {@link #reduce(double, double)}. Reducers
+ * that also support long messages override {@link #longIdentity()} and
+ * {@link #reduce(long, long)}. Array messages are reduced element-wise.
+ */
 public interface Reducer {
 
     /**
@@ -31,6 +40,26 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * The identity element is used as the initial value of long messages.
+     */
+    default long longIdentity() {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "The reducer `%s` does not support long messages.",
+            getClass().getSimpleName()
+        ));
+    }
+
+    /**
+     * Computes a new value based on the current value and the long message.
+     */
+    default long reduce(long current, long message) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "The reducer `%s` does not support long messages.",
+            getClass().getSimpleName()
+        ));
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +72,15 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + message;
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +94,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.min(current, message);
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +117,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.max(current, message);
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +140,15 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + 1;
+        }
     }
 }
@@ -25,36 +25,43 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * A messenger implementation that is backed by two double arrays used
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ *
+ * Double array messages of a fixed width are reduced element-wise,
+ * each node owns {@code width} consecutive entries in the arrays.
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
     private final Graph graph;
     private final PregelConfig config;
     private final Reducer reducer;
+    private final int messageWidth;
 
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
 
-    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, int messageWidth) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
 
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
+        this.messageWidth = messageWidth;
 
-        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
-        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
+        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * messageWidth);
+        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * messageWidth);
     }
 
-    static MemoryEstimation memoryEstimation() {
+    static MemoryEstimation memoryEstimation(int messageWidth) {
         return MemoryEstimations.builder(ReducingMessenger.class)
-            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * messageWidth))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * messageWidth))
             .build();
     }
 
@@ -68,21 +75,40 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         ParallelUtil.parallelForEachNode(
             graph,
             config.concurrency(),
-            nodeId -> sendArray.set(nodeId, reducer.identity())
+            nodeId -> {
+                long offset = nodeId * messageWidth;
+                for (int i = 0; i < messageWidth; i++) {
+                    sendArray.set(offset + i, reducer.identity());
+                }
+            }
         );
     }
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        checkMessageWidth(1);
         sendArray.update(
             targetNodeId,
             current -> reducer.reduce(current, message)
         );
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        checkMessageWidth(message.length);
+        long offset = targetNodeId * messageWidth;
+        for (int i = 0; i < messageWidth; i++) {
+            double value = message[i];
+            sendArray.update(
+                offset + i,
+                current -> reducer.reduce(current, value)
+            );
+        }
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
-        return new SingleMessageIterator();
+        return new SingleMessageIterator(messageWidth);
     }
 
     @Override
@@ -91,8 +117,21 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         long nodeId,
         boolean isInitialIteration
     ) {
-        var message = receiveArray.getAndReplace(nodeId, reducer.identity());
-        messageIterator.init(message, message != reducer.identity());
+        if (messageWidth == 1) {
+            var message = receiveArray.getAndReplace(nodeId, reducer.identity());
+            messageIterator.init(message, message != reducer.identity());
+            return;
+        }
+
+        // an array message has been received if any of its elements has been reduced
+        long offset = nodeId * messageWidth;
+        var arrayMessage = messageIterator.arrayMessage;
+        boolean hasMessage = false;
+        for (int i = 0; i < messageWidth; i++) {
+            arrayMessage[i] = receiveArray.getAndReplace(offset + i, reducer.identity());
+            hasMessage |= arrayMessage[i] != reducer.identity();
+        }
+        messageIterator.init(arrayMessage[0], hasMessage);
     }
 
     @Override
@@ -101,13 +140,30 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         receiveArray.release();
     }
 
+    private void checkMessageWidth(int width) {
+        if (width != messageWidth) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of width %d, got %d.",
+                messageWidth,
+                width
+            ));
+        }
+    }
+
     static class SingleMessageIterator implements Messages.MessageIterator {
 
+        final double[] arrayMessage;
+
         boolean hasNext;
         double message;
 
+        SingleMessageIterator(int messageWidth) {
+            this.arrayMessage = new double[messageWidth];
+        }
+
         void init(double value, boolean hasNext) {
             this.message = value;
+            this.arrayMessage[0] = value;
             this.hasNext = hasNext;
         }
 
@@ -126,5 +182,11 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             hasNext = false;
             return message;
         }
+
+        @Override
+        public double[] nextDoubleArray() {
+            hasNext = false;
+            return arrayMessage;
+        }
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Synchronous messenger for computations that declare
+ * long or long array messages in their schema.
+ */
+public class SyncLongQueueMessenger implements Messenger<PrimitiveSyncLongQueues.Iterator> {
+
+    private final PrimitiveSyncLongQueues queues;
+    private final int messageWidth;
+
+    /**
+     * @param messageWidth the number of values of a long array message
+     */
+    SyncLongQueueMessenger(long nodeCount, int messageWidth) {
+        this.queues = PrimitiveSyncLongQueues.of(nodeCount, messageWidth);
+        this.messageWidth = messageWidth;
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return PrimitiveSyncLongQueues.memoryEstimation(messageWidth);
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        queues.swapQueues();
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(
+            "The computation declares long messages in its schema and cannot send double messages."
+        );
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        checkMessageWidth(1);
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        checkMessageWidth(message.length);
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public PrimitiveSyncLongQueues.Iterator messageIterator() {
+        return new PrimitiveSyncLongQueues.Iterator(messageWidth);
+    }
+
+    @Override
+    public void initMessageIterator(PrimitiveSyncLongQueues.Iterator messageIterator, long nodeId, boolean isFirstIteration) {
+        queues.initIterator(messageIterator, nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+
+    private void checkMessageWidth(int width) {
+        if (width != messageWidth) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of width %d, got %d.",
+                messageWidth,
+                width
+            ));
+        }
+    }
+}
@@ -21,16 +21,23 @@ package org.neo4j.gds.beta.pregel;
 
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final int messageWidth;
 
-    SyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+    /**
+     * @param messageWidth the number of values of a double array message
+     */
+    SyncQueueMessenger(long nodeCount, int messageWidth) {
+        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount, messageWidth);
+        this.messageWidth = messageWidth;
     }
 
-    static MemoryEstimation memoryEstimation() {
-        return PrimitiveSyncDoubleQueues.memoryEstimation();
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return PrimitiveSyncDoubleQueues.memoryEstimation(messageWidth);
     }
 
     @Override
@@ -40,12 +47,19 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        checkMessageWidth(1);
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        checkMessageWidth(message.length);
         queues.push(targetNodeId, message);
     }
 
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveSyncDoubleQueues.Iterator();
+        return new PrimitiveSyncDoubleQueues.Iterator(messageWidth);
     }
 
     @Override
@@ -57,4 +71,15 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
     public void release() {
         queues.release();
     }
+
+    private void checkMessageWidth(int width) {
+        // array messages are stored back to back, a message of a different width would corrupt the queue
+        if (width != messageWidth) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of width %d, got %d.",
+                messageWidth,
+                width
+            ));
+        }
+    }
 }
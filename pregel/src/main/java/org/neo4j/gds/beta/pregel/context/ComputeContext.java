@@ -32,9 +32,14 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
 
     public ComputeContext(ComputeStep<CONFIG, ?> computeStep, CONFIG config, ProgressTracker progressTracker) {
         super(computeStep, config, progressTracker);
-        this.sendMessagesFunction = config.hasRelationshipWeightProperty()
-            ? computeStep::sendToNeighborsWeighted
-            : computeStep::sendToNeighbors;
+        if (computeStep.messenger().gathersMessages()) {
+            // the receiving nodes read the message and apply relationship weights themselves
+            this.sendMessagesFunction = computeStep::publish;
+        } else if (config.hasRelationshipWeightProperty()) {
+            this.sendMessagesFunction = computeStep::sendToNeighborsWeighted;
+        } else {
+            this.sendMessagesFunction = computeStep::sendToNeighbors;
+        }
     }
 
     private final SendMessagesFunction sendMessagesFunction;
@@ -127,6 +132,62 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Requires {@link org.neo4j.gds.api.nodeproperties.ValueType#LONG} messages
+     * to be declared in the schema. Relationship weights are not applied.
+     */
+    public void sendLongToNeighbors(long message) {
+        computeStep.sendLongToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * Requires {@link org.neo4j.gds.api.nodeproperties.ValueType#DOUBLE_ARRAY} messages
+     * of the same width to be declared in the schema. Relationship weights are not applied.
+     * The array is copied and can be reused by the caller.
+     */
+    public void sendToNeighbors(double[] message) {
+        computeStep.sendToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * Requires {@link org.neo4j.gds.api.nodeproperties.ValueType#LONG_ARRAY} messages
+     * of the same width to be declared in the schema.
+     * The array is copied and can be reused by the caller.
+     */
+    public void sendToNeighbors(long[] message) {
+        computeStep.sendToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     *
+     * @see #sendLongToNeighbors(long)
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        computeStep.sendLongTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given array message to the target node.
+     *
+     * @see #sendToNeighbors(double[])
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        computeStep.sendTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given array message to the target node.
+     *
+     * @see #sendToNeighbors(long[])
+     */
+    public void sendTo(long targetNodeId, long[] message) {
+        computeStep.sendTo(targetNodeId, message);
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
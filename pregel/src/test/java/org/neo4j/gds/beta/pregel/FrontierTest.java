@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void shouldVisitAllNodesInTheInitialSuperstep() {
+        var frontier = Frontier.create(100);
+        frontier.advance(0);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(visitedNodes(frontier, Partition.of(10, 5))).containsExactly(10L, 11L, 12L, 13L, 14L);
+    }
+
+    @Test
+    void shouldVisitOnlyActivatedNodesIfFewAreActive() {
+        var frontier = Frontier.create(100);
+        frontier.advance(0);
+        frontier.activate(3);
+        frontier.activate(42);
+        frontier.activate(99);
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(visitedNodes(frontier, Partition.of(0, 50))).containsExactly(3L, 42L);
+        assertThat(visitedNodes(frontier, Partition.of(50, 50))).containsExactly(99L);
+
+        // activations are only carried over into the next superstep
+        frontier.activate(7);
+        frontier.advance(2);
+
+        assertThat(visitedNodes(frontier, Partition.of(0, 100))).containsExactly(7L);
+    }
+
+    @Test
+    void shouldVisitAllNodesIfManyAreActive() {
+        var frontier = Frontier.create(100);
+        frontier.advance(0);
+        for (long nodeId = 0; nodeId < 25; nodeId++) {
+            frontier.activate(nodeId);
+        }
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(visitedNodes(frontier, Partition.of(90, 10))).hasSize(10);
+    }
+
+    @Test
+    void shouldTrackActivationsAgainAfterADenseSuperstep() {
+        var frontier = Frontier.create(100);
+        frontier.advance(0);
+        // activating the same node repeatedly does not make the next superstep dense
+        for (int i = 0; i < 50; i++) {
+            frontier.activate(5);
+        }
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(visitedNodes(frontier, Partition.of(0, 100))).containsExactly(5L);
+
+        for (long nodeId = 0; nodeId < 50; nodeId++) {
+            frontier.activate(nodeId);
+        }
+        frontier.advance(2);
+
+        assertThat(frontier.isSparse()).isFalse();
+
+        frontier.activate(42);
+        frontier.advance(3);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(visitedNodes(frontier, Partition.of(0, 100))).containsExactly(42L);
+    }
+
+    @Test
+    void untrackedFrontierShouldAlwaysVisitAllNodes() {
+        var frontier = Frontier.untracked();
+        frontier.advance(0);
+        frontier.activate(1);
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(visitedNodes(frontier, Partition.of(0, 3))).containsExactly(0L, 1L, 2L);
+    }
+
+    private static List<Long> visitedNodes(Frontier frontier, Partition partition) {
+        var visited = new ArrayList<Long>();
+        frontier.forEachNode(partition, visited::add);
+        return visited;
+    }
+}
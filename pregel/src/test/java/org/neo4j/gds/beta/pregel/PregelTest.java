@@ -55,14 +55,17 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -114,6 +117,262 @@ class PregelTest {
         assertArrayEquals(expected, nodeValues.doubleProperties(KEY).toArray());
     }
 
+    @ParameterizedTest
+    @MethodSource("partitionings")
+    void computesOnlyActiveNodesOfSparseSupersteps(Partitioning partitioning) {
+        int nodeCount = 20;
+        var gdl = new StringBuilder("CREATE (n0)");
+        for (int i = 1; i < nodeCount; i++) {
+            gdl.append(formatWithLocale(", (n%d), (n%d)-[:REL]->(n%d)", i, i - 1, i));
+        }
+        var path = new GdlBuilder().gdl(gdl.toString()).build();
+        var source = path.toMappedNodeId("n0");
+
+        var frontier = new AtomicReference<Frontier>();
+        var sparseSupersteps = new ArrayList<Boolean>();
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(nodeCount + 1)
+            .partitioning(partitioning)
+            .build();
+
+        var pregel = Pregel.create(
+            path,
+            config,
+            new PregelComputation<>() {
+                @Override
+                public PregelSchema schema(PregelConfig config) {
+                    return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+                }
+
+                @Override
+                public void init(InitContext<PregelConfig> context) {
+                    context.setNodeValue(KEY, context.nodeId() == source ? 0L : Long.MAX_VALUE);
+                }
+
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    if (context.isInitialSuperstep()) {
+                        if (context.nodeId() == source) {
+                            context.sendToNeighbors(1);
+                        }
+                    } else {
+                        long hops = (long) messages.doubleIterator().nextDouble();
+                        context.setNodeValue(KEY, hops);
+                        context.sendToNeighbors(hops + 1);
+                    }
+                    context.voteToHalt();
+                }
+
+                @Override
+                public boolean masterCompute(MasterComputeContext<PregelConfig> context) {
+                    sparseSupersteps.add(frontier.get().isSparse());
+                    return false;
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        frontier.set(pregel.frontier());
+        var result = pregel.run();
+
+        assertThat(result.didConverge()).isTrue();
+        for (int i = 0; i < nodeCount; i++) {
+            assertThat(result.nodeValues().longValue(KEY, path.toMappedNodeId("n" + i))).isEqualTo(i);
+        }
+        // the initial superstep visits all nodes, afterwards only the single node that received a message
+        var expectedSparseSupersteps = new ArrayList<Boolean>();
+        expectedSparseSupersteps.add(false);
+        for (int i = 1; i < nodeCount; i++) {
+            expectedSparseSupersteps.add(true);
+        }
+        assertThat(sparseSupersteps).isEqualTo(expectedSparseSupersteps);
+    }
+
+    static Stream<Optional<Reducer>> messageReducers() {
+        return Stream.of(Optional.empty(), Optional.of(new Reducer.Sum()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("messageReducers")
+    void sendsLongMessages(Optional<Reducer> reducer) {
+        // not exactly representable as a double
+        long message = Long.MAX_VALUE - 1;
+
+        var result = Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(2).build(),
+            new PregelComputation<>() {
+                @Override
+                public PregelSchema schema(PregelConfig config) {
+                    return new PregelSchema.Builder()
+                        .add(KEY, ValueType.LONG)
+                        .messages(ValueType.LONG)
+                        .build();
+                }
+
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    if (context.isInitialSuperstep()) {
+                        context.sendLongToNeighbors(message);
+                    } else {
+                        long sum = 0;
+                        var iterator = messages.longIterator();
+                        while (iterator.hasNext()) {
+                            sum += iterator.nextLong();
+                        }
+                        context.setNodeValue(KEY, sum);
+                    }
+                    context.voteToHalt();
+                }
+
+                @Override
+                public Optional<Reducer> reducer() {
+                    return reducer;
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var values = result.nodeValues();
+        assertThat(values.longValue(KEY, graph.toMappedNodeId("alice"))).isEqualTo(0L);
+        assertThat(values.longValue(KEY, graph.toMappedNodeId("bob"))).isEqualTo(message);
+        assertThat(values.longValue(KEY, graph.toMappedNodeId("eve"))).isEqualTo(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("messageReducers")
+    void sendsDoubleArrayMessages(Optional<Reducer> reducer) {
+        var alice = graph.toMappedNodeId("alice");
+
+        var result = Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(2).build(),
+            new PregelComputation<>() {
+                @Override
+                public PregelSchema schema(PregelConfig config) {
+                    return new PregelSchema.Builder()
+                        .add(KEY, ValueType.DOUBLE_ARRAY)
+                        .messages(ValueType.DOUBLE_ARRAY, 2)
+                        .build();
+                }
+
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    if (context.isInitialSuperstep()) {
+                        context.sendTo(alice, new double[]{1.0, context.nodeId() + 1});
+                    } else {
+                        var sum = new double[2];
+                        for (var iterator = messages.doubleArrayIterator(); iterator.hasNext(); ) {
+                            var message = iterator.next();
+                            sum[0] += message[0];
+                            sum[1] += message[1];
+                        }
+                        context.setNodeValue(KEY, sum);
+                    }
+                    context.voteToHalt();
+                }
+
+                @Override
+                public Optional<Reducer> reducer() {
+                    return reducer;
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(result.nodeValues().doubleArrayValue(KEY, alice)).containsExactly(3.0, 6.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitionings")
+    void sendsLongArrayMessagesWithReducer(Partitioning partitioning) {
+        var alice = graph.toMappedNodeId("alice");
+
+        var result = Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(2).partitioning(partitioning).build(),
+            new PregelComputation<>() {
+                @Override
+                public PregelSchema schema(PregelConfig config) {
+                    return new PregelSchema.Builder()
+                        .add(KEY, ValueType.LONG_ARRAY)
+                        .messages(ValueType.LONG_ARRAY, 2)
+                        .build();
+                }
+
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    if (context.isInitialSuperstep()) {
+                        context.sendTo(alice, new long[]{context.nodeId(), -context.nodeId()});
+                    } else {
+                        context.setNodeValue(KEY, messages.longArrayIterator().next().clone());
+                    }
+                    context.voteToHalt();
+                }
+
+                @Override
+                public Optional<Reducer> reducer() {
+                    return Optional.of(new Reducer.Min());
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(result.nodeValues().longArrayValue(KEY, alice)).containsExactly(0L, -2L);
+    }
+
+    @Test
+    void failsForAsynchronousLongMessages() {
+        var config = ImmutablePregelConfig.builder().isAsynchronous(true).build();
+        var computation = new PregelComputation<PregelConfig>() {
+            @Override
+            public PregelSchema schema(PregelConfig config) {
+                return new PregelSchema.Builder().add(KEY, ValueType.LONG).messages(ValueType.LONG).build();
+            }
+
+            @Override
+            public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(graph, config, computation, Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Asynchronous computations only support DOUBLE messages");
+    }
+
+    @Test
+    void failsToGatherMessagesWithoutReducer() {
+        var config = ImmutablePregelConfig.builder().build();
+        var computation = new TestPregelComputation() {
+            @Override
+            public boolean gatherMessages() {
+                return true;
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(graph, config, computation, Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Gathering messages requires the computation to define a reducer.");
+    }
+
+    @Test
+    void validatesMessageDeclaration() {
+        assertThatThrownBy(() -> new PregelSchema.Builder().messages(ValueType.DOUBLE_ARRAY))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Array messages need to declare a width");
+
+        assertThatThrownBy(() -> new PregelSchema.Builder().messages(ValueType.LONG, 2))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported array message type `LONG`");
+
+        assertThatThrownBy(() -> new PregelSchema.Builder().messages(ValueType.LONG_ARRAY, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be positive, got 0");
+    }
+
     @Test
     void stopsEarlyWhenTransactionHasBeenTerminated() {
         TerminationFlag terminationFlag = () -> false;
@@ -390,8 +649,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444360L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444864L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -400,7 +659,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9444432L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -410,7 +669,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9444936L
             ),
 
             // queue based async
@@ -438,8 +697,8 @@ class PregelTest {
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244240L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244744L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -448,7 +707,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2244312L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -458,7 +717,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2244816L
             )
         );
     }
@@ -544,6 +803,25 @@ class PregelTest {
         );
     }
 
+    @Test
+    void memoryEstimationForGatheringIncludesInverseAdjacencyList() {
+        var pregelSchema = new PregelSchema.Builder().add("key", ValueType.DOUBLE).build();
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+
+        var reducing = Pregel.memoryEstimation(pregelSchema, false, false).estimate(dimensions, 1).memoryUsage();
+        var gathering = Pregel.memoryEstimation(pregelSchema, false, false, true).estimate(dimensions, 1).memoryUsage();
+        var weightedGathering = Pregel
+            .memoryEstimation(pregelSchema, false, false, true, true)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        assertThat(gathering.min).isGreaterThan(reducing.max);
+        assertThat(weightedGathering.min).isGreaterThan(gathering.max);
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -569,6 +847,16 @@ class PregelTest {
                 ImmutablePregelConfig.builder().maxIterations(2),
                 new TestReduciblePregelComputation(),
                 new double[]{0.0, 1.0, 1.0}
+            ),
+            Arguments.of(
+                ImmutablePregelConfig.builder().maxIterations(2),
+                new TestGatheringComputation(),
+                new double[]{0.0, 1.0, 1.0}
+            ),
+            Arguments.of(
+                ImmutablePregelConfig.builder().maxIterations(2).relationshipWeightProperty("prop"),
+                new TestGatheringComputation(),
+                new double[]{0.0, 2.0, 1.0}
             )
         );
     }
@@ -678,6 +966,19 @@ class PregelTest {
         }
     }
 
+    public static class TestGatheringComputation extends TestWeightComputation {
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Sum());
+        }
+
+        @Override
+        public boolean gatherMessages() {
+            return true;
+        }
+    }
+
     public static class TestSendTo implements PregelComputation<PregelConfig> {
 
         static final String KEY = "value";
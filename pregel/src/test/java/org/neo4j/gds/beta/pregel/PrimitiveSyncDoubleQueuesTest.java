@@ -79,6 +79,28 @@ class PrimitiveSyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
             assertThat(sum).isEqualTo(IntStream.range(0, 2 * initialCapacity).sum());
         }
 
+        @Test
+        void iterateArrays() {
+            var queue = getQueue(1, 42);
+
+            for (int i = 0; i < 42; i++) {
+                queue.push(0, new double[]{i, i, i});
+            }
+
+            queue.swapQueues();
+
+            var iterator = new PrimitiveSyncDoubleQueues.Iterator(3);
+            queue.initIterator(iterator, 0);
+
+            var expected = 0D;
+            while (iterator.hasNext()) {
+                assertThat(iterator.nextDoubleArray()).containsExactly(expected, expected, expected);
+                expected++;
+            }
+
+            assertThat(expected).isEqualTo(42);
+        }
+
         @Test
         void iterateEmptyQueue() {
             var initialCapacity = 42;
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Phaser;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveSyncLongQueuesTest {
+
+    @Test
+    void growQueueArray() {
+        var queues = PrimitiveSyncLongQueues.of(1337, 42);
+
+        for (int i = 0; i < 42; i++) {
+            queues.push(42, Long.MAX_VALUE - i);
+        }
+        assertThat(queues.queue(42).length).isEqualTo(42);
+
+        queues.push(42, 1337L);
+        assertThat(queues.queue(42).length).isEqualTo(63 /* 42 * 1.5 */);
+        assertThat(queues.queue(42)[0]).isEqualTo(Long.MAX_VALUE);
+        assertThat(queues.queue(42)[42]).isEqualTo(1337L);
+    }
+
+    @Test
+    void growQueueArrayToFitArrayMessages() {
+        var queues = PrimitiveSyncLongQueues.of(1, 42);
+        var message = LongStream.range(0, 100).toArray();
+
+        queues.push(0, message);
+
+        assertThat(queues.tail(0)).isEqualTo(100);
+        assertThat(queues.queue(0)).startsWith(message);
+    }
+
+    @RepeatedTest(100)
+    void parallelPushArrays() {
+        var queues = PrimitiveSyncLongQueues.of(1, 42);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (long i = 0; i < 100; i++) {
+                long value = i + taskOffset * 100;
+                queues.push(0, new long[]{value, -value, value});
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        queues.swapQueues();
+        var iterator = new PrimitiveSyncLongQueues.Iterator(3);
+        queues.initIterator(iterator, 0);
+
+        var values = new ArrayList<Long>();
+        while (iterator.hasNext()) {
+            var message = iterator.nextLongArray();
+            // array messages must never be interleaved
+            assertThat(message[1]).isEqualTo(-message[0]);
+            assertThat(message[2]).isEqualTo(message[0]);
+            values.add(message[0]);
+        }
+
+        assertThat(values)
+            .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
+    }
+
+    @Test
+    void iterate() {
+        var queues = PrimitiveSyncLongQueues.of(1, 42);
+
+        for (long i = 0; i < 84; i++) {
+            queues.push(0, i);
+        }
+
+        queues.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator(1);
+        queues.initIterator(iterator, 0);
+
+        var sum = 0L;
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+
+        assertThat(sum).isEqualTo(LongStream.range(0, 84).sum());
+
+        queues.swapQueues();
+        queues.initIterator(iterator, 0);
+
+        assertThat(iterator.isEmpty()).isTrue();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -19,12 +19,14 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ReducerTest {
@@ -44,4 +46,39 @@ class ReducerTest {
         assertEquals(expected, reducer.reduce(arg0, arg1));
     }
 
+    static Stream<Arguments> longArguments() {
+        return Stream.of(
+            Arguments.of(new Reducer.Sum(), 2L, 2L, 4L, 0L),
+            Arguments.of(new Reducer.Min(), 42L, 23L, 23L, Long.MAX_VALUE),
+            Arguments.of(new Reducer.Max(), 42L, 23L, 42L, Long.MIN_VALUE),
+            Arguments.of(new Reducer.Count(), 42L, 23L, 43L, 0L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("longArguments")
+    void reduceLongs(Reducer reducer, long arg0, long arg1, long expected, long identity) {
+        assertEquals(expected, reducer.reduce(arg0, arg1));
+        assertEquals(identity, reducer.longIdentity());
+    }
+
+    @Test
+    void failsForLongsIfNotSupported() {
+        var reducer = new Reducer() {
+            @Override
+            public double identity() {
+                return 0;
+            }
+
+            @Override
+            public double reduce(double current, double message) {
+                return current;
+            }
+        };
+
+        assertThatThrownBy(reducer::longIdentity)
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("does not support long messages");
+    }
+
 }
@@ -19,14 +19,12 @@
  */
 package org.neo4j.gds.beta.node2vec;
 
-import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.loading.nodeproperties.DenseFloatArrayNodePropertyValues;
 import org.neo4j.gds.embeddings.node2vec.Node2Vec;
 import org.neo4j.gds.embeddings.node2vec.Node2VecBaseConfig;
 import org.neo4j.gds.embeddings.node2vec.Node2VecModel;
 import org.neo4j.gds.executor.ComputationResult;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 final class Node2VecCompanion {
 
@@ -35,20 +33,7 @@ final class Node2VecCompanion {
     static <CONFIG extends Node2VecBaseConfig> NodePropertyValues nodeProperties(
         ComputationResult<Node2Vec, Node2VecModel.Result, CONFIG> computationResult
     ) {
-        var size = computationResult.graph().nodeCount();
-        HugeObjectArray<FloatVector> embeddings = computationResult.result().embeddings();
-
-        return new FloatArrayNodePropertyValues() {
-            @Override
-            public long size() {
-                return size;
-            }
-
-            @Override
-            public float[] floatArrayValue(long nodeId) {
-                return embeddings.get(nodeId).data();
-            }
-        };
+        return new DenseFloatArrayNodePropertyValues(computationResult.result().embeddings());
     }
 
     private Node2VecCompanion() {}
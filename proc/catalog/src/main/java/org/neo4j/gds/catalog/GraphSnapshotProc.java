@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.io.snapshot.GraphSnapshots;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphSnapshotProc extends BaseProc {
+
+    @Procedure(name = "gds.alpha.graph.snapshot", mode = READ)
+    @Description("Writes a snapshot of a named graph that is restored into the graph catalog when the database starts.")
+    public Stream<SnapshotResult> snapshot(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = GraphSnapshotConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var result = runWithExceptionLogging(
+            "Graph snapshot failed", () -> {
+                var graphStoreWithConfig = graphStoreFromCatalog(graphName, config);
+                var graphStore = graphStoreWithConfig.graphStore();
+                var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(databaseService, Config.class);
+
+                var start = System.nanoTime();
+                var snapshotPath = GraphSnapshots.write(
+                    graphStore,
+                    graphStoreWithConfig.config().username(),
+                    graphName,
+                    GraphSnapshots.location(neo4jConfig),
+                    config.concurrency()
+                );
+                var end = System.nanoTime();
+
+                return new SnapshotResult(
+                    graphName,
+                    snapshotPath.toString(),
+                    graphStore.nodeCount(),
+                    graphStore.relationshipCount(),
+                    graphStore.relationshipTypes().size(),
+                    graphStore.nodePropertyKeys().size(),
+                    graphStore.relationshipPropertyKeys().size(),
+                    TimeUnit.NANOSECONDS.toMillis(end - start)
+                );
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    @SuppressWarnings("unused")
+    public static class SnapshotResult extends GraphStoreExportProc.GraphStoreExportResult {
+        public final String snapshotPath;
+
+        public SnapshotResult(
+            String graphName,
+            String snapshotPath,
+            long nodeCount,
+            long relationshipCount,
+            long relationshipTypeCount,
+            long nodePropertyCount,
+            long relationshipPropertyCount,
+            long writeMillis
+        ) {
+            super(
+                graphName,
+                nodeCount,
+                relationshipCount,
+                relationshipTypeCount,
+                nodePropertyCount,
+                relationshipPropertyCount,
+                writeMillis
+            );
+            this.snapshotPath = snapshotPath;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.neo4j.gds.core.io.NeoNodeProperties;
 import org.neo4j.gds.core.io.db.GraphStoreToDatabaseExporter;
 import org.neo4j.gds.core.io.db.GraphStoreToDatabaseExporterConfig;
 import org.neo4j.gds.core.io.db.ProgressTrackerExecutionMonitor;
+import org.neo4j.gds.core.io.file.FileExportFormat;
 import org.neo4j.gds.core.io.file.GraphStoreExporterUtil;
 import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.io.file.csv.estimation.CsvExportEstimation;
@@ -160,6 +161,9 @@ public class GraphStoreExportProc extends BaseProc {
         var cypherConfig = CypherMapWrapper.create(configuration);
         var exportConfig = GraphStoreToCsvEstimationConfig.of(username(), cypherConfig);
         validateConfig(cypherConfig, exportConfig);
+        if (exportConfig.exportFormat() != FileExportFormat.CSV) {
+            throw new IllegalArgumentException("The disk space can only be estimated for the `CSV` export format.");
+        }
 
         var estimate = runWithExceptionLogging(
             "CSV export estimation failed", () -> {
@@ -74,7 +74,7 @@ public class GraphWriteNodeLabelProc extends CatalogProc {
             var nodeLabelExporter = nodeLabelExporterBuilder
                 .withIdMap(filteredNodes.idMap())
                 .withTerminationFlag(TerminationFlag.wrap(transaction))
-                .parallel(Pools.DEFAULT, procedureConfig.concurrency())
+                .parallel(Pools.IO, procedureConfig.concurrency())
                 .build();
 
             runWithExceptionLogging(
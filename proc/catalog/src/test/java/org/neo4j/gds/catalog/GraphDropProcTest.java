@@ -94,7 +94,7 @@ class GraphDropProcTest extends BaseProcTest {
                     new Condition<>(config -> {
                         assertThat(config)
                             .asInstanceOf(stringObjectMapAssertFactory())
-                            .hasSize(9)
+                            .hasSize(11)
                             .containsEntry(
                                 "nodeProjection", map(
                                     "A", map(
@@ -116,6 +116,8 @@ class GraphDropProcTest extends BaseProcTest {
                             )
                             .containsEntry("relationshipProperties", emptyMap())
                             .containsEntry("nodeProperties", emptyMap())
+                            .containsEntry("adjacencyIndexStorage", "HEAP")
+                            .containsEntry("compressRelationshipProperties", false)
                             .hasEntrySatisfying("creationTime", creationTimeAssertConsumer())
                             .hasEntrySatisfying(
                                 "validateRelationships",
@@ -102,7 +102,7 @@ class GraphListProcTest extends BaseProcTest {
                 new Condition<>(config -> {
                     assertThat(config)
                         .asInstanceOf(stringObjectMapAssertFactory())
-                        .hasSize(9)
+                        .hasSize(11)
                         .containsEntry(
                             "nodeProjection", map(
                                 "A", map(
@@ -124,6 +124,8 @@ class GraphListProcTest extends BaseProcTest {
                         )
                         .containsEntry("relationshipProperties", emptyMap())
                         .containsEntry("nodeProperties", emptyMap())
+                        .containsEntry("adjacencyIndexStorage", "HEAP")
+                        .containsEntry("compressRelationshipProperties", false)
                         .hasEntrySatisfying("creationTime", creationTimeAssertConsumer())
                         .hasEntrySatisfying(
                             "validateRelationships",
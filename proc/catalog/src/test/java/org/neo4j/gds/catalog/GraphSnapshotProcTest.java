@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.io.snapshot.GraphSnapshotSettings;
+import org.neo4j.gds.core.io.snapshot.GraphSnapshots;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.logging.NullLog;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class GraphSnapshotProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { prop1: 0 })" +
+        ", (b { prop1: 1 })" +
+        ", (c { prop1: 2 })" +
+        ", (a)-[:REL1 { weight: 42 }]->(b)" +
+        ", (b)-[:REL1 { weight: 43 }]->(c)" +
+        ", (c)-[:REL2]->(a)";
+
+    @TempDir
+    Path tempDir;
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setFileSystem(new DefaultFileSystemAbstraction());
+        builder.setConfig(GraphSnapshotSettings.snapshot_location_setting, tempDir);
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, GraphSnapshotProc.class);
+        runQuery(DB_CYPHER);
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldRestoreSnapshotIntoCatalog() {
+        runQuery(
+            "CALL gds.graph.project('g', '*', {" +
+            "  REL1: {type: 'REL1', indexInverse: true, properties: 'weight'}," +
+            "  REL2: {type: 'REL2'}" +
+            "}, {nodeProperties: 'prop1'})"
+        );
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "g").graphStore();
+
+        runQueryWithRowConsumer("CALL gds.alpha.graph.snapshot('g')", row -> {
+            assertThat(row.getString("graphName")).isEqualTo("g");
+            assertThat(row.getNumber("nodeCount")).isEqualTo(3L);
+            assertThat(row.getNumber("relationshipCount")).isEqualTo(3L);
+            assertThat(row.getNumber("relationshipTypeCount")).isEqualTo(2L);
+            assertThat(Path.of(row.getString("snapshotPath"))).startsWithRaw(tempDir).isDirectory();
+        });
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        int restored = GraphSnapshots.restore(tempDir, db.databaseName(), 1, NullLog.getInstance());
+
+        assertThat(restored).isEqualTo(1);
+        var restoredGraphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "g").graphStore();
+        assertGraphEquals(graphStore.getUnion(), restoredGraphStore.getUnion());
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("REL1"), Optional.of("weight")),
+            restoredGraphStore.getGraph(RelationshipType.of("REL1"), Optional.of("weight"))
+        );
+        assertThat(inverseAdjacencyList(restoredGraphStore, "REL1")).isPresent();
+        assertThat(inverseAdjacencyList(restoredGraphStore, "REL2")).isEmpty();
+    }
+
+    @Test
+    void shouldReplacePreviousSnapshot() throws IOException {
+        runQuery("CALL gds.graph.project('g', '*', '*')");
+
+        var firstPath = runQuery("CALL gds.alpha.graph.snapshot('g')", result -> result.next().get("snapshotPath"));
+        var secondPath = runQuery("CALL gds.alpha.graph.snapshot('g')", result -> result.next().get("snapshotPath"));
+
+        assertThat(secondPath).isEqualTo(firstPath);
+        try (var siblings = Files.list(Path.of((String) firstPath).getParent())) {
+            assertThat(siblings).containsExactly(Path.of((String) firstPath));
+        }
+    }
+
+    @Test
+    void shouldNotReplaceGraphsInTheCatalog() {
+        runQuery("CALL gds.graph.project('g', '*', '*')");
+        runQuery("CALL gds.alpha.graph.snapshot('g')");
+
+        int restored = GraphSnapshots.restore(tempDir, db.databaseName(), 1, NullLog.getInstance());
+
+        assertThat(restored).isEqualTo(0);
+    }
+
+    private static Optional<?> inverseAdjacencyList(GraphStore graphStore, String type) {
+        var relationshipType = RelationshipType.of(type);
+        return ((CSRGraph) graphStore.getGraph(relationshipType))
+            .relationshipTopologies()
+            .get(relationshipType)
+            .inverseAdjacencyList();
+    }
+}
@@ -23,31 +23,40 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.configuration.Config;
 import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.PropertyMapping;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.compat.DatabaseMode;
 import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.compat.SettingProxy;
 import org.neo4j.gds.core.GraphStoreExportSettings;
+import org.neo4j.gds.core.io.file.columnar.ColumnarToGraphStoreImporter;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.graphdb.QueryExecutionException;
 import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.logging.NullLog;
 import org.neo4j.test.TestDatabaseManagementServiceBuilder;
 import org.neo4j.test.extension.ExtensionCallback;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
 import static org.neo4j.gds.core.io.file.GraphStoreExporterUtil.EXPORT_DIR;
 import static org.neo4j.gds.utils.ExceptionUtil.rootCause;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -194,6 +203,64 @@ class GraphStoreExportProcTest extends BaseProcTest {
         });
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void exportColumnar(boolean compressBlocks) {
+        projectGraph();
+
+        var exportQuery = formatWithLocale(
+            "CALL gds.beta.graph.export.csv('test-graph', {" +
+            "  exportName: 'export'," +
+            "  exportFormat: 'columnar'," +
+            "  compressBlocks: %s" +
+            "})",
+            compressBlocks
+        );
+
+        runQueryWithRowConsumer(exportQuery, row -> {
+            assertEquals("export", row.getString("exportName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+            assertEquals(8, row.getNumber("nodePropertyCount").longValue());
+            assertEquals(6, row.getNumber("relationshipPropertyCount").longValue());
+        });
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "test-graph").graphStore();
+        var importedGraphStore = new ColumnarToGraphStoreImporter(
+            1,
+            tempDir.resolve(EXPORT_DIR).resolve("export"),
+            NullLog.getInstance(),
+            EmptyTaskRegistryFactory.INSTANCE
+        ).run().graphStore();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+    }
+
+    @Test
+    void failsColumnarExportWithAdditionalNodeProperties() {
+        projectGraph();
+
+        var exportQuery =
+            "CALL gds.beta.graph.export.csv('test-graph', {" +
+            "  exportName: 'export'," +
+            "  exportFormat: 'columnar'," +
+            "  additionalNodeProperties: ['prop3']" +
+            "})";
+
+        assertThatThrownBy(() -> runQuery(exportQuery))
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Additional node properties are only supported for the `CSV` export format.");
+    }
+
     @Test
     void exportCsvWithAdditionalNodeProperties() {
         projectGraph();
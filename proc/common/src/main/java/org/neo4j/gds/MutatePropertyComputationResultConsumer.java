@@ -21,7 +21,9 @@ package org.neo4j.gds;
 
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.MutatePropertyConfig;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.FilteredNodePropertyValues;
+import org.neo4j.gds.core.loading.nodeproperties.LongNodePropertyValuesCompressor;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.write.ImmutableNodeProperty;
 import org.neo4j.gds.executor.ComputationResult;
@@ -80,7 +82,12 @@ public class MutatePropertyComputationResultConsumer<ALGO extends Algorithm<ALGO
             maybeTranslatedProperties.forEach(nodeProperty -> graphStore.addNodeProperty(
                 new HashSet<>(labelsToUpdate),
                 nodeProperty.propertyKey(),
-                nodeProperty.properties()
+                LongNodePropertyValuesCompressor.compress(
+                    nodeProperty.properties(),
+                    graphStore.nodeCount(),
+                    mutatePropertyConfig.concurrency(),
+                    Pools.DEFAULT
+                )
             ));
 
             resultBuilder.withNodePropertiesWritten(maybeTranslatedProperties.size() * computationResult.graph().nodeCount());
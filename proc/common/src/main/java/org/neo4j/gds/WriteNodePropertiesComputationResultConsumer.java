@@ -128,7 +128,7 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
             .withIdMap(graph)
             .withTerminationFlag(computationResult.algorithm().terminationFlag)
             .withProgressTracker(progressTracker)
-            .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
+            .parallel(Pools.IO, computationResult.config().writeConcurrency())
             .build();
     }
 }
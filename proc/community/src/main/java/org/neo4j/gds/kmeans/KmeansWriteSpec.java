@@ -92,7 +92,7 @@ public class KmeansWriteSpec implements AlgorithmSpec<Kmeans, KmeansResult, Kmea
                         writeConcurrency,
                         executionContext
                     ))
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.IO, writeConcurrency)
                     .build();
 
                 var properties = new LongNodePropertyValues() {
@@ -89,7 +89,7 @@ public class LeidenWriteSpec implements AlgorithmSpec<Leiden, LeidenResult, Leid
                         writeConcurrency,
                         executionContext
                     ))
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.IO, writeConcurrency)
                     .build();
 
                 var properties = LeidenCompanion.leidenNodeProperties(
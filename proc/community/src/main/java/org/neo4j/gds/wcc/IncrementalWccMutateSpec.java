@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.MutateComputationResultConsumer;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.result.AbstractCommunityResultBuilder;
+import org.neo4j.gds.result.AbstractResultBuilder;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.gds.wcc.IncrementalWccMutateProc.INCREMENTAL_WCC_DESCRIPTION;
+
+@GdsCallable(name = "gds.alpha.wcc.incremental.mutate", description = INCREMENTAL_WCC_DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class IncrementalWccMutateSpec implements AlgorithmSpec<IncrementalWccUpdate, IncrementalWccResult, IncrementalWccMutateConfig, Stream<WccMutateProc.MutateResult>, IncrementalWccUpdateFactory> {
+
+    @Override
+    public String name() {
+        return "IncrementalWccMutate";
+    }
+
+    @Override
+    public IncrementalWccUpdateFactory algorithmFactory() {
+        return new IncrementalWccUpdateFactory();
+    }
+
+    @Override
+    public NewConfigFunction<IncrementalWccMutateConfig> newConfigFunction() {
+        return (__, config) -> IncrementalWccMutateConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<IncrementalWccUpdate, IncrementalWccResult, IncrementalWccMutateConfig, Stream<WccMutateProc.MutateResult>> computationResultConsumer() {
+        return new MutateComputationResultConsumer<>(this::resultBuilder) {
+            @Override
+            protected void updateGraphStore(
+                AbstractResultBuilder<?> resultBuilder,
+                ComputationResult<IncrementalWccUpdate, IncrementalWccResult, IncrementalWccMutateConfig> computationResult,
+                ExecutionContext executionContext
+            ) {
+                var config = computationResult.config();
+                var graphStore = computationResult.graphStore();
+                var result = computationResult.result();
+
+                try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withMutateMillis)) {
+                    result.addedRelationships().ifPresent(relationships -> graphStore.addRelationshipType(
+                        RelationshipType.of(config.relationshipType()),
+                        Optional.empty(),
+                        Optional.empty(),
+                        relationships.direction(),
+                        relationships.relationships()
+                    ));
+
+                    // the remapped components share the values of the seed property, they are not compressed again
+                    graphStore.addNodeProperty(
+                        new HashSet<>(config.nodeLabelIdentifiers(graphStore)),
+                        config.mutateProperty(),
+                        result.components()
+                    );
+                    resultBuilder.withNodePropertiesWritten(graphStore.nodeCount());
+                }
+            }
+        };
+    }
+
+    private AbstractCommunityResultBuilder<WccMutateProc.MutateResult> resultBuilder(
+        ComputationResult<IncrementalWccUpdate, IncrementalWccResult, IncrementalWccMutateConfig> computationResult,
+        ExecutionContext executionContext
+    ) {
+        return new WccMutateProc.MutateResult.Builder(
+            executionContext.callContext(),
+            computationResult.config().concurrency()
+        ).withCommunityFunction(!computationResult.isGraphEmpty() ? computationResult.result().components()::longValue : null);
+    }
+}
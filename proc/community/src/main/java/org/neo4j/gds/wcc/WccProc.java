@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.wcc;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.CommunityProcCompanion;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -37,15 +38,15 @@ final class WccProc {
         return new WccAlgorithmFactory<>();
     }
 
-    static <PROC_RESULT, CONFIG extends WccBaseConfig> AbstractCommunityResultBuilder<PROC_RESULT> resultBuilder(
+    static <PROC_RESULT, ALGO extends Algorithm<DisjointSetStruct>, CONFIG extends WccBaseConfig> AbstractCommunityResultBuilder<PROC_RESULT> resultBuilder(
         AbstractCommunityResultBuilder<PROC_RESULT> procResultBuilder,
-        ComputationResult<Wcc, DisjointSetStruct, CONFIG> computationResult
+        ComputationResult<ALGO, DisjointSetStruct, CONFIG> computationResult
     ) {
         return procResultBuilder.withCommunityFunction(!computationResult.isGraphEmpty() ? computationResult.result()::setIdOf : null);
     }
 
-    static <CONFIG extends WccBaseConfig> NodePropertyValues nodeProperties(
-        ComputationResult<Wcc, DisjointSetStruct, CONFIG> computationResult,
+    static <ALGO extends Algorithm<DisjointSetStruct>, CONFIG extends WccBaseConfig> NodePropertyValues nodeProperties(
+        ComputationResult<ALGO, DisjointSetStruct, CONFIG> computationResult,
         String resultProperty
     ) {
         var config = computationResult.config();
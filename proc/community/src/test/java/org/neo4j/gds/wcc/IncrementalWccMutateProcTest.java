@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncrementalWccMutateProcTest extends BaseProcTest {
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Neo4jGraph
+    static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:LATER]->(e)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, WccMutateProc.class, IncrementalWccMutateProc.class);
+        runQuery("CALL gds.graph.project('graph', 'Node', ['REL', 'LATER'])");
+        runQuery("CALL gds.wcc.mutate('graph', {relationshipTypes: ['REL'], mutateProperty: 'component'})");
+    }
+
+    @Test
+    void shouldMergeAddedRelationshipsIntoTheStoredComponents() {
+        var query =
+            "CALL gds.alpha.wcc.incremental.mutate('graph', {" +
+            "  seedProperty: 'component'," +
+            "  mutateProperty: 'updatedComponent'," +
+            "  relationshipType: 'ADDED'," +
+            "  sourceNodes: [$b]," +
+            "  targetNodes: [$c]" +
+            "}) YIELD componentCount, nodePropertiesWritten " +
+            "RETURN componentCount, nodePropertiesWritten";
+
+        assertCypherResult(
+            query,
+            Map.of("b", idFunction.of("b"), "c", idFunction.of("c")),
+            List.of(Map.of("componentCount", 2L, "nodePropertiesWritten", 5L))
+        );
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "graph").graphStore();
+        // the added relationships are kept for later runs
+        assertThat(graphStore.relationshipCount(RelationshipType.of("ADDED"))).isEqualTo(1L);
+
+        var graph = graphStore.getUnion();
+        var components = graph.nodeProperties("updatedComponent");
+
+        var a = graph.toMappedNodeId(idFunction.of("a"));
+        var d = graph.toMappedNodeId(idFunction.of("d"));
+        var e = graph.toMappedNodeId(idFunction.of("e"));
+        assertThat(components.longValue(a)).isEqualTo(components.longValue(d));
+        assertThat(components.longValue(a)).isNotEqualTo(components.longValue(e));
+    }
+
+    @Test
+    void shouldMergeTheRelationshipsOfTheRelationshipType() {
+        var query =
+            "CALL gds.alpha.wcc.incremental.mutate('graph', {" +
+            "  seedProperty: 'component'," +
+            "  mutateProperty: 'updatedComponent'," +
+            "  relationshipType: 'LATER'" +
+            "}) YIELD componentCount " +
+            "RETURN componentCount";
+
+        assertCypherResult(query, List.of(Map.of("componentCount", 2L)));
+
+        var graph = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "graph").graphStore().getUnion();
+        var components = graph.nodeProperties("updatedComponent");
+
+        var a = graph.toMappedNodeId(idFunction.of("a"));
+        var c = graph.toMappedNodeId(idFunction.of("c"));
+        var e = graph.toMappedNodeId(idFunction.of("e"));
+        assertThat(components.longValue(c)).isEqualTo(components.longValue(e));
+        assertThat(components.longValue(a)).isNotEqualTo(components.longValue(e));
+    }
+
+    @Test
+    void shouldNotAddRelationshipsToAnExistingType() {
+        assertThatThrownBy(() -> runQuery(
+            "MATCH (n) WITH collect(id(n)) AS ids " +
+            "CALL gds.alpha.wcc.incremental.mutate('graph', {" +
+            "  seedProperty: 'component'," +
+            "  mutateProperty: 'updatedComponent'," +
+            "  relationshipType: 'REL'," +
+            "  sourceNodes: ids[0..1]," +
+            "  targetNodes: ids[1..2]" +
+            "}) YIELD componentCount RETURN componentCount"
+        )).rootCause().hasMessageContaining("Relationship type `REL` already exists");
+    }
+
+    @Test
+    void shouldRequireTheSeedProperty() {
+        assertThatThrownBy(() -> runQuery(
+            "CALL gds.alpha.wcc.incremental.mutate('graph', {mutateProperty: 'updatedComponent', relationshipType: 'LATER'})"
+        )).rootCause().hasMessageContaining("`seedProperty`");
+    }
+
+    @Test
+    void shouldRequireAPairOfNodesPerRelationship() {
+        assertThatThrownBy(() -> runQuery(
+            "MATCH (n) WITH collect(id(n)) AS ids " +
+            "CALL gds.alpha.wcc.incremental.mutate('graph', {" +
+            "  seedProperty: 'component'," +
+            "  mutateProperty: 'updatedComponent'," +
+            "  relationshipType: 'ADDED'," +
+            "  sourceNodes: ids," +
+            "  targetNodes: ids[0..1]" +
+            "}) YIELD componentCount RETURN componentCount"
+        )).rootCause().hasMessageContaining("2 `sourceNodes` and 1 `targetNodes`");
+    }
+}
@@ -137,6 +137,12 @@ public interface LinkPredictionPredictPipelineBaseConfig extends
 
     @Value.Check
     default void validateParameterCombinations() {
+        if (derivedInitialSampler().filter(sampler -> sampler == KnnSampler.SamplerType.LSH).isPresent()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The initial sampler `%s` hashes node properties and is not supported for link prediction.",
+                KnnSampler.SamplerType.LSH.name()
+            ));
+        }
         if (isApproximateStrategy()) {
             Map<String, Boolean> exhaustiveStrategyParameters = Map.of(
                 "topN", topN().isPresent(),
@@ -137,6 +137,51 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored in bit-packed blocks during graph creation.")
+    public void usePackedAdjacencyList(@Name(value = "usePackedAdjacencyList") boolean usePackedAdjacencyList) {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(usePackedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store bit-packed adjacency lists during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUsePackedAdjacencyList() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useCompressedAdjacencyProperties")
+    @Description("Toggle whether relationship properties should be stored in compressed blocks during graph creation.")
+    public void useCompressedAdjacencyProperties(@Name(value = "useCompressedAdjacencyProperties") boolean useCompressedAdjacencyProperties) {
+        GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.toggle(useCompressedAdjacencyProperties);
+    }
+
+    @Internal
+    @Procedure("gds.features.useCompressedAdjacencyProperties.reset")
+    @Description("Set the default behaviour of whether to store compressed relationship properties during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseCompressedAdjacencyProperties() {
+        GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useCompressedLongNodeProperties")
+    @Description("Toggle whether long node properties should be stored in a compact representation.")
+    public void useCompressedLongNodeProperties(@Name(value = "useCompressedLongNodeProperties") boolean useCompressedLongNodeProperties) {
+        GdsFeatureToggles.USE_COMPRESSED_LONG_NODE_PROPERTIES.toggle(useCompressedLongNodeProperties);
+    }
+
+    @Internal
+    @Procedure("gds.features.useCompressedLongNodeProperties.reset")
+    @Description("Set the default behaviour of whether to store long node properties in a compact representation. That value is returned.")
+    public Stream<FeatureState> resetUseCompressedLongNodeProperties() {
+        GdsFeatureToggles.USE_COMPRESSED_LONG_NODE_PROPERTIES.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_COMPRESSED_LONG_NODE_PROPERTIES.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.useReorderedAdjacencyList")
     @Description("Toggle whether the adjacency list should be reordered during graph creation.")
@@ -152,6 +197,21 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useVirtualThreads")
+    @Description("Toggle whether jobs of the I/O pool should run on virtual threads, if supported by the JVM.")
+    public void useVirtualThreads(@Name(value = "useVirtualThreads") boolean useVirtualThreads) {
+        GdsFeatureToggles.USE_VIRTUAL_THREADS.toggle(useVirtualThreads);
+    }
+
+    @Internal
+    @Procedure("gds.features.useVirtualThreads.reset")
+    @Description("Set the default behaviour of whether to run I/O jobs on virtual threads. That value is returned.")
+    public Stream<FeatureState> resetUseVirtualThreads() {
+        GdsFeatureToggles.USE_VIRTUAL_THREADS.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_VIRTUAL_THREADS.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.enableArrowDatabaseImport")
     @Description("Enables support for importing Neo4j databases via the GDS Arrow Flight Server.")
@@ -36,8 +36,12 @@ import static org.neo4j.gds.utils.GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARTITIONED_SCAN;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_COMPRESSED_LONG_NODE_PROPERTIES;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_VIRTUAL_THREADS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
 
 class FeatureToggleProcTest extends BaseProcTest {
@@ -148,6 +152,81 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUsePackedAdjacencyList() {
+        var usePackedAdjacencyList = USE_PACKED_ADJACENCY_LIST.isEnabled();
+        runQuery(
+            "CALL gds.features.usePackedAdjacencyList($value)",
+            Map.of("value", !usePackedAdjacencyList)
+        );
+        assertEquals(!usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+        runQuery(
+            "CALL gds.features.usePackedAdjacencyList($value)",
+            Map.of("value", usePackedAdjacencyList)
+        );
+        assertEquals(usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUsePackedAdjacencyList() {
+        USE_PACKED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.usePackedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseCompressedAdjacencyProperties() {
+        var useCompressedAdjacencyProperties = USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled();
+        runQuery(
+            "CALL gds.features.useCompressedAdjacencyProperties($value)",
+            Map.of("value", !useCompressedAdjacencyProperties)
+        );
+        assertEquals(!useCompressedAdjacencyProperties, USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled());
+        runQuery(
+            "CALL gds.features.useCompressedAdjacencyProperties($value)",
+            Map.of("value", useCompressedAdjacencyProperties)
+        );
+        assertEquals(useCompressedAdjacencyProperties, USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void resetUseCompressedAdjacencyProperties() {
+        USE_COMPRESSED_ADJACENCY_PROPERTIES.reset();
+        assertCypherResult(
+            "CALL gds.features.useCompressedAdjacencyProperties.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void toggleUseCompressedLongNodeProperties() {
+        var useCompressedLongNodeProperties = USE_COMPRESSED_LONG_NODE_PROPERTIES.isEnabled();
+        runQuery(
+            "CALL gds.features.useCompressedLongNodeProperties($value)",
+            Map.of("value", !useCompressedLongNodeProperties)
+        );
+        assertEquals(!useCompressedLongNodeProperties, USE_COMPRESSED_LONG_NODE_PROPERTIES.isEnabled());
+        runQuery(
+            "CALL gds.features.useCompressedLongNodeProperties($value)",
+            Map.of("value", useCompressedLongNodeProperties)
+        );
+        assertEquals(useCompressedLongNodeProperties, USE_COMPRESSED_LONG_NODE_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void resetUseCompressedLongNodeProperties() {
+        USE_COMPRESSED_LONG_NODE_PROPERTIES.reset();
+        assertCypherResult(
+            "CALL gds.features.useCompressedLongNodeProperties.reset()",
+            List.of(Map.of("enabled", true))
+        );
+        assertTrue(USE_COMPRESSED_LONG_NODE_PROPERTIES.isEnabled());
+    }
+
     @Test
     void toggleUseReorderedAdjacencyList() {
         var useReorderedAdjacencyList = USE_REORDERED_ADJACENCY_LIST.isEnabled();
@@ -167,6 +246,25 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_REORDERED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUseVirtualThreads() {
+        var useVirtualThreads = USE_VIRTUAL_THREADS.isEnabled();
+        runQuery("CALL gds.features.useVirtualThreads($value)", Map.of("value", !useVirtualThreads));
+        assertEquals(!useVirtualThreads, USE_VIRTUAL_THREADS.isEnabled());
+        runQuery("CALL gds.features.useVirtualThreads($value)", Map.of("value", useVirtualThreads));
+        assertEquals(useVirtualThreads, USE_VIRTUAL_THREADS.isEnabled());
+    }
+
+    @Test
+    void resetUseVirtualThreads() {
+        USE_VIRTUAL_THREADS.reset();
+        assertCypherResult(
+            "CALL gds.features.useVirtualThreads.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_VIRTUAL_THREADS.isEnabled());
+    }
+
     @Test
     void toggleEnableArrowDatabaseImport() {
         var enableArrowDatabaseImport = ENABLE_ARROW_DATABASE_IMPORT.isEnabled();
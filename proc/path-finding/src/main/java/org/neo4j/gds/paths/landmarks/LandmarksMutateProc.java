@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.paths.landmarks.config.LandmarksMutateConfig;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.shortestPath.landmarks.mutate", description = LandmarksMutateProc.DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class LandmarksMutateProc extends MutatePropertyProc<Landmarks, LandmarkDistances, LandmarksMutateProc.MutateResult, LandmarksMutateConfig> {
+
+    static final String DESCRIPTION =
+        "Computes shortest path distances from a set of landmark nodes, " +
+        "which can be used to speed up source-target shortest path queries.";
+
+    @Procedure(value = "gds.alpha.shortestPath.landmarks.mutate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.alpha.shortestPath.landmarks.mutate.estimate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        return computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Override
+    protected LandmarksMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return LandmarksMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<Landmarks, LandmarksMutateConfig> algorithmFactory() {
+        return new LandmarksFactory<>();
+    }
+
+    @Override
+    protected NodePropertyValues nodeProperties(ComputationResult<Landmarks, LandmarkDistances, LandmarksMutateConfig> computationResult) {
+        return computationResult.result();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<Landmarks, LandmarkDistances, LandmarksMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        var landmarkCount = computeResult.result() != null ? computeResult.result().landmarkCount() : 0;
+        return new MutateResult.Builder().withLandmarkCount(landmarkCount);
+    }
+
+    @SuppressWarnings("unused")
+    public static final class MutateResult extends StandardMutateResult {
+
+        public final long nodePropertiesWritten;
+        public final long landmarkCount;
+
+        MutateResult(
+            long nodePropertiesWritten,
+            long landmarkCount,
+            long preProcessingMillis,
+            long computeMillis,
+            long mutateMillis,
+            Map<String, Object> config
+        ) {
+            super(preProcessingMillis, computeMillis, 0L, mutateMillis, config);
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.landmarkCount = landmarkCount;
+        }
+
+        static final class Builder extends AbstractResultBuilder<MutateResult> {
+
+            private long landmarkCount;
+
+            Builder withLandmarkCount(long landmarkCount) {
+                this.landmarkCount = landmarkCount;
+                return this;
+            }
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    nodePropertiesWritten,
+                    landmarkCount,
+                    preProcessingMillis,
+                    computeMillis,
+                    mutateMillis,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
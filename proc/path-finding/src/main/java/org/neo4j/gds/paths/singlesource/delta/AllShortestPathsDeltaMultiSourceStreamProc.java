@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.singlesource.delta;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.executor.MemoryEstimationExecutor;
+import org.neo4j.gds.executor.ProcedureExecutor;
+import org.neo4j.gds.executor.ProcedureExecutorSpec;
+import org.neo4j.gds.paths.delta.MultiSourceDeltaStepping;
+import org.neo4j.gds.paths.delta.SourceDistances;
+import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaMultiSourceStreamConfig;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class AllShortestPathsDeltaMultiSourceStreamProc extends BaseProc {
+
+    static final String DESCRIPTION =
+        "Computes the shortest path distances from each of the given source nodes to all reachable nodes. " +
+        "Sources are processed in parallel and their results are streamed as soon as they are available.";
+
+    @Procedure(name = "gds.alpha.allShortestPaths.delta.multiSource.stream", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MultiSourceStreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var streamSpec = new AllShortestPathsDeltaMultiSourceStreamSpec();
+        var pipelineSpec = new ProcedureExecutorSpec<MultiSourceDeltaStepping, Stream<SourceDistances>, AllShortestPathsDeltaMultiSourceStreamConfig>();
+
+        return new ProcedureExecutor<>(
+            streamSpec,
+            pipelineSpec,
+            executionContext()
+        ).compute(graphName, configuration, false, false);
+    }
+
+    @Procedure(name = "gds.alpha.allShortestPaths.delta.multiSource.stream.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        var streamSpec = new AllShortestPathsDeltaMultiSourceStreamSpec();
+        var pipelineSpec = new ProcedureExecutorSpec<MultiSourceDeltaStepping, Stream<SourceDistances>, AllShortestPathsDeltaMultiSourceStreamConfig>();
+
+        return new MemoryEstimationExecutor<>(
+            streamSpec,
+            pipelineSpec,
+            executionContext()
+        ).computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.singlesource.delta;
+
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.paths.delta.MultiSourceDeltaStepping;
+import org.neo4j.gds.paths.delta.MultiSourceDeltaSteppingFactory;
+import org.neo4j.gds.paths.delta.SourceDistances;
+import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaMultiSourceStreamConfig;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+import static org.neo4j.gds.paths.singlesource.delta.AllShortestPathsDeltaMultiSourceStreamProc.DESCRIPTION;
+
+@GdsCallable(name = "gds.alpha.allShortestPaths.delta.multiSource.stream", description = DESCRIPTION, executionMode = STREAM)
+public class AllShortestPathsDeltaMultiSourceStreamSpec implements AlgorithmSpec<MultiSourceDeltaStepping, Stream<SourceDistances>, AllShortestPathsDeltaMultiSourceStreamConfig, Stream<MultiSourceStreamResult>, MultiSourceDeltaSteppingFactory<AllShortestPathsDeltaMultiSourceStreamConfig>> {
+
+    @Override
+    public String name() {
+        return "gds.alpha.allShortestPaths.delta.multiSource.stream";
+    }
+
+    @Override
+    public MultiSourceDeltaSteppingFactory<AllShortestPathsDeltaMultiSourceStreamConfig> algorithmFactory() {
+        return new MultiSourceDeltaSteppingFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<AllShortestPathsDeltaMultiSourceStreamConfig> newConfigFunction() {
+        return (username, configuration) -> AllShortestPathsDeltaMultiSourceStreamConfig.of(configuration);
+    }
+
+    @Override
+    public ComputationResultConsumer<MultiSourceDeltaStepping, Stream<SourceDistances>, AllShortestPathsDeltaMultiSourceStreamConfig, Stream<MultiSourceStreamResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var graph = computationResult.graph();
+            return Optional.ofNullable(computationResult.result())
+                .orElseGet(Stream::empty)
+                .flatMap(sourceDistances -> {
+                    var sourceNode = graph.toOriginalNodeId(sourceDistances.sourceNode());
+                    return IntStream.range(0, sourceDistances.size()).mapToObj(i -> new MultiSourceStreamResult(
+                        sourceNode,
+                        graph.toOriginalNodeId(sourceDistances.targetNode(i)),
+                        sourceDistances.distance(i)
+                    ));
+                });
+        };
+    }
+}
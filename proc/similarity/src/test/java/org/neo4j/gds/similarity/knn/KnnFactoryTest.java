@@ -28,6 +28,8 @@ import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 import java.util.stream.Stream;
 
@@ -45,7 +47,8 @@ class KnnFactoryTest {
             () -> Stream.of(Arguments.of(1L), Arguments.of(10L), Arguments.of(100L), Arguments.of(10_00L)),
             () -> Stream.of(
                 Arguments.of(KnnSampler.SamplerType.UNIFORM),
-                Arguments.of(KnnSampler.SamplerType.RANDOMWALK)
+                Arguments.of(KnnSampler.SamplerType.RANDOMWALK),
+                Arguments.of(KnnSampler.SamplerType.LSH)
             )
         );
     }
@@ -78,7 +81,8 @@ class KnnFactoryTest {
             () -> Stream.of(Arguments.of(1_000_000_000L), Arguments.of(100_000_000_000L)),
             () -> Stream.of(
                 Arguments.of(KnnSampler.SamplerType.UNIFORM),
-                Arguments.of(KnnSampler.SamplerType.RANDOMWALK)
+                Arguments.of(KnnSampler.SamplerType.RANDOMWALK),
+                Arguments.of(KnnSampler.SamplerType.LSH)
             )
         );
     }
@@ -115,16 +119,20 @@ class KnnFactoryTest {
         long topKNeighborList = /* NL */ 32 + sizeOfLongArray(boundedK * 2L);
         long topKNeighborsList = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray + nodeCount * topKNeighborList;
 
-        long tempNeighborsListMin = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray;
-        long tempNeighborsListMax = tempNeighborsListMin + nodeCount * (/* LAL */ 24 + sizeOfLongArray(sampledK));
+        long oldNeighbors = HugeLongArray.memoryEstimation(nodeCount * boundedK) + HugeIntArray.memoryEstimation(nodeCount);
+        long newNeighbors = HugeLongArray.memoryEstimation(nodeCount * sampledK) + HugeIntArray.memoryEstimation(nodeCount);
+        long reverseOldNeighbors = HugeLongArray.memoryEstimation(nodeCount + 1) + HugeLongArray.memoryEstimation(nodeCount * boundedK);
+        long reverseNewNeighbors = HugeLongArray.memoryEstimation(nodeCount + 1) + HugeLongArray.memoryEstimation(nodeCount * sampledK);
+        long iterationBuffers = oldNeighbors + newNeighbors + reverseOldNeighbors + reverseNewNeighbors;
 
         var randomList = KnnFactory.initialSamplerMemoryEstimation(initialSampler, boundedK);
+        var samplerIndex = KnnFactory.initialSamplerIndexMemoryEstimation(initialSampler, nodeCount, boundedK);
         long sampledList = sizeOfIntArray(sizeOfOpenHashContainer(sampledK));
 
         long neighbourConsumers = 8;
 
-        long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList.min + sampledList + neighbourConsumers;
-        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList + neighbourConsumers;
+        long expectedMin = knnAlgo + topKNeighborsList + iterationBuffers + samplerIndex.min + randomList.min + sampledList + neighbourConsumers;
+        long expectedMax = knnAlgo + topKNeighborsList + iterationBuffers + samplerIndex.max + randomList.max + sampledList + neighbourConsumers;
 
         assertEquals(expectedMin, actual.min);
         assertEquals(expectedMax, actual.max);
@@ -27,7 +27,9 @@ import org.neo4j.gds.compat.ProxyFactory;
 import org.neo4j.gds.compat.ProxyUtil;
 import org.neo4j.gds.compat.SettingProxyFactory;
 import org.neo4j.gds.core.Settings;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
+import org.neo4j.gds.core.utils.mem.NativeMemoryTracker;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.config.Configuration;
@@ -46,6 +48,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -96,6 +99,7 @@ public class SysInfoProc {
         buildInfo(buildInfo, values);
         cpuInfo(runtime, values);
         memoryInfo(values);
+        ioPoolInfo(values);
         systemResources(values);
         vmInfo(values);
         containerInfo(values);
@@ -171,7 +175,8 @@ public class SysInfoProc {
                 "featureUncompressedAdjacencyList",
                 GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ))
-            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
+            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureVirtualThreads", GdsFeatureToggles.USE_VIRTUAL_THREADS.isEnabled()));
 
     }
 
@@ -196,6 +201,10 @@ public class SysInfoProc {
             .add(value("availableHeap", safeHumanReadable(availableHeapInBytes)));
         onHeapInfo("heap", memBean.getHeapMemoryUsage(), builder);
         offHeapInfo("offHeap", memBean.getNonHeapMemoryUsage(), builder);
+        var nativeMemoryInBytes = NativeMemoryTracker.allocatedBytes();
+        builder
+            .add(value("gdsNativeMemoryInBytes", nativeMemoryInBytes))
+            .add(value("gdsNativeMemory", safeHumanReadable(nativeMemoryInBytes)));
 
         for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
             var usage = pool.getUsage();
@@ -218,6 +227,16 @@ public class SysInfoProc {
         }
     }
 
+    private static void ioPoolInfo(Stream.Builder<DebugValue> builder) {
+        var metrics = Pools.IO.metrics();
+        builder
+            .add(value("ioPoolMaxConcurrentJobs", Pools.IO.maxConcurrentJobs()))
+            .add(value("ioPoolActiveJobs", metrics.activeJobs()))
+            .add(value("ioPoolCompletedJobs", metrics.completedJobs()))
+            .add(value("ioPoolAverageQueueWaitMillis", metrics.averageQueueWaitMillis()))
+            .add(value("ioPoolMaxQueueWaitMillis", TimeUnit.NANOSECONDS.toMillis(metrics.maxQueueWaitNanos())));
+    }
+
     private static void onHeapInfo(String name, MemoryUsage memUsage, Stream.Builder<DebugValue> builder) {
         var maxHeapInBytes = memUsage.getMax();
         var totalHeapInBytes = memUsage.getCommitted();
@@ -202,6 +202,13 @@ class SysInfoProcTest extends BaseProcTest {
             .hasEntrySatisfying("offHeapUsed", isNotNull)
             .hasEntrySatisfying("offHeapTotalInBytes", isInteger)
             .hasEntrySatisfying("offHeapTotal", isNotNull)
+            .hasEntrySatisfying("gdsNativeMemoryInBytes", isInteger)
+            .hasEntrySatisfying("gdsNativeMemory", isNotNull)
+            .hasEntrySatisfying("ioPoolMaxConcurrentJobs", isInteger)
+            .hasEntrySatisfying("ioPoolActiveJobs", isInteger)
+            .hasEntrySatisfying("ioPoolCompletedJobs", isInteger)
+            .hasEntrySatisfying("ioPoolAverageQueueWaitMillis", isNotNull)
+            .hasEntrySatisfying("ioPoolMaxQueueWaitMillis", isInteger)
             .hasEntrySatisfying("freePhysicalMemoryInBytes", isInteger)
             .hasEntrySatisfying("freePhysicalMemory", isNotNull)
             .hasEntrySatisfying("committedVirtualMemoryInBytes", isInteger)
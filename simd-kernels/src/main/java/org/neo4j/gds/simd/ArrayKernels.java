@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.simd;
+
+/**
+ * Entry point for the numeric kernels on float and double arrays used by similarity metrics and embeddings.
+ *
+ * On Java 17 and later, the kernels are implemented with the incubating Vector API if the JVM was started
+ * with {@code --add-modules jdk.incubator.vector}. Otherwise, or if the system property
+ * {@value #DISABLE_VECTORIZATION_PROPERTY} is set to {@code true}, plain scalar loops are used.
+ * Results of reductions may differ in the last bits between the two implementations,
+ * as the vectorized kernels sum up the elements in a different order.
+ */
+public final class ArrayKernels {
+
+    public static final String DISABLE_VECTORIZATION_PROPERTY = "org.neo4j.gds.simd.disable";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTORIZED_KERNELS = "org.neo4j.gds.simd.VectorizedKernels";
+
+    private static final Kernels KERNELS = loadKernels();
+
+    private ArrayKernels() {}
+
+    public static boolean isVectorized() {
+        return !(KERNELS instanceof ScalarKernels);
+    }
+
+    public static double cosine(float[] left, float[] right, int length) {
+        return KERNELS.cosine(left, 0, right, 0, length);
+    }
+
+    /**
+     * Compares {@code length} elements of both arrays, starting at the given offsets.
+     */
+    public static double cosine(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        return KERNELS.cosine(left, leftOffset, right, rightOffset, length);
+    }
+
+    public static double cosine(double[] left, double[] right, int length) {
+        return KERNELS.cosine(left, right, length);
+    }
+
+    public static double squaredDistance(float[] left, float[] right, int length) {
+        return KERNELS.squaredDistance(left, 0, right, 0, length);
+    }
+
+    public static double squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        return KERNELS.squaredDistance(left, leftOffset, right, rightOffset, length);
+    }
+
+    public static double squaredDistance(double[] left, double[] right, int length) {
+        return KERNELS.squaredDistance(left, right, length);
+    }
+
+    /**
+     * Pearson's correlation coefficient r of the two samples.
+     */
+    public static double pearson(float[] left, float[] right, int length) {
+        return KERNELS.pearson(left, 0, right, 0, length);
+    }
+
+    public static double pearson(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        return KERNELS.pearson(left, leftOffset, right, rightOffset, length);
+    }
+
+    public static double pearson(double[] left, double[] right, int length) {
+        return KERNELS.pearson(left, right, length);
+    }
+
+    public static double sumOfSquares(float[] data) {
+        return KERNELS.sumOfSquares(data);
+    }
+
+    /**
+     * {@code lhs[i] += rhs[i]}
+     */
+    public static void addInPlace(float[] lhs, float[] rhs, int length) {
+        KERNELS.addInPlace(lhs, rhs, length);
+    }
+
+    /**
+     * {@code lhs[i] += weight * rhs[i]}
+     */
+    public static void addWeightedInPlace(float[] lhs, float[] rhs, float weight, int length) {
+        KERNELS.addWeightedInPlace(lhs, 0, rhs, weight, length);
+    }
+
+    /**
+     * {@code lhs[lhsOffset + i] += weight * rhs[i]}
+     */
+    public static void addWeightedInPlace(float[] lhs, int lhsOffset, float[] rhs, float weight, int length) {
+        KERNELS.addWeightedInPlace(lhs, lhsOffset, rhs, weight, length);
+    }
+
+    /**
+     * {@code lhs[i] = fma(rhs[i], weight, lhs[i])}, computed in double precision and rounded to float.
+     * Both kernels return the same result.
+     */
+    public static void fusedAddWeightedInPlace(float[] lhs, float[] rhs, double weight, int length) {
+        KERNELS.fusedAddWeightedInPlace(lhs, rhs, weight, length);
+    }
+
+    /**
+     * {@code out[i] = data[i] * scalar}, {@code out} may be the same array as {@code data}.
+     */
+    public static void scale(float[] data, float scalar, float[] out) {
+        assert out.length == data.length;
+        KERNELS.scale(data, scalar, out);
+    }
+
+    static Kernels loadKernels() {
+        if (Boolean.getBoolean(DISABLE_VECTORIZATION_PROPERTY)) {
+            return new ScalarKernels();
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return new ScalarKernels();
+        }
+        try {
+            // only present in the Java 17 part of the multi-release jar
+            return (Kernels) Class.forName(VECTORIZED_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarKernels();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.simd;
+
+/**
+ * Array kernels shared by the scalar and the vectorized implementation.
+ * All binary operations only consider the first {@code length} elements of both arrays,
+ * starting at the given offsets if there are any.
+ */
+interface Kernels {
+
+    double cosine(float[] left, int leftOffset, float[] right, int rightOffset, int length);
+
+    double cosine(double[] left, double[] right, int length);
+
+    double squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length);
+
+    double squaredDistance(double[] left, double[] right, int length);
+
+    double pearson(float[] left, int leftOffset, float[] right, int rightOffset, int length);
+
+    double pearson(double[] left, double[] right, int length);
+
+    double sumOfSquares(float[] data);
+
+    void addInPlace(float[] lhs, float[] rhs, int length);
+
+    void addWeightedInPlace(float[] lhs, int lhsOffset, float[] rhs, float weight, int length);
+
+    void fusedAddWeightedInPlace(float[] lhs, float[] rhs, double weight, int length);
+
+    void scale(float[] data, float scalar, float[] out);
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.simd;
+
+final class ScalarKernels implements Kernels {
+
+    @Override
+    public double cosine(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        double dotProduct = 0D;
+        double leftLength = 0D;
+        double rightLength = 0D;
+        for (int i = 0; i < length; i++) {
+            double l = left[leftOffset + i];
+            double r = right[rightOffset + i];
+            dotProduct += l * r;
+            leftLength += l * l;
+            rightLength += r * r;
+        }
+        return (float) (dotProduct / Math.sqrt(leftLength * rightLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        double dotProduct = 0D;
+        double leftLength = 0D;
+        double rightLength = 0D;
+        for (int i = 0; i < length; i++) {
+            double l = left[i];
+            double r = right[i];
+            dotProduct += l * r;
+            leftLength += l * l;
+            rightLength += r * r;
+        }
+        return dotProduct / Math.sqrt(leftLength * rightLength);
+    }
+
+    @Override
+    public double squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        double result = 0D;
+        for (int i = 0; i < length; i++) {
+            double delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double squaredDistance(double[] left, double[] right, int length) {
+        double result = 0D;
+        for (int i = 0; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        double sumLeft = 0D;
+        double sumRight = 0D;
+        for (int i = 0; i < length; i++) {
+            sumLeft += left[leftOffset + i];
+            sumRight += right[rightOffset + i];
+        }
+        double meanLeft = sumLeft / length;
+        double meanRight = sumRight / length;
+
+        double sumOfProducts = 0D;
+        double sumOfLeftSquares = 0D;
+        double sumOfRightSquares = 0D;
+        for (int i = 0; i < length; i++) {
+            double leftDelta = left[leftOffset + i] - meanLeft;
+            double rightDelta = right[rightOffset + i] - meanRight;
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        double sumLeft = 0D;
+        double sumRight = 0D;
+        for (int i = 0; i < length; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+        }
+        double meanLeft = sumLeft / length;
+        double meanRight = sumRight / length;
+
+        double sumOfProducts = 0D;
+        double sumOfLeftSquares = 0D;
+        double sumOfRightSquares = 0D;
+        for (int i = 0; i < length; i++) {
+            double leftDelta = left[i] - meanLeft;
+            double rightDelta = right[i] - meanRight;
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public double sumOfSquares(float[] data) {
+        double sum = 0D;
+        for (double value : data) {
+            sum += value * value;
+        }
+        return sum;
+    }
+
+    @Override
+    public void addInPlace(float[] lhs, float[] rhs, int length) {
+        for (int i = 0; i < length; i++) {
+            lhs[i] += rhs[i];
+        }
+    }
+
+    @Override
+    public void addWeightedInPlace(float[] lhs, int lhsOffset, float[] rhs, float weight, int length) {
+        for (int i = 0; i < length; i++) {
+            lhs[lhsOffset + i] += weight * rhs[i];
+        }
+    }
+
+    @Override
+    public void fusedAddWeightedInPlace(float[] lhs, float[] rhs, double weight, int length) {
+        for (int i = 0; i < length; i++) {
+            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
+        }
+    }
+
+    @Override
+    public void scale(float[] data, float scalar, float[] out) {
+        for (int i = 0; i < data.length; i++) {
+            out[i] = data[i] * scalar;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.D2F;
+import static jdk.incubator.vector.VectorOperators.F2D;
+
+/**
+ * Kernels on the widest vector shape supported by the CPU.
+ * Each loop processes full vectors up to the loop bound and finishes the tail with scalar code.
+ * Reductions over floats widen them into double lanes and accumulate in double precision.
+ */
+final class VectorizedKernels implements Kernels {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // floats that widen into exactly one vector of DOUBLES
+    private static final VectorSpecies<Float> HALF_FLOATS = VectorSpecies.of(
+        float.class,
+        VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2)
+    );
+
+    @Override
+    public double cosine(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var leftLengths = DoubleVector.zero(DOUBLES);
+        var rightLengths = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = HALF_FLOATS.loopBound(length); i < bound; i += HALF_FLOATS.length()) {
+            var l = widen(left, leftOffset + i);
+            var r = widen(right, rightOffset + i);
+            dotProducts = l.fma(r, dotProducts);
+            leftLengths = l.fma(l, leftLengths);
+            rightLengths = r.fma(r, rightLengths);
+        }
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double leftLength = leftLengths.reduceLanes(VectorOperators.ADD);
+        double rightLength = rightLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double l = left[leftOffset + i];
+            double r = right[rightOffset + i];
+            dotProduct += l * r;
+            leftLength += l * l;
+            rightLength += r * r;
+        }
+        return (float) (dotProduct / Math.sqrt(leftLength * rightLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var leftLengths = DoubleVector.zero(DOUBLES);
+        var rightLengths = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var l = DoubleVector.fromArray(DOUBLES, left, i);
+            var r = DoubleVector.fromArray(DOUBLES, right, i);
+            dotProducts = l.fma(r, dotProducts);
+            leftLengths = l.fma(l, leftLengths);
+            rightLengths = r.fma(r, rightLengths);
+        }
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double leftLength = leftLengths.reduceLanes(VectorOperators.ADD);
+        double rightLength = rightLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double l = left[i];
+            double r = right[i];
+            dotProduct += l * r;
+            leftLength += l * l;
+            rightLength += r * r;
+        }
+        return dotProduct / Math.sqrt(leftLength * rightLength);
+    }
+
+    @Override
+    public double squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        var sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = HALF_FLOATS.loopBound(length); i < bound; i += HALF_FLOATS.length()) {
+            var delta = widen(left, leftOffset + i).sub(widen(right, rightOffset + i));
+            sums = delta.fma(delta, sums);
+        }
+        double result = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double squaredDistance(double[] left, double[] right, int length) {
+        var sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var delta = DoubleVector.fromArray(DOUBLES, left, i).sub(DoubleVector.fromArray(DOUBLES, right, i));
+            sums = delta.fma(delta, sums);
+        }
+        double result = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        var leftSums = DoubleVector.zero(DOUBLES);
+        var rightSums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        int bound = HALF_FLOATS.loopBound(length);
+        for (; i < bound; i += HALF_FLOATS.length()) {
+            leftSums = leftSums.add(widen(left, leftOffset + i));
+            rightSums = rightSums.add(widen(right, rightOffset + i));
+        }
+        double sumLeft = leftSums.reduceLanes(VectorOperators.ADD);
+        double sumRight = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sumLeft += left[leftOffset + i];
+            sumRight += right[rightOffset + i];
+        }
+        double meanLeft = sumLeft / length;
+        double meanRight = sumRight / length;
+
+        var products = DoubleVector.zero(DOUBLES);
+        var leftSquares = DoubleVector.zero(DOUBLES);
+        var rightSquares = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += HALF_FLOATS.length()) {
+            var leftDelta = widen(left, leftOffset + i).sub(meanLeft);
+            var rightDelta = widen(right, rightOffset + i).sub(meanRight);
+            products = leftDelta.fma(rightDelta, products);
+            leftSquares = leftDelta.fma(leftDelta, leftSquares);
+            rightSquares = rightDelta.fma(rightDelta, rightSquares);
+        }
+        double sumOfProducts = products.reduceLanes(VectorOperators.ADD);
+        double sumOfLeftSquares = leftSquares.reduceLanes(VectorOperators.ADD);
+        double sumOfRightSquares = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[leftOffset + i] - meanLeft;
+            double rightDelta = right[rightOffset + i] - meanRight;
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        var leftSums = DoubleVector.zero(DOUBLES);
+        var rightSums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        int bound = DOUBLES.loopBound(length);
+        for (; i < bound; i += DOUBLES.length()) {
+            leftSums = leftSums.add(DoubleVector.fromArray(DOUBLES, left, i));
+            rightSums = rightSums.add(DoubleVector.fromArray(DOUBLES, right, i));
+        }
+        double sumLeft = leftSums.reduceLanes(VectorOperators.ADD);
+        double sumRight = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+        }
+        double meanLeft = sumLeft / length;
+        double meanRight = sumRight / length;
+
+        var products = DoubleVector.zero(DOUBLES);
+        var leftSquares = DoubleVector.zero(DOUBLES);
+        var rightSquares = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += DOUBLES.length()) {
+            var leftDelta = DoubleVector.fromArray(DOUBLES, left, i).sub(meanLeft);
+            var rightDelta = DoubleVector.fromArray(DOUBLES, right, i).sub(meanRight);
+            products = leftDelta.fma(rightDelta, products);
+            leftSquares = leftDelta.fma(leftDelta, leftSquares);
+            rightSquares = rightDelta.fma(rightDelta, rightSquares);
+        }
+        double sumOfProducts = products.reduceLanes(VectorOperators.ADD);
+        double sumOfLeftSquares = leftSquares.reduceLanes(VectorOperators.ADD);
+        double sumOfRightSquares = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[i] - meanLeft;
+            double rightDelta = right[i] - meanRight;
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public double sumOfSquares(float[] data) {
+        var sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = HALF_FLOATS.loopBound(data.length); i < bound; i += HALF_FLOATS.length()) {
+            var values = widen(data, i);
+            sums = values.fma(values, sums);
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < data.length; i++) {
+            double value = data[i];
+            sum += value * value;
+        }
+        return sum;
+    }
+
+    @Override
+    public void addInPlace(float[] lhs, float[] rhs, int length) {
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            FloatVector.fromArray(FLOATS, lhs, i)
+                .add(FloatVector.fromArray(FLOATS, rhs, i))
+                .intoArray(lhs, i);
+        }
+        for (; i < length; i++) {
+            lhs[i] += rhs[i];
+        }
+    }
+
+    @Override
+    public void addWeightedInPlace(float[] lhs, int lhsOffset, float[] rhs, float weight, int length) {
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            FloatVector.fromArray(FLOATS, rhs, i)
+                .mul(weight)
+                .add(FloatVector.fromArray(FLOATS, lhs, lhsOffset + i))
+                .intoArray(lhs, lhsOffset + i);
+        }
+        for (; i < length; i++) {
+            lhs[lhsOffset + i] += weight * rhs[i];
+        }
+    }
+
+    @Override
+    public void fusedAddWeightedInPlace(float[] lhs, float[] rhs, double weight, int length) {
+        // computes in double precision like the scalar kernel, which makes both kernels return the same floats
+        var weights = DoubleVector.broadcast(DOUBLES, weight);
+        int i = 0;
+        for (int bound = HALF_FLOATS.loopBound(length); i < bound; i += HALF_FLOATS.length()) {
+            var l = widen(lhs, i);
+            var r = widen(rhs, i);
+            ((FloatVector) r.fma(weights, l).convertShape(D2F, HALF_FLOATS, 0)).intoArray(lhs, i);
+        }
+        for (; i < length; i++) {
+            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
+        }
+    }
+
+    @Override
+    public void scale(float[] data, float scalar, float[] out) {
+        int i = 0;
+        for (int bound = FLOATS.loopBound(data.length); i < bound; i += FLOATS.length()) {
+            FloatVector.fromArray(FLOATS, data, i).mul(scalar).intoArray(out, i);
+        }
+        for (; i < data.length; i++) {
+            out[i] = data[i] * scalar;
+        }
+    }
+
+    // sums and products of floats are accumulated in double lanes, which keeps long and badly scaled vectors
+    // as precise as the scalar kernels
+    private static DoubleVector widen(float[] data, int offset) {
+        return (DoubleVector) FloatVector.fromArray(HALF_FLOATS, data, offset).convertShape(F2D, DOUBLES, 0);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.simd;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ArrayKernelsTest {
+
+    private static final double TOLERANCE = 1e-5;
+
+    private final Kernels scalar = new ScalarKernels();
+
+    // covers vectors shorter than a single SIMD register and lengths with a scalar tail
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8, 15, 16, 17, 64, 67, 256, 1001})
+    void reductionsMatchScalarKernels(int length) {
+        var random = new Random(length);
+        var leftFloats = randomFloats(random, length + 2);
+        var rightFloats = randomFloats(random, length);
+        var leftDoubles = randomDoubles(random, length);
+        var rightDoubles = randomDoubles(random, length + 2);
+
+        assertThat(ArrayKernels.cosine(leftFloats, rightFloats, length))
+            .isCloseTo(scalar.cosine(leftFloats, 0, rightFloats, 0, length), within(TOLERANCE));
+        assertThat(ArrayKernels.cosine(leftDoubles, rightDoubles, length))
+            .isCloseTo(scalar.cosine(leftDoubles, rightDoubles, length), within(TOLERANCE));
+        assertThat(ArrayKernels.squaredDistance(leftFloats, rightFloats, length))
+            .isCloseTo(scalar.squaredDistance(leftFloats, 0, rightFloats, 0, length), within(TOLERANCE * length));
+        assertThat(ArrayKernels.squaredDistance(leftDoubles, rightDoubles, length))
+            .isCloseTo(scalar.squaredDistance(leftDoubles, rightDoubles, length), within(TOLERANCE * length));
+        assertThat(ArrayKernels.sumOfSquares(leftFloats))
+            .isCloseTo(scalar.sumOfSquares(leftFloats), within(TOLERANCE * length));
+
+        assertThat(ArrayKernels.cosine(leftFloats, 2, rightFloats, 0, length))
+            .isCloseTo(scalar.cosine(leftFloats, 2, rightFloats, 0, length), within(TOLERANCE));
+        assertThat(ArrayKernels.squaredDistance(leftFloats, 2, rightFloats, 0, length))
+            .isCloseTo(scalar.squaredDistance(leftFloats, 2, rightFloats, 0, length), within(TOLERANCE * length));
+
+        if (length > 1) {
+            assertThat(ArrayKernels.pearson(leftFloats, 2, rightFloats, 0, length))
+                .isCloseTo(scalar.pearson(leftFloats, 2, rightFloats, 0, length), within(TOLERANCE));
+            assertThat(ArrayKernels.pearson(leftFloats, rightFloats, length))
+                .isCloseTo(scalar.pearson(leftFloats, 0, rightFloats, 0, length), within(TOLERANCE));
+            assertThat(ArrayKernels.pearson(leftDoubles, rightDoubles, length))
+                .isCloseTo(scalar.pearson(leftDoubles, rightDoubles, length), within(TOLERANCE));
+        }
+    }
+
+    // small noise on a large offset loses most of its digits when accumulated in float lanes
+    @ParameterizedTest
+    @ValueSource(ints = {100_003, 1_000_001})
+    void floatReductionsMatchScalarKernelsOnLongBadlyScaledVectors(int length) {
+        var random = new Random(length);
+        var left = new float[length];
+        var right = new float[length];
+        for (int i = 0; i < length; i++) {
+            float noise = random.nextFloat();
+            left[i] = 1e4f + noise;
+            right[i] = -3e3f + noise * 0.5f + random.nextFloat() * 0.1f;
+        }
+
+        double relativeTolerance = 1e-9;
+        assertThat(ArrayKernels.sumOfSquares(left))
+            .isCloseTo(scalar.sumOfSquares(left), withinRelative(scalar.sumOfSquares(left), relativeTolerance));
+        assertThat(ArrayKernels.squaredDistance(left, right, length))
+            .isCloseTo(
+                scalar.squaredDistance(left, 0, right, 0, length),
+                withinRelative(scalar.squaredDistance(left, 0, right, 0, length), relativeTolerance)
+            );
+        assertThat(ArrayKernels.cosine(left, right, length))
+            .isCloseTo(scalar.cosine(left, 0, right, 0, length), within(1e-6));
+        assertThat(ArrayKernels.pearson(left, right, length))
+            .isCloseTo(scalar.pearson(left, 0, right, 0, length), within(1e-9));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 16, 33, 1001})
+    void elementWiseOperationsMatchScalarKernels(int length) {
+        var random = new Random(length);
+        var lhs = randomFloats(random, length);
+        var rhs = randomFloats(random, length);
+
+        var expected = lhs.clone();
+        var actual = lhs.clone();
+        scalar.addInPlace(expected, rhs, length);
+        ArrayKernels.addInPlace(actual, rhs, length);
+        assertThat(actual).containsExactly(expected);
+
+        scalar.addWeightedInPlace(expected, 0, rhs, 0.3f, length);
+        ArrayKernels.addWeightedInPlace(actual, rhs, 0.3f, length);
+        assertThat(actual).containsExactly(expected);
+
+        scalar.scale(expected, 1.7f, expected);
+        ArrayKernels.scale(actual, 1.7f, actual);
+        assertThat(actual).containsExactly(expected);
+
+        scalar.fusedAddWeightedInPlace(expected, rhs, 0.1, length);
+        ArrayKernels.fusedAddWeightedInPlace(actual, rhs, 0.1, length);
+        assertThat(actual).containsExactly(expected);
+    }
+
+    // spans full vectors and a scalar tail on every vector shape
+    @Test
+    void reductionsReturnKnownValues() {
+        int length = 37;
+        var floats = new float[length];
+        var doubledFloats = new float[length];
+        var doubles = new double[length];
+        var shiftedDoubles = new double[length];
+        for (int i = 0; i < length; i++) {
+            floats[i] = i;
+            doubledFloats[i] = 2 * i;
+            doubles[i] = i;
+            shiftedDoubles[i] = 2 * i + 1;
+        }
+
+        // sum of i^2 for i < 37
+        assertThat(ArrayKernels.sumOfSquares(floats)).isEqualTo(16206.0);
+        assertThat(ArrayKernels.squaredDistance(floats, doubledFloats, length)).isEqualTo(16206.0);
+        assertThat(ArrayKernels.squaredDistance(doubles, shiftedDoubles, length)).isEqualTo(16206.0 + 2 * 666 + 37);
+        assertThat(ArrayKernels.cosine(floats, doubledFloats, length)).isCloseTo(1.0, within(1e-6));
+        assertThat(ArrayKernels.cosine(new double[]{1, 2, 3}, new double[]{4, 5, 6}, 3))
+            .isCloseTo(32 / Math.sqrt(14 * 77), within(1e-12));
+        assertThat(ArrayKernels.pearson(doubles, shiftedDoubles, length)).isCloseTo(1.0, within(1e-12));
+        assertThat(ArrayKernels.pearson(floats, doubledFloats, length)).isCloseTo(1.0, within(1e-6));
+
+        var lhs = floats.clone();
+        ArrayKernels.fusedAddWeightedInPlace(lhs, doubledFloats, 0.5, length);
+        assertThat(lhs).containsExactly(doubledFloats);
+    }
+
+    @Test
+    void selectsVectorizedKernelsIfTheVectorModuleIsPresent() {
+        boolean vectorModulePresent = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        boolean disabled = Boolean.getBoolean(ArrayKernels.DISABLE_VECTORIZATION_PROPERTY);
+
+        assertThat(ArrayKernels.isVectorized()).isEqualTo(vectorModulePresent && !disabled);
+        // set by the build whenever the tests run with the vector module
+        if (Boolean.getBoolean("org.neo4j.gds.simd.test.expectVectorized")) {
+            assertThat(ArrayKernels.isVectorized()).isTrue();
+        }
+    }
+
+    @Test
+    void onlyConsidersTheGivenLength() {
+        var lhs = new float[]{1, 1, 1, 1};
+        ArrayKernels.addWeightedInPlace(lhs, new float[]{1, 1, 1, 1}, 2f, 2);
+        assertThat(lhs).containsExactly(3, 3, 1, 1);
+
+        assertThat(ArrayKernels.squaredDistance(new double[]{1, 2, 3}, new double[]{1, 0, 42}, 2)).isEqualTo(4.0);
+    }
+
+    @Test
+    void startsAtTheGivenOffsets() {
+        var lhs = new float[]{1, 1, 1, 1};
+        ArrayKernels.addWeightedInPlace(lhs, 1, new float[]{1, 2, 42}, 2f, 2);
+        assertThat(lhs).containsExactly(1, 3, 5, 1);
+
+        var matrix = new float[]{0, 0, 1, 2, 3, 4};
+        assertThat(ArrayKernels.squaredDistance(matrix, 2, matrix, 4, 2)).isEqualTo(8.0);
+        assertThat(ArrayKernels.cosine(matrix, 2, new float[]{2, 4}, 0, 2)).isCloseTo(1.0, within(1e-6));
+    }
+
+    @Test
+    void fallsBackToScalarKernelsIfDisabled() {
+        var previous = System.setProperty(ArrayKernels.DISABLE_VECTORIZATION_PROPERTY, "true");
+        try {
+            assertThat(ArrayKernels.loadKernels()).isInstanceOf(ScalarKernels.class);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(ArrayKernels.DISABLE_VECTORIZATION_PROPERTY);
+            } else {
+                System.setProperty(ArrayKernels.DISABLE_VECTORIZATION_PROPERTY, previous);
+            }
+        }
+    }
+
+    private static Offset<Double> withinRelative(double expected, double tolerance) {
+        return within(Math.abs(expected) * tolerance);
+    }
+
+    private static float[] randomFloats(Random random, int length) {
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextFloat() * 2 - 1;
+        }
+        return values;
+    }
+
+    private static double[] randomDoubles(Random random, int length) {
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble() * 2 - 1;
+        }
+        return values;
+    }
+}
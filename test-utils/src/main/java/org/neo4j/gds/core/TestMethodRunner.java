@@ -34,7 +34,8 @@ public interface TestMethodRunner {
             TestMethodRunner::runCompressedUnordered,
             TestMethodRunner::runCompressedOrdered,
             TestMethodRunner::runUncompressedUnordered,
-            TestMethodRunner::runUncompressedOrdered
+            TestMethodRunner::runUncompressedOrdered,
+            TestMethodRunner::runPacked
         );
     }
 
@@ -61,4 +62,10 @@ public interface TestMethodRunner {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() ->
             GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
     }
+
+    @TestOnly
+    static <E extends Exception> void runPacked(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(code));
+    }
 }